@@ -7,14 +7,19 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
 import java.util.logging.Logger;
 
 import org.jetbrains.annotations.NotNull;
 
 import com.contentstack.cms.core.AuthInterceptor;
+import com.contentstack.cms.core.Compression;
+import com.contentstack.cms.core.ContentEncodingInterceptor;
 import com.contentstack.cms.core.Endpoint;
+import com.contentstack.cms.core.GsonProvider;
 import com.contentstack.cms.core.Util;
 import static com.contentstack.cms.core.Util.API_KEY;
 import static com.contentstack.cms.core.Util.AUTHORIZATION;
@@ -31,7 +36,16 @@ import com.contentstack.cms.stack.Stack;
 import com.contentstack.cms.user.User;
 import com.google.gson.Gson;
 import com.contentstack.cms.core.RetryConfig;
+import com.contentstack.cms.core.VirtualThreads;
+import com.contentstack.cms.core.RateLimitInterceptor;
+import com.contentstack.cms.core.RateLimiter;
+import com.contentstack.cms.core.RequestCoalescer;
+import com.contentstack.cms.core.RequestCoalescingInterceptor;
+import com.contentstack.cms.core.ResponseCache;
+import com.contentstack.cms.core.ResponseCacheInterceptor;
+import com.contentstack.cms.core.PriorityExecutor;
 import okhttp3.ConnectionPool;
+import okhttp3.Dispatcher;
 import okhttp3.OkHttpClient;
 import okhttp3.Protocol;
 import okhttp3.ResponseBody;
@@ -67,6 +81,8 @@ public class Contentstack {
     protected String[] earlyAccess;
     protected User user;
     protected RetryConfig retryConfig;
+    protected Executor asyncExecutor;
+    protected Gson gson;
 
     /**
      * All accounts registered with Contentstack are known as Users. A stack can
@@ -226,7 +242,7 @@ public class Contentstack {
             if (errorBody != null) {
                 String errorJsonString = errorBody.string();
                 logger.info(errorJsonString);
-                new Gson().fromJson(errorJsonString, Error.class);
+                this.gson.fromJson(errorJsonString, Error.class);
             }
         }
     }
@@ -355,7 +371,7 @@ public class Contentstack {
         if (!isOAuthConfigured() && this.authtoken == null) {
             throw new IllegalStateException(Util.OAUTH_LOGIN_REQUIRED + " stack");
         }
-        return new Stack(this.instance);
+        return new Stack(this.instance, new HashMap<>(), this.asyncExecutor);
     }
 
     /**
@@ -379,7 +395,7 @@ public class Contentstack {
         if (!isOAuthConfigured() && this.authtoken == null && !header.containsKey(AUTHORIZATION)) {
             throw new IllegalStateException(Util.OAUTH_LOGIN_REQUIRED + " stack");
         }
-        return new Stack(this.instance, header);
+        return new Stack(this.instance, header, this.asyncExecutor);
     }
 
     /**
@@ -404,7 +420,7 @@ public class Contentstack {
         HashMap<String, Object> headers = new HashMap<>();
         headers.put(API_KEY, apiKey);
         headers.put(AUTHORIZATION, managementToken);
-        return new Stack(this.instance, headers);
+        return new Stack(this.instance, headers, this.asyncExecutor);
     }
 
     /**
@@ -433,7 +449,7 @@ public class Contentstack {
             // When branch is available
             headers.put(BRANCH, key);
         }
-        return new Stack(this.instance, headers);
+        return new Stack(this.instance, headers, this.asyncExecutor);
     }
 
     /**
@@ -464,7 +480,7 @@ public class Contentstack {
         headers.put(API_KEY, apiKey);
         headers.put(AUTHORIZATION, managementToken);
         headers.put(BRANCH, branch);
-        return new Stack(this.instance, headers);
+        return new Stack(this.instance, headers, this.asyncExecutor);
     }
 
     /**
@@ -655,6 +671,17 @@ public class Contentstack {
         this.oauthHandler = builder.oauthHandler;
         this.earlyAccess = builder.earlyAccess;
         this.retryConfig = builder.retryConfig;
+        this.asyncExecutor = builder.asyncExecutor();
+        this.gson = builder.gson;
+    }
+
+    /**
+     * Returns the Gson this client uses to convert request and response bodies.
+     *
+     * @return the client's Gson, {@link GsonProvider#shared()} unless set on the builder
+     */
+    public Gson getGson() {
+        return gson;
     }
 
     /** Returns the API hostname this client is configured to target. */
@@ -692,17 +719,27 @@ public class Contentstack {
         private String port = Util.PORT; // Default PORT for Contentstack API
         private String version = Util.VERSION; // Default Version for Contentstack API
         private int timeout = Util.TIMEOUT; // Default timeout 30 seconds
+        private boolean timeoutSet;
         private Integer connectTimeoutSeconds;
         private Integer readTimeoutSeconds;
         private Integer writeTimeoutSeconds;
         private Boolean retry = Util.RETRY_ON_FAILURE;// Default base url for contentstack
         private RetryConfig retryConfig = RetryConfig.defaultConfig();
+        private RateLimiter rateLimiter;
+        private ResponseCache responseCache;
+        private RequestCoalescer requestCoalescer;
+        private Compression compression;
+        private boolean virtualThreadExecution;
+        private Executor customAsyncExecutor;
+        private Dispatcher dispatcher;
+        private Gson gson = GsonProvider.shared();
         /**
-         * Default ConnectionPool holds up to 5 idle connections which will be
-         * evicted after 5 minutes of inactivity.
+         * Null uses the pool of the shared client, or OkHttp's default pool, which
+         * holds up to 5 idle connections evicted after 5 minutes of inactivity.
          */
-        private ConnectionPool connectionPool = new ConnectionPool(); // Connection
+        private ConnectionPool connectionPool;
         private List<Protocol> protocols = null;
+        private OkHttpClient httpClient;
 
         /**
          * Instantiates a new Builder.
@@ -835,6 +872,7 @@ public class Contentstack {
         public Builder setTimeout(int timeout) {
             validateTimeoutSeconds(timeout, "timeout");
             this.timeout = timeout;
+            this.timeoutSet = true;
             return this;
         }
 
@@ -897,6 +935,24 @@ public class Contentstack {
             return this;
         }
 
+        /**
+         * Derives this client from an existing {@link OkHttpClient} through
+         * {@link OkHttpClient#newBuilder()}, so that many clients share one
+         * connection pool, dispatcher and TLS session cache. Only the settings
+         * made on this builder (timeouts, proxy, protocols, connection pool) and
+         * the client's own auth and rate-limit interceptors are applied on top;
+         * everything else comes from the shared client.
+         * <p>
+         * See {@link ContentstackClientFactory} for deriving one client per tenant.
+         *
+         * @param httpClient the client to share connections and threads with
+         * @return instance of Builder
+         */
+        public Builder setHttpClient(@NotNull OkHttpClient httpClient) {
+            this.httpClient = Objects.requireNonNull(httpClient, "httpClient");
+            return this;
+        }
+
         /**
          * Sets authtoken for the client
          *
@@ -999,6 +1055,114 @@ public class Contentstack {
             return this;
         }
 
+        /**
+         * Runs the calls made through {@code stack.async()} as blocking
+         * {@code execute()} calls, one virtual thread per call, when the JVM supports
+         * virtual threads (JDK 21+). Large fan-outs then cost one cheap virtual thread
+         * per call instead of being queued behind OkHttp's async dispatcher limits.
+         * On older JVMs the option is ignored and calls use OkHttp's {@code enqueue}.
+         * Default: false
+         *
+         * @param virtualThreadExecution true to execute future calls on virtual threads
+         * @return the Builder instance
+         */
+        public Builder setVirtualThreadExecution(boolean virtualThreadExecution) {
+            this.virtualThreadExecution = virtualThreadExecution;
+            return this;
+        }
+
+        /**
+         * Runs the calls made through {@code stack.async()} as blocking
+         * {@code execute()} calls on the given executor. With a
+         * {@link PriorityExecutor}, calls sent through
+         * {@code stack.async(RequestPriority.INTERACTIVE)} start ahead of waiting
+         * {@code BACKGROUND} calls, and its parallelism caps the calls in flight.
+         * Takes precedence over {@link #setVirtualThreadExecution(boolean)}.
+         * <p>
+         * Example:
+         * <pre>
+         * {@code
+         * Contentstack client = new Contentstack.Builder()
+         *         .setAuthtoken("authtoken")
+         *         .setAsyncExecutor(new PriorityExecutor(32))
+         *         .build();
+         * }
+         * </pre>
+         *
+         * @param asyncExecutor the executor, or null to use OkHttp's {@code enqueue}
+         * @return the Builder instance
+         */
+        public Builder setAsyncExecutor(Executor asyncExecutor) {
+            this.customAsyncExecutor = asyncExecutor;
+            return this;
+        }
+
+        /**
+         * Sets the limits of OkHttp's dispatcher, which queues calls sent with
+         * {@code enqueue} (the default for {@code stack.async()} and RxJava calls).
+         * OkHttp defaults to 64 calls in flight and 5 per host, which caps async
+         * work against a single Contentstack region at 5 concurrent requests.
+         * Blocking {@code execute()} calls are not limited by the dispatcher.
+         *
+         * @param maxRequests        maximum calls in flight across all hosts
+         * @param maxRequestsPerHost maximum calls in flight to one host
+         * @return the Builder instance
+         * @throws IllegalArgumentException if either limit is not positive
+         */
+        public Builder setDispatcher(int maxRequests, int maxRequestsPerHost) {
+            if (maxRequests <= 0 || maxRequestsPerHost <= 0) {
+                throw new IllegalArgumentException("maxRequests and maxRequestsPerHost must be positive.");
+            }
+            Dispatcher tuned = new Dispatcher();
+            tuned.setMaxRequests(maxRequests);
+            tuned.setMaxRequestsPerHost(maxRequestsPerHost);
+            this.dispatcher = tuned;
+            return this;
+        }
+
+        /**
+         * Sets the OkHttp dispatcher, for example one built on your own
+         * {@code ExecutorService}. Share one dispatcher between clients to share
+         * its limits.
+         *
+         * @param dispatcher the dispatcher
+         * @return the Builder instance
+         */
+        public Builder setDispatcher(@NotNull Dispatcher dispatcher) {
+            this.dispatcher = Objects.requireNonNull(dispatcher, "dispatcher");
+            return this;
+        }
+
+        /**
+         * Sets the Gson used to convert request and response bodies, including the
+         * POJOs of the {@code fetchAsPojo()} and {@code findAsPojo()} responses. Build it
+         * from {@link GsonProvider#newBuilder()} so the SDK's type adapters stay registered.
+         * The instance is created once and reused for every call, keeping Gson's type
+         * adapter cache warm. Default: {@link GsonProvider#shared()}
+         *
+         * @param gson the Gson to use
+         * @return the Builder instance
+         * @throws NullPointerException if gson is null
+         */
+        public Builder setGson(@NotNull Gson gson) {
+            this.gson = Objects.requireNonNull(gson, "gson");
+            return this;
+        }
+
+        private Executor asyncExecutor() {
+            if (this.customAsyncExecutor != null) {
+                return this.customAsyncExecutor;
+            }
+            if (!this.virtualThreadExecution) {
+                return null;
+            }
+            Executor executor = VirtualThreads.newVirtualThreadPerTaskExecutor();
+            if (executor == null) {
+                logger.warning("Virtual threads are not supported by this JVM; async calls use OkHttp enqueue");
+            }
+            return executor;
+        }
+
         /**
          * Build contentstack.
          *
@@ -1016,7 +1180,7 @@ public class Contentstack {
             String validatedHost = validateHostname(this.hostname);
             String baseUrl = Util.PROTOCOL + "://" + validatedHost + "/" + version + "/";
             this.instance = new Retrofit.Builder().baseUrl(baseUrl)
-                    .addConverterFactory(GsonConverterFactory.create())
+                    .addConverterFactory(GsonConverterFactory.create(this.gson))
                     .client(httpClient(contentstack, this.retry)).build();
             contentstack.instance = this.instance;
 
@@ -1029,16 +1193,31 @@ public class Contentstack {
         }
 
         private OkHttpClient httpClient(Contentstack contentstack, Boolean retryOnFailure) {
-            int connectSec = this.connectTimeoutSeconds != null ? this.connectTimeoutSeconds : this.timeout;
-            int readSec = this.readTimeoutSeconds != null ? this.readTimeoutSeconds : this.timeout;
-            int writeSec = this.writeTimeoutSeconds != null ? this.writeTimeoutSeconds : this.timeout;
-            OkHttpClient.Builder builder = new OkHttpClient.Builder()
-                    .connectionPool(this.connectionPool)
-                    .addInterceptor(logger())
-                    .proxy(this.proxy)
-                    .connectTimeout(Duration.ofSeconds(connectSec))
-                    .readTimeout(Duration.ofSeconds(readSec))
-                    .writeTimeout(Duration.ofSeconds(writeSec))
+            // A shared client keeps its own settings unless they were set on this builder
+            boolean shared = this.httpClient != null;
+            OkHttpClient.Builder builder = shared ? this.httpClient.newBuilder() : new OkHttpClient.Builder();
+            if (this.connectionPool != null) {
+                builder.connectionPool(this.connectionPool);
+            }
+            if (this.dispatcher != null) {
+                builder.dispatcher(this.dispatcher);
+            }
+            if (!shared || this.proxy != null) {
+                builder.proxy(this.proxy);
+            }
+            if (!shared || this.timeoutSet || this.connectTimeoutSeconds != null) {
+                int connectSec = this.connectTimeoutSeconds != null ? this.connectTimeoutSeconds : this.timeout;
+                builder.connectTimeout(Duration.ofSeconds(connectSec));
+            }
+            if (!shared || this.timeoutSet || this.readTimeoutSeconds != null) {
+                int readSec = this.readTimeoutSeconds != null ? this.readTimeoutSeconds : this.timeout;
+                builder.readTimeout(Duration.ofSeconds(readSec));
+            }
+            if (!shared || this.timeoutSet || this.writeTimeoutSeconds != null) {
+                int writeSec = this.writeTimeoutSeconds != null ? this.writeTimeoutSeconds : this.timeout;
+                builder.writeTimeout(Duration.ofSeconds(writeSec));
+            }
+            builder.addInterceptor(logger())
                     .retryOnConnectionFailure(retryOnFailure);
             if (this.protocols != null && !this.protocols.isEmpty()) {
                 builder.protocols(this.protocols);
@@ -1048,7 +1227,7 @@ public class Contentstack {
             if (this.oauthConfig != null) {
                 // Create OAuth handler and interceptor first
                 OkHttpClient tempClient = builder.build();
-                this.oauthHandler = new OAuthHandler(tempClient, this.oauthConfig);
+                this.oauthHandler = new OAuthHandler(tempClient, this.oauthConfig, this.gson);
                 this.oauthInterceptor = new OAuthInterceptor(this.oauthHandler);
 
                 // Configure early access if needed
@@ -1069,6 +1248,29 @@ public class Contentstack {
                 builder.addInterceptor(this.authInterceptor);
             }
 
+            // Coalesced ahead of the cache, so concurrent misses share one revalidation
+            if (this.requestCoalescer != null) {
+                builder.addInterceptor(new RequestCoalescingInterceptor(this.requestCoalescer));
+            }
+
+            // Keyed on the credentials the auth interceptor adds; cache hits skip the rate limiter
+            if (this.responseCache != null) {
+                builder.addInterceptor(new ResponseCacheInterceptor(this.responseCache));
+                if (this.responseCache.getDiskCache() != null) {
+                    builder.cache(this.responseCache.getDiskCache());
+                }
+            }
+
+            // Installed after the auth interceptor so each retry attempt also waits for a permit
+            if (this.rateLimiter != null) {
+                builder.addInterceptor(new RateLimitInterceptor(this.rateLimiter));
+            }
+
+            // Innermost, so each attempt is encoded once and the counters see what went over the wire
+            if (this.compression != null) {
+                builder.addInterceptor(new ContentEncodingInterceptor(this.compression));
+            }
+
             return builder.build();
         }
 
@@ -1082,6 +1284,115 @@ public class Contentstack {
             return this;
         }
 
+        /**
+         * Sets a client-side rate limiter. Requests wait for a token-bucket permit
+         * (per stack API key and, optionally, global) instead of being rejected
+         * with a 429. Pass the same instance to several builders to share the
+         * budget across clients.
+         * <p>
+         * The wait happens on the thread that sends the request. For calls sent with
+         * {@code Call.enqueue} (the {@code rx()} views, {@code RetryCallback}, and the
+         * {@code async()} views when no executor is set) that is an OkHttp dispatcher
+         * thread, so calls waiting for a permit hold dispatcher threads that other
+         * calls, including those for other stacks, could have used. When limiting
+         * asynchronous traffic, also set {@link #setAsyncExecutor(Executor)} or
+         * {@link #setVirtualThreadExecution(boolean)} so that the {@code async()} views
+         * wait on that executor instead, and keep {@link RateLimiter.Builder#maxWait(long, TimeUnit)}
+         * short for enqueued calls.
+         * <p>
+         * Example:
+         * <pre>
+         * {@code
+         * RateLimiter limiter = RateLimiter.builder().requestsPerSecondPerApiKey(10).build();
+         * Contentstack client = new Contentstack.Builder()
+         *         .setAuthtoken("authtoken")
+         *         .setRateLimiter(limiter)
+         *         .build();
+         * }
+         * </pre>
+         *
+         * @param rateLimiter the rate limiter, or null to disable client-side limiting
+         * @return Builder instance
+         */
+        public Builder setRateLimiter(RateLimiter rateLimiter) {
+            this.rateLimiter = rateLimiter;
+            return this;
+        }
+
+        /**
+         * Sets a client-side response cache for rarely changing reads such as
+         * content type and global field schemas, locales, environments and
+         * workflows. Cached responses are revalidated with their ETag, and any
+         * write sent through this client for the same stack and branch
+         * invalidates them. Pass the same instance to several builders to share it.
+         * <p>
+         * Example:
+         * <pre>
+         * {@code
+         * ResponseCache cache = ResponseCache.builder().maxAge(30, TimeUnit.SECONDS).build();
+         * Contentstack client = new Contentstack.Builder()
+         *         .setAuthtoken("authtoken")
+         *         .setResponseCache(cache)
+         *         .build();
+         * }
+         * </pre>
+         *
+         * @param responseCache the response cache, or null to disable caching
+         * @return Builder instance
+         */
+        public Builder setResponseCache(ResponseCache responseCache) {
+            this.responseCache = responseCache;
+            return this;
+        }
+
+        /**
+         * Merges identical GET requests that are in flight at the same time into
+         * one HTTP call whose buffered response is handed to every caller.
+         * Requests match only when their URL, query parameters and headers,
+         * including credentials, are equal.
+         * <p>
+         * Example:
+         * <pre>
+         * {@code
+         * Contentstack client = new Contentstack.Builder()
+         *         .setAuthtoken("authtoken")
+         *         .setRequestCoalescer(RequestCoalescer.builder().build())
+         *         .build();
+         * }
+         * </pre>
+         *
+         * @param requestCoalescer the coalescer, or null to send every request
+         * @return Builder instance
+         */
+        public Builder setRequestCoalescer(RequestCoalescer requestCoalescer) {
+            this.requestCoalescer = requestCoalescer;
+            return this;
+        }
+
+        /**
+         * Negotiates compressed responses and gzips large JSON bodies of entry
+         * creation, bulk operations and content type imports. The instance counts
+         * the bytes before and after encoding, for bandwidth metrics.
+         * <p>
+         * Example:
+         * <pre>
+         * {@code
+         * Compression compression = Compression.builder().minRequestBodyBytes(32 * 1024).build();
+         * Contentstack client = new Contentstack.Builder()
+         *         .setAuthtoken("authtoken")
+         *         .setCompression(compression)
+         *         .build();
+         * }
+         * </pre>
+         *
+         * @param compression the compression settings, or null to leave encoding to OkHttp
+         * @return Builder instance
+         */
+        public Builder setCompression(Compression compression) {
+            this.compression = compression;
+            return this;
+        }
+
 
     }
 }
@@ -0,0 +1,205 @@
+package com.contentstack.cms;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import org.jetbrains.annotations.NotNull;
+
+import com.contentstack.cms.core.Util;
+
+import okhttp3.ConnectionPool;
+import okhttp3.OkHttpClient;
+
+/**
+ * Creates {@link Contentstack} clients for many tenants on top of one root
+ * {@link OkHttpClient}.
+ * <p>
+ * Every {@link Contentstack.Builder#build()} otherwise creates its own HTTP
+ * client, with its own connection pool, dispatcher thread pool and TLS session
+ * cache. Clients made by this factory are derived from the root client with
+ * {@link OkHttpClient#newBuilder()}, so all tenants share those resources and
+ * differ only in their auth interceptor (authtoken or OAuth) and host. Requests
+ * to the same region reuse the same pooled connections whichever tenant sends
+ * them.
+ * <p>
+ * Example:
+ * <pre>
+ * {@code
+ * ContentstackClientFactory factory = ContentstackClientFactory.builder()
+ *         .connectionPool(50, 5, TimeUnit.MINUTES)
+ *         .defaults(builder -> builder.setRetryConfig(retryConfig))
+ *         .build();
+ *
+ * Contentstack tenantA = factory.forAuthtoken(tokenA);
+ * Contentstack tenantB = factory.forAuthtoken(tokenB, "eu");
+ * Contentstack tenantC = factory.newClientBuilder().setOAuthConfig(oauthConfig).build();
+ * }
+ * </pre>
+ */
+public final class ContentstackClientFactory {
+
+    private final OkHttpClient rootClient;
+    private final Consumer<Contentstack.Builder> defaults;
+
+    private ContentstackClientFactory(Builder builder) {
+        this.rootClient = builder.rootClient != null ? builder.rootClient : builder.newRootClient();
+        this.defaults = builder.defaults;
+    }
+
+    /**
+     * Returns a client builder that shares the root client and has the
+     * factory's defaults applied. Set the tenant's credentials, region or host
+     * on it, then call {@link Contentstack.Builder#build()}.
+     *
+     * @return a new Contentstack builder
+     */
+    public Contentstack.Builder newClientBuilder() {
+        Contentstack.Builder builder = new Contentstack.Builder().setHttpClient(rootClient);
+        if (defaults != null) {
+            defaults.accept(builder);
+        }
+        return builder;
+    }
+
+    /**
+     * Creates a client that authenticates with the given authtoken.
+     *
+     * @param authtoken the tenant's authtoken
+     * @return the client
+     */
+    public Contentstack forAuthtoken(@NotNull String authtoken) {
+        return newClientBuilder().setAuthtoken(authtoken).build();
+    }
+
+    /**
+     * Creates a client for the given region that authenticates with the given
+     * authtoken.
+     *
+     * @param authtoken the tenant's authtoken
+     * @param region    region ID or alias, e.g. {@code eu} or {@code azure-na}
+     * @return the client
+     * @throws IllegalArgumentException if the region is unknown
+     */
+    public Contentstack forAuthtoken(@NotNull String authtoken, @NotNull String region) {
+        return newClientBuilder().setAuthtoken(authtoken).setRegion(region).build();
+    }
+
+    /**
+     * Gets the client every tenant client is derived from.
+     *
+     * @return the root client
+     */
+    public OkHttpClient getRootClient() {
+        return rootClient;
+    }
+
+    /**
+     * Stops the shared dispatcher threads and closes pooled connections. Every
+     * client created by this factory stops working; call it when the
+     * application shuts down.
+     */
+    public void shutdown() {
+        rootClient.dispatcher().executorService().shutdown();
+        rootClient.connectionPool().evictAll();
+    }
+
+    /**
+     * Creates a new builder.
+     *
+     * @return a builder with the SDK's default timeouts
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Builder for {@link ContentstackClientFactory}.
+     */
+    public static final class Builder {
+
+        private OkHttpClient rootClient;
+        private ConnectionPool connectionPool;
+        private int timeout = Util.TIMEOUT;
+        private Consumer<Contentstack.Builder> defaults;
+
+        private Builder() {
+        }
+
+        /**
+         * Uses an existing client as the root instead of creating one. Its
+         * connection pool, dispatcher, timeouts and interceptors are inherited by
+         * every tenant client.
+         *
+         * @param rootClient the client to share
+         * @return this builder
+         */
+        public Builder rootClient(@NotNull OkHttpClient rootClient) {
+            this.rootClient = Objects.requireNonNull(rootClient, "rootClient");
+            return this;
+        }
+
+        /**
+         * Sets the connection pool of the root client created by the factory.
+         * Ignored when a {@link #rootClient(OkHttpClient)} is given.
+         *
+         * @param maxIdleConnections maximum number of idle connections kept across all tenants
+         * @param keepAliveDuration  how long an idle connection is kept
+         * @param timeUnit           unit of {@code keepAliveDuration}
+         * @return this builder
+         */
+        public Builder connectionPool(int maxIdleConnections, long keepAliveDuration, @NotNull TimeUnit timeUnit) {
+            this.connectionPool = new ConnectionPool(maxIdleConnections, keepAliveDuration, timeUnit);
+            return this;
+        }
+
+        /**
+         * Sets the connect, read and write timeout of the root client created by
+         * the factory. Ignored when a {@link #rootClient(OkHttpClient)} is given.
+         * Default: {@link Util#TIMEOUT} seconds
+         *
+         * @param timeoutSeconds the timeout in seconds
+         * @return this builder
+         */
+        public Builder timeout(int timeoutSeconds) {
+            if (timeoutSeconds <= 0) {
+                throw new IllegalArgumentException("timeout must be positive.");
+            }
+            this.timeout = timeoutSeconds;
+            return this;
+        }
+
+        /**
+         * Sets settings applied to every client builder before the tenant's own,
+         * e.g. a retry configuration or a shared rate limiter.
+         *
+         * @param defaults called with each new {@link Contentstack.Builder}
+         * @return this builder
+         */
+        public Builder defaults(Consumer<Contentstack.Builder> defaults) {
+            this.defaults = defaults;
+            return this;
+        }
+
+        /**
+         * Builds the factory.
+         *
+         * @return the factory
+         */
+        public ContentstackClientFactory build() {
+            return new ContentstackClientFactory(this);
+        }
+
+        private OkHttpClient newRootClient() {
+            OkHttpClient.Builder builder = new OkHttpClient.Builder()
+                    .connectTimeout(Duration.ofSeconds(timeout))
+                    .readTimeout(Duration.ofSeconds(timeout))
+                    .writeTimeout(Duration.ofSeconds(timeout));
+            if (connectionPool != null) {
+                builder.connectionPool(connectionPool);
+            }
+            return builder.build();
+        }
+    }
+}
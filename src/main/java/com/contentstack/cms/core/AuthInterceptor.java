@@ -1,7 +1,6 @@
 package com.contentstack.cms.core;
 
 import java.io.IOException;
-import java.net.SocketTimeoutException;
 
 import org.jetbrains.annotations.NotNull;
 
@@ -77,6 +76,7 @@ public class AuthInterceptor implements Interceptor {
         final String xUserAgent = Util.SDK_NAME + "/v" + Util.SDK_VERSION;
         Request originalRequest = chain.request();
         Request.Builder request = originalRequest.newBuilder()
+                .removeHeader(Util.X_CALLER_RETRIES)
                 .header(Util.X_USER_AGENT, xUserAgent)
                 .header(Util.USER_AGENT, Util.defaultUserAgent());
 
@@ -94,7 +94,8 @@ public class AuthInterceptor implements Interceptor {
             String commaSeparated = String.join(", ", earlyAccess);
             request.addHeader(Util.EARLY_ACCESS_HEADER, commaSeparated);
         }
-        return executeRequest(chain, request.build(), 0);
+        int retryLimit = originalRequest.header(Util.X_CALLER_RETRIES) != null ? 0 : retryConfig.getRetryLimit();
+        return executeRequest(chain, request.build(), retryLimit);
     }
 
     /**
@@ -117,35 +118,71 @@ public class AuthInterceptor implements Interceptor {
         this.retryConfig = retryConfig != null ? retryConfig : RetryConfig.defaultConfig();
     }
 
-    private Response executeRequest(Chain chain, Request request, int retryCount) throws IOException {
+    /**
+     * Sends the request, retrying failed responses and network errors accepted by
+     * the {@link RetryCondition} until the retry limit or the overall deadline from
+     * {@link RetryConfig#getTotalTimeout()} is reached. A request marked with
+     * {@link Util#X_CALLER_RETRIES} is given a retry limit of 0.
+     */
+    private Response executeRequest(Chain chain, Request request, int retryLimit) throws IOException {
+        RetryDeadline deadline = RetryDeadline.start(retryConfig);
+        deadline.watch(chain.call());
         try {
-            Response response = chain.proceed(request);
-            int code = response.code();
-            if (retryCount < retryConfig.getRetryLimit() && retryConfig.getRetryCondition().shouldRetry(code, null)) {
-                response.close();
-                long delay = RetryUtil.calculateDelay(retryConfig, retryCount + 1, code);
-                try {
-                    Thread.sleep(delay);
-                } catch (InterruptedException ex) {
-                    Thread.currentThread().interrupt();
-                    throw new IOException("Retry interrupted", ex);
+            return deadline.release(retry(chain, request, retryLimit, deadline));
+        } catch (IOException e) {
+            throw deadline.release(e);
+        } catch (RuntimeException e) {
+            deadline.release();
+            throw e;
+        }
+    }
+
+    private Response retry(Chain chain, Request request, int retryLimit, RetryDeadline deadline)
+            throws IOException {
+        int retryCount = 0;
+        long previousDelay = 0;
+        while (true) {
+            Response response;
+            try {
+                response = deadline.bound(chain).proceed(request);
+            } catch (IOException e) {
+                if (retryCount < retryLimit && isRetryable(chain, request, e)) {
+                    long delay = RetryUtil.calculateDelay(retryConfig, retryCount + 1, 0, e, null, previousDelay);
+                    if (deadline.canWait(delay)) {
+                        deadline.sleep(delay);
+                        retryCount++;
+                        previousDelay = delay;
+                        continue;
+                    }
                 }
-                return executeRequest(chain, request, retryCount + 1);
+                throw e;
             }
-            return response;
-        } catch (SocketTimeoutException e) {
-            if (retryCount < retryConfig.getRetryLimit() && retryConfig.getRetryCondition().shouldRetry(0, e)) {
-                long delay = RetryUtil.calculateDelay(retryConfig, retryCount + 1, 0);
-                try {
-                    Thread.sleep(delay);
-                } catch (InterruptedException ex) {
-                    Thread.currentThread().interrupt();
-                    throw new IOException("Retry interrupted", ex);
+            int code = response.code();
+            if (retryCount < retryLimit && retryConfig.getRetryCondition().shouldRetry(code, null)
+                    && RetryUtil.canResend(retryConfig, request, code, null)) {
+                long delay = RetryUtil.calculateDelay(retryConfig, retryCount + 1, code, null, response,
+                        previousDelay);
+                if (deadline.canWait(delay)) {
+                    response.close();
+                    deadline.sleep(delay);
+                    retryCount++;
+                    previousDelay = delay;
+                    continue;
                 }
-                return executeRequest(chain, request, retryCount + 1);
             }
-            throw e;
+            return response;
+        }
+    }
+
+    private boolean isRetryable(Chain chain, Request request, IOException e) {
+        if (Thread.currentThread().isInterrupted() || (chain.call() != null && chain.call().isCanceled())
+                || e instanceof RateLimitExceededException) {
+            return false;
+        }
+        if (!RetryUtil.canResend(retryConfig, request, e)) {
+            return false;
         }
+        return retryConfig.getRetryCondition().shouldRetry(0, e);
     }
 
 }
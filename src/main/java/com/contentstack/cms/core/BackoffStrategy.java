@@ -0,0 +1,29 @@
+package com.contentstack.cms.core;
+
+/**
+ * Built-in strategies for turning {@link RetryDelayOptions#getBase()} into a retry delay.
+ * <p>
+ * All randomised strategies are capped by {@link RetryDelayOptions#getMaxDelay()}.
+ * </p>
+ */
+public enum BackoffStrategy {
+
+    /**
+     * Delay grows linearly: {@code base * retryCount}.
+     * This is the default and matches the SDK's historical behaviour.
+     */
+    LINEAR,
+
+    /**
+     * Exponential backoff with full jitter:
+     * {@code random(0, min(maxDelay, base * 2^(retryCount - 1)))}.
+     */
+    EXPONENTIAL_FULL_JITTER,
+
+    /**
+     * Decorrelated jitter: {@code min(maxDelay, random(base, previousDelay * 3))}.
+     * Each delay is derived from the previous one, which spreads out retries from
+     * many clients that failed at the same moment.
+     */
+    DECORRELATED_JITTER
+}
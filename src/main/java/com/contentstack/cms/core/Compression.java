@@ -0,0 +1,333 @@
+package com.contentstack.cms.core;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import okhttp3.CompressionInterceptor;
+import okhttp3.Gzip;
+import okhttp3.Headers;
+import okhttp3.Interceptor;
+import okhttp3.MediaType;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import okio.Buffer;
+import okio.BufferedSink;
+import okio.BufferedSource;
+import okio.ForwardingSource;
+import okio.GzipSink;
+import okio.Okio;
+import okio.Source;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+
+/**
+ * Negotiates compressed responses and gzips large JSON request bodies, counting
+ * the bytes on both sides of the encoding.
+ * <p>
+ * Every request advertises the configured decoders in {@code Accept-Encoding}
+ * and the response is decoded before it reaches the SDK. Gzip is built in;
+ * brotli is added by passing {@code okhttp3.brotli.Brotli.INSTANCE} from the
+ * {@code okhttp-brotli} artifact to {@link Builder#decoders}. JSON bodies of
+ * entry creation, bulk operations and content type imports that reach
+ * {@link Builder#minRequestBodyBytes(long)} are sent with
+ * {@code Content-Encoding: gzip}.
+ * <p>
+ * The byte counters report the traffic of every client the instance is set on,
+ * so bandwidth savings of a migration can be exported as metrics.
+ *
+ * <pre>{@code
+ * Compression compression = Compression.builder()
+ *         .decoders(Brotli.INSTANCE, Gzip.INSTANCE)
+ *         .build();
+ * Contentstack client = new Contentstack.Builder()
+ *         .setAuthtoken("authtoken")
+ *         .setCompression(compression)
+ *         .build();
+ * long saved = compression.getResponseBytesDecoded() - compression.getResponseBytesReceived();
+ * }</pre>
+ */
+public final class Compression {
+
+    static final String ACCEPT_ENCODING = "Accept-Encoding";
+    static final String CONTENT_ENCODING = "Content-Encoding";
+    static final String CONTENT_LENGTH = "Content-Length";
+    static final String GZIP = "gzip";
+
+    private static final long DEFAULT_MIN_REQUEST_BODY_BYTES = 16 * 1024;
+
+    private final List<CompressionInterceptor.DecompressionAlgorithm> decoders;
+    private final String acceptEncoding;
+    private final long minRequestBodyBytes;
+    private final Predicate<Request> compressRequest;
+    private final AtomicLong requestBytes = new AtomicLong();
+    private final AtomicLong requestBytesSent = new AtomicLong();
+    private final AtomicLong responseBytesReceived = new AtomicLong();
+    private final AtomicLong responseBytesDecoded = new AtomicLong();
+
+    private Compression(Builder builder) {
+        this.decoders = builder.decoders;
+        List<String> encodings = new ArrayList<>(decoders.size());
+        for (CompressionInterceptor.DecompressionAlgorithm decoder : decoders) {
+            encodings.add(decoder.getEncoding());
+        }
+        this.acceptEncoding = String.join(", ", encodings);
+        this.minRequestBodyBytes = builder.minRequestBodyBytes;
+        this.compressRequest = builder.compressRequest != null ? builder.compressRequest : Compression::isBulkWrite;
+    }
+
+    /**
+     * Encodes the request body if eligible, advertises the decoders and decodes
+     * the response.
+     *
+     * @param chain the interceptor chain
+     * @return the decoded response
+     * @throws IOException if the call fails
+     */
+    Response intercept(@NotNull Interceptor.Chain chain) throws IOException {
+        Request request = chain.request();
+        if (request.header(ACCEPT_ENCODING) != null) {
+            // The caller negotiates and decodes on its own
+            return chain.proceed(request);
+        }
+        Request.Builder networkRequest = request.newBuilder().header(ACCEPT_ENCODING, acceptEncoding);
+        RequestBody body = request.body();
+        if (body != null) {
+            long length = body.contentLength();
+            if (length >= minRequestBodyBytes && request.header(CONTENT_ENCODING) == null
+                    && isJson(body.contentType()) && compressRequest.test(request)) {
+                networkRequest.header(CONTENT_ENCODING, GZIP).method(request.method(), gzip(body));
+            } else if (length > 0) {
+                requestBytes.addAndGet(length);
+                requestBytesSent.addAndGet(length);
+            }
+        }
+        Response response = chain.proceed(networkRequest.build());
+        return "HEAD".equals(request.method()) || response.code() == 204 || response.code() == 304
+                ? response : decode(response);
+    }
+
+    /**
+     * Gets the total size of request bodies before encoding.
+     *
+     * @return the byte count
+     */
+    public long getRequestBytes() {
+        return requestBytes.get();
+    }
+
+    /**
+     * Gets the total size of request bodies as sent.
+     *
+     * @return the byte count
+     */
+    public long getRequestBytesSent() {
+        return requestBytesSent.get();
+    }
+
+    /**
+     * Gets the total size of response bodies as received, counted as they are read.
+     *
+     * @return the byte count
+     */
+    public long getResponseBytesReceived() {
+        return responseBytesReceived.get();
+    }
+
+    /**
+     * Gets the total size of response bodies after decoding, counted as they are read.
+     *
+     * @return the byte count
+     */
+    public long getResponseBytesDecoded() {
+        return responseBytesDecoded.get();
+    }
+
+    /**
+     * Gets the {@code Accept-Encoding} value sent with every request.
+     *
+     * @return the encodings, most preferred first
+     */
+    public String getAcceptEncoding() {
+        return acceptEncoding;
+    }
+
+    private RequestBody gzip(RequestBody body) throws IOException {
+        Buffer compressed = new Buffer();
+        try (BufferedSink sink = Okio.buffer(new GzipSink(compressed))) {
+            body.writeTo(sink);
+        }
+        requestBytes.addAndGet(body.contentLength());
+        requestBytesSent.addAndGet(compressed.size());
+        return RequestBody.create(compressed.readByteString(), body.contentType());
+    }
+
+    private Response decode(Response response) {
+        ResponseBody body = response.body();
+        String encoding = response.header(CONTENT_ENCODING);
+        CompressionInterceptor.DecompressionAlgorithm decoder = encoding != null ? decoder(encoding) : null;
+        if (encoding != null && decoder == null) {
+            return response;
+        }
+        BufferedSource received = Okio.buffer(new CountingSource(body.source(), responseBytesReceived));
+        Source decoded = decoder != null ? decoder.decompress(received) : received;
+        BufferedSource source = Okio.buffer(new CountingSource(decoded, responseBytesDecoded));
+        if (decoder == null) {
+            return response.newBuilder()
+                    .body(ResponseBody.create(source, body.contentType(), body.contentLength()))
+                    .build();
+        }
+        Headers headers = response.headers().newBuilder()
+                .removeAll(CONTENT_ENCODING)
+                .removeAll(CONTENT_LENGTH)
+                .build();
+        return response.newBuilder()
+                .headers(headers)
+                .body(ResponseBody.create(source, body.contentType(), -1))
+                .build();
+    }
+
+    @Nullable
+    private CompressionInterceptor.DecompressionAlgorithm decoder(String encoding) {
+        for (CompressionInterceptor.DecompressionAlgorithm decoder : decoders) {
+            if (decoder.getEncoding().equalsIgnoreCase(encoding.trim())) {
+                return decoder;
+            }
+        }
+        return null;
+    }
+
+    private static boolean isJson(@Nullable MediaType contentType) {
+        return contentType != null && contentType.subtype().toLowerCase(Locale.ROOT).contains("json");
+    }
+
+    /**
+     * Default request-compression rule: entry creation, bulk operations and
+     * content type imports, the writes that carry large JSON bodies.
+     *
+     * @param request the request
+     * @return true if a large JSON body of the request may be gzipped
+     */
+    static boolean isBulkWrite(Request request) {
+        if (!"POST".equals(request.method())) {
+            return false;
+        }
+        List<String> segments = request.url().pathSegments();
+        // segments[0] is the API version, e.g. "v3"
+        if (segments.size() < 2) {
+            return false;
+        }
+        String resource = segments.get(1);
+        if ("bulk".equals(resource)) {
+            return true;
+        }
+        if (!"content_types".equals(resource)) {
+            return false;
+        }
+        return segments.size() == 3 && "import".equals(segments.get(2))
+                || segments.size() == 4 && "entries".equals(segments.get(3));
+    }
+
+    /**
+     * Creates a new builder.
+     *
+     * @return a builder that negotiates gzip and compresses bodies from 16 KiB
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    private static final class CountingSource extends ForwardingSource {
+        private final AtomicLong counter;
+
+        CountingSource(Source delegate, AtomicLong counter) {
+            super(delegate);
+            this.counter = counter;
+        }
+
+        @Override
+        public long read(@NotNull Buffer sink, long byteCount) throws IOException {
+            long read = super.read(sink, byteCount);
+            if (read > 0) {
+                counter.addAndGet(read);
+            }
+            return read;
+        }
+    }
+
+    /**
+     * Builder for {@link Compression}.
+     */
+    public static final class Builder {
+
+        private List<CompressionInterceptor.DecompressionAlgorithm> decoders = Arrays.asList(Gzip.INSTANCE);
+        private long minRequestBodyBytes = DEFAULT_MIN_REQUEST_BODY_BYTES;
+        private Predicate<Request> compressRequest;
+
+        private Builder() {
+        }
+
+        /**
+         * Sets the response encodings to negotiate, most preferred first.
+         * Default: gzip
+         *
+         * @param decoders the decoders, e.g. {@code Brotli.INSTANCE, Gzip.INSTANCE}
+         * @return this builder
+         * @throws IllegalArgumentException if no decoder is given
+         */
+        public Builder decoders(@NotNull CompressionInterceptor.DecompressionAlgorithm... decoders) {
+            if (decoders.length == 0) {
+                throw new IllegalArgumentException("At least one decoder is required.");
+            }
+            for (CompressionInterceptor.DecompressionAlgorithm decoder : decoders) {
+                Objects.requireNonNull(decoder, "decoder");
+            }
+            this.decoders = Arrays.asList(decoders.clone());
+            return this;
+        }
+
+        /**
+         * Sets the smallest JSON request body that is gzipped. Default: 16 KiB
+         *
+         * @param minRequestBodyBytes the threshold in bytes
+         * @return this builder
+         * @throws IllegalArgumentException if the threshold is negative
+         */
+        public Builder minRequestBodyBytes(long minRequestBodyBytes) {
+            if (minRequestBodyBytes < 0) {
+                throw new IllegalArgumentException("minRequestBodyBytes must not be negative.");
+            }
+            this.minRequestBodyBytes = minRequestBodyBytes;
+            return this;
+        }
+
+        /**
+         * Replaces the rule deciding which requests may have their body gzipped.
+         * By default entry creation, bulk operations and content type imports do.
+         *
+         * @param compressRequest returns true for requests whose JSON body may be gzipped
+         * @return this builder
+         */
+        public Builder compressRequests(@NotNull Predicate<Request> compressRequest) {
+            this.compressRequest = Objects.requireNonNull(compressRequest, "compressRequest");
+            return this;
+        }
+
+        /**
+         * Builds the compression settings.
+         *
+         * @return the compression settings
+         */
+        public Compression build() {
+            return new Compression(this);
+        }
+    }
+}
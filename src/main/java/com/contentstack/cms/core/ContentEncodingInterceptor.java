@@ -0,0 +1,43 @@
+package com.contentstack.cms.core;
+
+import java.io.IOException;
+
+import org.jetbrains.annotations.NotNull;
+
+import okhttp3.Interceptor;
+import okhttp3.Response;
+
+/**
+ * Interceptor that applies {@link Compression}: it negotiates and decodes
+ * compressed responses and gzips eligible request bodies.
+ * <p>
+ * It is installed last, after the rate limiter, so every retry attempt is
+ * encoded on its own and the byte counters match the traffic on the wire.
+ *
+ * @see com.contentstack.cms.Contentstack.Builder#setCompression(Compression)
+ */
+public class ContentEncodingInterceptor implements Interceptor {
+
+    private final Compression compression;
+
+    public ContentEncodingInterceptor(@NotNull Compression compression) {
+        this.compression = compression;
+    }
+
+    /**
+     * Encodes the request, proceeds, and decodes the response.
+     *
+     * @param chain the interceptor chain
+     * @return the decoded response
+     * @throws IOException if the call fails
+     */
+    @NotNull
+    @Override
+    public Response intercept(Chain chain) throws IOException {
+        return compression.intercept(chain);
+    }
+
+    public Compression getCompression() {
+        return compression;
+    }
+}
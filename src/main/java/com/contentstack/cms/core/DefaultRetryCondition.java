@@ -11,7 +11,8 @@ import java.net.SocketTimeoutException;
  *   <li>HTTP status codes: 408 (Request Timeout), 429 (Too Many Requests),
  *       500 (Internal Server Error), 502 (Bad Gateway), 503 (Service Unavailable),
  *       504 (Gateway Timeout)</li>
- *   <li>Network errors: IOException, SocketTimeoutException</li>
+ *   <li>Network errors: IOException, SocketTimeoutException, except a
+ *       {@link RateLimitExceededException}</li>
  * </ul>
  * <p>
  * This matches the default retry behavior of the JavaScript Delivery SDK.
@@ -58,6 +59,11 @@ public class DefaultRetryCondition implements RetryCondition {
      */
     @Override
     public boolean shouldRetry(int statusCode, @Nullable Throwable error) {
+        // A rate-limit permit that was not granted in time would only be waited for again
+        if (error instanceof RateLimitExceededException) {
+            return false;
+        }
+
         // Network errors (statusCode = 0) are always retryable
         if (statusCode == 0) {
             return true;
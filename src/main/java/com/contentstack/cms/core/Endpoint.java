@@ -3,7 +3,8 @@ package com.contentstack.cms.core;
 import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
-import com.google.gson.JsonParser;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.io.BufferedReader;
 import java.io.IOException;
@@ -12,18 +13,44 @@ import java.io.InputStreamReader;
 import java.net.HttpURLConnection;
 import java.net.URL;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 import java.util.stream.Collectors;
 
 /**
  * Resolves Contentstack API endpoints for any region and service.
  *
  * <p>Endpoint data is loaded from the bundled {@code regions.json} classpath resource.
- * The parsed result is cached for the lifetime of the JVM process.
+ * The parsed result is cached for the lifetime of the JVM process as an index of
+ * every region ID and alias, with each endpoint URL validated once at load time,
+ * so a lookup is a single hash map access.
  * If the bundled file is absent, a live download from
  * {@code https://artifacts.contentstack.com/regions.json} is attempted as a fallback.
  *
+ * <p>With a {@linkplain #setCacheFile(Path) cache file}, every registry downloaded
+ * by {@link #refresh()} is also written to disk, and a later process starts from
+ * that copy instead of the bundled one. {@link #startBackgroundRefresh(long, TimeUnit)}
+ * keeps the registry current with conditional requests ({@code If-None-Match} /
+ * {@code If-Modified-Since}), so an unchanged registry costs a {@code 304} and no
+ * parsing. Refreshes swap in a new snapshot atomically; lookups never wait for one.
+ *
  * <pre>{@code
  * // Get a specific service URL
  * String cdnUrl = Endpoint.getContentstackEndpoint("eu", "contentDelivery");
@@ -54,7 +81,25 @@ public class Endpoint {
             ".contentstack.io"
     };
 
-    private static volatile JsonArray regionsData = null;
+    /**
+     * System property naming the default {@linkplain #setCacheFile(Path) cache file}
+     */
+    public static final String CACHE_FILE_PROPERTY = "contentstack.regions.cache";
+
+    private static final Logger logger = Logger.getLogger(Endpoint.class.getName());
+
+    /**
+     * The loaded registry; replaced as a whole on refresh
+     */
+    private static final AtomicReference<RegionRegistry> registry = new AtomicReference<>();
+    /**
+     * Serialises refreshes so concurrent callers do not download the registry twice
+     */
+    private static final Object refreshLock = new Object();
+
+    private static volatile Path cacheFile = defaultCacheFile();
+    private static volatile String registryUrl = REGIONS_URL;
+    private static ScheduledFuture<?> backgroundRefresh;
 
     private Endpoint() {}
 
@@ -88,14 +133,13 @@ public class Endpoint {
             throw new IllegalArgumentException(
                     "Service must not be empty. Use getContentstackEndpoints(region) to retrieve all endpoints.");
         }
-        JsonObject regionRow = resolveRegion(region);
-        JsonObject endpoints = regionRow.getAsJsonObject("endpoints");
-        if (endpoints == null || !endpoints.has(service)) {
+        RegionRecord record = resolveRegion(region);
+        String url = record.endpoint(service, omitHttps);
+        if (url == null) {
             throw new IllegalArgumentException(
-                    "Service \"" + service + "\" not found for region \"" + regionRow.get("id").getAsString() + "\"");
+                    "Service \"" + service + "\" not found for region \"" + record.getId() + "\"");
         }
-        String url = validateTrustedEndpoint(endpoints.get(service).getAsString());
-        return omitHttps ? stripHttps(url) : url;
+        return url;
     }
 
     /**
@@ -120,125 +164,313 @@ public class Endpoint {
      * @throws RuntimeException         if {@code regions.json} cannot be loaded
      */
     public static Map<String, String> getContentstackEndpoints(String region, boolean omitHttps) {
-        JsonObject regionRow = resolveRegion(region);
-        JsonObject endpoints = regionRow.getAsJsonObject("endpoints");
-        Map<String, String> result = new LinkedHashMap<>();
-        if (endpoints != null) {
-            for (Map.Entry<String, JsonElement> entry : endpoints.entrySet()) {
-                String url = validateTrustedEndpoint(entry.getValue().getAsString());
-                result.put(entry.getKey(), omitHttps ? stripHttps(url) : url);
-            }
-        }
-        return result;
+        return new LinkedHashMap<>(resolveRegion(region).endpoints(omitHttps));
     }
 
     // ── internal ──────────────────────────────────────────────────────────────
 
-    private static JsonObject resolveRegion(String region) {
+    private static RegionRecord resolveRegion(String region) {
         if (region == null || region.trim().isEmpty()) {
             throw new IllegalArgumentException("Empty region provided. Please provide a valid region.");
         }
-        JsonArray regions = loadRegions();
-        String normalized = region.trim().toLowerCase().replace('_', '-');
-
-        // First pass: exact match on canonical id
-        for (int i = 0; i < regions.size(); i++) {
-            JsonObject row = regions.get(i).getAsJsonObject();
-            if (row.get("id").getAsString().equals(normalized)) {
-                return row;
-            }
+        Map<String, RegionRecord> index = loadRegions();
+        // canonical IDs are already normalised, so they resolve without building a new key
+        RegionRecord record = index.get(region);
+        if (record == null) {
+            record = index.get(normalize(region));
         }
+        if (record == null) {
+            throw new IllegalArgumentException("Invalid region: " + region);
+        }
+        return record;
+    }
 
-        // Second pass: match on alias list (case-insensitive, normalised separators)
-        for (int i = 0; i < regions.size(); i++) {
-            JsonObject row = regions.get(i).getAsJsonObject();
-            JsonArray aliases = row.getAsJsonArray("alias");
-            if (aliases != null) {
-                for (int j = 0; j < aliases.size(); j++) {
-                    String alias = aliases.get(j).getAsString().toLowerCase().replace('_', '-');
-                    if (alias.equals(normalized)) {
-                        return row;
-                    }
+    private static String normalize(String region) {
+        return region.trim().toLowerCase().replace('_', '-');
+    }
+
+    private static Map<String, RegionRecord> loadRegions() {
+        RegionRegistry current = registry.get();
+        if (current != null) {
+            return current.getIndex();
+        }
+        synchronized (Endpoint.class) {
+            current = registry.get();
+            if (current != null) {
+                return current.getIndex();
+            }
+
+            // A copy persisted by an earlier refresh, then the bundled classpath resource
+            RegionRegistry loaded = readCacheFile();
+            if (loaded == null) {
+                loaded = readBundled();
+            }
+
+            // Fallback: download from Contentstack
+            if (loaded == null) {
+                try {
+                    loaded = download(null);
+                    writeCacheFile(loaded);
+                } catch (Exception e) {
+                    throw new RuntimeException(
+                            "contentstack/cms: regions.json not found and could not be downloaded. " +
+                            "Ensure the JAR was built correctly or network access is available.", e);
                 }
             }
+            // a refresh that finished meanwhile has the newer registry
+            return registry.compareAndSet(null, loaded) ? loaded.getIndex() : registry.get().getIndex();
         }
+    }
 
-        throw new IllegalArgumentException("Invalid region: " + region);
+    private static RegionRegistry readBundled() {
+        InputStream is = Endpoint.class.getClassLoader().getResourceAsStream(REGIONS_RESOURCE);
+        if (is == null) {
+            return null;
+        }
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(is, StandardCharsets.UTF_8))) {
+            return RegionRegistry.parse(reader.lines().collect(Collectors.joining("\n")), null, 0);
+        } catch (Exception e) {
+            return null;
+        }
     }
 
-    private static synchronized JsonArray loadRegions() {
-        if (regionsData != null) {
-            return regionsData;
+    private static RegionRegistry readCacheFile() {
+        Path path = cacheFile;
+        if (path == null || !Files.isRegularFile(path)) {
+            return null;
+        }
+        try {
+            return RegionRegistry.parseCached(new String(Files.readAllBytes(path), StandardCharsets.UTF_8));
+        } catch (Exception e) {
+            logger.log(Level.FINE, "Ignoring unreadable regions cache file " + path, e);
+            return null;
         }
+    }
 
-        // Try bundled classpath resource first
-        InputStream is = Endpoint.class.getClassLoader().getResourceAsStream(REGIONS_RESOURCE);
-        if (is != null) {
-            try (BufferedReader reader = new BufferedReader(new InputStreamReader(is, StandardCharsets.UTF_8))) {
-                String json = reader.lines().collect(Collectors.joining("\n"));
-                regionsData = JsonParser.parseString(json).getAsJsonObject().getAsJsonArray("regions");
-                return regionsData;
-            } catch (Exception e) {
-                // fall through to live download
+    /**
+     * Writes the registry to the cache file, if one is set, through a temporary
+     * file so a crash never leaves a truncated copy behind. Failures are logged:
+     * the registry in memory is still good.
+     */
+    private static void writeCacheFile(RegionRegistry fresh) {
+        Path path = cacheFile;
+        if (path == null) {
+            return;
+        }
+        try {
+            Path absolute = path.toAbsolutePath();
+            Path directory = absolute.getParent();
+            if (directory != null) {
+                Files.createDirectories(directory);
+            }
+            Path temp = Files.createTempFile(directory, absolute.getFileName().toString(), ".tmp");
+            try {
+                Files.write(temp, fresh.toJson().getBytes(StandardCharsets.UTF_8));
+                try {
+                    Files.move(temp, absolute, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                } catch (AtomicMoveNotSupportedException e) {
+                    Files.move(temp, absolute, StandardCopyOption.REPLACE_EXISTING);
+                }
+            } finally {
+                Files.deleteIfExists(temp);
             }
+        } catch (IOException e) {
+            logger.log(Level.WARNING, "Could not write regions cache file " + path, e);
         }
+    }
 
-        // Fallback: download from Contentstack
-        try {
-            String json = downloadRegions();
-            regionsData = JsonParser.parseString(json).getAsJsonObject().getAsJsonArray("regions");
-            return regionsData;
-        } catch (Exception e) {
-            throw new RuntimeException(
-                    "contentstack/cms: regions.json not found and could not be downloaded. " +
-                    "Ensure the JAR was built correctly or network access is available.", e);
+    private static Path defaultCacheFile() {
+        String property = System.getProperty(CACHE_FILE_PROPERTY);
+        return property != null && !property.trim().isEmpty() ? Paths.get(property.trim()) : null;
+    }
+
+    /**
+     * Builds the lookup index. Canonical IDs take precedence over aliases, and
+     * the first region listed wins when two claim the same key, matching the
+     * order in which the registry used to be scanned.
+     */
+    static Map<String, RegionRecord> index(JsonArray regions) {
+        List<RegionRecord> records = new ArrayList<>(regions.size());
+        for (JsonElement element : regions) {
+            JsonObject row = element.getAsJsonObject();
+            if (row.has("id")) {
+                records.add(record(row));
+            }
+        }
+        Map<String, RegionRecord> index = new HashMap<>();
+        for (RegionRecord record : records) {
+            index.putIfAbsent(record.getId(), record);
+        }
+        for (RegionRecord record : records) {
+            for (String alias : record.getAliases()) {
+                index.putIfAbsent(alias.toLowerCase().replace('_', '-'), record);
+            }
+        }
+        return Collections.unmodifiableMap(index);
+    }
+
+    private static RegionRecord record(JsonObject row) {
+        List<String> aliases = new ArrayList<>();
+        JsonArray aliasArray = row.getAsJsonArray("alias");
+        if (aliasArray != null) {
+            for (JsonElement alias : aliasArray) {
+                aliases.add(alias.getAsString());
+            }
+        }
+        Map<String, String> urls = new LinkedHashMap<>();
+        Map<String, String> rejected = new LinkedHashMap<>();
+        JsonObject endpoints = row.getAsJsonObject("endpoints");
+        if (endpoints != null) {
+            for (Map.Entry<String, JsonElement> entry : endpoints.entrySet()) {
+                JsonElement value = entry.getValue();
+                try {
+                    if (!value.isJsonPrimitive()) {
+                        throw new IllegalArgumentException("Malformed endpoint URL in regions registry: " + value);
+                    }
+                    urls.put(entry.getKey(), validateTrustedEndpoint(value.getAsString()));
+                } catch (IllegalArgumentException e) {
+                    rejected.put(entry.getKey(), e.getMessage());
+                }
+            }
         }
+        return new RegionRecord(row.get("id").getAsString(), aliases, urls, rejected);
     }
 
-    private static String downloadRegions() throws IOException {
-        URL url = new URL(REGIONS_URL);
+    /**
+     * Downloads the registry. With a {@code current} registry the request is
+     * conditional, and {@code current} itself is returned when the server answers
+     * {@code 304 Not Modified}.
+     */
+    private static RegionRegistry download(RegionRegistry current) throws IOException {
+        URL url = new URL(registryUrl);
         HttpURLConnection conn = (HttpURLConnection) url.openConnection();
         conn.setRequestMethod("GET");
         conn.setConnectTimeout(10_000);
         conn.setReadTimeout(10_000);
-        try (InputStream is = conn.getInputStream();
-             BufferedReader reader = new BufferedReader(new InputStreamReader(is, StandardCharsets.UTF_8))) {
-            return reader.lines().collect(Collectors.joining("\n"));
+        if (current != null) {
+            if (current.getEtag() != null) {
+                conn.setRequestProperty("If-None-Match", current.getEtag());
+            }
+            if (current.getLastModified() > 0) {
+                conn.setIfModifiedSince(current.getLastModified());
+            }
+        }
+        try {
+            int code = conn.getResponseCode();
+            if (code == HttpURLConnection.HTTP_NOT_MODIFIED && current != null) {
+                return current;
+            }
+            if (code != HttpURLConnection.HTTP_OK) {
+                throw new IOException("GET " + url + " returned HTTP " + code);
+            }
+            try (InputStream is = conn.getInputStream();
+                 BufferedReader reader = new BufferedReader(new InputStreamReader(is, StandardCharsets.UTF_8))) {
+                String json = reader.lines().collect(Collectors.joining("\n"));
+                return RegionRegistry.parse(json, conn.getHeaderField("ETag"), conn.getLastModified());
+            }
         } finally {
             conn.disconnect();
         }
     }
 
     /**
-     * Forces a live download of the regions registry from
-     * {@code https://artifacts.contentstack.com/regions.json} and replaces
-     * the in-memory cache.
+     * Checks the live regions registry at
+     * {@code https://artifacts.contentstack.com/regions.json} and replaces the
+     * in-memory cache, and the {@linkplain #setCacheFile(Path) cache file} if set,
+     * when it has changed.
      *
      * <p>Call this if you suspect new Contentstack regions or service URLs have
      * been published since the SDK JAR was built, without needing to upgrade
-     * the SDK version.
+     * the SDK version. A registry that was itself downloaded is revalidated with a
+     * conditional request. Lookups running meanwhile keep using the previous
+     * registry; they never wait for the download.
      *
      * <pre>{@code
      * int count = Endpoint.refresh();
      * System.out.println("Loaded " + count + " regions from live registry.");
      * }</pre>
      *
-     * @return the number of regions loaded from the live registry
+     * @return the number of regions in the live registry
      * @throws RuntimeException if the download fails or the response is not valid JSON
      */
-    public static synchronized int refresh() {
-        try {
-            String json = downloadRegions();
-            JsonArray fresh = JsonParser.parseString(json).getAsJsonObject().getAsJsonArray("regions");
-            regionsData = fresh;
-            return fresh.size();
-        } catch (Exception e) {
-            throw new RuntimeException(
-                    "contentstack/cms: Failed to refresh regions.json from " + REGIONS_URL + ". " +
-                    "Check network connectivity and try again.", e);
+    public static int refresh() {
+        synchronized (refreshLock) {
+            try {
+                RegionRegistry current = registry.get();
+                RegionRegistry fresh = download(current);
+                if (fresh != current) {
+                    registry.set(fresh);
+                    writeCacheFile(fresh);
+                }
+                return fresh.size();
+            } catch (Exception e) {
+                throw new RuntimeException(
+                        "contentstack/cms: Failed to refresh regions.json from " + registryUrl + ". " +
+                        "Check network connectivity and try again.", e);
+            }
         }
     }
 
+    /**
+     * Refreshes the registry in the background every {@code interval}, replacing
+     * any earlier schedule. Failed refreshes are logged and retried at the next
+     * interval; lookups keep using the last good registry.
+     *
+     * <pre>{@code
+     * Endpoint.setCacheFile(Paths.get("/var/cache/myapp/regions.json"));
+     * Endpoint.startBackgroundRefresh(6, TimeUnit.HOURS);
+     * }</pre>
+     *
+     * @param interval time between refreshes; the first runs after one interval
+     * @param unit     unit of {@code interval}
+     * @throws IllegalArgumentException if {@code interval} is not positive
+     */
+    public static synchronized void startBackgroundRefresh(long interval, @NotNull TimeUnit unit) {
+        if (interval <= 0) {
+            throw new IllegalArgumentException("interval must be positive");
+        }
+        stopBackgroundRefresh();
+        backgroundRefresh = RefreshScheduler.INSTANCE.scheduleWithFixedDelay(() -> {
+            try {
+                refresh();
+            } catch (RuntimeException e) {
+                logger.log(Level.WARNING, "Background refresh of regions.json failed; keeping the current registry", e);
+            }
+        }, interval, interval, unit);
+    }
+
+    /**
+     * Stops the background refresh started by {@link #startBackgroundRefresh(long, TimeUnit)}.
+     */
+    public static synchronized void stopBackgroundRefresh() {
+        if (backgroundRefresh != null) {
+            backgroundRefresh.cancel(false);
+            backgroundRefresh = null;
+        }
+    }
+
+    /**
+     * Sets the file the registry is persisted to after each successful refresh
+     * and read from on the first lookup, before the bundled copy. Defaults to the
+     * path in the {@value #CACHE_FILE_PROPERTY} system property; without one,
+     * nothing is written to disk.
+     *
+     * @param path the cache file, or null to disable persistence
+     */
+    public static void setCacheFile(@Nullable Path path) {
+        cacheFile = path;
+    }
+
+    /**
+     * Gets the file the registry is persisted to.
+     *
+     * @return the cache file, or null if persistence is disabled
+     */
+    @Nullable
+    public static Path getCacheFile() {
+        return cacheFile;
+    }
+
     /**
      * Validates that an endpoint URL sourced from the regions registry is a
      * well-formed HTTPS URL whose host belongs to a trusted Contentstack domain.
@@ -273,12 +505,31 @@ public class Endpoint {
         throw new IllegalArgumentException("Endpoint URL targets an untrusted host: " + url);
     }
 
-    private static String stripHttps(String url) {
-        return url.replaceAll("^https?://", "");
-    }
-
     /** Clears the in-memory cache. For use in tests only. */
     static void resetCache() {
-        regionsData = null;
+        registry.set(null);
+    }
+
+    /** Points downloads at another registry URL. For use in tests only. */
+    static void setRegistryUrl(String url) {
+        registryUrl = url != null ? url : REGIONS_URL;
+    }
+
+    /**
+     * Single daemon thread that runs background refreshes of the registry.
+     */
+    private static final class RefreshScheduler {
+        private static final ScheduledExecutorService INSTANCE = create();
+
+        private static ScheduledExecutorService create() {
+            ThreadFactory factory = runnable -> {
+                Thread thread = new Thread(runnable, "contentstack-regions-refresh");
+                thread.setDaemon(true);
+                return thread;
+            };
+            ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1, factory);
+            executor.setRemoveOnCancelPolicy(true);
+            return executor;
+        }
     }
 }
@@ -45,8 +45,11 @@ public final class ErrorMessages {
     public static final String REFERENCE_FIELDS_INVALID = "Reference Fields must be a string or an array of strings. Provide valid values and try again.";
     public static final String TERM_STRING_REQUIRED = "Term String is required. Provide a valid Term String and try again.";
 
+    public static final String UPLOAD_FILE_NOT_FOUND = "The file to upload does not exist. Provide a valid file path and try again.";
     public static final String FILE_CONTENT_TYPE_UNKNOWN = "The file's content type could not be determined. Provide a valid file and try again.";
 
+    public static final String RATE_LIMIT_WAIT_EXCEEDED = "Rate limit permit not available within the configured maximum wait. Reduce request concurrency or increase the wait and try again.";
+
     public static final String MISSING_INSTALLATION_ID = "installation uid is required";
     public static final String MISSING_ORG_ID = "organization uid is required";
 }
@@ -0,0 +1,94 @@
+package com.contentstack.cms.core;
+
+import com.contentstack.cms.models.Error;
+import com.contentstack.cms.models.ErrorTypeAdapter;
+import com.contentstack.cms.models.OAuthTokens;
+import com.contentstack.cms.models.OAuthTokensTypeAdapter;
+import com.contentstack.cms.stack.AssetPojo;
+import com.contentstack.cms.stack.AssetPojoTypeAdapter;
+import com.contentstack.cms.stack.ContentTypePojo;
+import com.contentstack.cms.stack.ContentTypePojoTypeAdapter;
+import com.contentstack.cms.stack.EntryPojo;
+import com.contentstack.cms.stack.EntryPojoTypeAdapter;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.reflect.TypeToken;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.function.Function;
+
+/**
+ * Shared {@link Gson} configuration for the SDK.
+ * <p>
+ * A {@code Gson} caches the type adapter it builds for every class it sees, so it
+ * is meant to be created once and reused. {@link #newBuilder()} registers
+ * streaming adapters for {@link EntryPojo}, {@link AssetPojo},
+ * {@link ContentTypePojo}, {@link OAuthTokens} and {@link Error}; {@link #shared()}
+ * is the instance built from it, used by {@code Contentstack.Builder} unless a
+ * custom one is set. The {@code *Response} POJO classes are read by the client's
+ * Gson through its registered adapters, so a custom instance applies to them too.
+ * </p>
+ */
+public final class GsonProvider {
+
+    private static final Gson SHARED = newBuilder().create();
+
+    private static final Gson PRETTY = SHARED.newBuilder().setPrettyPrinting().create();
+
+    private GsonProvider() {
+        throw new AssertionError("GsonProvider should not be instantiated");
+    }
+
+    /**
+     * Creates a builder with the SDK type adapters registered. Use it as the
+     * starting point for a custom {@code Gson} passed to
+     * {@code Contentstack.Builder.setGson}.
+     *
+     * @return a new builder
+     */
+    @NotNull
+    public static GsonBuilder newBuilder() {
+        return new GsonBuilder()
+                .registerTypeAdapterFactory(factory(EntryPojo.class, EntryPojoTypeAdapter::new))
+                .registerTypeAdapterFactory(factory(AssetPojo.class, gson -> new AssetPojoTypeAdapter()))
+                .registerTypeAdapterFactory(factory(ContentTypePojo.class, ContentTypePojoTypeAdapter::new))
+                .registerTypeAdapterFactory(factory(OAuthTokens.class, OAuthTokensTypeAdapter::new))
+                .registerTypeAdapterFactory(factory(Error.class, ErrorTypeAdapter::new));
+    }
+
+    /**
+     * Gets the process-wide Gson built from {@link #newBuilder()}.
+     *
+     * @return the shared instance
+     */
+    @NotNull
+    public static Gson shared() {
+        return SHARED;
+    }
+
+    /**
+     * Gets a pretty-printing variant of {@link #shared()}, used by the response
+     * classes' {@code toString()}.
+     *
+     * @return the shared pretty-printing instance
+     */
+    @NotNull
+    public static Gson pretty() {
+        return PRETTY;
+    }
+
+    private static <T> TypeAdapterFactory factory(Class<T> type, Function<Gson, TypeAdapter<T>> creator) {
+        return new TypeAdapterFactory() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <R> TypeAdapter<R> create(Gson gson, TypeToken<R> token) {
+                if (token.getRawType() != type) {
+                    return null;
+                }
+                return (TypeAdapter<R>) creator.apply(gson).nullSafe();
+            }
+        };
+    }
+}
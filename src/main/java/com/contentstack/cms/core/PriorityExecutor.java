@@ -0,0 +1,128 @@
+package com.contentstack.cms.core;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Runs asynchronous calls on a fixed number of threads, starting queued calls in
+ * {@link RequestPriority} order.
+ * <p>
+ * Pass it to {@code Contentstack.Builder#setAsyncExecutor(Executor)} and send
+ * calls through {@code stack.async(priority)}: each call runs its blocking
+ * {@code execute()} on one of the threads, so {@code parallelism} is the number of
+ * calls in flight. When all threads are busy, a waiting
+ * {@link RequestPriority#INTERACTIVE} call starts before any waiting
+ * {@link RequestPriority#BACKGROUND} one, so editor requests are not stuck behind
+ * a bulk publish that shares the client. Calls already running are never
+ * interrupted. One executor may be shared by several clients to share the
+ * concurrency budget.
+ *
+ * <pre>{@code
+ * PriorityExecutor executor = new PriorityExecutor(16);
+ * Contentstack client = new Contentstack.Builder()
+ *         .setAuthtoken(authtoken)
+ *         .setAsyncExecutor(executor)
+ *         .build();
+ * Stack stack = client.stack(apiKey);
+ * stack.async(RequestPriority.BACKGROUND).bulkOperation().future(b -> b.publish(body));
+ * stack.async(RequestPriority.INTERACTIVE).contentType("blog").child(ct -> ct.entry(uid)).future(Entry::fetch);
+ * }</pre>
+ */
+public final class PriorityExecutor implements Executor {
+
+    private static final AtomicInteger POOL_COUNTER = new AtomicInteger();
+
+    private final ThreadPoolExecutor executor;
+    private final AtomicLong sequence = new AtomicLong();
+
+    /**
+     * Creates an executor with {@code parallelism} daemon threads.
+     *
+     * @param parallelism the number of calls run at the same time
+     * @throws IllegalArgumentException if {@code parallelism} is not positive
+     */
+    public PriorityExecutor(int parallelism) {
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("parallelism must be positive");
+        }
+        String prefix = "contentstack-priority-" + POOL_COUNTER.incrementAndGet() + "-";
+        AtomicInteger threadCounter = new AtomicInteger();
+        ThreadFactory factory = runnable -> {
+            Thread thread = new Thread(runnable, prefix + threadCounter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+        this.executor = new ThreadPoolExecutor(parallelism, parallelism, 60, TimeUnit.SECONDS,
+                new PriorityBlockingQueue<>(), factory);
+        this.executor.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * Queues a task with {@link RequestPriority#NORMAL} priority.
+     *
+     * @param command the task
+     */
+    @Override
+    public void execute(@NotNull Runnable command) {
+        execute(RequestPriority.NORMAL, command);
+    }
+
+    /**
+     * Queues a task behind every waiting task of the same or higher priority.
+     *
+     * @param priority the priority of the task
+     * @param command  the task
+     * @throws java.util.concurrent.RejectedExecutionException if the executor has been shut down
+     */
+    public void execute(@NotNull RequestPriority priority, @NotNull Runnable command) {
+        executor.execute(new Task(Objects.requireNonNull(priority, "priority"),
+                sequence.getAndIncrement(), Objects.requireNonNull(command, "command")));
+    }
+
+    /**
+     * Gets the number of tasks waiting for a thread.
+     *
+     * @return the queue length
+     */
+    public int getQueuedCount() {
+        return executor.getQueue().size();
+    }
+
+    /**
+     * Stops accepting tasks; queued and running tasks still complete.
+     */
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private static final class Task implements Runnable, Comparable<Task> {
+        private final RequestPriority priority;
+        private final long sequence;
+        private final Runnable command;
+
+        Task(RequestPriority priority, long sequence, Runnable command) {
+            this.priority = priority;
+            this.sequence = sequence;
+            this.command = command;
+        }
+
+        @Override
+        public void run() {
+            command.run();
+        }
+
+        @Override
+        public int compareTo(Task other) {
+            int byPriority = priority.compareTo(other.priority);
+            return byPriority != 0 ? byPriority : Long.compare(sequence, other.sequence);
+        }
+    }
+}
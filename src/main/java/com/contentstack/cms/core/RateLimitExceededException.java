@@ -0,0 +1,15 @@
+package com.contentstack.cms.core;
+
+import java.io.IOException;
+
+/**
+ * Thrown by {@link RateLimiter#acquire(String)} when no permit is granted within
+ * the configured maximum wait. The request was never sent, and retrying it would
+ * only wait again, so the SDK's retry loops do not retry it.
+ */
+public class RateLimitExceededException extends IOException {
+
+    public RateLimitExceededException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,52 @@
+package com.contentstack.cms.core;
+
+import java.io.IOException;
+
+import org.jetbrains.annotations.NotNull;
+
+import okhttp3.Interceptor;
+import okhttp3.Request;
+import okhttp3.Response;
+
+/**
+ * Interceptor that holds each outgoing request until the {@link RateLimiter}
+ * grants a permit for it.
+ * <p>
+ * It is installed after the auth interceptor, so every retry attempt made by
+ * {@link AuthInterceptor} or the OAuth interceptor also waits for a permit.
+ * The wait blocks the calling thread, which for an enqueued call is an OkHttp
+ * dispatcher thread.
+ *
+ * @see com.contentstack.cms.Contentstack.Builder#setRateLimiter(RateLimiter)
+ */
+public class RateLimitInterceptor implements Interceptor {
+
+    private final RateLimiter rateLimiter;
+
+    public RateLimitInterceptor(@NotNull RateLimiter rateLimiter) {
+        this.rateLimiter = rateLimiter;
+    }
+
+    /**
+     * Waits for a permit for the request's {@code api_key}, proceeds, and feeds
+     * the response's rate-limit headers back into the limiter.
+     *
+     * @param chain the interceptor chain
+     * @return the response for the request
+     * @throws IOException if no permit is granted in time or the call fails
+     */
+    @NotNull
+    @Override
+    public Response intercept(Chain chain) throws IOException {
+        Request request = chain.request();
+        String apiKey = request.header(Util.API_KEY);
+        rateLimiter.acquire(apiKey);
+        Response response = chain.proceed(request);
+        rateLimiter.onResponse(apiKey, response);
+        return response;
+    }
+
+    public RateLimiter getRateLimiter() {
+        return rateLimiter;
+    }
+}
@@ -0,0 +1,245 @@
+package com.contentstack.cms.core;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import okhttp3.Response;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Client-side token-bucket rate limiter for Content Management API calls.
+ * <p>
+ * Requests wait for a permit from a global bucket and from a bucket for the
+ * stack's {@code api_key}, instead of being sent and rejected with a 429. The
+ * per-API-key refill rate follows the {@code X-RateLimit-Limit} header, and a
+ * low {@code X-RateLimit-Remaining} drains the bucket, so the limiter converges
+ * on the rate the server actually grants.
+ * <p>
+ * One instance may be shared by several {@code Contentstack} clients; every
+ * {@code Stack} created from those clients then draws from the same buckets.
+ *
+ * <pre>{@code
+ * RateLimiter limiter = RateLimiter.builder()
+ *         .requestsPerSecond(20)
+ *         .requestsPerSecondPerApiKey(10)
+ *         .build();
+ * Contentstack client = new Contentstack.Builder()
+ *         .setAuthtoken("authtoken")
+ *         .setRateLimiter(limiter)
+ *         .build();
+ * }</pre>
+ */
+public class RateLimiter {
+
+    /**
+     * Default Content Management API allowance per stack (requests per second).
+     */
+    private static final double DEFAULT_REQUESTS_PER_SECOND_PER_API_KEY = 10;
+
+    /**
+     * Default longest time a request waits for a permit (60 seconds).
+     */
+    private static final long DEFAULT_MAX_WAIT_MILLIS = 60_000;
+
+    @Nullable
+    private final TokenBucket globalBucket;
+    private final double requestsPerSecondPerApiKey;
+    private final boolean adaptToRateLimitHeaders;
+    private final long maxWaitNanos;
+    private final Map<String, TokenBucket> apiKeyBuckets = new ConcurrentHashMap<>();
+
+    private RateLimiter(Builder builder) {
+        this.globalBucket = builder.requestsPerSecond > 0 ? new TokenBucket(builder.requestsPerSecond) : null;
+        this.requestsPerSecondPerApiKey = builder.requestsPerSecondPerApiKey;
+        this.adaptToRateLimitHeaders = builder.adaptToRateLimitHeaders;
+        this.maxWaitNanos = TimeUnit.MILLISECONDS.toNanos(builder.maxWaitMillis);
+    }
+
+    /**
+     * Blocks until a permit is available for the given API key and the global bucket.
+     *
+     * @param apiKey the stack API key of the request, or null for non-stack calls
+     * @throws RateLimitExceededException if the wait would exceed the configured maximum
+     * @throws IOException                 if the thread is interrupted while waiting
+     */
+    public void acquire(@Nullable String apiKey) throws IOException {
+        TokenBucket keyBucket = apiKey != null ? bucketFor(apiKey) : null;
+        long keyWait = reserve(keyBucket, maxWaitNanos);
+        long globalWait = reserve(globalBucket, maxWaitNanos);
+        if (keyWait < 0 || globalWait < 0) {
+            release(keyBucket, keyWait);
+            release(globalBucket, globalWait);
+            throw new RateLimitExceededException(ErrorMessages.RATE_LIMIT_WAIT_EXCEEDED);
+        }
+        long until = System.nanoTime() + Math.max(keyWait, globalWait);
+        long remaining;
+        while ((remaining = until - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(this, remaining);
+            if (Thread.currentThread().isInterrupted()) {
+                release(keyBucket, keyWait);
+                release(globalBucket, globalWait);
+                throw new InterruptedIOException("Interrupted while waiting for a rate-limit permit");
+            }
+        }
+    }
+
+    /**
+     * Feeds the server's rate-limit headers back into the buckets.
+     *
+     * @param apiKey   the stack API key of the request, or null for non-stack calls
+     * @param response the response received for the request
+     */
+    public void onResponse(@Nullable String apiKey, @NotNull Response response) {
+        if (!adaptToRateLimitHeaders) {
+            return;
+        }
+        TokenBucket bucket = apiKey != null ? bucketFor(apiKey) : globalBucket;
+        if (bucket == null) {
+            return;
+        }
+        Long limit = parsePositiveLong(response.header(RetryUtil.X_RATE_LIMIT_LIMIT));
+        if (limit != null && limit > 0) {
+            bucket.setRate(limit);
+        }
+        Long remaining = parsePositiveLong(response.header(RetryUtil.X_RATE_LIMIT_REMAINING));
+        if (remaining != null) {
+            bucket.limitTo(remaining);
+        } else if (response.code() == 429) {
+            bucket.limitTo(0);
+        }
+    }
+
+    /**
+     * Gets the current refill rate for an API key.
+     *
+     * @param apiKey the stack API key
+     * @return requests per second currently granted to the API key
+     */
+    public double getRequestsPerSecond(@NotNull String apiKey) {
+        return bucketFor(apiKey).getRate();
+    }
+
+    private TokenBucket bucketFor(String apiKey) {
+        return apiKeyBuckets.computeIfAbsent(apiKey, key -> new TokenBucket(requestsPerSecondPerApiKey));
+    }
+
+    private static long reserve(@Nullable TokenBucket bucket, long maxWaitNanos) {
+        return bucket != null ? bucket.reserve(maxWaitNanos) : 0;
+    }
+
+    private static void release(@Nullable TokenBucket bucket, long reservedWait) {
+        if (bucket != null && reservedWait >= 0) {
+            bucket.release();
+        }
+    }
+
+    @Nullable
+    private static Long parsePositiveLong(@Nullable String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Math.max(0, Long.parseLong(value.trim()));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Creates a new builder for RateLimiter.
+     *
+     * @return a new builder instance
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Builder for creating RateLimiter instances.
+     */
+    public static class Builder {
+        private double requestsPerSecond;
+        private double requestsPerSecondPerApiKey = DEFAULT_REQUESTS_PER_SECOND_PER_API_KEY;
+        private boolean adaptToRateLimitHeaders = true;
+        private long maxWaitMillis = DEFAULT_MAX_WAIT_MILLIS;
+
+        /**
+         * Sets the global rate shared by every request going through the limiter.
+         * Default: unlimited (only the per-API-key buckets apply)
+         *
+         * @param requestsPerSecond the global rate (must be &gt; 0)
+         * @return this builder instance
+         * @throws IllegalArgumentException if requestsPerSecond is not positive
+         */
+        public Builder requestsPerSecond(double requestsPerSecond) {
+            if (requestsPerSecond <= 0) {
+                throw new IllegalArgumentException("Requests per second must be > 0");
+            }
+            this.requestsPerSecond = requestsPerSecond;
+            return this;
+        }
+
+        /**
+         * Sets the starting rate for each stack API key. When header adaptation is
+         * enabled, this is replaced by the server's {@code X-RateLimit-Limit}.
+         * Default: 10
+         *
+         * @param requestsPerSecondPerApiKey the per-API-key rate (must be &gt; 0)
+         * @return this builder instance
+         * @throws IllegalArgumentException if requestsPerSecondPerApiKey is not positive
+         */
+        public Builder requestsPerSecondPerApiKey(double requestsPerSecondPerApiKey) {
+            if (requestsPerSecondPerApiKey <= 0) {
+                throw new IllegalArgumentException("Requests per second per API key must be > 0");
+            }
+            this.requestsPerSecondPerApiKey = requestsPerSecondPerApiKey;
+            return this;
+        }
+
+        /**
+         * Sets whether {@code X-RateLimit-Limit} and {@code X-RateLimit-Remaining}
+         * response headers adjust the buckets.
+         * Default: true
+         *
+         * @param adaptToRateLimitHeaders true to adapt to the server's headers
+         * @return this builder instance
+         */
+        public Builder adaptToRateLimitHeaders(boolean adaptToRateLimitHeaders) {
+            this.adaptToRateLimitHeaders = adaptToRateLimitHeaders;
+            return this;
+        }
+
+        /**
+         * Sets the longest a request may wait for a permit before failing with an
+         * {@link IOException}.
+         * Default: 60 seconds
+         *
+         * @param maxWait  the maximum wait (must be &gt;= 0)
+         * @param timeUnit the unit of {@code maxWait}
+         * @return this builder instance
+         * @throws IllegalArgumentException if maxWait is negative
+         */
+        public Builder maxWait(long maxWait, @NotNull TimeUnit timeUnit) {
+            if (maxWait < 0) {
+                throw new IllegalArgumentException("Max wait must be >= 0");
+            }
+            this.maxWaitMillis = timeUnit.toMillis(maxWait);
+            return this;
+        }
+
+        /**
+         * Builds the RateLimiter instance.
+         *
+         * @return a new RateLimiter instance
+         */
+        public RateLimiter build() {
+            return new RateLimiter(this);
+        }
+    }
+}
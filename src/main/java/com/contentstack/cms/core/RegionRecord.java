@@ -0,0 +1,81 @@
+package com.contentstack.cms.core;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * One region of the {@code regions.json} registry, with its endpoint URLs
+ * validated once when the registry is loaded.
+ * <p>
+ * Endpoints that fail validation are kept with their error message, so only a
+ * lookup of that particular service fails, exactly as if it were validated on
+ * each call.
+ */
+final class RegionRecord {
+
+    private final String id;
+    private final List<String> aliases;
+    private final Map<String, String> urls;
+    private final Map<String, String> hosts;
+    private final Map<String, String> rejected;
+
+    RegionRecord(String id, List<String> aliases, Map<String, String> urls, Map<String, String> rejected) {
+        this.id = id;
+        this.aliases = Collections.unmodifiableList(aliases);
+        this.urls = Collections.unmodifiableMap(urls);
+        Map<String, String> withoutScheme = new LinkedHashMap<>();
+        urls.forEach((service, url) -> withoutScheme.put(service, url.replaceAll("^https?://", "")));
+        this.hosts = Collections.unmodifiableMap(withoutScheme);
+        this.rejected = Collections.unmodifiableMap(rejected);
+    }
+
+    /**
+     * Gets the canonical region ID
+     *
+     * @return e.g. {@code na} or {@code azure-eu}
+     */
+    String getId() {
+        return id;
+    }
+
+    /**
+     * Gets the aliases as listed in the registry
+     *
+     * @return the aliases, not normalised
+     */
+    List<String> getAliases() {
+        return aliases;
+    }
+
+    /**
+     * Gets the validated URL of a service.
+     *
+     * @param service   service name
+     * @param omitHttps when {@code true}, the URL without {@code https://}
+     * @return the URL, or null if the region has no such service
+     * @throws IllegalArgumentException if the registry URL of the service failed validation
+     */
+    String endpoint(String service, boolean omitHttps) {
+        String url = (omitHttps ? hosts : urls).get(service);
+        if (url == null && rejected.containsKey(service)) {
+            throw new IllegalArgumentException(rejected.get(service));
+        }
+        return url;
+    }
+
+    /**
+     * Gets every validated service URL, in registry order.
+     *
+     * @param omitHttps when {@code true}, the URLs without {@code https://}
+     * @return unmodifiable map of service name to URL
+     * @throws IllegalArgumentException if any registry URL of the region failed validation
+     */
+    Map<String, String> endpoints(boolean omitHttps) {
+        if (!rejected.isEmpty()) {
+            throw new IllegalArgumentException(rejected.values().iterator().next());
+        }
+        return omitHttps ? hosts : urls;
+    }
+}
@@ -0,0 +1,97 @@
+package com.contentstack.cms.core;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+import java.util.Map;
+
+/**
+ * Immutable snapshot of the regions registry: the lookup index together with
+ * the raw registry and the validators needed to revalidate it with a
+ * conditional GET. {@link Endpoint} publishes a new snapshot through a single
+ * volatile write, so readers never see a half-updated registry.
+ */
+final class RegionRegistry {
+
+    static final String REGIONS = "regions";
+    static final String ETAG = "etag";
+    static final String LAST_MODIFIED = "last_modified";
+
+    private final JsonArray regions;
+    private final Map<String, RegionRecord> index;
+    private final String etag;
+    private final long lastModified;
+
+    private RegionRegistry(JsonArray regions, String etag, long lastModified) {
+        this.regions = regions;
+        this.index = Endpoint.index(regions);
+        this.etag = etag;
+        this.lastModified = lastModified;
+    }
+
+    /**
+     * Parses a registry document.
+     *
+     * @param json         the {@code regions.json} content, or a cache file written by {@link #toJson()}
+     * @param etag         the {@code ETag} it was served with, or null
+     * @param lastModified the {@code Last-Modified} time it was served with, or 0
+     * @return the snapshot
+     * @throws RuntimeException if the document is not a valid registry
+     */
+    static RegionRegistry parse(String json, String etag, long lastModified) {
+        JsonArray regions = JsonParser.parseString(json).getAsJsonObject().getAsJsonArray(REGIONS);
+        if (regions == null) {
+            throw new IllegalArgumentException("regions.json has no \"regions\" array");
+        }
+        return new RegionRegistry(regions, etag, lastModified);
+    }
+
+    /**
+     * Parses a cache file written by {@link #toJson()}, restoring its validators.
+     *
+     * @param json the cache file content
+     * @return the snapshot
+     * @throws RuntimeException if the document is not a valid registry
+     */
+    static RegionRegistry parseCached(String json) {
+        JsonObject root = JsonParser.parseString(json).getAsJsonObject();
+        String etag = root.has(ETAG) ? root.get(ETAG).getAsString() : null;
+        long lastModified = root.has(LAST_MODIFIED) ? root.get(LAST_MODIFIED).getAsLong() : 0;
+        return parse(json, etag, lastModified);
+    }
+
+    /**
+     * Serialises the registry with its validators, in the shape of
+     * {@code regions.json} so the cache file stays readable by other tools.
+     *
+     * @return the cache file content
+     */
+    String toJson() {
+        JsonObject root = new JsonObject();
+        if (etag != null) {
+            root.addProperty(ETAG, etag);
+        }
+        if (lastModified > 0) {
+            root.addProperty(LAST_MODIFIED, lastModified);
+        }
+        root.add(REGIONS, regions);
+        return GsonProvider.shared().toJson(root);
+    }
+
+    Map<String, RegionRecord> getIndex() {
+        return index;
+    }
+
+    int size() {
+        return regions.size();
+    }
+
+    String getEtag() {
+        return etag;
+    }
+
+    long getLastModified() {
+        return lastModified;
+    }
+}
@@ -0,0 +1,257 @@
+package com.contentstack.cms.core;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import okhttp3.Headers;
+import okhttp3.Interceptor;
+import okhttp3.MediaType;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Merges identical GET requests that are in flight at the same time into one
+ * HTTP call (single-flight).
+ * <p>
+ * When a cached schema expires, many threads often request the same
+ * {@code ContentType.fetch()} or {@code Entry.fetch()} at once. The first
+ * request is sent; requests with the same URL (including its query parameters)
+ * and the same headers, and therefore the same credentials, {@code api_key} and
+ * {@code branch}, wait for it and each receive their own copy of its buffered
+ * response. Only one of them uses the API and the rate-limit budget.
+ * <p>
+ * A failure of the shared call is reported to every waiter, except when the
+ * first caller cancelled it; the waiters then send their own requests. Bodies
+ * larger than {@link Builder#maxBodyBytes(long)} are not buffered: the first
+ * caller streams its response and the waiters send their own requests. One
+ * instance may be shared by several clients.
+ *
+ * <pre>{@code
+ * Contentstack client = new Contentstack.Builder()
+ *         .setAuthtoken("authtoken")
+ *         .setRequestCoalescer(RequestCoalescer.builder().build())
+ *         .build();
+ * }</pre>
+ */
+public final class RequestCoalescer {
+
+    private static final long DEFAULT_MAX_BODY_BYTES = 8L * 1024 * 1024;
+
+    private final long maxBodyBytes;
+    private final Map<String, CompletableFuture<SharedResponse>> inFlight = new ConcurrentHashMap<>();
+    private final AtomicLong coalescedCount = new AtomicLong();
+
+    private RequestCoalescer(Builder builder) {
+        this.maxBodyBytes = builder.maxBodyBytes;
+    }
+
+    /**
+     * Sends the request, or waits for an identical request already in flight.
+     *
+     * @param chain the interceptor chain
+     * @return the response for the request
+     * @throws IOException if the call fails
+     */
+    Response intercept(@NotNull Interceptor.Chain chain) throws IOException {
+        Request request = chain.request();
+        if (!"GET".equals(request.method())) {
+            return chain.proceed(request);
+        }
+        String key = key(request);
+        CompletableFuture<SharedResponse> flight = new CompletableFuture<>();
+        CompletableFuture<SharedResponse> leader = inFlight.putIfAbsent(key, flight);
+        if (leader != null) {
+            coalescedCount.incrementAndGet();
+            SharedResponse shared = await(leader);
+            return shared != null ? shared.toResponse(request) : chain.proceed(request);
+        }
+
+        try {
+            Response response = chain.proceed(request);
+            ResponseBody body = response.body();
+            if (body.contentLength() > maxBodyBytes || body.contentLength() == -1 && isStreamed(response)) {
+                flight.complete(null);
+                return response;
+            }
+            byte[] bytes;
+            try {
+                bytes = Util.readUpTo(body, maxBodyBytes);
+            } catch (IOException e) {
+                response.close();
+                throw e;
+            }
+            if (bytes == null) {
+                // Longer than maxBodyBytes without a Content-Length: the first caller streams it
+                flight.complete(null);
+                return response;
+            }
+            MediaType contentType = body.contentType();
+            flight.complete(new SharedResponse(response, bytes, contentType));
+            return response.newBuilder().body(ResponseBody.create(bytes, contentType)).build();
+        } catch (IOException | RuntimeException e) {
+            // Waiters of a cancelled call send their own requests instead of failing with it
+            if (chain.call().isCanceled()) {
+                flight.complete(null);
+            } else {
+                flight.completeExceptionally(e);
+            }
+            throw e;
+        } finally {
+            inFlight.remove(key, flight);
+        }
+    }
+
+    /**
+     * Gets the number of requests answered with the response of another
+     * request instead of their own HTTP call.
+     *
+     * @return the coalesced request count
+     */
+    public long getCoalescedCount() {
+        return coalescedCount.get();
+    }
+
+    /**
+     * Gets the number of distinct requests currently in flight.
+     *
+     * @return the in-flight count
+     */
+    public int getInFlightCount() {
+        return inFlight.size();
+    }
+
+    @Nullable
+    private static SharedResponse await(CompletableFuture<SharedResponse> leader) throws IOException {
+        try {
+            return leader.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for a coalesced request");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            // A new exception per waiter keeps each caller's stack trace
+            throw new IOException(cause.getMessage(), cause);
+        }
+    }
+
+    private static boolean isStreamed(Response response) {
+        String contentType = response.header("Content-Type");
+        return contentType != null && !contentType.contains("json");
+    }
+
+    /**
+     * Builds the coalescing key from the method, the full URL and every request
+     * header, sorted by name. The header values include the caller's
+     * credentials, so requests of different users are never merged.
+     *
+     * @param request the request
+     * @return the key
+     */
+    static String key(Request request) {
+        Headers headers = request.headers();
+        List<String> lines = new ArrayList<>(headers.size());
+        for (int i = 0; i < headers.size(); i++) {
+            lines.add(headers.name(i).toLowerCase(Locale.ROOT) + ':' + headers.value(i));
+        }
+        lines.sort(null);
+        StringBuilder key = new StringBuilder(request.method()).append(' ').append(request.url());
+        for (String line : lines) {
+            key.append('\n').append(line);
+        }
+        return key.toString();
+    }
+
+    /**
+     * Creates a new builder.
+     *
+     * @return a builder that buffers bodies of up to 8 MiB
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    private static final class SharedResponse {
+        private final int code;
+        private final String message;
+        private final Protocol protocol;
+        private final Headers headers;
+        private final byte[] body;
+        private final MediaType contentType;
+        private final long sentRequestAtMillis;
+        private final long receivedResponseAtMillis;
+
+        SharedResponse(Response response, byte[] body, MediaType contentType) {
+            this.code = response.code();
+            this.message = response.message();
+            this.protocol = response.protocol();
+            this.headers = response.headers();
+            this.body = body;
+            this.contentType = contentType;
+            this.sentRequestAtMillis = response.sentRequestAtMillis();
+            this.receivedResponseAtMillis = response.receivedResponseAtMillis();
+        }
+
+        Response toResponse(Request request) {
+            return new Response.Builder()
+                    .request(request)
+                    .protocol(protocol)
+                    .code(code)
+                    .message(message)
+                    .headers(headers)
+                    .sentRequestAtMillis(sentRequestAtMillis)
+                    .receivedResponseAtMillis(receivedResponseAtMillis)
+                    .body(ResponseBody.create(body, contentType))
+                    .build();
+        }
+    }
+
+    /**
+     * Builder for {@link RequestCoalescer}.
+     */
+    public static final class Builder {
+
+        private long maxBodyBytes = DEFAULT_MAX_BODY_BYTES;
+
+        private Builder() {
+        }
+
+        /**
+         * Sets the largest response body buffered for sharing. Longer bodies,
+         * including those sent without a {@code Content-Length}, are streamed to
+         * the first caller only. Default: 8 MiB
+         *
+         * @param maxBodyBytes the limit in bytes
+         * @return this builder
+         * @throws IllegalArgumentException if {@code maxBodyBytes} is not positive
+         */
+        public Builder maxBodyBytes(long maxBodyBytes) {
+            if (maxBodyBytes <= 0) {
+                throw new IllegalArgumentException("maxBodyBytes must be positive.");
+            }
+            this.maxBodyBytes = maxBodyBytes;
+            return this;
+        }
+
+        /**
+         * Builds the coalescer.
+         *
+         * @return the coalescer
+         */
+        public RequestCoalescer build() {
+            return new RequestCoalescer(this);
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.contentstack.cms.core;
+
+import java.io.IOException;
+
+import org.jetbrains.annotations.NotNull;
+
+import okhttp3.Interceptor;
+import okhttp3.Response;
+
+/**
+ * Interceptor that merges identical in-flight GET requests through a
+ * {@link RequestCoalescer}.
+ * <p>
+ * It is installed after the auth interceptor, so requests only match when
+ * they carry the same credentials, and before the response cache and the rate
+ * limiter, so merged requests neither revalidate nor wait for a permit twice.
+ *
+ * @see com.contentstack.cms.Contentstack.Builder#setRequestCoalescer(RequestCoalescer)
+ */
+public class RequestCoalescingInterceptor implements Interceptor {
+
+    private final RequestCoalescer requestCoalescer;
+
+    public RequestCoalescingInterceptor(@NotNull RequestCoalescer requestCoalescer) {
+        this.requestCoalescer = requestCoalescer;
+    }
+
+    /**
+     * Sends the request, or waits for an identical one already in flight.
+     *
+     * @param chain the interceptor chain
+     * @return the response for the request
+     * @throws IOException if the call fails
+     */
+    @NotNull
+    @Override
+    public Response intercept(Chain chain) throws IOException {
+        return requestCoalescer.intercept(chain);
+    }
+
+    public RequestCoalescer getRequestCoalescer() {
+        return requestCoalescer;
+    }
+}
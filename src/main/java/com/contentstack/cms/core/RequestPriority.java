@@ -0,0 +1,25 @@
+package com.contentstack.cms.core;
+
+/**
+ * Order in which queued asynchronous calls are started by a {@link PriorityExecutor}.
+ * Calls of the same priority start in the order they were sent.
+ */
+public enum RequestPriority {
+
+    /**
+     * Calls a user is waiting on, such as an editor opening an entry; started
+     * before any queued call of lower priority.
+     */
+    INTERACTIVE,
+
+    /**
+     * The default priority.
+     */
+    NORMAL,
+
+    /**
+     * Bulk or scheduled work, such as mass publishes and imports; started only
+     * when no call of higher priority is waiting.
+     */
+    BACKGROUND
+}
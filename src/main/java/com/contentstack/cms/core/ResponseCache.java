@@ -0,0 +1,466 @@
+package com.contentstack.cms.core;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import okhttp3.Cache;
+import okhttp3.Headers;
+import okhttp3.MediaType;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Opt-in client-side cache for read-mostly Content Management API calls such as
+ * {@code ContentType.fetch()}, {@code GlobalField.fetch()}, {@code Locale.find()},
+ * {@code Environment.find()} and {@code Workflow.find()}.
+ * <p>
+ * Successful GET responses are kept in an in-memory LRU keyed on the stack
+ * {@code api_key}, the {@code branch}, the caller's credentials and the full URL
+ * including its query parameters. Within {@link Builder#maxAge(long, TimeUnit)}
+ * a cached response is returned without a request; after that it is revalidated
+ * with {@code If-None-Match} and a {@code 304 Not Modified} answer is served from
+ * memory. Any POST, PUT, PATCH or DELETE sent for the same {@code api_key} and
+ * {@code branch} drops that stack's entries, so a client never reads back its own
+ * stale schema.
+ * <p>
+ * An optional OkHttp disk {@link Cache} may be added with
+ * {@link Builder#diskCache(File, long)}; it follows the server's HTTP caching
+ * headers and keeps revalidated bodies across restarts. One instance may be
+ * shared by several clients.
+ *
+ * <pre>{@code
+ * ResponseCache cache = ResponseCache.builder()
+ *         .maxEntries(500)
+ *         .maxAge(30, TimeUnit.SECONDS)
+ *         .build();
+ * Contentstack client = new Contentstack.Builder()
+ *         .setAuthtoken("authtoken")
+ *         .setResponseCache(cache)
+ *         .build();
+ * }</pre>
+ */
+public final class ResponseCache {
+
+    private static final Logger logger = Logger.getLogger(ResponseCache.class.getName());
+
+    /**
+     * Top-level resources cached by default: schemas and stack settings that
+     * change rarely and are read on every preview or validation.
+     */
+    static final Set<String> DEFAULT_RESOURCES = Collections.unmodifiableSet(new HashSet<>(Arrays.asList(
+            "content_types", "global_fields", "locales", "environments", "workflows")));
+
+    private static final Set<String> WRITE_METHODS = Collections.unmodifiableSet(new HashSet<>(Arrays.asList(
+            "POST", "PUT", "PATCH", "DELETE")));
+    private static final int DEFAULT_MAX_ENTRIES = 1_000;
+    private static final long DEFAULT_MAX_BODY_BYTES = 1024 * 1024;
+    private static final String IF_NONE_MATCH = "If-None-Match";
+    private static final String ETAG = "ETag";
+
+    private final int maxEntries;
+    private final long maxAgeNanos;
+    private final long maxBodyBytes;
+    private final Predicate<Request> cacheable;
+    @Nullable
+    private final Cache diskCache;
+    private final LinkedHashMap<String, CachedResponse> entries;
+    private final Map<String, AtomicLong> generations = new ConcurrentHashMap<>();
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong notModifiedCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+
+    private ResponseCache(Builder builder) {
+        this.maxEntries = builder.maxEntries;
+        this.maxAgeNanos = builder.maxAgeNanos;
+        this.maxBodyBytes = builder.maxBodyBytes;
+        this.cacheable = builder.cacheable != null ? builder.cacheable : ResponseCache::isDefaultCacheable;
+        this.diskCache = builder.diskCache;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true);
+    }
+
+    /**
+     * Answers a request from the cache or the network, storing cacheable
+     * responses and invalidating the stack's entries after a write.
+     *
+     * @param chain the interceptor chain
+     * @return the cached or network response
+     * @throws IOException if the call fails
+     */
+    Response intercept(@NotNull okhttp3.Interceptor.Chain chain) throws IOException {
+        Request request = chain.request();
+        if (WRITE_METHODS.contains(request.method())) {
+            try {
+                return chain.proceed(request);
+            } finally {
+                // Invalidated even when the write fails: it may have been applied server-side
+                invalidate(request.header(Util.API_KEY), request.header(Util.BRANCH));
+            }
+        }
+        if (!"GET".equals(request.method()) || request.header(IF_NONE_MATCH) != null || !cacheable.test(request)) {
+            return chain.proceed(request);
+        }
+
+        String scope = scope(request.header(Util.API_KEY), request.header(Util.BRANCH));
+        String key = key(scope, request);
+        long generation = generation(scope).get();
+        CachedResponse cached = get(key);
+        long now = System.nanoTime();
+        if (cached != null && now - cached.storedAtNanos < maxAgeNanos) {
+            hitCount.incrementAndGet();
+            return cached.toResponse(request);
+        }
+
+        Request networkRequest = cached != null && cached.etag != null
+                ? request.newBuilder().header(IF_NONE_MATCH, cached.etag).build()
+                : request;
+        Response response = chain.proceed(networkRequest);
+        if (response.code() == 304 && cached != null) {
+            response.close();
+            notModifiedCount.incrementAndGet();
+            CachedResponse refreshed = cached.revalidated(System.nanoTime());
+            put(key, refreshed, scope, generation);
+            return refreshed.toResponse(request);
+        }
+        missCount.incrementAndGet();
+        ResponseBody body = response.body();
+        if (response.code() != 200 || body.contentLength() > maxBodyBytes) {
+            return response;
+        }
+        byte[] bytes;
+        try {
+            bytes = Util.readUpTo(body, maxBodyBytes);
+        } catch (IOException e) {
+            response.close();
+            throw e;
+        }
+        if (bytes == null) {
+            // Longer than maxBodyBytes without a Content-Length: streamed uncached
+            return response;
+        }
+        MediaType contentType = body.contentType();
+        put(key, new CachedResponse(response, bytes, contentType, System.nanoTime()), scope, generation);
+        return response.newBuilder().body(ResponseBody.create(bytes, contentType)).build();
+    }
+
+    /**
+     * Drops every cached response of a stack branch, e.g. from a webhook handler
+     * after a schema change made outside this client.
+     *
+     * @param apiKey the stack API key
+     * @param branch the branch, or null for requests sent without a branch header
+     */
+    public void invalidate(@Nullable String apiKey, @Nullable String branch) {
+        String scope = scope(apiKey, branch);
+        generation(scope).incrementAndGet();
+        String prefix = scope + '\n';
+        synchronized (entries) {
+            entries.keySet().removeIf(key -> key.startsWith(prefix));
+        }
+        evictDisk();
+    }
+
+    /**
+     * Drops every cached response.
+     */
+    public void invalidateAll() {
+        for (AtomicLong generation : generations.values()) {
+            generation.incrementAndGet();
+        }
+        synchronized (entries) {
+            entries.clear();
+        }
+        evictDisk();
+    }
+
+    /**
+     * Gets the number of responses served from memory without a request.
+     *
+     * @return the hit count
+     */
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    /**
+     * Gets the number of responses served from memory after a {@code 304}.
+     *
+     * @return the revalidation count
+     */
+    public long getNotModifiedCount() {
+        return notModifiedCount.get();
+    }
+
+    /**
+     * Gets the number of cacheable requests answered with a full response.
+     *
+     * @return the miss count
+     */
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    /**
+     * Gets the number of responses held in memory.
+     *
+     * @return the entry count
+     */
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    /**
+     * Gets the disk cache installed on the HTTP client.
+     *
+     * @return the disk cache, or null if none was configured
+     */
+    @Nullable
+    public Cache getDiskCache() {
+        return diskCache;
+    }
+
+    private CachedResponse get(String key) {
+        synchronized (entries) {
+            return entries.get(key);
+        }
+    }
+
+    private void put(String key, CachedResponse response, String scope, long generation) {
+        synchronized (entries) {
+            // A write that completed while this GET was in flight makes the response stale
+            if (generation(scope).get() != generation) {
+                return;
+            }
+            entries.put(key, response);
+            Iterator<String> eldest = entries.keySet().iterator();
+            while (entries.size() > maxEntries && eldest.hasNext()) {
+                eldest.next();
+                eldest.remove();
+            }
+        }
+    }
+
+    private AtomicLong generation(String scope) {
+        return generations.computeIfAbsent(scope, s -> new AtomicLong());
+    }
+
+    private void evictDisk() {
+        if (diskCache == null) {
+            return;
+        }
+        try {
+            // The disk cache is keyed on URL only, so it cannot be narrowed to one stack
+            diskCache.evictAll();
+        } catch (IOException e) {
+            logger.log(Level.FINE, "Could not clear the disk response cache", e);
+        }
+    }
+
+    private static String scope(@Nullable String apiKey, @Nullable String branch) {
+        return (apiKey != null ? apiKey : "") + '\n' + (branch != null ? branch : "");
+    }
+
+    private static String key(String scope, Request request) {
+        String identity = request.header(Util.AUTHORIZATION);
+        if (identity == null) {
+            identity = request.header(Util.AUTHTOKEN);
+        }
+        return scope + '\n' + (identity != null ? identity : "") + '\n' + request.url();
+    }
+
+    /**
+     * Default cache rule: GETs of {@link #DEFAULT_RESOURCES}, excluding entries
+     * nested under a content type.
+     *
+     * @param request the request
+     * @return true if the response may be cached
+     */
+    static boolean isDefaultCacheable(Request request) {
+        List<String> segments = request.url().pathSegments();
+        // segments[0] is the API version, e.g. "v3"
+        return segments.size() > 1 && DEFAULT_RESOURCES.contains(segments.get(1))
+                && !segments.contains("entries");
+    }
+
+    /**
+     * Creates a new builder.
+     *
+     * @return a builder with a 1000-entry, always-revalidate, memory-only cache
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    private static final class CachedResponse {
+        private final int code;
+        private final String message;
+        private final Protocol protocol;
+        private final Headers headers;
+        private final byte[] body;
+        private final MediaType contentType;
+        private final String etag;
+        private final long storedAtNanos;
+
+        CachedResponse(Response response, byte[] body, MediaType contentType, long storedAtNanos) {
+            this(response.code(), response.message(), response.protocol(), response.headers(), body,
+                    contentType, response.header(ETAG), storedAtNanos);
+        }
+
+        private CachedResponse(int code, String message, Protocol protocol, Headers headers, byte[] body,
+                               MediaType contentType, String etag, long storedAtNanos) {
+            this.code = code;
+            this.message = message;
+            this.protocol = protocol;
+            this.headers = headers;
+            this.body = body;
+            this.contentType = contentType;
+            this.etag = etag;
+            this.storedAtNanos = storedAtNanos;
+        }
+
+        CachedResponse revalidated(long nowNanos) {
+            return new CachedResponse(code, message, protocol, headers, body, contentType, etag, nowNanos);
+        }
+
+        Response toResponse(Request request) {
+            return new Response.Builder()
+                    .request(request)
+                    .protocol(protocol)
+                    .code(code)
+                    .message(message)
+                    .headers(headers)
+                    .body(ResponseBody.create(body, contentType))
+                    .build();
+        }
+    }
+
+    /**
+     * Builder for {@link ResponseCache}.
+     */
+    public static final class Builder {
+
+        private int maxEntries = DEFAULT_MAX_ENTRIES;
+        private long maxAgeNanos;
+        private long maxBodyBytes = DEFAULT_MAX_BODY_BYTES;
+        private Predicate<Request> cacheable;
+        private Cache diskCache;
+
+        private Builder() {
+        }
+
+        /**
+         * Sets the number of responses kept in memory; the least recently used
+         * is dropped first. Default: 1000
+         *
+         * @param maxEntries the capacity
+         * @return this builder
+         * @throws IllegalArgumentException if {@code maxEntries} is not positive
+         */
+        public Builder maxEntries(int maxEntries) {
+            if (maxEntries <= 0) {
+                throw new IllegalArgumentException("maxEntries must be positive.");
+            }
+            this.maxEntries = maxEntries;
+            return this;
+        }
+
+        /**
+         * Sets how long a cached response is returned without contacting the
+         * server. Older responses are revalidated with their ETag. Default: 0,
+         * every read is revalidated
+         *
+         * @param maxAge the freshness window
+         * @param unit   the unit of {@code maxAge}
+         * @return this builder
+         * @throws IllegalArgumentException if {@code maxAge} is negative
+         */
+        public Builder maxAge(long maxAge, @NotNull TimeUnit unit) {
+            if (maxAge < 0) {
+                throw new IllegalArgumentException("maxAge must not be negative.");
+            }
+            this.maxAgeNanos = unit.toNanos(maxAge);
+            return this;
+        }
+
+        /**
+         * Sets the largest response body kept in memory. Longer bodies, including
+         * those sent without a {@code Content-Length}, are streamed uncached.
+         * Default: 1 MiB
+         *
+         * @param maxBodyBytes the limit in bytes
+         * @return this builder
+         * @throws IllegalArgumentException if {@code maxBodyBytes} is not positive
+         */
+        public Builder maxBodyBytes(long maxBodyBytes) {
+            if (maxBodyBytes <= 0) {
+                throw new IllegalArgumentException("maxBodyBytes must be positive.");
+            }
+            this.maxBodyBytes = maxBodyBytes;
+            return this;
+        }
+
+        /**
+         * Replaces the rule deciding which GET requests are cached. By default
+         * content types, global fields, locales, environments and workflows are.
+         *
+         * @param cacheable returns true for requests whose responses may be cached
+         * @return this builder
+         */
+        public Builder cacheable(@NotNull Predicate<Request> cacheable) {
+            this.cacheable = Objects.requireNonNull(cacheable, "cacheable");
+            return this;
+        }
+
+        /**
+         * Adds an OkHttp disk cache to the HTTP client.
+         *
+         * @param directory the cache directory, used by this cache only
+         * @param maxSize   the maximum size in bytes
+         * @return this builder
+         */
+        public Builder diskCache(@NotNull File directory, long maxSize) {
+            return diskCache(new Cache(Objects.requireNonNull(directory, "directory"), maxSize));
+        }
+
+        /**
+         * Adds an existing OkHttp disk cache to the HTTP client.
+         *
+         * @param diskCache the cache
+         * @return this builder
+         */
+        public Builder diskCache(@NotNull Cache diskCache) {
+            this.diskCache = Objects.requireNonNull(diskCache, "diskCache");
+            return this;
+        }
+
+        /**
+         * Builds the cache.
+         *
+         * @return the cache
+         */
+        public ResponseCache build() {
+            return new ResponseCache(this);
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.contentstack.cms.core;
+
+import java.io.IOException;
+
+import org.jetbrains.annotations.NotNull;
+
+import okhttp3.Interceptor;
+import okhttp3.Response;
+
+/**
+ * Interceptor that answers cacheable GET requests from a {@link ResponseCache}
+ * and invalidates it after writes.
+ * <p>
+ * It is installed after the auth interceptor, so cache keys include the
+ * caller's credentials, and before the rate limiter, so requests served from
+ * memory do not use a permit.
+ *
+ * @see com.contentstack.cms.Contentstack.Builder#setResponseCache(ResponseCache)
+ */
+public class ResponseCacheInterceptor implements Interceptor {
+
+    private final ResponseCache responseCache;
+
+    public ResponseCacheInterceptor(@NotNull ResponseCache responseCache) {
+        this.responseCache = responseCache;
+    }
+
+    /**
+     * Serves the request from the cache when possible, otherwise proceeds and
+     * records the response.
+     *
+     * @param chain the interceptor chain
+     * @return the cached or network response
+     * @throws IOException if the call fails
+     */
+    @NotNull
+    @Override
+    public Response intercept(Chain chain) throws IOException {
+        return responseCache.intercept(chain);
+    }
+
+    public ResponseCache getResponseCache() {
+        return responseCache;
+    }
+}
@@ -1,7 +1,6 @@
 package com.contentstack.cms.core;
 
 import com.contentstack.cms.models.Error;
-import com.google.gson.Gson;
 import retrofit2.Call;
 import retrofit2.Response;
 
@@ -37,7 +36,7 @@ class ResponseResult<T> {
             }
         } else {
             if (result.errorBody() != null) {
-                data = new Gson().fromJson(result.errorBody().string(), (Type) Error.class);
+                data = GsonProvider.shared().fromJson(result.errorBody().string(), (Type) Error.class);
             }
         }
         return data;
@@ -12,6 +12,8 @@ import retrofit2.Response;
 
 import java.io.IOException;
 import java.net.SocketTimeoutException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
 
 /**
  * The Contentstack RetryCallback
@@ -25,8 +27,10 @@ public abstract class RetryCallback<T> implements Callback<T> {
     // `RetryCallback` class:
     private final Logger log = Logger.getLogger(RetryCallback.class.getName());
     private final Call<T> call;
-    private int retryCount = 0;
+    private volatile int retryCount = 0;
+    private volatile long previousDelay = 0;
     private final RetryConfig retryConfig;
+    private final RetryDeadline deadline;
 
     // The `protected RetryCallback(Call<T> call)` constructor is used to
     // instantiate a new `RetryCallback`
@@ -41,12 +45,19 @@ public abstract class RetryCallback<T> implements Callback<T> {
     protected RetryCallback(Call<T> call, RetryConfig retryConfig) {
         this.call = call;
         this.retryConfig = retryConfig != null ? retryConfig : RetryConfig.defaultConfig();
+        this.deadline = RetryDeadline.start(this.retryConfig);
     }
 
     /**
      * The function logs the localized message of the thrown exception and
      * retries the API call if the retry count is less than the total number of
      * retries allowed.
+     * <p>
+     * The retry delay is waited out on {@link RetryConfig#getRetryScheduler()}
+     * rather than by sleeping, so the calling (dispatcher) thread is released
+     * immediately. A retry whose delay would run past
+     * {@link RetryConfig#getTotalTimeout()}, counted from when this callback was
+     * created, is not scheduled; the call fails instead.
      *
      * @param call The `Call` object represents the network call that was made.
      * It contains information about the request and response.
@@ -59,23 +70,29 @@ public abstract class RetryCallback<T> implements Callback<T> {
     public void onFailure(@NotNull Call<T> call, Throwable t) {
         int statusCode = extractStatusCode(t);
 
-        if (!retryConfig.getRetryCondition().shouldRetry(statusCode, t)) {
+        if (t instanceof RateLimitExceededException || !retryConfig.getRetryCondition().shouldRetry(statusCode, t)
+                || !RetryUtil.canResend(retryConfig, call.request(), statusCode, t)) {
             onFinalFailure(call, t);
         } else {
             if (retryCount >= retryConfig.getRetryLimit()) {
                 onFinalFailure(call,t);    
             } else {
                 retryCount++;
-                long delay = RetryUtil.calculateDelay(retryConfig, retryCount, statusCode);
-                try {
-                    Thread.sleep(delay);
-                } catch (InterruptedException ex) {
-                    Thread.currentThread().interrupt();
-                    log.log(java.util.logging.Level.WARNING, "Retry interrupted", ex);
+                long delay = RetryUtil.calculateDelay(retryConfig, retryCount, statusCode, t, extractRawResponse(t),
+                        previousDelay);
+                previousDelay = delay;
+                if (!deadline.canWait(delay)) {
+                    log.warning("Retry in " + delay + " ms would exceed the total timeout of "
+                            + retryConfig.getTotalTimeout() + " ms");
                     onFinalFailure(call, t);
                     return;
                 }
-                retry();
+                try {
+                    retryConfig.getRetryScheduler().schedule(this::retry, delay, TimeUnit.MILLISECONDS);
+                } catch (RejectedExecutionException ex) {
+                    log.log(java.util.logging.Level.WARNING, "Retry could not be scheduled", ex);
+                    onFinalFailure(call, t);
+                }
             }
         }
     }
@@ -101,6 +118,14 @@ public abstract class RetryCallback<T> implements Callback<T> {
         return -1;
     }
 
+    private okhttp3.Response extractRawResponse(Throwable t) {
+        if (t instanceof HttpException) {
+            Response<?> response = ((HttpException) t).response();
+            return response != null ? response.raw() : null;
+        }
+        return null;
+    }
+
     protected void onFinalFailure(Call<T> call, Throwable t) {
         log.warning("Final failure after " + retryCount + " retries: " + (t != null ? t.getMessage() : ""));
     }
@@ -3,6 +3,8 @@ package com.contentstack.cms.core;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.concurrent.ScheduledExecutorService;
+
 /**
  * Configuration for retry behavior across the SDK.
  * <p>
@@ -12,6 +14,9 @@ import org.jetbrains.annotations.Nullable;
  *   <li>How many times to retry (retryLimit)</li>
  *   <li>How long to wait between retries (retryDelay, retryDelayOptions)</li>
  *   <li>Which errors should be retried (retryCondition)</li>
+ *   <li>Where asynchronous retries wait out their delay (retryScheduler)</li>
+ *   <li>How long a synchronous call may take across all attempts (totalTimeout)</li>
+ *   <li>Whether POST and PATCH calls are re-sent after a failure that may follow processing (retryNonIdempotent)</li>
  * </ul>
  * <p>
  * This configuration is used by:
@@ -57,6 +62,24 @@ public class RetryConfig {
     @Nullable
     private final RetryDelayOptions retryDelayOptions;
 
+    /**
+     * Scheduler used by RetryCallback to re-enqueue calls after the retry delay.
+     */
+    @Nullable
+    private final ScheduledExecutorService retryScheduler;
+
+    /**
+     * Overall budget in milliseconds for a call, covering every attempt and backoff
+     * (0 = no budget).
+     */
+    private final long totalTimeout;
+
+    /**
+     * Whether POST and PATCH calls are re-sent after a network error or response
+     * that may have come after the server processed them.
+     */
+    private final boolean retryNonIdempotent;
+
     /**
      * Private constructor. Use Builder to create instances.
      */
@@ -67,6 +90,9 @@ public class RetryConfig {
                 ? builder.retryCondition
                 : DefaultRetryCondition.getInstance();
         this.retryDelayOptions = builder.retryDelayOptions;
+        this.retryScheduler = builder.retryScheduler;
+        this.totalTimeout = builder.totalTimeout;
+        this.retryNonIdempotent = builder.retryNonIdempotent;
     }
 
     /**
@@ -107,6 +133,40 @@ public class RetryConfig {
         return retryDelayOptions;
     }
 
+    /**
+     * Gets the scheduler used to delay asynchronous retries.
+     * <p>
+     * When no scheduler was configured, a shared single-threaded daemon
+     * scheduler is returned.
+     *
+     * @return the retry scheduler (never null)
+     */
+    @NotNull
+    public ScheduledExecutorService getRetryScheduler() {
+        return retryScheduler != null ? retryScheduler : RetryScheduler.shared();
+    }
+
+    /**
+     * Gets the overall budget for a synchronous call, covering every attempt and
+     * the backoff between them.
+     *
+     * @return the budget in milliseconds, or 0 if calls have no overall deadline
+     */
+    public long getTotalTimeout() {
+        return totalTimeout;
+    }
+
+    /**
+     * Checks whether POST and PATCH calls are re-sent after a network error or
+     * response that may have come after the server processed them.
+     *
+     * @return true if such calls are retried like idempotent ones
+     * @see RetryUtil#canResend(RetryConfig, okhttp3.Request, int, Throwable)
+     */
+    public boolean isRetryNonIdempotent() {
+        return retryNonIdempotent;
+    }
+
     /**
      * Creates a default RetryConfig with sensible defaults.
      * <p>
@@ -116,6 +176,9 @@ public class RetryConfig {
      *   <li>retryDelay: 300ms</li>
      *   <li>retryCondition: DefaultRetryCondition (retries on 408, 429, 5xx, network errors)</li>
      *   <li>retryDelayOptions: null (uses fixed retryDelay)</li>
+     *   <li>retryScheduler: shared SDK scheduler</li>
+     *   <li>totalTimeout: 0 (no overall deadline)</li>
+     *   <li>retryNonIdempotent: false</li>
      * </ul>
      *
      * @return a default RetryConfig instance
@@ -132,6 +195,9 @@ public class RetryConfig {
         private long retryDelay = DEFAULT_RETRY_DELAY;
         private RetryCondition retryCondition;
         private RetryDelayOptions retryDelayOptions;
+        private ScheduledExecutorService retryScheduler;
+        private long totalTimeout;
+        private boolean retryNonIdempotent;
 
         /**
          * Sets the maximum number of retry attempts.
@@ -189,6 +255,61 @@ public class RetryConfig {
             return this;
         }
 
+        /**
+         * Sets the scheduler RetryCallback uses to re-enqueue a call once its
+         * retry delay has elapsed. The scheduler is never shut down by the SDK.
+         * If not set, a shared single-threaded daemon scheduler is used.
+         *
+         * @param retryScheduler the scheduler for asynchronous retries
+         * @return this builder instance
+         */
+        public Builder retryScheduler(@Nullable ScheduledExecutorService retryScheduler) {
+            this.retryScheduler = retryScheduler;
+            return this;
+        }
+
+        /**
+         * Sets the overall deadline for a synchronous call made through
+         * AuthInterceptor or OAuthInterceptor. The budget covers every attempt and
+         * the backoff between them: no retry is started whose delay would run past
+         * it, and each attempt's connect, read and write timeouts are shortened to
+         * the time left. Once it passes, the call is cancelled on the
+         * {@link #retryScheduler(ScheduledExecutorService) retry scheduler}, also
+         * while its response body is still being read, so a server sending bytes
+         * slowly cannot hold it longer. A call therefore takes at most about
+         * {@code totalTimeout}.
+         * Default: 0 (no overall deadline)
+         *
+         * @param totalTimeout the budget in milliseconds (must be &gt;= 0, 0 disables it)
+         * @return this builder instance
+         * @throws IllegalArgumentException if totalTimeout is negative
+         */
+        public Builder totalTimeout(long totalTimeout) {
+            if (totalTimeout < 0) {
+                throw new IllegalArgumentException("Total timeout must be >= 0");
+            }
+            this.totalTimeout = totalTimeout;
+            return this;
+        }
+
+        /**
+         * Sets whether POST and PATCH calls are re-sent after a network error such
+         * as a read timeout or a reset connection, or after a 408, 500, 502 or 504
+         * response. Such a failure may come after the server has processed the
+         * request, so re-sending a create can duplicate it. Errors raised before
+         * the request left the client, such as a refused connection, and 429 and
+         * 503 responses are retried either way.
+         * Default: false
+         *
+         * @param retryNonIdempotent true to retry POST and PATCH calls after any
+         *                           failure accepted by the retry condition
+         * @return this builder instance
+         */
+        public Builder retryNonIdempotent(boolean retryNonIdempotent) {
+            this.retryNonIdempotent = retryNonIdempotent;
+            return this;
+        }
+
         /**
          * Builds the RetryConfig instance.
          *
@@ -0,0 +1,239 @@
+package com.contentstack.cms.core;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import okhttp3.Call;
+import okhttp3.Interceptor;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import okio.Buffer;
+import okio.ForwardingSource;
+import okio.Okio;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Tracks the overall time budget of one synchronous call across its retries.
+ * <p>
+ * Created when an interceptor starts a call, from {@link RetryConfig#getTotalTimeout()}.
+ * Before backing off, the retry loop asks {@link #canWait(long)} whether the delay
+ * still fits in the budget, and {@link #bound(Interceptor.Chain)} shortens each
+ * attempt's socket timeouts to the time left. Since OkHttp applies the read
+ * timeout to each socket read, a server sending bytes slowly could still outlast
+ * those; {@link #watch(Call)} therefore cancels the call when the deadline passes,
+ * until {@link #release(Response)} sees its response body closed or read to the end.
+ * </p>
+ * <p>
+ * {@link RetryCallback} starts one for an enqueued call too, and only uses
+ * {@link #canWait(long)} to give up instead of scheduling a retry past the deadline.
+ * </p>
+ */
+public final class RetryDeadline {
+
+    private static final RetryDeadline UNBOUNDED = new RetryDeadline(0, 0, null);
+
+    /**
+     * Absolute deadline in {@link System#nanoTime()} terms, or 0 when unbounded.
+     */
+    private final long deadlineNanos;
+    private final long totalTimeoutMillis;
+    @Nullable
+    private final ScheduledExecutorService scheduler;
+    private final AtomicReference<ScheduledFuture<?>> watchdog = new AtomicReference<>();
+    private final AtomicBoolean expired = new AtomicBoolean();
+
+    private RetryDeadline(long deadlineNanos, long totalTimeoutMillis, @Nullable ScheduledExecutorService scheduler) {
+        this.deadlineNanos = deadlineNanos;
+        this.totalTimeoutMillis = totalTimeoutMillis;
+        this.scheduler = scheduler;
+    }
+
+    /**
+     * Starts the budget for a new call.
+     *
+     * @param config the retry configuration holding the total timeout
+     * @return a deadline that expires {@code totalTimeout} from now, or an unbounded
+     * one when no total timeout is configured
+     */
+    @NotNull
+    public static RetryDeadline start(@NotNull RetryConfig config) {
+        long totalTimeout = config.getTotalTimeout();
+        if (totalTimeout <= 0) {
+            return UNBOUNDED;
+        }
+        return new RetryDeadline(System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(totalTimeout), totalTimeout,
+                config.getRetryScheduler());
+    }
+
+    /**
+     * Checks whether the call has an overall deadline.
+     *
+     * @return true if no total timeout applies
+     */
+    public boolean isUnbounded() {
+        return deadlineNanos == 0;
+    }
+
+    /**
+     * Gets the time left before the deadline.
+     *
+     * @return remaining milliseconds (never negative), or {@link Long#MAX_VALUE} when unbounded
+     */
+    public long remainingMillis() {
+        if (isUnbounded()) {
+            return Long.MAX_VALUE;
+        }
+        return Math.max(0, TimeUnit.NANOSECONDS.toMillis(deadlineNanos - System.nanoTime()));
+    }
+
+    /**
+     * Checks whether waiting {@code delayMillis} would still leave time for another attempt.
+     *
+     * @param delayMillis the backoff before the next attempt
+     * @return true if the next attempt can start before the deadline
+     */
+    public boolean canWait(long delayMillis) {
+        return remainingMillis() > delayMillis;
+    }
+
+    /**
+     * Caps the chain's connect, read and write timeouts at the time left, so the
+     * next attempt fails with a timeout instead of overrunning the deadline.
+     *
+     * @param chain the interceptor chain for the next attempt
+     * @return the chain to proceed with
+     */
+    @NotNull
+    public Interceptor.Chain bound(@NotNull Interceptor.Chain chain) {
+        if (isUnbounded()) {
+            return chain;
+        }
+        int remaining = (int) Math.max(1, Math.min(Integer.MAX_VALUE, remainingMillis()));
+        return chain
+                .withConnectTimeout(cap(chain.connectTimeoutMillis(), remaining), TimeUnit.MILLISECONDS)
+                .withReadTimeout(cap(chain.readTimeoutMillis(), remaining), TimeUnit.MILLISECONDS)
+                .withWriteTimeout(cap(chain.writeTimeoutMillis(), remaining), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Cancels the call on the retry scheduler once the deadline passes. The watch
+     * ends with {@link #release(Response)} or {@link #release()}.
+     *
+     * @param call the call to cancel, or null if the chain has none
+     */
+    public void watch(@Nullable Call call) {
+        if (isUnbounded() || call == null) {
+            return;
+        }
+        try {
+            ScheduledFuture<?> cancel = scheduler.schedule(() -> {
+                expired.set(true);
+                call.cancel();
+            }, deadlineNanos - System.nanoTime(), TimeUnit.NANOSECONDS);
+            if (!watchdog.compareAndSet(null, cancel)) {
+                cancel.cancel(false);
+            }
+        } catch (RejectedExecutionException e) {
+            // Without a scheduler the socket timeouts from bound() still apply
+        }
+    }
+
+    /**
+     * Hands the response to the caller, keeping the watch until its body is
+     * closed or read to the end.
+     *
+     * @param response the final response of the call
+     * @return the response to return from the interceptor
+     */
+    @NotNull
+    public Response release(@NotNull Response response) {
+        if (watchdog.get() == null) {
+            return response;
+        }
+        ResponseBody body = response.body();
+        ForwardingSource source = new ForwardingSource(body.source()) {
+            @Override
+            public long read(@NotNull Buffer sink, long byteCount) throws IOException {
+                long read = super.read(sink, byteCount);
+                if (read == -1) {
+                    release();
+                }
+                return read;
+            }
+
+            @Override
+            public void close() throws IOException {
+                try {
+                    super.close();
+                } finally {
+                    release();
+                }
+            }
+        };
+        return response.newBuilder()
+                .body(ResponseBody.create(Okio.buffer(source), body.contentType(), body.contentLength()))
+                .build();
+    }
+
+    /**
+     * Ends the watch started by {@link #watch(Call)}.
+     */
+    public void release() {
+        ScheduledFuture<?> cancel = watchdog.getAndSet(null);
+        if (cancel != null) {
+            cancel.cancel(false);
+        }
+    }
+
+    /**
+     * Ends the watch and reports a failure caused by the deadline as a timeout.
+     *
+     * @param e the failure of the call
+     * @return an {@link InterruptedIOException} if the watch cancelled the call,
+     * otherwise {@code e}
+     */
+    @NotNull
+    public IOException release(@NotNull IOException e) {
+        release();
+        if (!expired.get()) {
+            return e;
+        }
+        InterruptedIOException timeout = new InterruptedIOException(
+                "Total timeout of " + totalTimeoutMillis + " ms exceeded");
+        timeout.initCause(e);
+        return timeout;
+    }
+
+    /**
+     * Sleeps for the backoff delay.
+     *
+     * @param delayMillis the delay in milliseconds
+     * @throws IOException if the thread is interrupted while sleeping
+     */
+    public void sleep(long delayMillis) throws IOException {
+        if (delayMillis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(delayMillis);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            InterruptedIOException interrupted = new InterruptedIOException("Retry interrupted");
+            interrupted.initCause(ex);
+            throw interrupted;
+        }
+    }
+
+    private static int cap(int timeoutMillis, int remainingMillis) {
+        // 0 means "no timeout" in OkHttp
+        return timeoutMillis == 0 ? remainingMillis : Math.min(timeoutMillis, remainingMillis);
+    }
+}
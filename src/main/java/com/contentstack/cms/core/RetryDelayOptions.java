@@ -1,5 +1,6 @@
 package com.contentstack.cms.core;
 
+import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 /**
@@ -8,9 +9,16 @@ import org.jetbrains.annotations.Nullable;
  * Supports three delay strategies (in order of precedence):
  * <ol>
  *   <li><b>Custom Backoff:</b> If {@code customBackoff} is set, it will be used</li>
- *   <li><b>Linear Backoff:</b> If {@code base} is set, delay = base * retryCount</li>
+ *   <li><b>Strategy Backoff:</b> If {@code base} is set, or a non-linear {@code strategy}
+ *       is chosen, the delay follows the {@link BackoffStrategy} (linear by default:
+ *       delay = base * retryCount)</li>
  *   <li><b>Fixed Delay:</b> Falls back to {@code retryDelay} from RetryConfig</li>
  * </ol>
+ * <p>
+ * When {@code respectRateLimitHeaders} is enabled (the default), the server's
+ * {@code Retry-After} and {@code X-RateLimit-Remaining} response headers act as a
+ * lower bound on whichever delay was calculated. The wait they ask for is capped by
+ * {@code maxRetryAfter}.
  *
  */
 public class RetryDelayOptions {
@@ -28,12 +36,46 @@ public class RetryDelayOptions {
      */
     private final CustomBackoff customBackoff;
 
+    /**
+     * Strategy used to derive the delay from {@code base}.
+     */
+    private final BackoffStrategy strategy;
+
+    /**
+     * Upper bound in milliseconds for the jittered strategies.
+     */
+    private final long maxDelay;
+
+    /**
+     * Whether Retry-After and X-RateLimit-* response headers are honoured.
+     */
+    private final boolean respectRateLimitHeaders;
+
+    /**
+     * Upper bound in milliseconds for the wait asked for by rate-limit headers.
+     */
+    private final long maxRetryAfter;
+
+    /**
+     * Default cap for the jittered strategies (30 seconds).
+     */
+    private static final long DEFAULT_MAX_DELAY = 30_000;
+
+    /**
+     * Default cap for the wait asked for by rate-limit headers (60 seconds).
+     */
+    static final long DEFAULT_MAX_RETRY_AFTER = 60_000;
+
     /**
      * Private constructor. Use Builder to create instances.
      */
     private RetryDelayOptions(Builder builder) {
         this.base = builder.base;
         this.customBackoff = builder.customBackoff;
+        this.strategy = builder.strategy;
+        this.maxDelay = builder.maxDelay;
+        this.respectRateLimitHeaders = builder.respectRateLimitHeaders;
+        this.maxRetryAfter = builder.maxRetryAfter;
     }
 
     /**
@@ -56,12 +98,53 @@ public class RetryDelayOptions {
         return customBackoff;
     }
 
+    /**
+     * Gets the backoff strategy.
+     *
+     * @return the strategy (never null, defaults to {@link BackoffStrategy#LINEAR})
+     */
+    @NotNull
+    public BackoffStrategy getStrategy() {
+        return strategy;
+    }
+
+    /**
+     * Gets the upper bound applied to the jittered strategies.
+     *
+     * @return the maximum delay in milliseconds
+     */
+    public long getMaxDelay() {
+        return maxDelay;
+    }
+
+    /**
+     * Whether the Retry-After and X-RateLimit-* response headers are honoured.
+     *
+     * @return true if rate-limit headers set a lower bound on the delay
+     */
+    public boolean isRespectRateLimitHeaders() {
+        return respectRateLimitHeaders;
+    }
+
+    /**
+     * Gets the upper bound applied to the wait asked for by rate-limit headers.
+     *
+     * @return the maximum wait in milliseconds
+     */
+    public long getMaxRetryAfter() {
+        return maxRetryAfter;
+    }
+
     /**
      * Builder for creating RetryDelayOptions instances.
      */
     public static class Builder {
         private Long base;
         private CustomBackoff customBackoff;
+        private BackoffStrategy strategy = BackoffStrategy.LINEAR;
+        private long maxDelay = DEFAULT_MAX_DELAY;
+        private boolean respectRateLimitHeaders = true;
+        private long maxRetryAfter = DEFAULT_MAX_RETRY_AFTER;
 
         /**
          * Sets the base multiplier for linear backoff.
@@ -87,12 +170,76 @@ public class RetryDelayOptions {
             return this;
         }
 
+        /**
+         * Sets the strategy used to derive the delay from {@code base}.
+         * When {@code base} is not set, the jittered strategies use
+         * {@code retryDelay} from RetryConfig as their base.
+         * Default: {@link BackoffStrategy#LINEAR}
+         *
+         * @param strategy the backoff strategy
+         * @return this builder instance
+         */
+        public Builder strategy(@NotNull BackoffStrategy strategy) {
+            this.strategy = strategy;
+            return this;
+        }
+
+        /**
+         * Sets the upper bound for the jittered strategies.
+         * Default: 30000ms
+         *
+         * @param maxDelay the maximum delay in milliseconds (must be &gt; 0)
+         * @return this builder instance
+         * @throws IllegalArgumentException if maxDelay is not positive
+         */
+        public Builder maxDelay(long maxDelay) {
+            if (maxDelay <= 0) {
+                throw new IllegalArgumentException("Max delay must be > 0");
+            }
+            this.maxDelay = maxDelay;
+            return this;
+        }
+
+        /**
+         * Sets whether the {@code Retry-After} and {@code X-RateLimit-*} response
+         * headers are used as a lower bound on the calculated delay.
+         * Default: true
+         *
+         * @param respectRateLimitHeaders true to honour rate-limit headers
+         * @return this builder instance
+         */
+        public Builder respectRateLimitHeaders(boolean respectRateLimitHeaders) {
+            this.respectRateLimitHeaders = respectRateLimitHeaders;
+            return this;
+        }
+
+        /**
+         * Sets the upper bound for the wait asked for by the {@code Retry-After}
+         * and {@code X-RateLimit-*} response headers, so a server cannot park a
+         * request for longer than this.
+         * Default: 60000ms
+         *
+         * @param maxRetryAfter the maximum wait in milliseconds (must be &gt; 0)
+         * @return this builder instance
+         * @throws IllegalArgumentException if maxRetryAfter is not positive
+         */
+        public Builder maxRetryAfter(long maxRetryAfter) {
+            if (maxRetryAfter <= 0) {
+                throw new IllegalArgumentException("Max Retry-After must be > 0");
+            }
+            this.maxRetryAfter = maxRetryAfter;
+            return this;
+        }
+
         /**
          * Builds the RetryDelayOptions instance.
          *
          * @return a new RetryDelayOptions instance
          */
         public RetryDelayOptions build() {
+            if (strategy == null) {
+                throw new IllegalArgumentException("Backoff strategy cannot be null");
+            }
             return new RetryDelayOptions(this);
         }
     }
@@ -0,0 +1,48 @@
+package com.contentstack.cms.core;
+
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Holds the SDK-wide scheduler used to delay asynchronous retries.
+ * <p>
+ * Scheduled tasks only re-enqueue a cloned {@code Call}, so a single daemon
+ * thread is enough to back off any number of in-flight calls without parking
+ * OkHttp dispatcher threads.
+ * </p>
+ */
+final class RetryScheduler {
+
+    private static final String THREAD_NAME = "contentstack-retry-scheduler-";
+
+    private RetryScheduler() {
+        throw new AssertionError("RetryScheduler should not be instantiated");
+    }
+
+    /**
+     * Gets the shared scheduler, creating it on first use.
+     *
+     * @return the shared retry scheduler
+     */
+    static ScheduledExecutorService shared() {
+        return Holder.INSTANCE;
+    }
+
+    private static final class Holder {
+        private static final ScheduledExecutorService INSTANCE = create();
+
+        private static ScheduledExecutorService create() {
+            AtomicInteger counter = new AtomicInteger();
+            ThreadFactory factory = runnable -> {
+                Thread thread = new Thread(runnable, THREAD_NAME + counter.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            };
+            ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1, factory);
+            executor.setRemoveOnCancelPolicy(true);
+            return executor;
+        }
+    }
+}
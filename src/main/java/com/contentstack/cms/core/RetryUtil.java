@@ -1,8 +1,16 @@
 package com.contentstack.cms.core;
 
+import okhttp3.Request;
+import okhttp3.Response;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.net.ConnectException;
+import java.net.NoRouteToHostException;
+import java.net.UnknownHostException;
+import java.util.Date;
+import java.util.concurrent.ThreadLocalRandom;
+
 /**
  * Utility class for retry-related calculations.
  * <p>
@@ -12,6 +20,26 @@ import org.jetbrains.annotations.Nullable;
  */
 public class RetryUtil {
 
+    /**
+     * Response header carrying the server's requested wait (seconds or HTTP-date).
+     */
+    public static final String RETRY_AFTER = "Retry-After";
+
+    /**
+     * Response header carrying the number of requests left in the current window.
+     */
+    public static final String X_RATE_LIMIT_REMAINING = "X-RateLimit-Remaining";
+
+    /**
+     * Response header carrying the number of requests allowed per window.
+     */
+    public static final String X_RATE_LIMIT_LIMIT = "X-RateLimit-Limit";
+
+    /**
+     * Length of the Content Management API rate-limit window in milliseconds.
+     */
+    static final long RATE_LIMIT_WINDOW_MS = 1000;
+
     /**
      * Private constructor to prevent instantiation.
      */
@@ -24,9 +52,47 @@ public class RetryUtil {
      * Priority order:
      * <ol>
      *   <li>If {@code retryDelayOptions.customBackoff} is set, use it</li>
-     *   <li>If {@code retryDelayOptions.base} is set, use linear backoff: base * retryCount</li>
+     *   <li>If {@code retryDelayOptions.base} is set, or a non-linear strategy is chosen,
+     *       apply the {@link BackoffStrategy}</li>
      *   <li>Otherwise, use fixed {@code retryDelay} from RetryConfig</li>
      * </ol>
+     * When a response is given and rate-limit headers are respected, the result is
+     * raised to at least the wait requested by {@code Retry-After}, or one rate-limit
+     * window when {@code X-RateLimit-Remaining} is zero, but never past
+     * {@link RetryDelayOptions#getMaxRetryAfter()}.
+     *
+     * @param config        the RetryConfig containing delay settings
+     * @param retryCount    the current retry attempt number (1-based)
+     * @param statusCode    HTTP status code from the response, 0 for network errors,
+     *                      -1 for unknown errors
+     * @param error         the throwable that caused the failure (may be null)
+     * @param response      the failed response whose headers are inspected (may be null)
+     * @param previousDelay the delay used before the previous attempt, or 0 for the first retry
+     * @return the delay in milliseconds before the next retry
+     * @throws IllegalArgumentException if config is null
+     */
+    public static long calculateDelay(@NotNull RetryConfig config, int retryCount, int statusCode,
+                                      @Nullable Throwable error, @Nullable Response response,
+                                      long previousDelay) {
+        if (config == null) {
+            throw new IllegalArgumentException("RetryConfig cannot be null");
+        }
+
+        RetryDelayOptions delayOptions = config.getRetryDelayOptions();
+        long delay = strategyDelay(config, delayOptions, retryCount, statusCode, error, previousDelay);
+
+        boolean respectHeaders = delayOptions == null || delayOptions.isRespectRateLimitHeaders();
+        if (respectHeaders && response != null) {
+            long maxRetryAfter = delayOptions != null ? delayOptions.getMaxRetryAfter()
+                    : RetryDelayOptions.DEFAULT_MAX_RETRY_AFTER;
+            delay = Math.max(delay, Math.min(rateLimitDelay(response), maxRetryAfter));
+        }
+        return delay;
+    }
+
+    /**
+     * Calculates the delay in milliseconds before the next retry attempt.
+     * Convenience method for callers without a response.
      *
      * @param config     the RetryConfig containing delay settings
      * @param retryCount the current retry attempt number (1-based: 1st retry, 2nd retry, etc.)
@@ -41,36 +107,160 @@ public class RetryUtil {
      */
     public static long calculateDelay(@NotNull RetryConfig config, int retryCount, int statusCode,
                                       @Nullable Throwable error) {
-        if (config == null) {
-            throw new IllegalArgumentException("RetryConfig cannot be null");
+        return calculateDelay(config, retryCount, statusCode, error, null, 0);
+    }
+
+    /**
+     * Calculates the delay in milliseconds before the next retry attempt.
+     * Convenience method that passes null for the error parameter.
+     *
+     * @param config     the RetryConfig containing delay settings
+     * @param retryCount the current retry attempt number (1-based)
+     * @param statusCode HTTP status code from the response
+     * @return the delay in milliseconds before the next retry
+     */
+    public static long calculateDelay(@NotNull RetryConfig config, int retryCount, int statusCode) {
+        return calculateDelay(config, retryCount, statusCode, null);
+    }
+
+    /**
+     * Checks whether a request that failed with a network error may be sent again.
+     *
+     * @param config  the retry configuration
+     * @param request the failed request
+     * @param error   the network failure
+     * @return true if re-sending cannot apply the request twice
+     * @see #canResend(RetryConfig, Request, int, Throwable)
+     */
+    public static boolean canResend(@NotNull RetryConfig config, @NotNull Request request, @Nullable Throwable error) {
+        return canResend(config, request, 0, error);
+    }
+
+    /**
+     * Checks whether a request that failed may be sent again. Idempotent methods
+     * always may. POST and PATCH may only when the failure shows the server did not
+     * process the request: a 429 or 503 response, or a network error raised before
+     * the connection was made. A 408, 500, 502 or 504 may arrive after the server
+     * applied the request, so re-sending could create a duplicate. Setting
+     * {@link RetryConfig#isRetryNonIdempotent()} allows every retry.
+     *
+     * @param config     the retry configuration
+     * @param request    the failed request
+     * @param statusCode the HTTP status of the response, or 0 for a network error
+     * @param error      the network failure, or null if a response was received
+     * @return true if re-sending cannot apply the request twice
+     */
+    public static boolean canResend(@NotNull RetryConfig config, @NotNull Request request, int statusCode,
+                                    @Nullable Throwable error) {
+        String method = request.method();
+        if (!"POST".equals(method) && !"PATCH".equals(method) || config.isRetryNonIdempotent()) {
+            return true;
         }
+        if (statusCode > 0) {
+            return statusCode == 429 || statusCode == 503;
+        }
+        return error instanceof ConnectException || error instanceof NoRouteToHostException
+                || error instanceof UnknownHostException;
+    }
 
-        RetryDelayOptions delayOptions = config.getRetryDelayOptions();
+    /**
+     * Reads the minimum wait the server asked for through its rate-limit headers.
+     *
+     * @param response the response to inspect
+     * @return the wait in milliseconds, or 0 if the headers do not ask for one
+     */
+    public static long rateLimitDelay(@NotNull Response response) {
+        long retryAfter = retryAfterMillis(response);
+        if (retryAfter >= 0) {
+            return retryAfter;
+        }
+        Long remaining = parseLong(response.header(X_RATE_LIMIT_REMAINING));
+        Long limit = parseLong(response.header(X_RATE_LIMIT_LIMIT));
+        if (remaining != null && remaining <= 0 && (limit == null || limit > 0)) {
+            return RATE_LIMIT_WINDOW_MS;
+        }
+        return 0;
+    }
 
+    /**
+     * Parses the {@code Retry-After} header, accepting both delta-seconds and HTTP-date forms.
+     *
+     * @param response the response to inspect
+     * @return the wait in milliseconds, or -1 if the header is absent or malformed
+     */
+    public static long retryAfterMillis(@NotNull Response response) {
+        String value = response.header(RETRY_AFTER);
+        if (value == null || value.trim().isEmpty()) {
+            return -1;
+        }
+        Long seconds = parseLong(value);
+        if (seconds != null) {
+            if (seconds < 0) {
+                return -1;
+            }
+            return seconds > Long.MAX_VALUE / 1000 ? Long.MAX_VALUE : seconds * 1000;
+        }
+        Date date = response.headers().getDate(RETRY_AFTER);
+        if (date == null) {
+            return -1;
+        }
+        return Math.max(0, date.getTime() - System.currentTimeMillis());
+    }
+
+    private static long strategyDelay(RetryConfig config, @Nullable RetryDelayOptions delayOptions,
+                                      int retryCount, int statusCode, @Nullable Throwable error,
+                                      long previousDelay) {
         // Priority 1: Custom backoff function
         if (delayOptions != null && delayOptions.getCustomBackoff() != null) {
             return delayOptions.getCustomBackoff().calculate(retryCount, statusCode, error);
         }
 
-        // Priority 2: Linear backoff (base * retryCount)
-        if (delayOptions != null && delayOptions.getBase() != null && delayOptions.getBase() > 0) {
-            return delayOptions.getBase() * retryCount;
+        boolean hasBase = delayOptions != null && delayOptions.getBase() != null && delayOptions.getBase() > 0;
+        BackoffStrategy strategy = delayOptions != null ? delayOptions.getStrategy() : BackoffStrategy.LINEAR;
+
+        // Priority 2: Strategy backoff (linear needs an explicit base)
+        if (hasBase || strategy != BackoffStrategy.LINEAR) {
+            long base = hasBase ? delayOptions.getBase() : config.getRetryDelay();
+            switch (strategy) {
+                case EXPONENTIAL_FULL_JITTER:
+                    return exponentialFullJitter(base, retryCount, delayOptions.getMaxDelay());
+                case DECORRELATED_JITTER:
+                    return decorrelatedJitter(base, previousDelay, delayOptions.getMaxDelay());
+                case LINEAR:
+                default:
+                    return base * retryCount;
+            }
         }
 
         // Priority 3: Fixed delay (fallback)
         return config.getRetryDelay();
     }
 
-    /**
-     * Calculates the delay in milliseconds before the next retry attempt.
-     * Convenience method that passes null for the error parameter.
-     *
-     * @param config     the RetryConfig containing delay settings
-     * @param retryCount the current retry attempt number (1-based)
-     * @param statusCode HTTP status code from the response
-     * @return the delay in milliseconds before the next retry
-     */
-    public static long calculateDelay(@NotNull RetryConfig config, int retryCount, int statusCode) {
-        return calculateDelay(config, retryCount, statusCode, null);
+    private static long exponentialFullJitter(long base, int retryCount, long maxDelay) {
+        int shift = Math.max(0, Math.min(retryCount - 1, 30));
+        long ceiling = base > (maxDelay >> shift) ? maxDelay : Math.min(maxDelay, base << shift);
+        return ThreadLocalRandom.current().nextLong(ceiling + 1);
+    }
+
+    private static long decorrelatedJitter(long base, long previousDelay, long maxDelay) {
+        long lower = Math.min(base, maxDelay);
+        long previous = Math.max(previousDelay, base);
+        long upper = previous > maxDelay / 3 ? maxDelay : previous * 3;
+        if (upper <= lower) {
+            return lower;
+        }
+        return ThreadLocalRandom.current().nextLong(lower, upper + 1);
+    }
+
+    @Nullable
+    private static Long parseLong(@Nullable String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
     }
 }
@@ -0,0 +1,94 @@
+package com.contentstack.cms.core;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A reservation based token bucket.
+ * <p>
+ * Callers reserve a permit and are told how long to wait for it; the bucket may
+ * go into debt so that waiting callers are served in reservation order. The
+ * bucket never sleeps itself, so the lock is only held for the bookkeeping.
+ * </p>
+ */
+final class TokenBucket {
+
+    private double permitsPerSecond;
+    private double capacity;
+    private double tokens;
+    private long lastRefillNanos;
+
+    TokenBucket(double permitsPerSecond) {
+        if (permitsPerSecond <= 0) {
+            throw new IllegalArgumentException("Permits per second must be > 0");
+        }
+        this.permitsPerSecond = permitsPerSecond;
+        this.capacity = Math.max(1, permitsPerSecond);
+        this.tokens = this.capacity;
+        this.lastRefillNanos = System.nanoTime();
+    }
+
+    /**
+     * Reserves one permit if it becomes available within {@code maxWaitNanos}.
+     *
+     * @param maxWaitNanos the longest the caller is prepared to wait
+     * @return nanoseconds to wait before using the permit, or -1 if the wait would
+     * exceed {@code maxWaitNanos} (no permit is taken in that case)
+     */
+    synchronized long reserve(long maxWaitNanos) {
+        refill();
+        long waitNanos = tokens >= 1 ? 0 : nanosFor(1 - tokens);
+        if (waitNanos > maxWaitNanos) {
+            return -1;
+        }
+        tokens -= 1;
+        return waitNanos;
+    }
+
+    /**
+     * Hands back a permit that was reserved but not used.
+     */
+    synchronized void release() {
+        refill();
+        tokens = Math.min(capacity, tokens + 1);
+    }
+
+    /**
+     * Changes the refill rate, keeping the tokens accrued so far.
+     *
+     * @param permitsPerSecond the new rate
+     */
+    synchronized void setRate(double permitsPerSecond) {
+        if (permitsPerSecond <= 0 || permitsPerSecond == this.permitsPerSecond) {
+            return;
+        }
+        refill();
+        this.permitsPerSecond = permitsPerSecond;
+        this.capacity = Math.max(1, permitsPerSecond);
+        this.tokens = Math.min(tokens, capacity);
+    }
+
+    /**
+     * Lowers the available tokens to what the server reports as remaining.
+     *
+     * @param remaining the server's remaining request count
+     */
+    synchronized void limitTo(long remaining) {
+        refill();
+        tokens = Math.min(tokens, remaining);
+    }
+
+    synchronized double getRate() {
+        return permitsPerSecond;
+    }
+
+    private void refill() {
+        long now = System.nanoTime();
+        double elapsedSeconds = (now - lastRefillNanos) / (double) TimeUnit.SECONDS.toNanos(1);
+        tokens = Math.min(capacity, tokens + elapsedSeconds * permitsPerSecond);
+        lastRefillNanos = now;
+    }
+
+    private long nanosFor(double permits) {
+        return (long) Math.ceil(permits / permitsPerSecond * TimeUnit.SECONDS.toNanos(1));
+    }
+}
@@ -2,8 +2,12 @@ package com.contentstack.cms.core;
 
 import okhttp3.MediaType;
 import okhttp3.RequestBody;
+import okhttp3.ResponseBody;
+import okio.BufferedSource;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
+import java.io.IOException;
 import java.util.Objects;
 
 /**
@@ -53,6 +57,12 @@ public class Util {
     /** Value for {@link #API_VERSION} when publishing or unpublishing entry variants per Content Management API. */
     public static final String API_VERSION_ENTRY_VARIANTS_PUBLISH = "3.2";
 
+    /**
+     * Marks a request whose caller runs its own retry policy. The SDK's interceptors
+     * remove it before sending and send the request once, without retrying it.
+     */
+    public static final String X_CALLER_RETRIES = "X-Caller-Retries";
+
     public static final String X_USER_AGENT = "X-User-Agent";
     public static final String USER_AGENT = "User-Agent";
     public static final String CONTENT_TYPE = "Content-Type";
@@ -147,4 +157,30 @@ public class Util {
         return RequestBody.create(MediaType.parse("application/json; charset=UTF-8"), bodyString);
     }
 
+    /**
+     * Reads a response body into memory if it is no longer than {@code maxBytes}.
+     * <p>
+     * At most {@code maxBytes + 1} bytes are read, whatever the declared
+     * {@code Content-Length}. When the body is longer, the bytes read so far stay
+     * buffered in its source, so the body can still be streamed in full;
+     * otherwise the body is closed once read.
+     *
+     * @param body     the response body
+     * @param maxBytes the largest body to read
+     * @return the body bytes, or null if the body is longer than {@code maxBytes}
+     * @throws IOException if the body cannot be read
+     */
+    @Nullable
+    static byte[] readUpTo(@NotNull ResponseBody body, long maxBytes) throws IOException {
+        BufferedSource source = body.source();
+        if (source.request(maxBytes + 1)) {
+            return null;
+        }
+        try {
+            return source.readByteArray();
+        } finally {
+            body.close();
+        }
+    }
+
 }
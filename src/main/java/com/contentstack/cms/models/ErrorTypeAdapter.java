@@ -0,0 +1,66 @@
+package com.contentstack.cms.models;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+
+/**
+ * Reads and writes {@link Error} without reflection. {@code errors} is read with
+ * the given Gson's {@code Object} adapter; other keys are skipped.
+ */
+public final class ErrorTypeAdapter extends TypeAdapter<Error> {
+
+    private final TypeAdapter<Object> valueAdapter;
+
+    /**
+     * Creates an adapter that reads {@code errors} with the given Gson.
+     *
+     * @param gson the Gson whose {@code Object} adapter handles {@code errors}
+     */
+    public ErrorTypeAdapter(@NotNull Gson gson) {
+        this.valueAdapter = gson.getAdapter(Object.class);
+    }
+
+    @Override
+    public Error read(JsonReader in) throws IOException {
+        Error error = new Error();
+        in.beginObject();
+        while (in.hasNext()) {
+            String name = in.nextName();
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                continue;
+            }
+            switch (name) {
+                case "errors":
+                    error.errors = valueAdapter.read(in);
+                    break;
+                case "error_message":
+                    error.errorMessage = in.nextString();
+                    break;
+                case "error_code":
+                    error.errorCode = in.nextInt();
+                    break;
+                default:
+                    in.skipValue();
+            }
+        }
+        in.endObject();
+        return error;
+    }
+
+    @Override
+    public void write(JsonWriter out, Error error) throws IOException {
+        out.beginObject();
+        out.name("errors");
+        valueAdapter.write(out, error.errors);
+        out.name("error_message").value(error.errorMessage);
+        out.name("error_code").value(error.errorCode);
+        out.endObject();
+    }
+}
@@ -28,11 +28,24 @@ public class OAuthConfig {
     private final String tokenEndpoint;
     private final String host;
 
+    /**
+     * Default time before expiry at which tokens are refreshed in the background (5 minutes)
+     */
+    public static final long DEFAULT_REFRESH_SKEW_MILLIS = 300_000;
+
     /**
      * Callback for token events
      */
     private final TokenCallback tokenCallback;
 
+    /**
+     * How long before the access token expires it is refreshed on a background
+     * thread, in milliseconds. 0 or less disables proactive refresh, leaving the
+     * refresh to the first request that finds the token expired.
+     */
+    @Builder.Default
+    private final long refreshSkewMillis = DEFAULT_REFRESH_SKEW_MILLIS;
+
     /**
      * Validates the configuration
      *
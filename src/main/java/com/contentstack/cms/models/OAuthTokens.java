@@ -43,7 +43,10 @@ public class OAuthTokens {
     private Date issuedAt;
     private Date expiresAt;
 
-    private static final long EXPIRY_BUFFER_MS = 120000; // 2 minutes buffer
+    /**
+     * Tokens are treated as expired this long before their actual expiry
+     */
+    public static final long EXPIRY_BUFFER_MS = 120000; // 2 minutes buffer
 
     public OAuthTokens() {
         this.issuedAt = new Date();
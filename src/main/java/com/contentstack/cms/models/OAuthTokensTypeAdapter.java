@@ -0,0 +1,107 @@
+package com.contentstack.cms.models;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.util.Date;
+
+/**
+ * Reads and writes {@link OAuthTokens} without reflection. {@code expires_in}
+ * goes through {@link OAuthTokens#setExpiresIn(Long)}, so the expiry date is set
+ * as soon as tokens from the token endpoint are read.
+ * <p>
+ * {@code issuedAt} and {@code expiresAt} are written with the given Gson's date
+ * adapter, under the same keys as reflective serialization. When persisted tokens
+ * are read back, the stored {@code expiresAt} wins over {@code expires_in}, so
+ * stale tokens keep their original expiry instead of looking fresh.
+ */
+public final class OAuthTokensTypeAdapter extends TypeAdapter<OAuthTokens> {
+
+    private final TypeAdapter<Date> dateAdapter;
+
+    /**
+     * Creates an adapter that reads and writes dates with the given Gson.
+     *
+     * @param gson the Gson whose date adapter handles {@code issuedAt} and {@code expiresAt}
+     */
+    public OAuthTokensTypeAdapter(@NotNull Gson gson) {
+        this.dateAdapter = gson.getAdapter(Date.class);
+    }
+
+    @Override
+    public OAuthTokens read(JsonReader in) throws IOException {
+        OAuthTokens tokens = new OAuthTokens();
+        Date expiresAt = null;
+        in.beginObject();
+        while (in.hasNext()) {
+            String name = in.nextName();
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                continue;
+            }
+            switch (name) {
+                case "access_token":
+                    tokens.setAccessToken(in.nextString());
+                    break;
+                case "refresh_token":
+                    tokens.setRefreshToken(in.nextString());
+                    break;
+                case "token_type":
+                    tokens.setTokenType(in.nextString());
+                    break;
+                case "expires_in":
+                    tokens.setExpiresIn(in.nextLong());
+                    break;
+                case "scope":
+                    tokens.setScope(in.nextString());
+                    break;
+                case "organization_uid":
+                    tokens.setOrganizationUid(in.nextString());
+                    break;
+                case "user_uid":
+                    tokens.setUserUid(in.nextString());
+                    break;
+                case "stack_api_key":
+                    tokens.setStackApiKey(in.nextString());
+                    break;
+                case "issuedAt":
+                    tokens.setIssuedAt(dateAdapter.read(in));
+                    break;
+                case "expiresAt":
+                    expiresAt = dateAdapter.read(in);
+                    break;
+                default:
+                    in.skipValue();
+            }
+        }
+        in.endObject();
+        if (expiresAt != null) {
+            tokens.setExpiresAt(expiresAt);
+        }
+        return tokens;
+    }
+
+    @Override
+    public void write(JsonWriter out, OAuthTokens tokens) throws IOException {
+        out.beginObject();
+        out.name("access_token").value(tokens.getAccessToken());
+        out.name("refresh_token").value(tokens.getRefreshToken());
+        out.name("token_type").value(tokens.getTokenType());
+        out.name("expires_in").value(tokens.getExpiresIn());
+        out.name("scope").value(tokens.getScope());
+        out.name("organization_uid").value(tokens.getOrganizationUid());
+        out.name("user_uid").value(tokens.getUserUid());
+        out.name("stack_api_key").value(tokens.getStackApiKey());
+        out.name("issuedAt");
+        dateAdapter.write(out, tokens.getIssuedAt());
+        out.name("expiresAt");
+        dateAdapter.write(out, tokens.getExpiresAt());
+        out.endObject();
+    }
+}
@@ -9,15 +9,25 @@ import java.security.SecureRandom;
 import java.util.Base64;
 import java.util.Date;
 import java.util.concurrent.CompletableFuture;
-
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import com.contentstack.cms.core.GsonProvider;
 import com.contentstack.cms.core.Util;
 import com.contentstack.cms.models.OAuthConfig;
 import com.contentstack.cms.models.OAuthTokens;
 import com.google.gson.Gson;
 import com.google.gson.JsonParseException;
 
+import lombok.AccessLevel;
 import lombok.Getter;
-import lombok.Setter;
 import okhttp3.FormBody;
 import okhttp3.OkHttpClient;
 import okhttp3.Request;
@@ -40,9 +50,28 @@ public class OAuthHandler {
     private String codeChallenge;
     private String state;
 
-    @Getter
-    @Setter
-    private OAuthTokens tokens;
+    /**
+     * The current tokens. Requests read it without locking; writers swap in a new
+     * snapshot under {@code tokenLock} so that scheduling and callbacks follow the
+     * order in which tokens were set.
+     */
+    @Getter(AccessLevel.NONE)
+    private final AtomicReference<TokenSnapshot> snapshot = new AtomicReference<>(TokenSnapshot.EMPTY);
+
+    /**
+     * The refresh currently talking to the token endpoint, shared by every caller
+     * that needs fresh tokens meanwhile
+     */
+    @Getter(AccessLevel.NONE)
+    private final AtomicReference<CompletableFuture<OAuthTokens>> refreshInFlight = new AtomicReference<>();
+
+    /**
+     * The background refresh scheduled ahead of the current token's expiry
+     */
+    @Getter(AccessLevel.NONE)
+    private ScheduledFuture<?> scheduledRefresh;
+
+    private static final Logger logger = Logger.getLogger(OAuthHandler.class.getName());
 
     /**
      * Creates a new OAuth handler instance
@@ -51,9 +80,21 @@ public class OAuthHandler {
      * @param config OAuth configuration
      */
     public OAuthHandler(OkHttpClient httpClient, OAuthConfig config) {
+        this(httpClient, config, GsonProvider.shared());
+    }
+
+    /**
+     * Creates a new OAuth handler instance that parses token responses with the
+     * given Gson
+     *
+     * @param httpClient HTTP client for making requests
+     * @param config OAuth configuration
+     * @param gson Gson used to parse token and error responses
+     */
+    public OAuthHandler(OkHttpClient httpClient, OAuthConfig config, Gson gson) {
         this.httpClient = httpClient;
         this.config = config;
-        this.gson = new Gson();
+        this.gson = gson;
 
         // Validate config before proceeding
         config.validate();
@@ -70,8 +111,9 @@ public class OAuthHandler {
                 .header("Content-Type", "application/x-www-form-urlencoded");
 
         // Only add authorization header for non-token endpoints
-        if (tokens != null && tokens.getAccessToken() != null) {
-            builder.header("authorization", "Bearer " + tokens.getAccessToken());
+        String authorization = snapshot.get().getAuthorizationHeader();
+        if (authorization != null) {
+            builder.header("authorization", authorization);
         }
         return builder;
     }
@@ -192,7 +234,7 @@ public class OAuthHandler {
      */
     private void _saveTokens(OAuthTokens tokens) {
         synchronized (tokenLock) {
-            this.tokens = tokens;
+            scheduleRefreshAhead(swap(tokens));
             if (config.getTokenCallback() != null) {
                 if (tokens != null) {
                     config.getTokenCallback().onTokensUpdated(tokens);
@@ -203,61 +245,178 @@ public class OAuthHandler {
         }
     }
 
-    private OAuthTokens _getTokens() {
+    /**
+     * Publishes a snapshot of the tokens to readers. Must hold {@code tokenLock}.
+     */
+    private TokenSnapshot swap(OAuthTokens tokens) {
+        TokenSnapshot next = TokenSnapshot.of(tokens);
+        snapshot.set(next);
+        return next;
+    }
+
+    /**
+     * Gets the current tokens
+     *
+     * @return the tokens, or null if not authorized
+     */
+    public OAuthTokens getTokens() {
+        return snapshot.get().getTokens();
+    }
+
+    /**
+     * Gets the current tokens with their precomputed {@code Authorization}
+     * header and expiry. Never blocks.
+     *
+     * @return the snapshot; empty if not authorized
+     */
+    public TokenSnapshot getTokenSnapshot() {
+        return snapshot.get();
+    }
+
+    /**
+     * Sets the current tokens, e.g. restored from storage, and schedules their
+     * background refresh
+     *
+     * @param tokens the tokens, or null to clear them
+     */
+    public void setTokens(OAuthTokens tokens) {
         synchronized (tokenLock) {
-            return this.tokens;
+            scheduleRefreshAhead(swap(tokens));
         }
     }
 
     /**
-     * Refreshes the access token using the refresh token
+     * Refreshes the access token using the refresh token. Concurrent callers
+     * share a single request to the token endpoint.
      *
      * @return Future containing the new tokens
      */
     public CompletableFuture<OAuthTokens> refreshAccessToken() {
-        // Check if we have tokens and refresh token
-        if (tokens == null) {
+        TokenSnapshot current = snapshot.get();
+        CompletableFuture<OAuthTokens> invalid = checkRefreshable(current);
+        if (invalid != null) {
+            return invalid;
+        }
+
+        // Check if token is actually expired
+        if (!current.isExpired()) {
+            return CompletableFuture.completedFuture(current.getTokens());
+        }
+        return refreshSingleFlight();
+    }
+
+    /**
+     * Refreshes the access token even though it has not expired by the clock,
+     * e.g. after the API rejected it with a 401. If the current access token no
+     * longer matches {@code staleAccessToken}, another caller has already
+     * refreshed it and the current tokens are returned without a new request.
+     *
+     * @param staleAccessToken the access token that was rejected
+     * @return Future containing the new tokens
+     */
+    public CompletableFuture<OAuthTokens> forceRefreshAccessToken(String staleAccessToken) {
+        TokenSnapshot current = snapshot.get();
+        CompletableFuture<OAuthTokens> invalid = checkRefreshable(current);
+        if (invalid != null) {
+            return invalid;
+        }
+        if (staleAccessToken != null && !staleAccessToken.equals(current.getAccessToken())) {
+            return CompletableFuture.completedFuture(current.getTokens());
+        }
+        return refreshSingleFlight();
+    }
+
+    private static CompletableFuture<OAuthTokens> checkRefreshable(TokenSnapshot current) {
+        if (current.getTokens() == null) {
             return CompletableFuture.failedFuture(
                     new IllegalStateException(Util.OAUTH_NO_TOKENS));
         }
-        if (!tokens.hasRefreshToken()) {
+        if (!current.hasRefreshToken()) {
             return CompletableFuture.failedFuture(
                     new IllegalStateException(Util.OAUTH_NO_REFRESH_TOKEN));
         }
+        return null;
+    }
 
-        // Check if token is actually expired
-        if (!tokens.isExpired()) {
-            return CompletableFuture.completedFuture(tokens);
+    /**
+     * Starts a refresh unless one is already in flight, in which case the caller
+     * joins it. Each caller gets its own dependent future, so cancelling one does
+     * not cancel the refresh for the others.
+     */
+    private CompletableFuture<OAuthTokens> refreshSingleFlight() {
+        while (true) {
+            CompletableFuture<OAuthTokens> inFlight = refreshInFlight.get();
+            if (inFlight != null) {
+                return inFlight.thenApply(Function.identity());
+            }
+            CompletableFuture<OAuthTokens> refresh = new CompletableFuture<>();
+            if (refreshInFlight.compareAndSet(null, refresh)) {
+                CompletableFuture.runAsync(() -> {
+                    try {
+                        refresh.complete(requestRefreshedTokens());
+                    } catch (IOException | RuntimeException e) {
+                        refresh.completeExceptionally(new RuntimeException(Util.OAUTH_REFRESH_FAILED, e));
+                    } finally {
+                        refreshInFlight.compareAndSet(refresh, null);
+                    }
+                });
+                return refresh.thenApply(Function.identity());
+            }
         }
+    }
 
-        return CompletableFuture.supplyAsync(() -> {
-            try {
-
-                FormBody.Builder formBuilder = new FormBody.Builder()
-                        .add("grant_type", "refresh_token")
-                        .add("refresh_token", tokens.getRefreshToken())
-                        .add("client_id", config.getClientId())
-                        .add("app_id", config.getAppId());
-
-                // Add client_secret if available, otherwise add code_verifier
-                if (config.getClientSecret() != null && !config.getClientSecret().trim().isEmpty()) {
-                    formBuilder.add("client_secret", config.getClientSecret());
-                } else if (this.codeVerifier != null) {
-                    formBuilder.add("code_verifier", this.codeVerifier);
-                }
+    private OAuthTokens requestRefreshedTokens() throws IOException {
+        OAuthTokens current = snapshot.get().getTokens();
+        if (current == null || !current.hasRefreshToken()) {
+            throw new IllegalStateException(Util.OAUTH_NO_REFRESH_TOKEN);
+        }
+        FormBody.Builder formBuilder = new FormBody.Builder()
+                .add("grant_type", "refresh_token")
+                .add("refresh_token", current.getRefreshToken())
+                .add("client_id", config.getClientId())
+                .add("app_id", config.getAppId());
+
+        // Add client_secret if available, otherwise add code_verifier
+        if (config.getClientSecret() != null && !config.getClientSecret().trim().isEmpty()) {
+            formBuilder.add("client_secret", config.getClientSecret());
+        } else if (this.codeVerifier != null) {
+            formBuilder.add("code_verifier", this.codeVerifier);
+        }
 
-                Request request = new Request.Builder()
-                        .url(config.getTokenEndpoint())
-                        .header("Content-Type", "application/x-www-form-urlencoded")
-                        .post(formBuilder.build())
-                        .build();
+        Request request = new Request.Builder()
+                .url(config.getTokenEndpoint())
+                .header("Content-Type", "application/x-www-form-urlencoded")
+                .post(formBuilder.build())
+                .build();
 
-                OAuthTokens newTokens = executeTokenRequest(request);
+        return executeTokenRequest(request);
+    }
 
-                return newTokens;
-            } catch (IOException | RuntimeException e) {
+    /**
+     * Schedules a background refresh {@link OAuthConfig#getRefreshSkewMillis()}
+     * before the tokens expire, replacing any earlier schedule. Tokens that are
+     * already expired are left to the next request. Must hold {@code tokenLock}.
+     */
+    private void scheduleRefreshAhead(TokenSnapshot tokens) {
+        if (scheduledRefresh != null) {
+            scheduledRefresh.cancel(false);
+            scheduledRefresh = null;
+        }
+        long skew = config.getRefreshSkewMillis();
+        if (skew <= 0 || !tokens.hasRefreshToken() || tokens.isExpired()) {
+            return;
+        }
+        long delay = Math.max(0, tokens.getMillisUntilExpiry() - skew);
+        scheduledRefresh = RefreshScheduler.INSTANCE.schedule(() -> refreshAhead(tokens), delay, TimeUnit.MILLISECONDS);
+    }
 
-                throw new RuntimeException(Util.OAUTH_REFRESH_FAILED, e);
+    private void refreshAhead(TokenSnapshot scheduledFor) {
+        if (snapshot.get() != scheduledFor) {
+            return;
+        }
+        refreshSingleFlight().whenComplete((refreshed, error) -> {
+            if (error != null) {
+                logger.log(Level.WARNING, "Background OAuth token refresh failed; the next request will retry", error);
             }
         });
     }
@@ -298,8 +457,9 @@ public class OAuthHandler {
             }
 
             // Keep refresh token if new one not provided
-            if (newTokens.getRefreshToken() == null && this.tokens != null && this.tokens.hasRefreshToken()) {
-                newTokens.setRefreshToken(this.tokens.getRefreshToken());
+            OAuthTokens previous = snapshot.get().getTokens();
+            if (newTokens.getRefreshToken() == null && previous != null && previous.hasRefreshToken()) {
+                newTokens.setRefreshToken(previous.getRefreshToken());
             }
 
             _saveTokens(newTokens);
@@ -323,10 +483,10 @@ public class OAuthHandler {
      */
     public CompletableFuture<Void> logout(boolean revokeAuthorization) {
         return CompletableFuture.runAsync(() -> {
-            if (revokeAuthorization && tokens != null) {
+            if (revokeAuthorization && snapshot.get().getTokens() != null) {
                 revokeOauthAppAuthorization().join();
             }
-            this.tokens = null;
+            setTokens(null);
         });
     }
 
@@ -410,24 +570,42 @@ public class OAuthHandler {
         });
     }
 
+    /**
+     * Single daemon thread that only triggers background refreshes; the token
+     * requests themselves run asynchronously.
+     */
+    private static final class RefreshScheduler {
+        private static final ScheduledExecutorService INSTANCE = create();
+
+        private static ScheduledExecutorService create() {
+            ThreadFactory factory = runnable -> {
+                Thread thread = new Thread(runnable, "contentstack-oauth-refresh");
+                thread.setDaemon(true);
+                return thread;
+            };
+            ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1, factory);
+            executor.setRemoveOnCancelPolicy(true);
+            return executor;
+        }
+    }
+
     // Convenience methods for token access
     public String getAccessToken() {
-        OAuthTokens accessToken = _getTokens();
-        return accessToken != null ? accessToken.getAccessToken() : null;
+        return snapshot.get().getAccessToken();
     }
 
     public String getRefreshToken() {
-        OAuthTokens refreshToken = _getTokens();
+        OAuthTokens refreshToken = snapshot.get().getTokens();
         return refreshToken != null ? refreshToken.getRefreshToken() : null;
     }
 
     public String getOrganizationUID() {
-        OAuthTokens organizationUid = _getTokens();
+        OAuthTokens organizationUid = snapshot.get().getTokens();
         return organizationUid != null ? organizationUid.getOrganizationUid() : null;
     }
 
     public String getUserUID() {
-        OAuthTokens userUid = _getTokens();
+        OAuthTokens userUid = snapshot.get().getTokens();
         return userUid != null ? userUid.getUserUid() : null;
     }
 
@@ -437,7 +615,6 @@ public class OAuthHandler {
      * @return true if we have a non-expired access token
      */
     public boolean hasValidAccessToken() {
-        OAuthTokens accessToken = _getTokens();
-        return accessToken != null && accessToken.hasAccessToken() && !accessToken.isExpired();
+        return !snapshot.get().isExpired();
     }
 }
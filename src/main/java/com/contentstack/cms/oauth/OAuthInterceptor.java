@@ -1,14 +1,17 @@
 package com.contentstack.cms.oauth;
 
 import java.io.IOException;
-import java.net.SocketTimeoutException;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 
 import com.contentstack.cms.core.Util;
+import com.contentstack.cms.core.RateLimitExceededException;
 import com.contentstack.cms.core.RetryConfig;
+import com.contentstack.cms.core.RetryDeadline;
 import com.contentstack.cms.core.RetryUtil;
+import com.contentstack.cms.models.OAuthTokens;
 import okhttp3.Interceptor;
 import okhttp3.Request;
 import okhttp3.Response;
@@ -16,8 +19,8 @@ import okhttp3.Response;
 public class OAuthInterceptor implements Interceptor {
 
     private final OAuthHandler oauthHandler;
-    private String[] earlyAccess;
-    private final Object refreshLock = new Object();
+    private final String userAgent = Util.defaultUserAgent();
+    private volatile String earlyAccessHeader = "true";
     private RetryConfig retryConfig = RetryConfig.defaultConfig();
 
     public OAuthInterceptor(OAuthHandler oauthHandler) {
@@ -25,7 +28,7 @@ public class OAuthInterceptor implements Interceptor {
     }
 
     public void setEarlyAccess(String[] earlyAccess) {
-        this.earlyAccess = earlyAccess;
+        this.earlyAccessHeader = earlyAccess != null ? String.join(",", earlyAccess) : "true";
     }
 
     public boolean isOAuthConfigured() {
@@ -33,37 +36,44 @@ public class OAuthInterceptor implements Interceptor {
     }
 
     public boolean hasValidTokens() {
-        return oauthHandler != null
-                && oauthHandler.getTokens() != null
-                && !oauthHandler.getTokens().isExpired();
+        return oauthHandler != null && !oauthHandler.getTokenSnapshot().isExpired();
     }
 
     @Override
     public Response intercept(Chain chain) throws IOException {
         Request originalRequest = chain.request();
+        boolean tokenEndpoint = isTokenRequest(originalRequest);
         Request.Builder requestBuilder = originalRequest.newBuilder()
-                .header("X-User-Agent", Util.defaultUserAgent())
-                .header("User-Agent", Util.defaultUserAgent())
-                .header("x-header-ea", earlyAccess != null ? String.join(",", earlyAccess) : "true");
+                .removeHeader(Util.X_CALLER_RETRIES)
+                .header("X-User-Agent", userAgent)
+                .header("User-Agent", userAgent)
+                .header("x-header-ea", earlyAccessHeader);
 
         // Skip Content-Type header for DELETE /releases/{release_uid} request
         // to avoid "Body cannot be empty when content-type is set to 'application/json'" error
         if (!isDeleteReleaseRequest(originalRequest)) {
-            String contentType = originalRequest.url().toString().contains("/token")
+            String contentType = tokenEndpoint
                     ? "application/x-www-form-urlencoded"
                     : "application/json";
             requestBuilder.header("Content-Type", contentType);
         }
 
         // Skip auth header for token endpoints
-        if (!originalRequest.url().toString().contains("/token")) {
-            if (oauthHandler.getTokens() != null && oauthHandler.getTokens().hasAccessToken()) {
-                requestBuilder.header("Authorization", "Bearer " + oauthHandler.getAccessToken());
-            }
+        if (tokenEndpoint) {
+            return chain.proceed(requestBuilder.build());
+        }
+        String authorization = oauthHandler.getTokenSnapshot().getAuthorizationHeader();
+        if (authorization != null) {
+            requestBuilder.header("Authorization", authorization);
         }
 
         // Execute request with retry and refresh handling
-        return executeRequest(chain, requestBuilder.build(), 0);
+        int retryLimit = originalRequest.header(Util.X_CALLER_RETRIES) != null ? 0 : retryConfig.getRetryLimit();
+        return executeRequest(chain, requestBuilder.build(), retryLimit);
+    }
+
+    private static boolean isTokenRequest(Request request) {
+        return request.url().toString().contains("/token");
     }
 
     /**
@@ -82,94 +92,132 @@ public class OAuthInterceptor implements Interceptor {
         return path.matches(".*/releases/[^/]+$");
     }
 
-    private Response executeRequest(Chain chain, Request request, int retryCount) throws IOException {
-        // Skip token refresh for token endpoints to avoid infinite loops
-        if (request.url().toString().contains("/token")) {
-            return chain.proceed(request);
-        }
-
+    /**
+     * Sends the request, refreshing the access token when it has expired or the
+     * server answers 401, and retrying failed responses and network errors accepted
+     * by the {@link com.contentstack.cms.core.RetryCondition} until the retry limit
+     * or the overall deadline from {@link RetryConfig#getTotalTimeout()} is reached.
+     * A request marked with {@link Util#X_CALLER_RETRIES} is given a retry limit of 0.
+     */
+    private Response executeRequest(Chain chain, Request request, int retryLimit) throws IOException {
         // Ensure we have tokens
-        if (oauthHandler == null || oauthHandler.getTokens() == null) {
+        if (oauthHandler == null || oauthHandler.getTokenSnapshot().getTokens() == null) {
             throw new IOException(Util.OAUTH_NO_TOKENS);
         }
 
-        // Check if we need to refresh the token before making the request
-        if (oauthHandler.getTokens().isExpired()) {
-
-            synchronized (refreshLock) {
-                try {
-
-                    oauthHandler.refreshAccessToken().get(30, TimeUnit.SECONDS);
-
-                    // Update authorization header with new token
-                    request = request.newBuilder()
-                            .header("Authorization", "Bearer " + oauthHandler.getAccessToken())
-                            .build();
-                } catch (InterruptedException | ExecutionException | TimeoutException e) {
-
-                    throw new IOException(Util.OAUTH_REFRESH_FAILED, e);
-                }
-            }
-        }
-
-        // Execute request
-        Response response;
+        RetryDeadline deadline = RetryDeadline.start(retryConfig);
+        deadline.watch(chain.call());
         try {
-            response = chain.proceed(request);
-        } catch (SocketTimeoutException e) {
-            if (retryCount < retryConfig.getRetryLimit() && retryConfig.getRetryCondition().shouldRetry(0, e)) {
-                long delay = RetryUtil.calculateDelay(retryConfig, retryCount + 1, 0);
-                try {
-                    Thread.sleep(delay);
-                } catch (InterruptedException ex) {
-                    Thread.currentThread().interrupt();
-                    throw new IOException("Retry interrupted", ex);
-                }
-                return executeRequest(chain, request, retryCount + 1);
-            }
+            return deadline.release(retry(chain, request, retryLimit, deadline));
+        } catch (IOException e) {
+            throw deadline.release(e);
+        } catch (RuntimeException e) {
+            deadline.release();
             throw e;
         }
+    }
 
-        // Handle error responses
-        if (!response.isSuccessful() && retryCount < retryConfig.getRetryLimit()) {
-            int code = response.code();
-            response.close();
-
-            // Handle 401 with token refresh
-            if (code == 401 && oauthHandler != null && oauthHandler.getTokens() != null
-                    && oauthHandler.getTokens().hasRefreshToken()) {
-
-                synchronized (refreshLock) {
-                    try {
-
-                        oauthHandler.refreshAccessToken().get(30, TimeUnit.SECONDS);
-
-                        // Update authorization header with new token
-                        request = request.newBuilder()
-                                .header("Authorization", "Bearer " + oauthHandler.getAccessToken())
-                                .build();
+    private Response retry(Chain chain, Request request, int retryLimit, RetryDeadline deadline)
+            throws IOException {
+        int retryCount = 0;
+        long previousDelay = 0;
+        while (true) {
+            // Check if we need to refresh the token before making the request
+            TokenSnapshot tokens = oauthHandler.getTokenSnapshot();
+            if (tokens.isExpired()) {
+                request = refreshAuthorization(request, oauthHandler.refreshAccessToken(), Util.OAUTH_REFRESH_FAILED);
+            }
 
-                        return executeRequest(chain, request, retryCount + 1);
-                    } catch (InterruptedException | ExecutionException | TimeoutException e) {
-                        throw new IOException(Util.OAUTH_REFRESH_FAILED + " after 401", e);
+            // Execute request
+            Response response;
+            try {
+                response = deadline.bound(chain).proceed(request);
+            } catch (IOException e) {
+                if (retryCount < retryLimit && isRetryable(chain, request, e)) {
+                    long delay = RetryUtil.calculateDelay(retryConfig, retryCount + 1, 0, e, null, previousDelay);
+                    if (deadline.canWait(delay)) {
+                        deadline.sleep(delay);
+                        retryCount++;
+                        previousDelay = delay;
+                        continue;
                     }
                 }
+                throw e;
             }
 
-            // Handle other retryable errors (429, 5xx)
-            if (retryConfig.getRetryCondition().shouldRetry(code, null)) {
-                try {
-                    long delay = RetryUtil.calculateDelay(retryConfig, retryCount+1, code);
-                    Thread.sleep(delay);
-                    return executeRequest(chain, request, retryCount + 1);
-                } catch (InterruptedException e) {
-                    Thread.currentThread().interrupt();
-                    throw new IOException("Retry interrupted", e);
+            // Handle error responses
+            if (!response.isSuccessful() && retryCount < retryLimit) {
+                int code = response.code();
+
+                // Handle 401 with token refresh
+                if (code == 401 && oauthHandler.getTokenSnapshot().hasRefreshToken() && deadline.canWait(0)) {
+                    response.close();
+                    request = refreshAuthorization(request,
+                            oauthHandler.forceRefreshAccessToken(bearerToken(request)),
+                            Util.OAUTH_REFRESH_FAILED + " after 401");
+                    retryCount++;
+                    continue;
+                }
+
+                // Handle other retryable errors (429, 5xx)
+                if (retryConfig.getRetryCondition().shouldRetry(code, null)
+                        && RetryUtil.canResend(retryConfig, request, code, null)) {
+                    long delay = RetryUtil.calculateDelay(retryConfig, retryCount + 1, code, null, response,
+                            previousDelay);
+                    if (deadline.canWait(delay)) {
+                        response.close();
+                        deadline.sleep(delay);
+                        retryCount++;
+                        previousDelay = delay;
+                        continue;
+                    }
                 }
             }
+
+            return response;
+        }
+    }
+
+    /**
+     * Waits for the refresh and re-signs the request. The handler coalesces
+     * concurrent refreshes, so every request waiting here shares one call to the
+     * token endpoint instead of queueing behind a lock.
+     */
+    private Request refreshAuthorization(Request request, CompletableFuture<OAuthTokens> refresh,
+                                         String failureMessage) throws IOException {
+        try {
+            refresh.get(30, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            refresh.cancel(false);
+            Thread.currentThread().interrupt();
+            throw new IOException(failureMessage, e);
+        } catch (ExecutionException | TimeoutException e) {
+            throw new IOException(failureMessage, e);
         }
+        // Update authorization header with new token
+        String authorization = oauthHandler.getTokenSnapshot().getAuthorizationHeader();
+        Request.Builder builder = request.newBuilder();
+        return (authorization != null
+                ? builder.header("Authorization", authorization)
+                : builder.removeHeader("Authorization")).build();
+    }
+
+    private static String bearerToken(Request request) {
+        String authorization = request.header("Authorization");
+        return authorization != null && authorization.startsWith("Bearer ")
+                ? authorization.substring("Bearer ".length())
+                : null;
+    }
 
-        return response;
+    private boolean isRetryable(Chain chain, Request request, IOException e) {
+        if (Thread.currentThread().isInterrupted() || (chain.call() != null && chain.call().isCanceled())
+                || e instanceof RateLimitExceededException) {
+            return false;
+        }
+        if (!RetryUtil.canResend(retryConfig, request, e)) {
+            return false;
+        }
+        return retryConfig.getRetryCondition().shouldRetry(0, e);
     }
 
     public void setRetryConfig(RetryConfig retryConfig) {
@@ -0,0 +1,140 @@
+package com.contentstack.cms.oauth;
+
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+import com.contentstack.cms.models.OAuthTokens;
+
+/**
+ * Immutable view of the current OAuth tokens, built once whenever the tokens
+ * change and read by every request.
+ * <p>
+ * The {@code Authorization} header value and the expiry are computed up front,
+ * so signing a request and checking whether its token is still usable is a
+ * single volatile read with no locking and no allocation. The snapshot captures
+ * the tokens' values when it is built; tokens changed afterwards must be passed
+ * to {@link OAuthHandler#setTokens(OAuthTokens)} again.
+ */
+public final class TokenSnapshot {
+
+    static final TokenSnapshot EMPTY = new TokenSnapshot(null);
+
+    private static final long EXPIRY_BUFFER_NANOS = TimeUnit.MILLISECONDS.toNanos(OAuthTokens.EXPIRY_BUFFER_MS);
+    private static final long NO_EXPIRY = Long.MIN_VALUE;
+
+    private final OAuthTokens tokens;
+    private final String accessToken;
+    private final String authorizationHeader;
+    private final boolean refreshable;
+    /**
+     * Expiry in nanoseconds since the epoch, or {@link #NO_EXPIRY}
+     */
+    private final long expiresAtEpochNanos;
+    /**
+     * The point from which the token counts as expired, i.e. the expiry minus
+     * {@link OAuthTokens#EXPIRY_BUFFER_MS}
+     */
+    private final long staleAtEpochNanos;
+
+    private TokenSnapshot(OAuthTokens tokens) {
+        this.tokens = tokens;
+        this.accessToken = tokens != null && tokens.hasAccessToken() ? tokens.getAccessToken() : null;
+        this.authorizationHeader = accessToken != null ? "Bearer " + accessToken : null;
+        this.refreshable = tokens != null && tokens.hasRefreshToken();
+        Date expiresAt = tokens != null ? tokens.getExpiresAt() : null;
+        this.expiresAtEpochNanos = expiresAt != null ? TimeUnit.MILLISECONDS.toNanos(expiresAt.getTime()) : NO_EXPIRY;
+        this.staleAtEpochNanos = expiresAt != null ? expiresAtEpochNanos - EXPIRY_BUFFER_NANOS : NO_EXPIRY;
+    }
+
+    /**
+     * Captures the given tokens
+     *
+     * @param tokens the tokens, or null
+     * @return the snapshot
+     */
+    public static TokenSnapshot of(OAuthTokens tokens) {
+        return tokens != null ? new TokenSnapshot(tokens) : EMPTY;
+    }
+
+    /**
+     * Gets the tokens this snapshot was built from
+     *
+     * @return the tokens, or null if not authorized
+     */
+    public OAuthTokens getTokens() {
+        return tokens;
+    }
+
+    /**
+     * Gets the access token
+     *
+     * @return the access token, or null if there is none
+     */
+    public String getAccessToken() {
+        return accessToken;
+    }
+
+    /**
+     * Gets the value for the {@code Authorization} request header
+     *
+     * @return {@code "Bearer <access token>"}, or null if there is no access token
+     */
+    public String getAuthorizationHeader() {
+        return authorizationHeader;
+    }
+
+    /**
+     * Gets the expiry of the access token
+     *
+     * @return nanoseconds since the epoch, or {@link Long#MIN_VALUE} if the expiry is unknown
+     */
+    public long getExpiresAtEpochNanos() {
+        return expiresAtEpochNanos;
+    }
+
+    /**
+     * Checks if access token is present
+     *
+     * @return true if access token exists
+     */
+    public boolean hasAccessToken() {
+        return accessToken != null;
+    }
+
+    /**
+     * Checks if refresh token is present
+     *
+     * @return true if refresh token exists
+     */
+    public boolean hasRefreshToken() {
+        return refreshable;
+    }
+
+    /**
+     * Checks if the access token is missing, has no expiry, or expires within
+     * {@link OAuthTokens#EXPIRY_BUFFER_MS}; the same rule as
+     * {@link OAuthTokens#isExpired()}
+     *
+     * @return true if token is expired or will expire soon
+     */
+    public boolean isExpired() {
+        return accessToken == null || expiresAtEpochNanos == NO_EXPIRY
+                || currentEpochNanos() >= staleAtEpochNanos;
+    }
+
+    /**
+     * Gets the time until the access token expires
+     *
+     * @return milliseconds until expiration, or 0 if expired or unknown
+     */
+    long getMillisUntilExpiry() {
+        if (expiresAtEpochNanos == NO_EXPIRY) {
+            return 0;
+        }
+        return Math.max(0, TimeUnit.NANOSECONDS.toMillis(expiresAtEpochNanos - currentEpochNanos()));
+    }
+
+    private static long currentEpochNanos() {
+        return TimeUnit.MILLISECONDS.toNanos(System.currentTimeMillis());
+    }
+}
@@ -3,6 +3,7 @@ package com.contentstack.cms.stack;
 import com.contentstack.cms.core.ErrorMessages;
 
 import com.contentstack.cms.BaseImplementation;
+import com.google.gson.JsonObject;
 import okhttp3.MediaType;
 import okhttp3.MultipartBody;
 import okhttp3.RequestBody;
@@ -18,6 +19,7 @@ import java.net.URLConnection;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
+import java.util.stream.Stream;
 
 /**
  * Assets refer to all the media files (images, videos, PDFs, audio files, and
@@ -208,6 +210,36 @@ public class Asset implements BaseImplementation<Asset> {
         return this.service.fetchPojo(this.headers, this.params);
     }
 
+    /**
+     * Lazily iterates over every asset matching the current query parameters,
+     * requesting {@code pageSize} items per call to {@link #find()} and
+     * prefetching the next page while the current one is processed. The total
+     * reported through {@code include_count} is available from
+     * {@link PagedIterator#getTotalCount()}.
+     * <p>
+     * The {@code skip}, {@code limit} and {@code include_count} query parameters
+     * of this instance are managed by the iterator, so it should not be used for
+     * other calls while iterating.
+     *
+     * @param pageSize items per page, between 1 and 100
+     * @return an iterator over the assets
+     */
+    public PagedIterator iterator(int pageSize) {
+        return new PagedIterator(Pagination.of(this, this::find), "assets", pageSize);
+    }
+
+    /**
+     * Streams every asset matching the current query parameters, page by page.
+     * Close the stream when stopping early so the prefetched page is cancelled.
+     *
+     * @param pageSize items per page, between 1 and 100
+     * @return a sequential stream of the assets
+     * @see #iterator(int)
+     */
+    public Stream<JsonObject> stream(int pageSize) {
+        return iterator(pageSize).stream();
+    }
+
     /**
      * The Get an asset call returns comprehensive information about a specific
      * version of an asset of a stack
@@ -358,6 +390,27 @@ public class Asset implements BaseImplementation<Asset> {
     }
 
 
+    /**
+     * The <b>Upload asset</b> request, streaming the file from disk in chunks of
+     * {@link FileUploader#DEFAULT_CHUNK_SIZE} bytes and reporting progress after
+     * each chunk. Use {@link AssetUploader} for retries and resumable sessions.
+     *
+     * @param filePath    the file path
+     * @param parentUid   the parent uid
+     * @param title       the title of asset
+     * @param description description of asset
+     * @param tags        tags array of strings
+     * @param listener    receives upload progress
+     * @return Call
+     */
+    public Call<ResponseBody> uploadAsset(@NotNull String filePath, String parentUid, String title, String description,
+                                          String[] tags, @NotNull UploadListener listener) {
+        MultipartBody body = new FileUploader().createMultipartBody(filePath, parentUid, title, description, tags,
+                listener, FileUploader.DEFAULT_CHUNK_SIZE);
+        return this.service.uploadAsset(this.headers, body, this.params);
+    }
+
+
     private MultipartBody createMultipartBody(String filePath, String parentUid, String title, String description, String[] tags) {
         MultipartBody.Builder builder = new MultipartBody.Builder();
         builder.setType(MultipartBody.FORM);
@@ -399,6 +452,35 @@ public class Asset implements BaseImplementation<Asset> {
     }
 
 
+    /**
+     * The Replace asset call, streaming the file from disk in chunks of
+     * {@link FileUploader#DEFAULT_CHUNK_SIZE} bytes and reporting progress after
+     * each chunk. Use {@link AssetUploader} for retries and resumable sessions.
+     *
+     * @param filePath    the filepath
+     * @param description the file description
+     * @param listener    receives upload progress
+     * @return Call
+     */
+    public Call<ResponseBody> replace(@NotNull String filePath, @NotNull String description,
+                                      @NotNull UploadListener listener) {
+        Objects.requireNonNull(this.assetUid, ErrorMessages.ASSET_UID_REQUIRED);
+        File file = new File(filePath);
+        RequestBody fileBody = new FileUploader().chunkedBody(file, listener, FileUploader.DEFAULT_CHUNK_SIZE);
+        return replace(this.headers, fileBody, file.getName(), description);
+    }
+
+    Call<ResponseBody> replace(@NotNull Map<String, Object> headers, @NotNull RequestBody fileBody,
+                               @NotNull String fileName, @NotNull String description) {
+        MultipartBody.Part assetPath = MultipartBody.Part.createFormData("asset[upload]", fileName, fileBody);
+        RequestBody body = RequestBody.create(description, MultipartBody.FORM);
+        return this.service.replace(headers, this.assetUid, assetPath, body, this.params);
+    }
+
+    String getAssetUid() {
+        return this.assetUid;
+    }
+
     private MultipartBody.Part uploadFile(@NotNull String filePath) {
         if (!filePath.isEmpty()) {
             File file = new File(filePath);
@@ -1,32 +1,76 @@
 package com.contentstack.cms.stack;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
+import com.contentstack.cms.core.GsonProvider;
 import com.google.gson.Gson;
-import com.google.gson.annotations.SerializedName;
+import com.google.gson.JsonElement;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.annotations.JsonAdapter;
 import com.google.gson.reflect.TypeToken;
 
+/**
+ * Response of {@link Asset#findAsPojo()} and the other asset listings. The
+ * {@code assets} array is parsed once, and each {@link AssetPojo} is read from it
+ * by the adapter registered on the client's Gson.
+ */
+@JsonAdapter(AssetListResponse.AdapterFactory.class)
 public class AssetListResponse {
-    
-    @SerializedName("assets")
-    private List<Map<String, Object>> rawJson;
 
-    private transient List<AssetPojo> assets;
+    private JsonElement assetsJson;
+
+    private List<AssetPojo> assets;
+
+    private TypeAdapter<List<Map<String, Object>>> listAdapter;
+
+    private List<Map<String, Object>> rawJson;
 
     public List<AssetPojo> getAssets() {
-        if (assets == null && rawJson != null) {
-            assets = new Gson().fromJson(new Gson().toJsonTree(rawJson), new TypeToken<List<AssetPojo>>(){}.getType());
-        }
         return assets;
     }
 
+    /**
+     * Gets the full assets JSON, converted on first use.
+     *
+     * @return the assets as maps, or null if the response has none
+     */
     public List<Map<String, Object>> getRawJson() {
+        if (rawJson == null && assetsJson != null) {
+            rawJson = listAdapter.fromJsonTree(assetsJson);
+        }
         return rawJson;
     }
 
     @Override
     public String toString() {
-        return new com.google.gson.GsonBuilder().setPrettyPrinting().create().toJson(this);
+        return GsonProvider.pretty().toJson(this);
+    }
+
+    static final class AdapterFactory implements TypeAdapterFactory {
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {
+            if (type.getRawType() != AssetListResponse.class) {
+                return null;
+            }
+            TypeAdapter<AssetPojo> pojoAdapter = gson.getAdapter(AssetPojo.class);
+            TypeAdapter<List<Map<String, Object>>> listAdapter =
+                    gson.getAdapter(new TypeToken<List<Map<String, Object>>>() {
+                    });
+            return (TypeAdapter<T>) new PojoResponseAdapter<>(gson, "assets", true, AssetListResponse::new,
+                    (response, value) -> {
+                        List<AssetPojo> assets = new ArrayList<>();
+                        for (JsonElement asset : value.getAsJsonArray()) {
+                            assets.add(pojoAdapter.fromJsonTree(asset));
+                        }
+                        response.assetsJson = value;
+                        response.assets = assets;
+                        response.listAdapter = listAdapter;
+                    }, response -> response.assetsJson);
+        }
     }
 }
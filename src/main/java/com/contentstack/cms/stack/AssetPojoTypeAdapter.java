@@ -0,0 +1,109 @@
+package com.contentstack.cms.stack;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads and writes {@link AssetPojo} without reflection. Keys the POJO does not
+ * map are skipped.
+ */
+public final class AssetPojoTypeAdapter extends TypeAdapter<AssetPojo> {
+
+    @Override
+    public AssetPojo read(JsonReader in) throws IOException {
+        AssetPojo pojo = new AssetPojo();
+        in.beginObject();
+        while (in.hasNext()) {
+            String name = in.nextName();
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                continue;
+            }
+            switch (name) {
+                case "uid":
+                    pojo.uid = in.nextString();
+                    break;
+                case "title":
+                    pojo.title = in.nextString();
+                    break;
+                case "content_type":
+                    pojo.contentType = in.nextString();
+                    break;
+                case "file_size":
+                    pojo.fileSize = in.nextString();
+                    break;
+                case "filename":
+                    pojo.filename = in.nextString();
+                    break;
+                case "url":
+                    pojo.url = in.nextString();
+                    break;
+                case "description":
+                    pojo.description = in.nextString();
+                    break;
+                case "_version":
+                    pojo.version = in.nextInt();
+                    break;
+                case "is_dir":
+                    pojo.isDir = in.peek() == JsonToken.STRING
+                            ? Boolean.parseBoolean(in.nextString())
+                            : in.nextBoolean();
+                    break;
+                case "tags":
+                    pojo.tags = readTags(in);
+                    break;
+                case "name":
+                    pojo.name = in.nextString();
+                    break;
+                default:
+                    in.skipValue();
+            }
+        }
+        in.endObject();
+        return pojo;
+    }
+
+    @Override
+    public void write(JsonWriter out, AssetPojo pojo) throws IOException {
+        out.beginObject();
+        out.name("uid").value(pojo.uid);
+        out.name("title").value(pojo.title);
+        out.name("content_type").value(pojo.contentType);
+        out.name("file_size").value(pojo.fileSize);
+        out.name("filename").value(pojo.filename);
+        out.name("url").value(pojo.url);
+        out.name("description").value(pojo.description);
+        out.name("_version").value(pojo.version);
+        out.name("is_dir").value(pojo.isDir);
+        if (pojo.tags != null) {
+            out.name("tags").beginArray();
+            for (String tag : pojo.tags) {
+                out.value(tag);
+            }
+            out.endArray();
+        }
+        out.name("name").value(pojo.name);
+        out.endObject();
+    }
+
+    private static String[] readTags(JsonReader in) throws IOException {
+        List<String> tags = new ArrayList<>();
+        in.beginArray();
+        while (in.hasNext()) {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                tags.add(null);
+            } else {
+                tags.add(in.nextString());
+            }
+        }
+        in.endArray();
+        return tags.toArray(new String[0]);
+    }
+}
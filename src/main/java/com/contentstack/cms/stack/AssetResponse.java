@@ -1,27 +1,66 @@
 package com.contentstack.cms.stack;
+import com.contentstack.cms.core.GsonProvider;
 import com.google.gson.Gson;
-import com.google.gson.annotations.SerializedName;
+import com.google.gson.JsonElement;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.annotations.JsonAdapter;
+import com.google.gson.reflect.TypeToken;
 import java.util.Map;
 
+/**
+ * Response of {@link Asset#fetchAsPojo()}. The asset is parsed once, and
+ * {@link AssetPojo} is read from it by the adapter registered on the client's Gson.
+ */
+@JsonAdapter(AssetResponse.AdapterFactory.class)
 public class AssetResponse {
-    @SerializedName("asset")
-    private Map<String, Object> rawJson; // Store the full asset JSON
 
-    private AssetPojo assetPojo; 
+    private JsonElement assetJson;
+
+    private AssetPojo assetPojo;
+
+    private TypeAdapter<Map<String, Object>> mapAdapter;
+
+    private Map<String, Object> rawJson;
 
     public AssetPojo getAssetPojo() {
-        if (assetPojo == null && rawJson != null) {
-            assetPojo = new Gson().fromJson(new Gson().toJson(rawJson), AssetPojo.class);
-        }
         return assetPojo;
     }
+
+    /**
+     * Gets the full asset JSON, converted on first use.
+     *
+     * @return the asset as a map, or null if the response has none
+     */
     public Map<String, Object> getRawJson() {
+        if (rawJson == null && assetJson != null) {
+            rawJson = mapAdapter.fromJsonTree(assetJson);
+        }
         return rawJson;
     }
+
     @Override
     public String toString() {
-        return new com.google.gson.GsonBuilder().setPrettyPrinting().create().toJson(this);
+        return GsonProvider.pretty().toJson(this);
     }
-}
 
+    static final class AdapterFactory implements TypeAdapterFactory {
 
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {
+            if (type.getRawType() != AssetResponse.class) {
+                return null;
+            }
+            TypeAdapter<AssetPojo> pojoAdapter = gson.getAdapter(AssetPojo.class);
+            TypeAdapter<Map<String, Object>> mapAdapter = gson.getAdapter(new TypeToken<Map<String, Object>>() {
+            });
+            return (TypeAdapter<T>) new PojoResponseAdapter<>(gson, "asset", false, AssetResponse::new,
+                    (response, value) -> {
+                        response.assetJson = value;
+                        response.assetPojo = pojoAdapter.fromJsonTree(value);
+                        response.mapAdapter = mapAdapter;
+                    }, response -> response.assetJson);
+        }
+    }
+}
@@ -0,0 +1,295 @@
+package com.contentstack.cms.stack;
+
+import com.contentstack.cms.core.ErrorMessages;
+import com.contentstack.cms.core.GsonProvider;
+import com.contentstack.cms.core.RetryConfig;
+import com.contentstack.cms.core.RetryDeadline;
+import com.contentstack.cms.core.RetryUtil;
+import com.contentstack.cms.core.Util;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import okhttp3.MultipartBody;
+import okhttp3.ResponseBody;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import retrofit2.Call;
+import retrofit2.HttpException;
+import retrofit2.Response;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Uploads and replaces asset files with progress reporting, retries and an
+ * optional on-disk {@link UploadSession}.
+ * <p>
+ * Files are streamed from disk in chunks of {@link Builder#chunkSize(int)} bytes,
+ * so a large video is never held in memory and every retry re-reads it from disk.
+ * Failed attempts are retried up to {@link RetryConfig#getRetryLimit()} times with
+ * the configured backoff:
+ * <ul>
+ * <li>a replace ({@code PUT}) is retried after any network failure and after 408,
+ * 429, 502, 503 and 504 responses;</li>
+ * <li>an upload ({@code POST}) is retried after a network failure only when the
+ * file had not been fully sent, and after 429 and 503 responses. Once the whole
+ * file has reached the server the asset may already exist, so the failure is
+ * reported instead of risking a duplicate asset.</li>
+ * </ul>
+ * The uploader owns this policy: its requests are marked with
+ * {@link Util#X_CALLER_RETRIES}, so the client's interceptors send each attempt
+ * once instead of retrying it themselves.
+ * <p>
+ * With a session, each finished upload is recorded on disk and skipped when the
+ * same unchanged file is uploaded again, so an interrupted batch resumes where it
+ * stopped.
+ * <p>
+ * The Content Management API accepts an asset as a single multipart request; it
+ * has no ranged upload endpoint. An attempt interrupted mid-file therefore
+ * restarts from the first chunk.
+ */
+public final class AssetUploader {
+
+    private static final Set<Integer> RETRYABLE_UPLOAD_STATUS =
+            Collections.unmodifiableSet(new HashSet<>(Arrays.asList(429, 503)));
+    private static final Set<Integer> RETRYABLE_REPLACE_STATUS =
+            Collections.unmodifiableSet(new HashSet<>(Arrays.asList(408, 429, 502, 503, 504)));
+
+    private final RetryConfig retryConfig;
+    private final int chunkSize;
+    @Nullable
+    private final UploadSession session;
+    @Nullable
+    private final UploadListener listener;
+    private final FileUploader fileUploader = new FileUploader();
+
+    private AssetUploader(Builder builder) {
+        this.retryConfig = builder.retryConfig;
+        this.chunkSize = builder.chunkSize;
+        this.session = builder.session;
+        this.listener = builder.listener;
+    }
+
+    /**
+     * Uploads a file as a new asset, unless the session already records it.
+     *
+     * @param asset       the asset resource of the target stack, e.g. {@code stack.asset()}
+     * @param filePath    the file path
+     * @param parentUid   the parent folder uid, or null
+     * @param title       the title of asset, or null
+     * @param description description of asset, or null
+     * @param tags        tags array of strings, or null
+     * @return the UID of the uploaded (or previously uploaded) asset
+     * @throws IOException   if the upload fails with a network error
+     * @throws HttpException if the server rejects the upload
+     */
+    public String upload(@NotNull Asset asset, @NotNull String filePath, @Nullable String parentUid,
+                         @Nullable String title, @Nullable String description, @Nullable String[] tags)
+            throws IOException {
+        File file = existingFile(filePath);
+        String key = "upload:" + stackOf(asset) + ":" + file.getCanonicalPath()
+                + (parentUid != null ? "@" + parentUid : "");
+        return send(key, file, false, body -> {
+            MultipartBody form = fileUploader.createMultipartBody(body, file.getName(), parentUid, title,
+                    description, tags);
+            return asset.service.uploadAsset(callerRetried(asset.headers), form, asset.params);
+        });
+    }
+
+    /**
+     * Replaces the file of an existing asset, unless the session already records
+     * the same replacement.
+     *
+     * @param asset       the asset to replace, e.g. {@code stack.asset("asset_uid")}
+     * @param filePath    the file path
+     * @param description the file description
+     * @return the UID of the replaced asset
+     * @throws IOException   if the replacement fails with a network error
+     * @throws HttpException if the server rejects the replacement
+     */
+    public String replace(@NotNull Asset asset, @NotNull String filePath, @NotNull String description)
+            throws IOException {
+        String assetUid = Objects.requireNonNull(asset.getAssetUid(), ErrorMessages.ASSET_UID_REQUIRED);
+        File file = existingFile(filePath);
+        String key = "replace:" + stackOf(asset) + ":" + assetUid + ":" + file.getCanonicalPath();
+        return send(key, file, true,
+                body -> asset.replace(callerRetried(asset.headers), body, file.getName(), description));
+    }
+
+    /**
+     * Identifies the stack and branch of an asset in session keys, so one
+     * session can be shared by several stacks.
+     */
+    private static String stackOf(Asset asset) {
+        Object branch = asset.headers.get(Util.BRANCH);
+        return asset.headers.get(Util.API_KEY) + (branch != null ? "/" + branch : "");
+    }
+
+    private static Map<String, Object> callerRetried(Map<String, Object> headers) {
+        Map<String, Object> marked = new HashMap<>(headers);
+        marked.put(Util.X_CALLER_RETRIES, "true");
+        return marked;
+    }
+
+    private String send(String key, File file, boolean idempotent,
+                        Function<FileUploader.ChunkedFileBody, Call<ResponseBody>> request) throws IOException {
+        if (session != null) {
+            String completed = session.completedAssetUid(key, file);
+            if (completed != null) {
+                return completed;
+            }
+        }
+        Set<Integer> retryableStatus = idempotent ? RETRYABLE_REPLACE_STATUS : RETRYABLE_UPLOAD_STATUS;
+        RetryDeadline deadline = RetryDeadline.start(retryConfig);
+        long previousDelay = 0;
+        for (int retry = 1; ; retry++) {
+            FileUploader.ChunkedFileBody body = fileUploader.chunkedBody(file, listener, chunkSize);
+            Call<ResponseBody> call = request.apply(body);
+            Response<ResponseBody> response;
+            try {
+                response = call.execute();
+            } catch (IOException e) {
+                boolean safe = idempotent || !body.isFullySent();
+                long delay = RetryUtil.calculateDelay(retryConfig, retry, 0, e, null, previousDelay);
+                if (!safe || call.isCanceled() || Thread.currentThread().isInterrupted()
+                        || retry > retryConfig.getRetryLimit() || !deadline.canWait(delay)) {
+                    throw e;
+                }
+                deadline.sleep(delay);
+                previousDelay = delay;
+                continue;
+            }
+            if (response.isSuccessful()) {
+                String assetUid = assetUid(response.body());
+                if (session != null) {
+                    session.complete(key, file, assetUid);
+                }
+                return assetUid;
+            }
+            long delay = RetryUtil.calculateDelay(retryConfig, retry, response.code(), null, response.raw(),
+                    previousDelay);
+            if (!retryableStatus.contains(response.code()) || retry > retryConfig.getRetryLimit()
+                    || !deadline.canWait(delay)) {
+                throw new HttpException(response);
+            }
+            if (response.errorBody() != null) {
+                response.errorBody().close();
+            }
+            deadline.sleep(delay);
+            previousDelay = delay;
+        }
+    }
+
+    private static File existingFile(String filePath) {
+        File file = new File(filePath);
+        if (!file.isFile()) {
+            throw new IllegalArgumentException(ErrorMessages.UPLOAD_FILE_NOT_FOUND + " " + filePath);
+        }
+        return file;
+    }
+
+    private static String assetUid(@Nullable ResponseBody body) throws IOException {
+        if (body == null) {
+            throw new IOException("Asset response has no body");
+        }
+        try (ResponseBody responseBody = body) {
+            JsonObject json = GsonProvider.shared().fromJson(responseBody.charStream(), JsonObject.class);
+            JsonElement asset = json != null ? json.get("asset") : null;
+            if (asset == null || !asset.isJsonObject() || !asset.getAsJsonObject().has("uid")) {
+                throw new IOException("Asset response does not contain asset.uid");
+            }
+            return asset.getAsJsonObject().get("uid").getAsString();
+        } catch (JsonParseException e) {
+            throw new IOException("Asset response is not valid JSON", e);
+        }
+    }
+
+    /**
+     * Creates a new builder.
+     *
+     * @return a builder with the default chunk size and retry configuration
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Builder for {@link AssetUploader}.
+     */
+    public static final class Builder {
+
+        private RetryConfig retryConfig = RetryConfig.defaultConfig();
+        private int chunkSize = FileUploader.DEFAULT_CHUNK_SIZE;
+        private UploadSession session;
+        private UploadListener listener;
+
+        private Builder() {
+        }
+
+        /**
+         * Sets the retry limit, backoff and overall deadline of each upload.
+         * Default: {@link RetryConfig#defaultConfig()}
+         *
+         * @param retryConfig the retry configuration
+         * @return this builder
+         */
+        public Builder retryConfig(@NotNull RetryConfig retryConfig) {
+            this.retryConfig = Objects.requireNonNull(retryConfig, "retryConfig");
+            return this;
+        }
+
+        /**
+         * Sets how many bytes are read from disk and written per chunk.
+         * Default: {@link FileUploader#DEFAULT_CHUNK_SIZE}
+         *
+         * @param chunkSize the chunk size in bytes
+         * @return this builder
+         */
+        public Builder chunkSize(int chunkSize) {
+            if (chunkSize <= 0) {
+                throw new IllegalArgumentException("chunkSize must be positive");
+            }
+            this.chunkSize = chunkSize;
+            return this;
+        }
+
+        /**
+         * Sets the session that records finished uploads on disk.
+         *
+         * @param session the session, or null to upload every file
+         * @return this builder
+         */
+        public Builder session(@Nullable UploadSession session) {
+            this.session = session;
+            return this;
+        }
+
+        /**
+         * Sets the listener notified after each chunk.
+         *
+         * @param listener the listener, or null
+         * @return this builder
+         */
+        public Builder listener(@Nullable UploadListener listener) {
+            this.listener = listener;
+            return this;
+        }
+
+        /**
+         * Builds the uploader.
+         *
+         * @return the uploader
+         */
+        public AssetUploader build() {
+            return new AssetUploader(this);
+        }
+    }
+}
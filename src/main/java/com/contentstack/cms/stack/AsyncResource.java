@@ -0,0 +1,209 @@
+package com.contentstack.cms.stack;
+
+import com.contentstack.cms.core.PriorityExecutor;
+import com.contentstack.cms.core.RequestPriority;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import retrofit2.Call;
+import retrofit2.Callback;
+import retrofit2.HttpException;
+import retrofit2.Response;
+
+import java.io.IOException;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Function;
+
+/**
+ * {@link CompletableFuture} view of a stack resource such as {@link ContentType},
+ * {@link Entry} or {@link Asset}.
+ * <p>
+ * Any method of the wrapped resource that returns a {@link Call} gets a future
+ * sibling through {@link #future(Function)}. The call is sent as soon as the future
+ * is requested: with {@link Call#enqueue(Callback)} by default, or by running the
+ * blocking {@link Call#execute()} on the client's executor when one is configured
+ * (see {@code Contentstack.Builder#setVirtualThreadExecution(boolean)} and
+ * {@code Contentstack.Builder#setAsyncExecutor(Executor)}). Cancelling the future
+ * cancels the HTTP call.
+ *
+ * <pre>{@code
+ * CompletableFuture<ResponseBody> entries = stack.async()
+ *         .contentType("blog_post")
+ *         .child(ContentType::entry)
+ *         .future(Entry::find);
+ * }</pre>
+ *
+ * @param <R> the type of the wrapped resource
+ * @see Stack#async()
+ */
+public final class AsyncResource<R> {
+
+    private final R resource;
+    @Nullable
+    private final Executor executor;
+    private final RequestPriority priority;
+
+    AsyncResource(@NotNull R resource, @Nullable Executor executor) {
+        this(resource, executor, RequestPriority.NORMAL);
+    }
+
+    AsyncResource(@NotNull R resource, @Nullable Executor executor, @NotNull RequestPriority priority) {
+        this.resource = Objects.requireNonNull(resource, "resource");
+        this.executor = executor;
+        this.priority = Objects.requireNonNull(priority, "priority");
+    }
+
+    /**
+     * Gets the wrapped resource, for example to add headers or query parameters.
+     *
+     * @return the wrapped resource
+     */
+    @NotNull
+    public R unwrap() {
+        return resource;
+    }
+
+    /**
+     * Navigates to a child resource, such as the entries of a content type.
+     *
+     * @param navigator function that returns the child resource (for example
+     *                  {@code ContentType::entry})
+     * @param <S>       the type of the child resource
+     * @return a future view of the child resource
+     */
+    @NotNull
+    public <S> AsyncResource<S> child(@NotNull Function<? super R, S> navigator) {
+        return new AsyncResource<>(navigator.apply(resource), executor, priority);
+    }
+
+    /**
+     * Gets a view of the same resource whose calls are queued with the given
+     * priority. Only a {@link PriorityExecutor} set as the client's executor
+     * orders calls by priority; otherwise it has no effect.
+     *
+     * @param priority the priority of calls sent through the returned view
+     * @return a future view of the same resource
+     */
+    @NotNull
+    public AsyncResource<R> withPriority(@NotNull RequestPriority priority) {
+        return new AsyncResource<>(resource, executor, priority);
+    }
+
+    /**
+     * Sends the call and completes with the body of a successful response.
+     * <p>
+     * A non-2xx response completes the future exceptionally with {@link HttpException};
+     * a successful response without a body with {@link NoSuchElementException}.
+     *
+     * @param method the resource method to call (for example {@code Entry::find})
+     * @param <T>    the body type
+     * @return a future of the response body
+     */
+    @NotNull
+    public <T> CompletableFuture<T> future(@NotNull Function<? super R, Call<T>> method) {
+        CompletableFuture<Response<T>> response = response(method);
+        CompletableFuture<T> body = response.thenApply(AsyncResource::bodyOf);
+        // thenApply does not propagate cancellation upstream
+        body.whenComplete((value, error) -> {
+            if (body.isCancelled()) {
+                response.cancel(false);
+            }
+        });
+        return body;
+    }
+
+    /**
+     * Sends the call and completes with the full response, whatever its status code.
+     *
+     * @param method the resource method to call
+     * @param <T>    the body type
+     * @return a future of the response
+     */
+    @NotNull
+    public <T> CompletableFuture<Response<T>> response(@NotNull Function<? super R, Call<T>> method) {
+        return send(method.apply(resource), executor, priority);
+    }
+
+    /**
+     * Sends a call and completes with its response.
+     *
+     * @param call     the call to send
+     * @param executor runs the blocking {@link Call#execute()}, or null to use
+     *                 {@link Call#enqueue(Callback)}
+     * @param <T>      the body type
+     * @return a future of the response; cancelling it cancels the call
+     */
+    static <T> CompletableFuture<Response<T>> send(@NotNull Call<T> call, @Nullable Executor executor) {
+        return send(call, executor, RequestPriority.NORMAL);
+    }
+
+    /**
+     * Sends a call and completes with its response.
+     *
+     * @param call     the call to send
+     * @param executor runs the blocking {@link Call#execute()}, or null to use
+     *                 {@link Call#enqueue(Callback)}
+     * @param priority queue position of the call when {@code executor} is a
+     *                 {@link PriorityExecutor}
+     * @param <T>      the body type
+     * @return a future of the response; cancelling it cancels the call
+     */
+    static <T> CompletableFuture<Response<T>> send(@NotNull Call<T> call, @Nullable Executor executor,
+                                                   @NotNull RequestPriority priority) {
+        CompletableFuture<Response<T>> future = new CompletableFuture<>();
+        future.whenComplete((response, error) -> {
+            if (future.isCancelled()) {
+                call.cancel();
+            }
+        });
+        if (executor == null) {
+            call.enqueue(new Callback<T>() {
+                @Override
+                public void onResponse(@NotNull Call<T> call, @NotNull Response<T> response) {
+                    future.complete(response);
+                }
+
+                @Override
+                public void onFailure(@NotNull Call<T> call, @NotNull Throwable t) {
+                    future.completeExceptionally(t);
+                }
+            });
+            return future;
+        }
+        Runnable task = () -> {
+            if (future.isDone()) {
+                return;
+            }
+            try {
+                future.complete(call.execute());
+            } catch (IOException | RuntimeException e) {
+                future.completeExceptionally(e);
+            }
+        };
+        try {
+            if (executor instanceof PriorityExecutor) {
+                ((PriorityExecutor) executor).execute(priority, task);
+            } else {
+                executor.execute(task);
+            }
+        } catch (RejectedExecutionException e) {
+            future.completeExceptionally(e);
+        }
+        return future;
+    }
+
+    private static <T> T bodyOf(Response<T> response) {
+        if (!response.isSuccessful()) {
+            throw new CompletionException(new HttpException(response));
+        }
+        T body = response.body();
+        if (body == null) {
+            throw new CompletionException(new NoSuchElementException("Response has no body"));
+        }
+        return body;
+    }
+}
@@ -0,0 +1,474 @@
+package com.contentstack.cms.stack;
+
+import com.contentstack.cms.core.RequestPriority;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import retrofit2.Call;
+import retrofit2.Response;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+
+/**
+ * {@link CompletableFuture} entry point for a {@link Stack}, obtained from
+ * {@link Stack#async()}.
+ * <p>
+ * Mirrors the resource factories of {@link Stack}, returning {@link AsyncResource}
+ * views that give every {@code Call}-returning resource method a future sibling.
+ * Stack-level calls such as {@link Stack#find()} are available through
+ * {@link #future(Function)}.
+ *
+ * <pre>{@code
+ * List<CompletableFuture<ResponseBody>> updates = entries.stream()
+ *         .map(e -> stack.async().contentType("blog_post")
+ *                 .child(ct -> ct.entry(e.getUid()))
+ *                 .future(entry -> entry.update(e.toBody())))
+ *         .collect(Collectors.toList());
+ * }</pre>
+ */
+public final class AsyncStack {
+
+    private final Stack stack;
+    @Nullable
+    private final Executor executor;
+    private final RequestPriority priority;
+    private final AsyncResource<Stack> self;
+
+    AsyncStack(@NotNull Stack stack, @Nullable Executor executor) {
+        this(stack, executor, RequestPriority.NORMAL);
+    }
+
+    AsyncStack(@NotNull Stack stack, @Nullable Executor executor, @NotNull RequestPriority priority) {
+        this.stack = stack;
+        this.executor = executor;
+        this.priority = priority;
+        this.self = new AsyncResource<>(stack, executor, priority);
+    }
+
+    /**
+     * Gets a view of the same stack whose calls are queued with the given
+     * priority.
+     *
+     * @param priority the priority of calls sent through the returned view
+     * @return a future view of the same stack
+     * @see Stack#async(RequestPriority)
+     */
+    @NotNull
+    public AsyncStack withPriority(@NotNull RequestPriority priority) {
+        return new AsyncStack(stack, executor, priority);
+    }
+
+    /**
+     * Gets the wrapped stack.
+     *
+     * @return the wrapped stack
+     */
+    @NotNull
+    public Stack unwrap() {
+        return stack;
+    }
+
+    /**
+     * Sends a stack-level call and completes with the body of a successful response.
+     *
+     * @param method the stack method to call (for example {@code Stack::find})
+     * @param <T>    the body type
+     * @return a future of the response body
+     * @see AsyncResource#future(Function)
+     */
+    @NotNull
+    public <T> CompletableFuture<T> future(@NotNull Function<? super Stack, Call<T>> method) {
+        return self.future(method);
+    }
+
+    /**
+     * Sends a stack-level call and completes with the full response, whatever its
+     * status code.
+     *
+     * @param method the stack method to call
+     * @param <T>    the body type
+     * @return a future of the response
+     */
+    @NotNull
+    public <T> CompletableFuture<Response<T>> response(@NotNull Function<? super Stack, Call<T>> method) {
+        return self.response(method);
+    }
+
+    /**
+     * Future view of {@link Stack#contentType()}.
+     *
+     * @return a future view of {@link ContentType}
+     */
+    @NotNull
+    public AsyncResource<ContentType> contentType() {
+        return new AsyncResource<>(stack.contentType(), executor, priority);
+    }
+
+    /**
+     * Future view of {@link Stack#contentType(String)}.
+     *
+     * @param contentTypeUid the content type UID
+     * @return a future view of {@link ContentType}
+     */
+    @NotNull
+    public AsyncResource<ContentType> contentType(@NotNull String contentTypeUid) {
+        return new AsyncResource<>(stack.contentType(contentTypeUid), executor, priority);
+    }
+
+    /**
+     * Future view of {@link Stack#asset()}.
+     *
+     * @return a future view of {@link Asset}
+     */
+    @NotNull
+    public AsyncResource<Asset> asset() {
+        return new AsyncResource<>(stack.asset(), executor, priority);
+    }
+
+    /**
+     * Future view of {@link Stack#asset(String)}.
+     *
+     * @param assetUid the asset UID
+     * @return a future view of {@link Asset}
+     */
+    @NotNull
+    public AsyncResource<Asset> asset(@NotNull String assetUid) {
+        return new AsyncResource<>(stack.asset(assetUid), executor, priority);
+    }
+
+    /**
+     * Future view of {@link Stack#globalField()}.
+     *
+     * @return a future view of {@link GlobalField}
+     */
+    @NotNull
+    public AsyncResource<GlobalField> globalField() {
+        return new AsyncResource<>(stack.globalField(), executor, priority);
+    }
+
+    /**
+     * Future view of {@link Stack#globalField(String)}.
+     *
+     * @param globalFieldUid the global field UID
+     * @return a future view of {@link GlobalField}
+     */
+    @NotNull
+    public AsyncResource<GlobalField> globalField(@NotNull String globalFieldUid) {
+        return new AsyncResource<>(stack.globalField(globalFieldUid), executor, priority);
+    }
+
+    /**
+     * Future view of {@link Stack#variantGroup()}.
+     *
+     * @return a future view of {@link VariantGroup}
+     */
+    @NotNull
+    public AsyncResource<VariantGroup> variantGroup() {
+        return new AsyncResource<>(stack.variantGroup(), executor, priority);
+    }
+
+    /**
+     * Future view of {@link Stack#variantGroup(String)}.
+     *
+     * @param variantGroupUid the variant group UID
+     * @return a future view of {@link VariantGroup}
+     */
+    @NotNull
+    public AsyncResource<VariantGroup> variantGroup(@NotNull String variantGroupUid) {
+        return new AsyncResource<>(stack.variantGroup(variantGroupUid), executor, priority);
+    }
+
+    /**
+     * Future view of {@link Stack#locale()}.
+     *
+     * @return a future view of {@link Locale}
+     */
+    @NotNull
+    public AsyncResource<Locale> locale() {
+        return new AsyncResource<>(stack.locale(), executor, priority);
+    }
+
+    /**
+     * Future view of {@link Stack#locale(String)}.
+     *
+     * @param code the locale code
+     * @return a future view of {@link Locale}
+     */
+    @NotNull
+    public AsyncResource<Locale> locale(@NotNull String code) {
+        return new AsyncResource<>(stack.locale(code), executor, priority);
+    }
+
+    /**
+     * Future view of {@link Stack#environment()}.
+     *
+     * @return a future view of {@link Environment}
+     */
+    @NotNull
+    public AsyncResource<Environment> environment() {
+        return new AsyncResource<>(stack.environment(), executor, priority);
+    }
+
+    /**
+     * Future view of {@link Stack#environment(String)}.
+     *
+     * @param environment the environment name
+     * @return a future view of {@link Environment}
+     */
+    @NotNull
+    public AsyncResource<Environment> environment(@NotNull String environment) {
+        return new AsyncResource<>(stack.environment(environment), executor, priority);
+    }
+
+    /**
+     * Future view of {@link Stack#label()}.
+     *
+     * @return a future view of {@link Label}
+     */
+    @NotNull
+    public AsyncResource<Label> label() {
+        return new AsyncResource<>(stack.label(), executor, priority);
+    }
+
+    /**
+     * Future view of {@link Stack#label(String)}.
+     *
+     * @param labelUid the label UID
+     * @return a future view of {@link Label}
+     */
+    @NotNull
+    public AsyncResource<Label> label(@NotNull String labelUid) {
+        return new AsyncResource<>(stack.label(labelUid), executor, priority);
+    }
+
+    /**
+     * Future view of {@link Stack#extensions()}.
+     *
+     * @return a future view of {@link Extensions}
+     */
+    @NotNull
+    public AsyncResource<Extensions> extensions() {
+        return new AsyncResource<>(stack.extensions(), executor, priority);
+    }
+
+    /**
+     * Future view of {@link Stack#extensions(String)}.
+     *
+     * @param customFieldUid the extension UID
+     * @return a future view of {@link Extensions}
+     */
+    @NotNull
+    public AsyncResource<Extensions> extensions(@NotNull String customFieldUid) {
+        return new AsyncResource<>(stack.extensions(customFieldUid), executor, priority);
+    }
+
+    /**
+     * Future view of {@link Stack#tokens()}.
+     *
+     * @return a future view of {@link Tokens}
+     */
+    @NotNull
+    public AsyncResource<Tokens> tokens() {
+        return new AsyncResource<>(stack.tokens(), executor, priority);
+    }
+
+    /**
+     * Future view of {@link Stack#roles()}.
+     *
+     * @return a future view of {@link Roles}
+     */
+    @NotNull
+    public AsyncResource<Roles> roles() {
+        return new AsyncResource<>(stack.roles(), executor, priority);
+    }
+
+    /**
+     * Future view of {@link Stack#roles(String)}.
+     *
+     * @param roleUid the role UID
+     * @return a future view of {@link Roles}
+     */
+    @NotNull
+    public AsyncResource<Roles> roles(@NotNull String roleUid) {
+        return new AsyncResource<>(stack.roles(roleUid), executor, priority);
+    }
+
+    /**
+     * Future view of {@link Stack#releases()}.
+     *
+     * @return a future view of {@link Release}
+     */
+    @NotNull
+    public AsyncResource<Release> releases() {
+        return new AsyncResource<>(stack.releases(), executor, priority);
+    }
+
+    /**
+     * Future view of {@link Stack#releases(String)}.
+     *
+     * @param releaseUid the release UID
+     * @return a future view of {@link Release}
+     */
+    @NotNull
+    public AsyncResource<Release> releases(@NotNull String releaseUid) {
+        return new AsyncResource<>(stack.releases(releaseUid), executor, priority);
+    }
+
+    /**
+     * Future view of {@link Stack#workflow()}.
+     *
+     * @return a future view of {@link Workflow}
+     */
+    @NotNull
+    public AsyncResource<Workflow> workflow() {
+        return new AsyncResource<>(stack.workflow(), executor, priority);
+    }
+
+    /**
+     * Future view of {@link Stack#workflow(String)}.
+     *
+     * @param workflowUid the workflow UID
+     * @return a future view of {@link Workflow}
+     */
+    @NotNull
+    public AsyncResource<Workflow> workflow(@NotNull String workflowUid) {
+        return new AsyncResource<>(stack.workflow(workflowUid), executor, priority);
+    }
+
+    /**
+     * Future view of {@link Stack#auditLog()}.
+     *
+     * @return a future view of {@link AuditLog}
+     */
+    @NotNull
+    public AsyncResource<AuditLog> auditLog() {
+        return new AsyncResource<>(stack.auditLog(), executor, priority);
+    }
+
+    /**
+     * Future view of {@link Stack#auditLog(String)}.
+     *
+     * @param logItemUid the audit log item UID
+     * @return a future view of {@link AuditLog}
+     */
+    @NotNull
+    public AsyncResource<AuditLog> auditLog(@NotNull String logItemUid) {
+        return new AsyncResource<>(stack.auditLog(logItemUid), executor, priority);
+    }
+
+    /**
+     * Future view of {@link Stack#publishQueue()}.
+     *
+     * @return a future view of {@link PublishQueue}
+     */
+    @NotNull
+    public AsyncResource<PublishQueue> publishQueue() {
+        return new AsyncResource<>(stack.publishQueue(), executor, priority);
+    }
+
+    /**
+     * Future view of {@link Stack#bulkOperation()}.
+     *
+     * @return a future view of {@link BulkOperation}
+     */
+    @NotNull
+    public AsyncResource<BulkOperation> bulkOperation() {
+        return new AsyncResource<>(stack.bulkOperation(), executor, priority);
+    }
+
+    /**
+     * Future view of {@link Stack#publishQueue(String)}.
+     *
+     * @param publishQueueUid the publish queue item UID
+     * @return a future view of {@link PublishQueue}
+     */
+    @NotNull
+    public AsyncResource<PublishQueue> publishQueue(@NotNull String publishQueueUid) {
+        return new AsyncResource<>(stack.publishQueue(publishQueueUid), executor, priority);
+    }
+
+    /**
+     * Future view of {@link Stack#webhook()}.
+     *
+     * @return a future view of {@link Webhook}
+     */
+    @NotNull
+    public AsyncResource<Webhook> webhook() {
+        return new AsyncResource<>(stack.webhook(), executor, priority);
+    }
+
+    /**
+     * Future view of {@link Stack#webhook(String)}.
+     *
+     * @param webhookUid the webhook UID
+     * @return a future view of {@link Webhook}
+     */
+    @NotNull
+    public AsyncResource<Webhook> webhook(@NotNull String webhookUid) {
+        return new AsyncResource<>(stack.webhook(webhookUid), executor, priority);
+    }
+
+    /**
+     * Future view of {@link Stack#branch()}.
+     *
+     * @return a future view of {@link Branch}
+     */
+    @NotNull
+    public AsyncResource<Branch> branch() {
+        return new AsyncResource<>(stack.branch(), executor, priority);
+    }
+
+    /**
+     * Future view of {@link Stack#branch(String)}.
+     *
+     * @param branchUid the branch UID
+     * @return a future view of {@link Branch}
+     */
+    @NotNull
+    public AsyncResource<Branch> branch(@NotNull String branchUid) {
+        return new AsyncResource<>(stack.branch(branchUid), executor, priority);
+    }
+
+    /**
+     * Future view of {@link Stack#alias()}.
+     *
+     * @return a future view of {@link Alias}
+     */
+    @NotNull
+    public AsyncResource<Alias> alias() {
+        return new AsyncResource<>(stack.alias(), executor, priority);
+    }
+
+    /**
+     * Future view of {@link Stack#alias(String)}.
+     *
+     * @param aliasUid the alias UID
+     * @return a future view of {@link Alias}
+     */
+    @NotNull
+    public AsyncResource<Alias> alias(@NotNull String aliasUid) {
+        return new AsyncResource<>(stack.alias(aliasUid), executor, priority);
+    }
+
+    /**
+     * Future view of {@link Stack#taxonomy()}.
+     *
+     * @return a future view of {@link Taxonomy}
+     */
+    @NotNull
+    public AsyncResource<Taxonomy> taxonomy() {
+        return new AsyncResource<>(stack.taxonomy(), executor, priority);
+    }
+
+    /**
+     * Future view of {@link Stack#taxonomy(String)}.
+     *
+     * @param taxonomyUid the taxonomy UID
+     * @return a future view of {@link Taxonomy}
+     */
+    @NotNull
+    public AsyncResource<Taxonomy> taxonomy(@NotNull String taxonomyUid) {
+        return new AsyncResource<>(stack.taxonomy(taxonomyUid), executor, priority);
+    }
+}
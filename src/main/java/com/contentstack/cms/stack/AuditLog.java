@@ -3,6 +3,7 @@ package com.contentstack.cms.stack;
 import com.contentstack.cms.core.ErrorMessages;
 
 import com.contentstack.cms.BaseImplementation;
+import com.google.gson.JsonObject;
 import okhttp3.ResponseBody;
 import org.jetbrains.annotations.NotNull;
 import retrofit2.Call;
@@ -11,6 +12,7 @@ import retrofit2.Retrofit;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
+import java.util.stream.Stream;
 
 /**
  * Audit log displays a record of all the activities performed in a stack and
@@ -107,6 +109,36 @@ public class AuditLog implements BaseImplementation<AuditLog> {
         return this.service.fetch(this.headers, this.params);
     }
 
+    /**
+     * Lazily iterates over every audit log item matching the current query parameters,
+     * requesting {@code pageSize} items per call to {@link #find()} and
+     * prefetching the next page while the current one is processed. The total
+     * reported through {@code include_count} is available from
+     * {@link PagedIterator#getTotalCount()}.
+     * <p>
+     * The {@code skip}, {@code limit} and {@code include_count} query parameters
+     * of this instance are managed by the iterator, so it should not be used for
+     * other calls while iterating.
+     *
+     * @param pageSize items per page, between 1 and 100
+     * @return an iterator over the audit log items
+     */
+    public PagedIterator iterator(int pageSize) {
+        return new PagedIterator(Pagination.of(this, this::find), "logs", pageSize);
+    }
+
+    /**
+     * Streams every audit log item matching the current query parameters, page by page.
+     * Close the stream when stopping early so the prefetched page is cancelled.
+     *
+     * @param pageSize items per page, between 1 and 100
+     * @return a sequential stream of the audit log items
+     * @see #iterator(int)
+     */
+    public Stream<JsonObject> stream(int pageSize) {
+        return iterator(pageSize).stream();
+    }
+
     /**
      * The Get audit log item request is used to retrieve a specific item from the
      * audit log of a stack.
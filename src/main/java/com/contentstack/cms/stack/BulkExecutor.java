@@ -0,0 +1,345 @@
+package com.contentstack.cms.stack;
+
+import com.contentstack.cms.core.RequestPriority;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import okhttp3.ResponseBody;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.json.simple.JSONArray;
+import org.json.simple.JSONObject;
+import retrofit2.Call;
+import retrofit2.Response;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Function;
+
+/**
+ * Runs bulk publish, unpublish, delete and workflow updates over any number of
+ * entries and assets.
+ * <p>
+ * The items are split into chunks of at most {@link #withChunkSize(int) chunkSize}
+ * items, the per-request limit of the bulk API, and the chunks are sent through
+ * {@link BulkOperation} with up to {@link #withParallelism(int) parallelism}
+ * requests in flight. Requests go through the client's interceptors, so a
+ * configured {@code RateLimiter} and {@code RetryConfig} apply to every chunk.
+ * The returned future completes once every chunk has been answered, with the
+ * outcome of each item and the UIDs of the jobs the server queued; a rejected
+ * chunk fails only its own items. Cancelling the future stops sending chunks and
+ * cancels those in flight.
+ *
+ * <pre>{@code
+ * JSONObject target = new JSONObject();
+ * target.put("locales", Collections.singletonList("en-us"));
+ * target.put("environments", Collections.singletonList("production"));
+ *
+ * BulkResult result = stack.bulkExecutor()
+ *         .withParallelism(8)
+ *         .publish(items, target)
+ *         .join();
+ * result.getFailed().forEach(failure -> log(failure));
+ * }</pre>
+ */
+public final class BulkExecutor {
+
+    /**
+     * Items per request accepted by the bulk API.
+     */
+    static final int DEFAULT_CHUNK_SIZE = 10;
+    static final int DEFAULT_PARALLELISM = 4;
+
+    static final String ENTRIES = "entries";
+    static final String ASSETS = "assets";
+    static final String JOB_ID = "job_id";
+
+    private final BulkOperation bulkOperation;
+    @Nullable
+    private final Executor executor;
+    private final RequestPriority priority;
+    private final int chunkSize;
+    private final int parallelism;
+
+    BulkExecutor(@NotNull BulkOperation bulkOperation, @Nullable Executor executor) {
+        this(bulkOperation, executor, RequestPriority.BACKGROUND, DEFAULT_CHUNK_SIZE, DEFAULT_PARALLELISM);
+    }
+
+    private BulkExecutor(BulkOperation bulkOperation, @Nullable Executor executor, RequestPriority priority,
+                         int chunkSize, int parallelism) {
+        this.bulkOperation = bulkOperation;
+        this.executor = executor;
+        this.priority = priority;
+        this.chunkSize = chunkSize;
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Gets the bulk operation the chunks are sent through, for example to add
+     * an {@code api_version} header or query parameters.
+     *
+     * @return the bulk operation
+     */
+    @NotNull
+    public BulkOperation unwrap() {
+        return bulkOperation;
+    }
+
+    /**
+     * Gets an executor that sends at most {@code chunkSize} items per request.
+     * Default: 10
+     *
+     * @param chunkSize the items per request
+     * @return the executor
+     * @throws IllegalArgumentException if {@code chunkSize} is not positive
+     */
+    @NotNull
+    public BulkExecutor withChunkSize(int chunkSize) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("chunkSize must be positive.");
+        }
+        return new BulkExecutor(bulkOperation, executor, priority, chunkSize, parallelism);
+    }
+
+    /**
+     * Gets an executor that keeps at most {@code parallelism} requests in flight.
+     * Default: 4
+     *
+     * @param parallelism the concurrent requests
+     * @return the executor
+     * @throws IllegalArgumentException if {@code parallelism} is not positive
+     */
+    @NotNull
+    public BulkExecutor withParallelism(int parallelism) {
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("parallelism must be positive.");
+        }
+        return new BulkExecutor(bulkOperation, executor, priority, chunkSize, parallelism);
+    }
+
+    /**
+     * Gets an executor whose requests are queued with the given priority on a
+     * {@link com.contentstack.cms.core.PriorityExecutor}. Default:
+     * {@link RequestPriority#BACKGROUND}
+     *
+     * @param priority the priority of the requests
+     * @return the executor
+     */
+    @NotNull
+    public BulkExecutor withPriority(@NotNull RequestPriority priority) {
+        return new BulkExecutor(bulkOperation, executor, Objects.requireNonNull(priority, "priority"),
+                chunkSize, parallelism);
+    }
+
+    /**
+     * Publishes entries and assets.
+     *
+     * @param items  the entries and assets
+     * @param target the rest of the request body, such as {@code locales},
+     *               {@code environments} or {@code scheduled_at}
+     * @return a future of the outcome of every item
+     * @see BulkOperation#publish(JSONObject)
+     */
+    @NotNull
+    public CompletableFuture<BulkResult> publish(@NotNull List<BulkItem> items, @NotNull JSONObject target) {
+        return run(items, chunk -> bulkOperation.publish(body(target, chunk)));
+    }
+
+    /**
+     * Unpublishes entries and assets.
+     *
+     * @param items  the entries and assets
+     * @param target the rest of the request body, such as {@code locales} and
+     *               {@code environments}
+     * @return a future of the outcome of every item
+     * @see BulkOperation#unpublish(JSONObject)
+     */
+    @NotNull
+    public CompletableFuture<BulkResult> unpublish(@NotNull List<BulkItem> items, @NotNull JSONObject target) {
+        return run(items, chunk -> bulkOperation.unpublish(body(target, chunk)));
+    }
+
+    /**
+     * Deletes entries and assets.
+     *
+     * @param items the entries and assets
+     * @return a future of the outcome of every item
+     * @see BulkOperation#delete(JSONObject)
+     */
+    @NotNull
+    public CompletableFuture<BulkResult> delete(@NotNull List<BulkItem> items) {
+        return run(items, chunk -> bulkOperation.delete(body(new JSONObject(), chunk)));
+    }
+
+    /**
+     * Changes the workflow stage of entries.
+     *
+     * @param items    the entries
+     * @param workflow the rest of the request body, i.e. the {@code workflow} object
+     * @return a future of the outcome of every item
+     * @see BulkOperation#updateWorkflow(JSONObject)
+     */
+    @NotNull
+    public CompletableFuture<BulkResult> updateWorkflow(@NotNull List<BulkItem> items, @NotNull JSONObject workflow) {
+        return run(items, chunk -> bulkOperation.updateWorkflow(body(workflow, chunk)));
+    }
+
+    private CompletableFuture<BulkResult> run(List<BulkItem> items, Function<List<BulkItem>, Call<ResponseBody>> send) {
+        List<List<BulkItem>> chunks = new ArrayList<>();
+        for (int from = 0; from < items.size(); from += chunkSize) {
+            chunks.add(Collections.unmodifiableList(
+                    new ArrayList<>(items.subList(from, Math.min(items.size(), from + chunkSize)))));
+        }
+        Run run = new Run(chunks, send);
+        if (chunks.isEmpty()) {
+            run.result.complete(new BulkResult(Collections.emptyList()));
+            return run.result;
+        }
+        pump(run);
+        return run.result;
+    }
+
+    /**
+     * Sends chunks until {@code parallelism} are in flight. A completion calls it
+     * again; calls made while another thread (or an outer frame) is pumping only
+     * request another pass, so synchronous completions do not recurse.
+     */
+    private void pump(Run run) {
+        if (run.wip.getAndIncrement() != 0) {
+            return;
+        }
+        do {
+            while (!run.result.isDone() && run.active.get() < parallelism && run.next.get() < run.chunks.size()) {
+                int index = run.next.getAndIncrement();
+                run.active.incrementAndGet();
+                send(run, index);
+            }
+        } while (run.wip.decrementAndGet() != 0);
+    }
+
+    private void send(Run run, int index) {
+        List<BulkItem> chunk = run.chunks.get(index);
+        CompletableFuture<Response<ResponseBody>> response;
+        try {
+            response = AsyncResource.send(run.send.apply(chunk), executor, priority);
+        } catch (RuntimeException e) {
+            response = new CompletableFuture<>();
+            response.completeExceptionally(e);
+        }
+        run.inFlight.add(response);
+        CompletableFuture<Response<ResponseBody>> sent = response;
+        sent.whenComplete((value, error) -> {
+            run.inFlight.remove(sent);
+            run.outcomes.set(index, outcomes(chunk, value, error));
+            run.active.decrementAndGet();
+            if (run.remaining.decrementAndGet() == 0) {
+                List<BulkResult.Outcome> all = new ArrayList<>();
+                for (int i = 0; i < run.outcomes.length(); i++) {
+                    all.addAll(run.outcomes.get(i));
+                }
+                run.result.complete(new BulkResult(all));
+            } else {
+                pump(run);
+            }
+        });
+    }
+
+    static List<BulkResult.Outcome> outcomes(List<BulkItem> chunk, @Nullable Response<ResponseBody> response,
+                                             @Nullable Throwable error) {
+        boolean success = false;
+        String jobUid = null;
+        int statusCode = 0;
+        String message;
+        if (response == null) {
+            message = error != null ? String.valueOf(error.getMessage()) : "No response";
+        } else {
+            statusCode = response.code();
+            JsonObject json = read(response.isSuccessful() ? response.body() : response.errorBody());
+            success = response.isSuccessful();
+            jobUid = success ? string(json, JOB_ID) : null;
+            message = success ? null : string(json, "error_message");
+            if (!success && message == null) {
+                message = response.message();
+            }
+        }
+        List<BulkResult.Outcome> outcomes = new ArrayList<>(chunk.size());
+        for (BulkItem item : chunk) {
+            outcomes.add(new BulkResult.Outcome(item, success, jobUid, statusCode, message));
+        }
+        return outcomes;
+    }
+
+    @Nullable
+    private static JsonObject read(@Nullable ResponseBody body) {
+        if (body == null) {
+            return null;
+        }
+        try (ResponseBody closing = body) {
+            JsonElement root = JsonParser.parseString(closing.string());
+            return root.isJsonObject() ? root.getAsJsonObject() : null;
+        } catch (IOException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    @Nullable
+    private static String string(@Nullable JsonObject json, String key) {
+        JsonElement value = json != null ? json.get(key) : null;
+        return value != null && value.isJsonPrimitive() ? value.getAsString() : null;
+    }
+
+    @SuppressWarnings("unchecked")
+    static JSONObject body(JSONObject template, List<BulkItem> chunk) {
+        JSONObject body = new JSONObject();
+        body.putAll(template);
+        JSONArray entries = new JSONArray();
+        JSONArray assets = new JSONArray();
+        for (BulkItem item : chunk) {
+            (item.isAsset() ? assets : entries).add(item.toJson());
+        }
+        body.remove(ENTRIES);
+        body.remove(ASSETS);
+        if (!entries.isEmpty()) {
+            body.put(ENTRIES, entries);
+        }
+        if (!assets.isEmpty()) {
+            body.put(ASSETS, assets);
+        }
+        return body;
+    }
+
+    private static final class Run {
+        private final List<List<BulkItem>> chunks;
+        private final Function<List<BulkItem>, Call<ResponseBody>> send;
+        private final AtomicInteger next = new AtomicInteger();
+        private final AtomicInteger active = new AtomicInteger();
+        private final AtomicInteger wip = new AtomicInteger();
+        private final AtomicInteger remaining;
+        private final AtomicReferenceArray<List<BulkResult.Outcome>> outcomes;
+        private final Set<CompletableFuture<?>> inFlight = ConcurrentHashMap.newKeySet();
+        private final CompletableFuture<BulkResult> result = new CompletableFuture<>();
+
+        Run(List<List<BulkItem>> chunks, Function<List<BulkItem>, Call<ResponseBody>> send) {
+            this.chunks = chunks;
+            this.send = send;
+            this.remaining = new AtomicInteger(chunks.size());
+            this.outcomes = new AtomicReferenceArray<>(chunks.size());
+            result.whenComplete((value, error) -> {
+                if (result.isCancelled()) {
+                    for (CompletableFuture<?> call : inFlight) {
+                        call.cancel(false);
+                    }
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package com.contentstack.cms.stack;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.json.simple.JSONObject;
+
+import java.util.Objects;
+
+/**
+ * Reference to one entry or asset in a bulk operation.
+ *
+ * @see BulkExecutor
+ */
+public final class BulkItem {
+
+    @Nullable
+    private final String contentTypeUid;
+    private final String uid;
+    @Nullable
+    private final String locale;
+    @Nullable
+    private final Integer version;
+
+    private BulkItem(@Nullable String contentTypeUid, @NotNull String uid, @Nullable String locale,
+                     @Nullable Integer version) {
+        this.contentTypeUid = contentTypeUid;
+        this.uid = Objects.requireNonNull(uid, "uid");
+        this.locale = locale;
+        this.version = version;
+    }
+
+    /**
+     * References an entry in the stack's master locale.
+     *
+     * @param contentTypeUid the content type UID
+     * @param entryUid       the entry UID
+     * @return the item
+     */
+    public static BulkItem entry(@NotNull String contentTypeUid, @NotNull String entryUid) {
+        return entry(contentTypeUid, entryUid, null);
+    }
+
+    /**
+     * References an entry in a locale.
+     *
+     * @param contentTypeUid the content type UID
+     * @param entryUid       the entry UID
+     * @param locale         the locale code, or null for the master locale
+     * @return the item
+     */
+    public static BulkItem entry(@NotNull String contentTypeUid, @NotNull String entryUid, @Nullable String locale) {
+        return new BulkItem(Objects.requireNonNull(contentTypeUid, "contentTypeUid"), entryUid, locale, null);
+    }
+
+    /**
+     * References an asset.
+     *
+     * @param assetUid the asset UID
+     * @return the item
+     */
+    public static BulkItem asset(@NotNull String assetUid) {
+        return new BulkItem(null, assetUid, null, null);
+    }
+
+    /**
+     * Gets a copy of this item that references a specific version, as required
+     * for entries added to a release.
+     *
+     * @param version the entry or asset version
+     * @return the item
+     * @throws IllegalArgumentException if {@code version} is not positive
+     */
+    public BulkItem withVersion(int version) {
+        if (version <= 0) {
+            throw new IllegalArgumentException("version must be positive.");
+        }
+        return new BulkItem(contentTypeUid, uid, locale, version);
+    }
+
+    public boolean isAsset() {
+        return contentTypeUid == null;
+    }
+
+    @Nullable
+    public String getContentTypeUid() {
+        return contentTypeUid;
+    }
+
+    public String getUid() {
+        return uid;
+    }
+
+    @Nullable
+    public String getLocale() {
+        return locale;
+    }
+
+    /**
+     * @return the referenced version, or null for the latest one
+     */
+    @Nullable
+    public Integer getVersion() {
+        return version;
+    }
+
+    /**
+     * Builds the item as it appears in the {@code entries} or {@code assets}
+     * array of a bulk request body.
+     *
+     * @return the item object
+     */
+    @SuppressWarnings("unchecked")
+    JSONObject toJson() {
+        JSONObject json = new JSONObject();
+        json.put("uid", uid);
+        if (contentTypeUid != null) {
+            json.put("content_type", contentTypeUid);
+        }
+        if (locale != null) {
+            json.put("locale", locale);
+        }
+        if (version != null) {
+            json.put("version", version);
+        }
+        return json;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof BulkItem)) {
+            return false;
+        }
+        BulkItem other = (BulkItem) o;
+        return uid.equals(other.uid) && Objects.equals(contentTypeUid, other.contentTypeUid)
+                && Objects.equals(locale, other.locale) && Objects.equals(version, other.version);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(contentTypeUid, uid, locale, version);
+    }
+
+    @Override
+    public String toString() {
+        String text = isAsset() ? "asset " + uid : "entry " + contentTypeUid + "/" + uid;
+        if (version != null) {
+            text += " v" + version;
+        }
+        return locale != null ? text + " (" + locale + ")" : text;
+    }
+}
@@ -0,0 +1,172 @@
+package com.contentstack.cms.stack;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Outcome of a {@link BulkExecutor} operation: one {@link Outcome} per item, in
+ * the order the items were given, and the UIDs of the jobs the server queued.
+ */
+public final class BulkResult {
+
+    private final List<Outcome> outcomes;
+    private final List<String> jobUids;
+    private final List<BulkItem> skipped;
+
+    BulkResult(@NotNull List<Outcome> outcomes) {
+        this(outcomes, Collections.emptyList());
+    }
+
+    BulkResult(@NotNull List<Outcome> outcomes, @NotNull List<BulkItem> skipped) {
+        this.outcomes = Collections.unmodifiableList(outcomes);
+        this.skipped = Collections.unmodifiableList(skipped);
+        Set<String> jobs = new LinkedHashSet<>();
+        for (Outcome outcome : outcomes) {
+            if (outcome.jobUid != null) {
+                jobs.add(outcome.jobUid);
+            }
+        }
+        this.jobUids = Collections.unmodifiableList(new ArrayList<>(jobs));
+    }
+
+    /**
+     * Gets the outcome of every item.
+     *
+     * @return the outcomes, in item order
+     */
+    public List<Outcome> getOutcomes() {
+        return outcomes;
+    }
+
+    /**
+     * Gets the items the server accepted.
+     *
+     * @return the accepted items
+     */
+    public List<BulkItem> getSucceeded() {
+        List<BulkItem> succeeded = new ArrayList<>();
+        for (Outcome outcome : outcomes) {
+            if (outcome.success) {
+                succeeded.add(outcome.item);
+            }
+        }
+        return succeeded;
+    }
+
+    /**
+     * Gets the outcomes of the items the server rejected or that could not be sent.
+     *
+     * @return the failed outcomes
+     */
+    public List<Outcome> getFailed() {
+        List<Outcome> failed = new ArrayList<>();
+        for (Outcome outcome : outcomes) {
+            if (!outcome.success) {
+                failed.add(outcome);
+            }
+        }
+        return failed;
+    }
+
+    /**
+     * Gets the UIDs of the jobs the server queued, for {@link BulkOperation#jobStatus(String)}.
+     *
+     * @return the job UIDs, without duplicates
+     */
+    public List<String> getJobUids() {
+        return jobUids;
+    }
+
+    /**
+     * Gets the items that were not sent because they needed no change, such as
+     * items already in a release.
+     *
+     * @return the skipped items, in the order they were given
+     * @see ReleaseAssembler
+     */
+    public List<BulkItem> getSkipped() {
+        return skipped;
+    }
+
+    /**
+     * Checks whether every item was accepted.
+     *
+     * @return true if no item failed
+     */
+    public boolean isSuccessful() {
+        for (Outcome outcome : outcomes) {
+            if (!outcome.success) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public String toString() {
+        return "BulkResult{items=" + outcomes.size() + ", failed=" + getFailed().size() + ", skipped=" + skipped.size()
+                + ", jobs=" + jobUids + "}";
+    }
+
+    /**
+     * Outcome of one item: accepted with the job that handles it, or failed with
+     * the status code and error of its chunk.
+     */
+    public static final class Outcome {
+        private final BulkItem item;
+        private final boolean success;
+        @Nullable
+        private final String jobUid;
+        private final int statusCode;
+        @Nullable
+        private final String errorMessage;
+
+        Outcome(@NotNull BulkItem item, boolean success, @Nullable String jobUid, int statusCode,
+                @Nullable String errorMessage) {
+            this.item = item;
+            this.success = success;
+            this.jobUid = jobUid;
+            this.statusCode = statusCode;
+            this.errorMessage = errorMessage;
+        }
+
+        public BulkItem getItem() {
+            return item;
+        }
+
+        public boolean isSuccess() {
+            return success;
+        }
+
+        /**
+         * @return the job that handles the item, or null if the server queued none
+         */
+        @Nullable
+        public String getJobUid() {
+            return jobUid;
+        }
+
+        /**
+         * @return the HTTP status of the item's chunk, or 0 if no response was received
+         */
+        public int getStatusCode() {
+            return statusCode;
+        }
+
+        @Nullable
+        public String getErrorMessage() {
+            return errorMessage;
+        }
+
+        @Override
+        public String toString() {
+            return item + (success ? " ok" : " failed (" + statusCode + "): " + errorMessage);
+        }
+    }
+}
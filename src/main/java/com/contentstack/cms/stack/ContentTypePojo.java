@@ -26,4 +26,31 @@ public class ContentTypePojo {
     @SerializedName("options")
     protected Map<String, Object> options;
 
+    public String getTitle() {
+        return title;
+    }
+
+    public String getUid() {
+        return uid;
+    }
+
+    public JSONArray getSchema() {
+        return schema;
+    }
+
+    public JSONArray getFieldRules() {
+        return fieldRules;
+    }
+
+    public int getVersion() {
+        return version;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public Map<String, Object> getOptions() {
+        return options;
+    }
 }
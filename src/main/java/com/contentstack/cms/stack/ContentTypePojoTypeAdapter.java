@@ -0,0 +1,107 @@
+package com.contentstack.cms.stack;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import org.jetbrains.annotations.NotNull;
+import org.json.simple.JSONArray;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reads and writes {@link ContentTypePojo} without reflection. {@code schema},
+ * {@code field_rules} and {@code options} are read with the given Gson's
+ * {@code Object} adapter; keys the POJO does not map are skipped.
+ */
+public final class ContentTypePojoTypeAdapter extends TypeAdapter<ContentTypePojo> {
+
+    private final TypeAdapter<List<Object>> listAdapter;
+    private final TypeAdapter<Map<String, Object>> mapAdapter;
+
+    /**
+     * Creates an adapter that reads nested values with the given Gson.
+     *
+     * @param gson the Gson whose adapters handle nested values
+     */
+    public ContentTypePojoTypeAdapter(@NotNull Gson gson) {
+        this.listAdapter = gson.getAdapter(new TypeToken<List<Object>>() {
+        });
+        this.mapAdapter = gson.getAdapter(new TypeToken<Map<String, Object>>() {
+        });
+    }
+
+    @Override
+    public ContentTypePojo read(JsonReader in) throws IOException {
+        ContentTypePojo pojo = new ContentTypePojo();
+        in.beginObject();
+        while (in.hasNext()) {
+            String name = in.nextName();
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                continue;
+            }
+            switch (name) {
+                case "title":
+                    pojo.title = in.nextString();
+                    break;
+                case "uid":
+                    pojo.uid = in.nextString();
+                    break;
+                case "schema":
+                    pojo.schema = readArray(in);
+                    break;
+                case "field_rules":
+                    pojo.fieldRules = readArray(in);
+                    break;
+                case "_version":
+                    pojo.version = in.nextInt();
+                    break;
+                case "description":
+                    pojo.description = in.nextString();
+                    break;
+                case "options":
+                    pojo.options = mapAdapter.read(in);
+                    break;
+                default:
+                    in.skipValue();
+            }
+        }
+        in.endObject();
+        return pojo;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void write(JsonWriter out, ContentTypePojo pojo) throws IOException {
+        out.beginObject();
+        out.name("title").value(pojo.title);
+        out.name("uid").value(pojo.uid);
+        if (pojo.schema != null) {
+            out.name("schema");
+            listAdapter.write(out, pojo.schema);
+        }
+        if (pojo.fieldRules != null) {
+            out.name("field_rules");
+            listAdapter.write(out, pojo.fieldRules);
+        }
+        out.name("_version").value(pojo.version);
+        out.name("description").value(pojo.description);
+        if (pojo.options != null) {
+            out.name("options");
+            mapAdapter.write(out, pojo.options);
+        }
+        out.endObject();
+    }
+
+    @SuppressWarnings("unchecked")
+    private JSONArray readArray(JsonReader in) throws IOException {
+        JSONArray array = new JSONArray();
+        array.addAll(listAdapter.read(in));
+        return array;
+    }
+}
@@ -2,26 +2,68 @@ package com.contentstack.cms.stack;
 
 import java.util.Map;
 
+import com.contentstack.cms.core.GsonProvider;
 import com.google.gson.Gson;
-import com.google.gson.annotations.SerializedName;
+import com.google.gson.JsonElement;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.annotations.JsonAdapter;
+import com.google.gson.reflect.TypeToken;
 
+/**
+ * Response of {@link ContentType#fetchAsPojo()}. The content type is parsed
+ * once, and {@link ContentTypePojo} is read from it by the adapter registered on
+ * the client's Gson.
+ */
+@JsonAdapter(ContentTypeResponse.AdapterFactory.class)
 public class ContentTypeResponse {
-    @SerializedName("content_type")
-    private Map<String, Object> rawJson; // Store the full contentType JSON
 
-    private ContentTypePojo contentPojo; 
+    private JsonElement contentTypeJson;
+
+    private ContentTypePojo contentPojo;
+
+    private TypeAdapter<Map<String, Object>> mapAdapter;
+
+    private Map<String, Object> rawJson;
 
     public ContentTypePojo getContentPojo() {
-        if (contentPojo == null && rawJson != null) {
-            contentPojo = new Gson().fromJson(new Gson().toJson(rawJson), ContentTypePojo.class);
-        }
         return contentPojo;
     }
+
+    /**
+     * Gets the full content type JSON, converted on first use.
+     *
+     * @return the content type as a map, or null if the response has none
+     */
     public Map<String, Object> getRawJson() {
+        if (rawJson == null && contentTypeJson != null) {
+            rawJson = mapAdapter.fromJsonTree(contentTypeJson);
+        }
         return rawJson;
     }
+
     @Override
     public String toString() {
-        return new com.google.gson.GsonBuilder().setPrettyPrinting().create().toJson(this);
+        return GsonProvider.pretty().toJson(this);
+    }
+
+    static final class AdapterFactory implements TypeAdapterFactory {
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {
+            if (type.getRawType() != ContentTypeResponse.class) {
+                return null;
+            }
+            TypeAdapter<ContentTypePojo> pojoAdapter = gson.getAdapter(ContentTypePojo.class);
+            TypeAdapter<Map<String, Object>> mapAdapter = gson.getAdapter(new TypeToken<Map<String, Object>>() {
+            });
+            return (TypeAdapter<T>) new PojoResponseAdapter<>(gson, "content_type", false,
+                    ContentTypeResponse::new, (response, value) -> {
+                        response.contentTypeJson = value;
+                        response.contentPojo = pojoAdapter.fromJsonTree(value);
+                        response.mapAdapter = mapAdapter;
+                    }, response -> response.contentTypeJson);
+        }
     }
 }
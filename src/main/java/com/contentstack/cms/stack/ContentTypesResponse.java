@@ -1,31 +1,76 @@
 package com.contentstack.cms.stack;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
+import com.contentstack.cms.core.GsonProvider;
 import com.google.gson.Gson;
-import com.google.gson.annotations.SerializedName;
+import com.google.gson.JsonElement;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.annotations.JsonAdapter;
 import com.google.gson.reflect.TypeToken;
 
+/**
+ * Response of {@link ContentType#findAsPojo()}. The {@code content_types} array
+ * is parsed once, and each {@link ContentTypePojo} is read from it by the adapter
+ * registered on the client's Gson.
+ */
+@JsonAdapter(ContentTypesResponse.AdapterFactory.class)
 public class ContentTypesResponse {
-    @SerializedName("content_types")
-    private List<Map<String, Object>> rawJson;
 
-    private transient List<ContentTypePojo> contentTypes;
+    private JsonElement contentTypesJson;
+
+    private List<ContentTypePojo> contentTypes;
+
+    private TypeAdapter<List<Map<String, Object>>> listAdapter;
+
+    private List<Map<String, Object>> rawJson;
 
     public List<ContentTypePojo> getContentTypes() {
-        if (contentTypes == null && rawJson != null) {
-            contentTypes = new Gson().fromJson(new Gson().toJsonTree(rawJson), new TypeToken<List<ContentTypePojo>>(){}.getType());
-        }
         return contentTypes;
     }
 
+    /**
+     * Gets the full content types JSON, converted on first use.
+     *
+     * @return the content types as maps, or null if the response has none
+     */
     public List<Map<String, Object>> getRawJson() {
+        if (rawJson == null && contentTypesJson != null) {
+            rawJson = listAdapter.fromJsonTree(contentTypesJson);
+        }
         return rawJson;
     }
 
     @Override
     public String toString() {
-        return new com.google.gson.GsonBuilder().setPrettyPrinting().create().toJson(this);
+        return GsonProvider.pretty().toJson(this);
+    }
+
+    static final class AdapterFactory implements TypeAdapterFactory {
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {
+            if (type.getRawType() != ContentTypesResponse.class) {
+                return null;
+            }
+            TypeAdapter<ContentTypePojo> pojoAdapter = gson.getAdapter(ContentTypePojo.class);
+            TypeAdapter<List<Map<String, Object>>> listAdapter =
+                    gson.getAdapter(new TypeToken<List<Map<String, Object>>>() {
+                    });
+            return (TypeAdapter<T>) new PojoResponseAdapter<>(gson, "content_types", true,
+                    ContentTypesResponse::new, (response, value) -> {
+                        List<ContentTypePojo> contentTypes = new ArrayList<>();
+                        for (JsonElement contentType : value.getAsJsonArray()) {
+                            contentTypes.add(pojoAdapter.fromJsonTree(contentType));
+                        }
+                        response.contentTypesJson = value;
+                        response.contentTypes = contentTypes;
+                        response.listAdapter = listAdapter;
+                    }, response -> response.contentTypesJson);
+        }
     }
 }
@@ -4,6 +4,7 @@ import com.contentstack.cms.core.ErrorMessages;
 import com.contentstack.cms.core.Util;
 
 import com.contentstack.cms.BaseImplementation;
+import com.google.gson.JsonObject;
 import okhttp3.ResponseBody;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -17,6 +18,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.stream.Stream;
 
 /**
  * An entry is the actual piece of content created using one of the defined
@@ -248,6 +250,41 @@ public class Entry implements BaseImplementation<Entry> {
         return this.service.fetchPojo(this.headers, this.contentTypeUid, this.params);
     }
 
+    /**
+     * Lazily iterates over every entry matching the current query parameters,
+     * requesting {@code pageSize} items per call to {@link #find()} and
+     * prefetching the next page while the current one is processed. The total
+     * reported through {@code include_count} is available from
+     * {@link PagedIterator#getTotalCount()}.
+     * <p>
+     * The {@code skip}, {@code limit} and {@code include_count} query parameters
+     * of this instance are managed by the iterator, so it should not be used for
+     * other calls while iterating.
+     *
+     * @param pageSize items per page, between 1 and 100
+     * @return an iterator over the entries
+     */
+    public PagedIterator iterator(int pageSize) {
+        return new PagedIterator(Pagination.of(this, this::find), "entries", pageSize);
+    }
+
+    /**
+     * Streams every entry matching the current query parameters, page by page.
+     * Close the stream when stopping early so the prefetched page is cancelled.
+     * <pre>{@code
+     * try (Stream<JsonObject> entries = stack.contentType("blog_post").entry().stream(100)) {
+     *     entries.forEach(entry -> export(entry));
+     * }
+     * }</pre>
+     *
+     * @param pageSize items per page, between 1 and 100
+     * @return a sequential stream of the entries
+     * @see #iterator(int)
+     */
+    public Stream<JsonObject> stream(int pageSize) {
+        return iterator(pageSize).stream();
+    }
+
     /**
      * <b>The Get a single entry request fetches a particular entry of a content
      * type.</b>
@@ -395,6 +432,32 @@ public class Entry implements BaseImplementation<Entry> {
         return this.service.atomicOperations(this.headers, this.contentTypeUid, this.entryUid, requestBody);
     }
 
+    /**
+     * Sends only what changed between a fetched entry and a modified copy of it.
+     * When every change maps to an atomic operator (PUSH, PULL, UPDATE, ADD or
+     * SUB), the operators are sent through {@link #atomicOperation(JSONObject)};
+     * otherwise the whole modified entry is sent through {@link #update(JSONObject)}.
+     *
+     * <pre>{@code
+     * EntryDiff diff = EntryDiff.of(fetched, modified);
+     * if (!diff.isEmpty()) {
+     *     Response<ResponseBody> response = entry.update(diff).execute();
+     * }
+     * }</pre>
+     *
+     * @param diff the changes, from {@link EntryDiff#of(EntryPojo, EntryPojo)}
+     * @return Call
+     * @throws IllegalArgumentException if the diff has no changes
+     * @see EntryDiff
+     */
+    public Call<ResponseBody> update(@NotNull EntryDiff diff) {
+        if (diff.isEmpty()) {
+            throw new IllegalArgumentException("diff has no changes.");
+        }
+        JSONObject atomic = diff.toAtomicBody();
+        return atomic != null ? atomicOperation(atomic) : update(diff.toUpdateBody());
+    }
+
     /**
      * To Delete an entry request allows you to delete a specific entry from a
      * content type. This API request also
@@ -0,0 +1,340 @@
+package com.contentstack.cms.stack;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.json.simple.JSONArray;
+import org.json.simple.JSONObject;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Changes between a fetched entry and a modified copy of it, expressed as the
+ * smallest request that applies them.
+ * <p>
+ * Each changed top-level field is mapped to an atomic operator where one fits:
+ * <ul>
+ *   <li>a number that changed: {@code ADD} or {@code SUB} of the difference</li>
+ *   <li>an array with items appended: {@code PUSH} of the new items</li>
+ *   <li>an array with scalar items removed: {@code PULL} of those values</li>
+ *   <li>an array with one item replaced: {@code UPDATE} at its index</li>
+ * </ul>
+ * If every change fits, {@link #isAtomic()} is true and
+ * {@link Entry#update(EntryDiff)} sends only those operators through
+ * {@link Entry#atomicOperation(JSONObject)}. Any other change, such as a new
+ * string value, an edited group or a field added or removed, cannot be expressed
+ * atomically, and the whole modified entry is sent through
+ * {@link Entry#update(JSONObject)} instead.
+ * <p>
+ * Values are compared by content, so numbers read back as {@code Double} equal the
+ * {@code Integer} or {@code Long} a caller put in.
+ *
+ * <pre>{@code
+ * EntryDiff diff = EntryDiff.of(fetched, modified);
+ * if (!diff.isEmpty()) {
+ *     stack.contentType("blog").entry(fetched.uid).update(diff).execute();
+ * }
+ * }</pre>
+ */
+public final class EntryDiff {
+
+    static final String PUSH = "PUSH";
+    static final String PULL = "PULL";
+    static final String UPDATE = "UPDATE";
+    static final String ADD = "ADD";
+    static final String SUB = "SUB";
+
+    private final EntryPojo modified;
+    private final Set<String> changedFields;
+    @Nullable
+    private final JSONObject operations;
+
+    private EntryDiff(EntryPojo modified, Set<String> changedFields, @Nullable JSONObject operations) {
+        this.modified = modified;
+        this.changedFields = Collections.unmodifiableSet(changedFields);
+        this.operations = operations;
+    }
+
+    /**
+     * Compares a modified entry against the version it was fetched as.
+     *
+     * @param original the entry as fetched
+     * @param modified the entry with the caller's changes
+     * @return the diff
+     */
+    @NotNull
+    public static EntryDiff of(@NotNull EntryPojo original, @NotNull EntryPojo modified) {
+        Objects.requireNonNull(original, "original");
+        Objects.requireNonNull(modified, "modified");
+        Map<String, Object> before = values(original);
+        Map<String, Object> after = values(modified);
+        Set<String> changed = new LinkedHashSet<>();
+        JSONObject operations = new JSONObject();
+        boolean atomic = true;
+        Set<String> keys = new LinkedHashSet<>(before.keySet());
+        keys.addAll(after.keySet());
+        for (String key : keys) {
+            Object from = before.get(key);
+            Object to = after.get(key);
+            if (same(from, to)) {
+                continue;
+            }
+            changed.add(key);
+            JSONObject operation = atomic ? operation(from, to) : null;
+            if (operation == null) {
+                atomic = false;
+            } else {
+                put(operations, key, operation);
+            }
+        }
+        return new EntryDiff(modified, changed, atomic ? operations : null);
+    }
+
+    /**
+     * @return true if the entries are equal and nothing needs to be sent
+     */
+    public boolean isEmpty() {
+        return changedFields.isEmpty();
+    }
+
+    /**
+     * @return true if every change can be sent as an atomic operation
+     */
+    public boolean isAtomic() {
+        return operations != null && !changedFields.isEmpty();
+    }
+
+    /**
+     * @return the UIDs of the fields that differ, including {@code title} and {@code tags}
+     */
+    @NotNull
+    public Set<String> getChangedFields() {
+        return changedFields;
+    }
+
+    /**
+     * Builds the request body of {@link Entry#atomicOperation(JSONObject)}, with an
+     * operator per changed field.
+     *
+     * @return the atomic request body, or null if the changes are not atomic
+     */
+    @Nullable
+    public JSONObject toAtomicBody() {
+        return isAtomic() ? wrap(operations) : null;
+    }
+
+    /**
+     * Builds the request body of {@link Entry#update(JSONObject)}: the title, tags
+     * and every field of the modified entry.
+     *
+     * @return the full update request body
+     */
+    @NotNull
+    public JSONObject toUpdateBody() {
+        JSONObject entry = new JSONObject();
+        for (Map.Entry<String, Object> value : values(modified).entrySet()) {
+            put(entry, value.getKey(), value.getValue());
+        }
+        return wrap(entry);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static JSONObject wrap(JSONObject entry) {
+        JSONObject body = new JSONObject();
+        body.put("entry", entry);
+        return body;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void put(JSONObject json, String key, Object value) {
+        json.put(key, value);
+    }
+
+    /**
+     * Collects the values a caller may change: title, tags and the content fields.
+     */
+    private static Map<String, Object> values(EntryPojo entry) {
+        Map<String, Object> values = new LinkedHashMap<>();
+        if (entry.title != null) {
+            values.put("title", entry.title);
+        }
+        if (entry.getSystemFields() != null && entry.getSystemFields().containsKey("tags")) {
+            values.put("tags", entry.getSystemFields().get("tags"));
+        }
+        if (entry.getFields() != null) {
+            values.putAll(entry.getFields());
+        }
+        return values;
+    }
+
+    /**
+     * Maps one field change to an atomic operator, or null if none fits.
+     */
+    @Nullable
+    @SuppressWarnings("unchecked")
+    static JSONObject operation(@Nullable Object from, @Nullable Object to) {
+        JSONObject operation = new JSONObject();
+        if (from instanceof Number && to instanceof Number) {
+            if (!finite((Number) from) || !finite((Number) to)) {
+                return null;
+            }
+            BigDecimal delta = decimal(to).subtract(decimal(from));
+            operation.put(delta.signum() > 0 ? ADD : SUB, number(delta.abs()));
+            return operation;
+        }
+        if (!(from instanceof List) || !(to instanceof List)) {
+            return null;
+        }
+        List<?> before = (List<?>) from;
+        List<?> after = (List<?>) to;
+        if (after.size() > before.size() && same(before, after.subList(0, before.size()))) {
+            JSONObject push = new JSONObject();
+            push.put("data", array(after.subList(before.size(), after.size())));
+            operation.put(PUSH, push);
+            return operation;
+        }
+        if (after.size() < before.size()) {
+            List<Object> removed = removed(before, after);
+            if (removed == null) {
+                return null;
+            }
+            JSONObject in = new JSONObject();
+            in.put("$in", array(removed));
+            JSONObject pull = new JSONObject();
+            pull.put("query", in);
+            operation.put(PULL, pull);
+            return operation;
+        }
+        if (after.size() == before.size()) {
+            int index = -1;
+            for (int i = 0; i < after.size(); i++) {
+                if (!same(before.get(i), after.get(i))) {
+                    if (index >= 0) {
+                        // One UPDATE per field and request
+                        return null;
+                    }
+                    index = i;
+                }
+            }
+            if (index < 0) {
+                return null;
+            }
+            JSONObject update = new JSONObject();
+            update.put("index", index);
+            update.put("data", after.get(index));
+            operation.put(UPDATE, update);
+            return operation;
+        }
+        return null;
+    }
+
+    /**
+     * Finds the scalar values removed from {@code before}, if {@code after} is
+     * {@code before} without them: removing every occurrence of the values must
+     * leave exactly {@code after}, since PULL removes all matches.
+     */
+    @Nullable
+    private static List<Object> removed(List<?> before, List<?> after) {
+        List<Object> removed = new ArrayList<>();
+        int next = 0;
+        for (Object item : before) {
+            if (next < after.size() && same(item, after.get(next))) {
+                next++;
+            } else if (item instanceof String || item instanceof Number || item instanceof Boolean) {
+                removed.add(item);
+            } else {
+                return null;
+            }
+        }
+        if (next != after.size()) {
+            return null;
+        }
+        for (Object item : after) {
+            for (Object value : removed) {
+                if (same(item, value)) {
+                    return null;
+                }
+            }
+        }
+        return removed;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static JSONArray array(List<?> values) {
+        JSONArray array = new JSONArray();
+        array.addAll(values);
+        return array;
+    }
+
+    /**
+     * Compares two field values by content, treating numbers of different types
+     * as equal when their values are.
+     */
+    static boolean same(@Nullable Object a, @Nullable Object b) {
+        if (a == b) {
+            return true;
+        }
+        if (a == null || b == null) {
+            return false;
+        }
+        if (a instanceof Number && b instanceof Number && finite((Number) a) && finite((Number) b)) {
+            return decimal(a).compareTo(decimal(b)) == 0;
+        }
+        if (a instanceof Map && b instanceof Map) {
+            Map<?, ?> left = (Map<?, ?>) a;
+            Map<?, ?> right = (Map<?, ?>) b;
+            if (left.size() != right.size()) {
+                return false;
+            }
+            for (Map.Entry<?, ?> entry : left.entrySet()) {
+                if (!right.containsKey(entry.getKey()) || !same(entry.getValue(), right.get(entry.getKey()))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        if (a instanceof List && b instanceof List) {
+            List<?> left = (List<?>) a;
+            List<?> right = (List<?>) b;
+            if (left.size() != right.size()) {
+                return false;
+            }
+            Iterator<?> rightItems = right.iterator();
+            for (Object item : left) {
+                if (!same(item, rightItems.next())) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        return a.equals(b);
+    }
+
+    private static boolean finite(Number number) {
+        return !(number instanceof Double || number instanceof Float) || Double.isFinite(number.doubleValue());
+    }
+
+    private static BigDecimal decimal(Object number) {
+        return new BigDecimal(number.toString());
+    }
+
+    private static Number number(BigDecimal value) {
+        BigDecimal stripped = value.stripTrailingZeros();
+        if (stripped.scale() <= 0) {
+            try {
+                return stripped.longValueExact();
+            } catch (ArithmeticException e) {
+                return stripped;
+            }
+        }
+        return stripped.doubleValue();
+    }
+}
@@ -1,46 +1,146 @@
 package com.contentstack.cms.stack;
-import com.google.gson.annotations.SerializedName;
-import com.google.gson.JsonObject;
-import com.google.gson.JsonElement;
+import com.contentstack.cms.core.GsonProvider;
 import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
+import com.google.gson.JsonObject;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.annotations.JsonAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
 import java.util.*;
 
+/**
+ * Response of {@link Entry#findAsPojo()}.
+ * <p>
+ * The {@code entries} array is read straight from the response stream into
+ * {@link EntryPojo} instances by the adapter registered on the client's Gson
+ * ({@link EntryPojoTypeAdapter} by default); the intermediate {@code JsonObject}
+ * tree per entry is never built.
+ * </p>
+ */
+@JsonAdapter(EntryListResponse.AdapterFactory.class)
 public class EntryListResponse {
 
-    @SerializedName("entries")
-    private List<JsonObject> rawEntries;
+    private List<EntryPojo> entries;
 
-    private transient List<EntryPojo> entries;
+    private Integer count;
+
+    private transient List<JsonObject> rawEntries;
 
     public List<EntryPojo> getEntries() {
-        if (entries == null && rawEntries != null) {
-            Gson gson = new Gson();
-            entries = new ArrayList<>();
-
-            for (JsonObject entryJson : rawEntries) {
-                EntryPojo entryPojo = gson.fromJson(entryJson, EntryPojo.class);
-                // Map dynamic fields
-                Map<String, Object> fields = new LinkedHashMap<>();
-                for (Map.Entry<String, JsonElement> field : entryJson.entrySet()) {
-                    String key = field.getKey();
-                    if (!EntryPojo.SYSTEM_FIELDS.contains(key)) {
-                        fields.put(key, gson.fromJson(field.getValue(), Object.class));
-                    }
-                }
-                entryPojo.setFields(fields);
-                entries.add(entryPojo);
-            }
-        }
         return entries;
     }
 
+    /**
+     * Gets the total number of entries reported when the request asked for
+     * {@code include_count}.
+     *
+     * @return the total count, or null if the response does not carry one
+     */
+    public Integer getCount() {
+        return count;
+    }
+
+    /**
+     * Gets the entries as JSON objects.
+     *
+     * @return the entries rebuilt from {@link #getEntries()}
+     * @deprecated entries are no longer kept as JSON trees; the objects returned
+     * here are rebuilt from the parsed {@link EntryPojo}s, so key order and absent
+     * {@code _version} values may differ from the original response. Use
+     * {@link #getEntries()} or {@link Entry#find()} for the raw payload.
+     */
+    @Deprecated
     public List<JsonObject> getRawJson() {
+        if (rawEntries == null && entries != null) {
+            TypeAdapter<EntryPojo> adapter = GsonProvider.shared().getAdapter(EntryPojo.class);
+            List<JsonObject> rebuilt = new ArrayList<>(entries.size());
+            for (EntryPojo entry : entries) {
+                rebuilt.add(adapter.toJsonTree(entry).getAsJsonObject());
+            }
+            rawEntries = rebuilt;
+        }
         return rawEntries;
     }
-    
+
     @Override
     public String toString() {
-        return new GsonBuilder().setPrettyPrinting().create().toJson(this);
+        return GsonProvider.pretty().toJson(this);
+    }
+
+    /**
+     * Streams {@code entries} and {@code count}, skipping every other key.
+     */
+    static final class AdapterFactory implements TypeAdapterFactory {
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {
+            if (type.getRawType() != EntryListResponse.class) {
+                return null;
+            }
+            return (TypeAdapter<T>) new Adapter(gson.getAdapter(EntryPojo.class));
+        }
+    }
+
+    private static final class Adapter extends TypeAdapter<EntryListResponse> {
+
+        private final TypeAdapter<EntryPojo> entryAdapter;
+
+        Adapter(TypeAdapter<EntryPojo> entryAdapter) {
+            this.entryAdapter = entryAdapter;
+        }
+
+        @Override
+        public EntryListResponse read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            EntryListResponse response = new EntryListResponse();
+            in.beginObject();
+            while (in.hasNext()) {
+                String name = in.nextName();
+                if ("entries".equals(name) && in.peek() == JsonToken.BEGIN_ARRAY) {
+                    List<EntryPojo> entries = new ArrayList<>();
+                    in.beginArray();
+                    while (in.hasNext()) {
+                        entries.add(entryAdapter.read(in));
+                    }
+                    in.endArray();
+                    response.entries = entries;
+                } else if ("count".equals(name) && in.peek() == JsonToken.NUMBER) {
+                    response.count = in.nextInt();
+                } else {
+                    in.skipValue();
+                }
+            }
+            in.endObject();
+            return response;
+        }
+
+        @Override
+        public void write(JsonWriter out, EntryListResponse response) throws IOException {
+            if (response == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (response.entries != null) {
+                out.name("entries").beginArray();
+                for (EntryPojo entry : response.entries) {
+                    entryAdapter.write(out, entry);
+                }
+                out.endArray();
+            }
+            if (response.count != null) {
+                out.name("count").value(response.count);
+            }
+            out.endObject();
+        }
     }
 }
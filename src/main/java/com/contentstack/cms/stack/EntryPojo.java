@@ -3,8 +3,10 @@ import java.util.Map;
 import java.util.Set;
 import java.util.HashSet;
 import java.util.Arrays;
+import com.google.gson.annotations.JsonAdapter;
 import com.google.gson.annotations.SerializedName;
 
+@JsonAdapter(EntryPojoTypeAdapter.Factory.class)
 public class EntryPojo {
 
     @SerializedName("title")
@@ -22,6 +24,9 @@ public class EntryPojo {
     // Additional fields captured dynamically from content type schema
     protected Map<String, Object> fields;
 
+    // System fields other than title, uid, _version and locale (tags, ACL, created_at, ...)
+    protected Map<String, Object> systemFields;
+
     public Map<String, Object> getFields() {
         return fields;
     }
@@ -30,6 +35,21 @@ public class EntryPojo {
         this.fields = fields;
     }
 
+    /**
+     * Gets the system fields of the entry that have no dedicated property, such as
+     * {@code tags}, {@code ACL}, {@code created_by} or {@code updated_at}.
+     *
+     * @return the system fields, or null if the entry was not read by
+     * {@link EntryPojoTypeAdapter}
+     */
+    public Map<String, Object> getSystemFields() {
+        return systemFields;
+    }
+
+    public void setSystemFields(Map<String, Object> systemFields) {
+        this.systemFields = systemFields;
+    }
+
     public String getStringField(String key) {
         Object value = fields.get(key);
         return value != null ? value.toString() : null;
@@ -0,0 +1,129 @@
+package com.contentstack.cms.stack;
+
+import com.contentstack.cms.core.GsonProvider;
+import com.google.gson.JsonParseException;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import okhttp3.ResponseBody;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Reads the {@code entries} array of an entry listing one {@link EntryPojo} at a
+ * time, straight off the response stream.
+ * <p>
+ * Only the entry being returned is held in memory, so arbitrarily large listings
+ * can be processed without materialising the whole response. Read failures
+ * surface from {@link #hasNext()} as {@link UncheckedIOException}; malformed
+ * payloads as {@link JsonParseException}. Close the reader to release the
+ * underlying connection.
+ *
+ * <pre>{@code
+ * Response<ResponseBody> response = stack.contentType("blog_post").entry().find().execute();
+ * try (EntryPojoReader entries = EntryPojoReader.of(response.body())) {
+ *     while (entries.hasNext()) {
+ *         EntryPojo entry = entries.next();
+ *     }
+ * }
+ * }</pre>
+ */
+public final class EntryPojoReader implements Iterator<EntryPojo>, Closeable {
+
+    private final JsonReader reader;
+    private final TypeAdapter<EntryPojo> adapter;
+    private boolean started;
+    private boolean finished;
+
+    private EntryPojoReader(@NotNull Reader source, @NotNull TypeAdapter<EntryPojo> adapter) {
+        this.reader = new JsonReader(source);
+        this.adapter = adapter;
+    }
+
+    /**
+     * Creates a reader over an entry listing response body.
+     *
+     * @param body the body of an entries request, such as {@link Entry#find()}
+     * @return a reader positioned before the first entry
+     */
+    public static EntryPojoReader of(@NotNull ResponseBody body) {
+        return of(body.charStream());
+    }
+
+    /**
+     * Creates a reader over an entry listing in JSON form.
+     *
+     * @param source the JSON source; closed when this reader is closed
+     * @return a reader positioned before the first entry
+     */
+    public static EntryPojoReader of(@NotNull Reader source) {
+        return new EntryPojoReader(source, GsonProvider.shared().getAdapter(EntryPojo.class));
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (finished) {
+            return false;
+        }
+        try {
+            if (!started) {
+                started = true;
+                if (!seekEntries()) {
+                    finished = true;
+                    return false;
+                }
+            }
+            if (reader.hasNext()) {
+                return true;
+            }
+            reader.endArray();
+            finished = true;
+            return false;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (IllegalStateException e) {
+            throw new JsonParseException(e);
+        }
+    }
+
+    @Override
+    public EntryPojo next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        try {
+            return adapter.read(reader);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (IllegalStateException e) {
+            throw new JsonParseException(e);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        finished = true;
+        reader.close();
+    }
+
+    /**
+     * Skips top-level keys until the {@code entries} array and steps into it.
+     */
+    private boolean seekEntries() throws IOException {
+        reader.beginObject();
+        while (reader.hasNext()) {
+            if ("entries".equals(reader.nextName()) && reader.peek() == JsonToken.BEGIN_ARRAY) {
+                reader.beginArray();
+                return true;
+            }
+            reader.skipValue();
+        }
+        return false;
+    }
+}
@@ -0,0 +1,141 @@
+package com.contentstack.cms.stack;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Streams an entry object straight into an {@link EntryPojo}.
+ * <p>
+ * {@code title}, {@code uid}, {@code _version} and {@code locale} are read into
+ * the POJO's fields, the remaining {@link EntryPojo#SYSTEM_FIELDS} into
+ * {@link EntryPojo#getSystemFields()}, and every other key into
+ * {@link EntryPojo#getFields()}. Values are read token by token from the
+ * {@link JsonReader}; no intermediate {@code JsonObject} tree is built.
+ * </p>
+ * <p>
+ * {@link EntryPojo} names this adapter through {@link Factory}, so any Gson
+ * uses it unless an adapter for {@code EntryPojo} is registered explicitly.
+ * </p>
+ */
+public final class EntryPojoTypeAdapter extends TypeAdapter<EntryPojo> {
+
+    private final TypeAdapter<Object> valueAdapter;
+
+    /**
+     * Creates an adapter that reads field values with a default {@link Gson}.
+     */
+    public EntryPojoTypeAdapter() {
+        this(new Gson());
+    }
+
+    /**
+     * Creates an adapter that reads and writes field values with the given Gson.
+     *
+     * @param gson the Gson whose {@code Object} adapter handles field values
+     */
+    public EntryPojoTypeAdapter(@NotNull Gson gson) {
+        this.valueAdapter = gson.getAdapter(Object.class);
+    }
+
+    @Override
+    public EntryPojo read(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+        EntryPojo pojo = new EntryPojo();
+        Map<String, Object> fields = new LinkedHashMap<>();
+        Map<String, Object> systemFields = new LinkedHashMap<>();
+        in.beginObject();
+        while (in.hasNext()) {
+            String name = in.nextName();
+            switch (name) {
+                case "title":
+                    pojo.title = nextString(in);
+                    break;
+                case "uid":
+                    pojo.uid = nextString(in);
+                    break;
+                case "locale":
+                    pojo.locale = nextString(in);
+                    break;
+                case "_version":
+                    if (in.peek() == JsonToken.NULL) {
+                        in.nextNull();
+                    } else {
+                        pojo.version = in.nextInt();
+                    }
+                    break;
+                default:
+                    if (EntryPojo.SYSTEM_FIELDS.contains(name)) {
+                        systemFields.put(name, valueAdapter.read(in));
+                    } else {
+                        fields.put(name, valueAdapter.read(in));
+                    }
+            }
+        }
+        in.endObject();
+        pojo.setFields(fields);
+        pojo.setSystemFields(systemFields);
+        return pojo;
+    }
+
+    @Override
+    public void write(JsonWriter out, EntryPojo pojo) throws IOException {
+        if (pojo == null) {
+            out.nullValue();
+            return;
+        }
+        out.beginObject();
+        out.name("title").value(pojo.title);
+        out.name("uid").value(pojo.uid);
+        out.name("_version").value(pojo.version);
+        out.name("locale").value(pojo.locale);
+        writeAll(out, pojo.getSystemFields());
+        writeAll(out, pojo.getFields());
+        out.endObject();
+    }
+
+    private void writeAll(JsonWriter out, Map<String, Object> values) throws IOException {
+        if (values == null) {
+            return;
+        }
+        for (Map.Entry<String, Object> value : values.entrySet()) {
+            out.name(value.getKey());
+            valueAdapter.write(out, value.getValue());
+        }
+    }
+
+    private static String nextString(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+        return in.nextString();
+    }
+
+    /**
+     * Creates {@link EntryPojoTypeAdapter}s bound to the requesting Gson.
+     */
+    public static final class Factory implements TypeAdapterFactory {
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {
+            if (type.getRawType() != EntryPojo.class) {
+                return null;
+            }
+            return (TypeAdapter<T>) new EntryPojoTypeAdapter(gson);
+        }
+    }
+}
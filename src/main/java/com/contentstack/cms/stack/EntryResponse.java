@@ -1,35 +1,25 @@
 package com.contentstack.cms.stack;
+import com.contentstack.cms.core.GsonProvider;
 import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
-import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
-import com.google.gson.annotations.SerializedName;
-
-import java.util.LinkedHashMap;
-import java.util.Map;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.annotations.JsonAdapter;
+import com.google.gson.reflect.TypeToken;
 
+/**
+ * Response of {@link Entry#fetchAsPojo()}. The entry is parsed once, and
+ * {@link EntryPojo} is read from it by the adapter registered on the client's
+ * Gson, which splits system fields from content fields.
+ */
+@JsonAdapter(EntryResponse.AdapterFactory.class)
 public class EntryResponse {
 
-    @SerializedName("entry")
     private JsonObject entryJson;
 
     private EntryPojo entryPojo;
 
     public EntryPojo getEntryPojo() {
-        if (entryPojo == null && entryJson != null) {
-            Gson gson = new Gson();
-            // Deserialize system fields automatically
-            entryPojo = gson.fromJson(entryJson, EntryPojo.class);  
-            // Manually extract and map only non-system (dynamic) fields
-            Map<String, Object> fields = new LinkedHashMap<>();
-            for (Map.Entry<String, JsonElement> entry : entryJson.entrySet()) {
-                String key = entry.getKey();
-                if (!EntryPojo.SYSTEM_FIELDS.contains(key)) {
-                    fields.put(key, gson.fromJson(entry.getValue(), Object.class));
-                }
-            }
-            entryPojo.setFields(fields);
-        }
         return entryPojo;
     }
 
@@ -39,6 +29,23 @@ public class EntryResponse {
 
     @Override
     public String toString() {
-        return new GsonBuilder().setPrettyPrinting().create().toJson(this);
+        return GsonProvider.pretty().toJson(this);
+    }
+
+    static final class AdapterFactory implements TypeAdapterFactory {
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {
+            if (type.getRawType() != EntryResponse.class) {
+                return null;
+            }
+            TypeAdapter<EntryPojo> pojoAdapter = gson.getAdapter(EntryPojo.class);
+            return (TypeAdapter<T>) new PojoResponseAdapter<>(gson, "entry", false, EntryResponse::new,
+                    (response, value) -> {
+                        response.entryJson = value.getAsJsonObject();
+                        response.entryPojo = pojoAdapter.fromJsonTree(value);
+                    }, response -> response.entryJson);
+        }
     }
 }
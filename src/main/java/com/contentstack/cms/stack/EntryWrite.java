@@ -0,0 +1,122 @@
+package com.contentstack.cms.stack;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.json.simple.JSONObject;
+
+import java.util.Objects;
+
+/**
+ * One entry to create or update through an {@link EntryWriter}.
+ */
+public final class EntryWrite {
+
+    private final String contentTypeUid;
+    @Nullable
+    private final String entryUid;
+    private final JSONObject entry;
+    @Nullable
+    private final String locale;
+
+    private EntryWrite(@NotNull String contentTypeUid, @Nullable String entryUid, @NotNull JSONObject entry,
+                       @Nullable String locale) {
+        this.contentTypeUid = Objects.requireNonNull(contentTypeUid, "contentTypeUid");
+        this.entryUid = entryUid;
+        this.entry = Objects.requireNonNull(entry, "entry");
+        this.locale = locale;
+    }
+
+    /**
+     * Creates an entry in the stack's master locale.
+     *
+     * @param contentTypeUid the content type UID
+     * @param entry          the fields of the entry, without the {@code entry} wrapper
+     * @return the write
+     */
+    public static EntryWrite create(@NotNull String contentTypeUid, @NotNull JSONObject entry) {
+        return new EntryWrite(contentTypeUid, null, entry, null);
+    }
+
+    /**
+     * Creates an entry in a locale.
+     *
+     * @param contentTypeUid the content type UID
+     * @param entry          the fields of the entry, without the {@code entry} wrapper
+     * @param locale         the locale code, or null for the master locale
+     * @return the write
+     */
+    public static EntryWrite create(@NotNull String contentTypeUid, @NotNull JSONObject entry,
+                                    @Nullable String locale) {
+        return new EntryWrite(contentTypeUid, null, entry, locale);
+    }
+
+    /**
+     * Updates an entry in the stack's master locale.
+     *
+     * @param contentTypeUid the content type UID
+     * @param entryUid       the entry UID
+     * @param entry          the fields to write, without the {@code entry} wrapper
+     * @return the write
+     */
+    public static EntryWrite update(@NotNull String contentTypeUid, @NotNull String entryUid,
+                                    @NotNull JSONObject entry) {
+        return update(contentTypeUid, entryUid, entry, null);
+    }
+
+    /**
+     * Updates or localizes an entry in a locale.
+     *
+     * @param contentTypeUid the content type UID
+     * @param entryUid       the entry UID
+     * @param entry          the fields to write, without the {@code entry} wrapper
+     * @param locale         the locale code, or null for the master locale
+     * @return the write
+     */
+    public static EntryWrite update(@NotNull String contentTypeUid, @NotNull String entryUid,
+                                    @NotNull JSONObject entry, @Nullable String locale) {
+        return new EntryWrite(contentTypeUid, Objects.requireNonNull(entryUid, "entryUid"), entry, locale);
+    }
+
+    public boolean isCreate() {
+        return entryUid == null;
+    }
+
+    public String getContentTypeUid() {
+        return contentTypeUid;
+    }
+
+    /**
+     * @return the UID of the entry to update, or null for a create
+     */
+    @Nullable
+    public String getEntryUid() {
+        return entryUid;
+    }
+
+    public JSONObject getEntry() {
+        return entry;
+    }
+
+    @Nullable
+    public String getLocale() {
+        return locale;
+    }
+
+    /**
+     * Builds the request body, i.e. the fields wrapped in an {@code entry} object.
+     *
+     * @return the request body
+     */
+    @SuppressWarnings("unchecked")
+    JSONObject toRequestBody() {
+        JSONObject body = new JSONObject();
+        body.put("entry", entry);
+        return body;
+    }
+
+    @Override
+    public String toString() {
+        String target = contentTypeUid + "/" + (entryUid != null ? entryUid : "(new)");
+        return (isCreate() ? "create " : "update ") + target + (locale != null ? " (" + locale + ")" : "");
+    }
+}
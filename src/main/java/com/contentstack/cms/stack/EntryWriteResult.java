@@ -0,0 +1,159 @@
+package com.contentstack.cms.stack;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Summary of an {@link EntryWriter} run: how many writes succeeded, which failed
+ * and how fast the run went. Every outcome, successful or not, is also passed to
+ * the writer's {@link EntryWriter#withListener listener} as it happens.
+ */
+public final class EntryWriteResult {
+
+    private final long succeeded;
+    private final long recovered;
+    private final List<Outcome> failed;
+    private final long elapsedNanos;
+
+    EntryWriteResult(long succeeded, long recovered, @NotNull List<Outcome> failed, long elapsedNanos) {
+        this.succeeded = succeeded;
+        this.recovered = recovered;
+        this.failed = Collections.unmodifiableList(failed);
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    /**
+     * @return the number of writes given
+     */
+    public long getTotal() {
+        return succeeded + failed.size();
+    }
+
+    /**
+     * @return the number of writes that succeeded, including recovered ones
+     */
+    public long getSucceededCount() {
+        return succeeded;
+    }
+
+    /**
+     * Gets the number of creates whose response was lost but whose entry was
+     * found by its unique field, so it was not sent again.
+     *
+     * @return the recovered count
+     */
+    public long getRecoveredCount() {
+        return recovered;
+    }
+
+    /**
+     * @return the outcomes of the writes that failed, in completion order
+     */
+    public List<Outcome> getFailed() {
+        return failed;
+    }
+
+    public boolean isSuccessful() {
+        return failed.isEmpty();
+    }
+
+    /**
+     * @param unit the unit of the result
+     * @return the time from the first request to the last response
+     */
+    public long getElapsed(@NotNull TimeUnit unit) {
+        return unit.convert(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * @return the completed writes per second over the run
+     */
+    public double getWritesPerSecond() {
+        return elapsedNanos > 0 ? getTotal() * 1e9 / elapsedNanos : 0;
+    }
+
+    @Override
+    public String toString() {
+        return "EntryWriteResult{total=" + getTotal() + ", failed=" + failed.size() + ", recovered=" + recovered
+                + ", writesPerSecond=" + String.format(Locale.ROOT, "%.1f", getWritesPerSecond()) + "}";
+    }
+
+    /**
+     * Outcome of one write.
+     */
+    public static final class Outcome {
+        private final EntryWrite write;
+        private final boolean success;
+        @Nullable
+        private final String entryUid;
+        private final int statusCode;
+        @Nullable
+        private final String errorMessage;
+        private final int attempts;
+        private final boolean recovered;
+
+        Outcome(@NotNull EntryWrite write, boolean success, @Nullable String entryUid, int statusCode,
+                @Nullable String errorMessage, int attempts, boolean recovered) {
+            this.write = write;
+            this.success = success;
+            this.entryUid = entryUid;
+            this.statusCode = statusCode;
+            this.errorMessage = errorMessage;
+            this.attempts = attempts;
+            this.recovered = recovered;
+        }
+
+        public EntryWrite getWrite() {
+            return write;
+        }
+
+        public boolean isSuccess() {
+            return success;
+        }
+
+        /**
+         * @return the UID of the written entry, or null if the write failed
+         */
+        @Nullable
+        public String getEntryUid() {
+            return entryUid;
+        }
+
+        /**
+         * @return the HTTP status of the last request, or 0 if no response was received
+         */
+        public int getStatusCode() {
+            return statusCode;
+        }
+
+        @Nullable
+        public String getErrorMessage() {
+            return errorMessage;
+        }
+
+        /**
+         * @return the number of times the write was sent
+         */
+        public int getAttempts() {
+            return attempts;
+        }
+
+        /**
+         * @return true if a lost create was found by its unique field instead of
+         * being sent again
+         */
+        public boolean isRecovered() {
+            return recovered;
+        }
+
+        @Override
+        public String toString() {
+            return write + (success ? " ok " + entryUid : " failed (" + statusCode + "): " + errorMessage);
+        }
+    }
+}
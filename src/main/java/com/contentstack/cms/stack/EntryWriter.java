@@ -0,0 +1,495 @@
+package com.contentstack.cms.stack;
+
+import com.contentstack.cms.core.RequestPriority;
+import com.contentstack.cms.core.RetryConfig;
+import com.contentstack.cms.core.RetryUtil;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import okhttp3.ResponseBody;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.json.simple.JSONObject;
+import retrofit2.Call;
+import retrofit2.Response;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * Creates and updates entries of any content types with a bounded number of
+ * requests in flight.
+ * <p>
+ * Writes are pulled lazily from the given {@link Iterable} or {@link Stream}, so
+ * an import of millions of entries only holds the writes in flight and the
+ * failures in memory. Each write goes through {@link Entry#create(JSONObject)} or
+ * {@link Entry#update(JSONObject)} and the client's interceptors, so a configured
+ * {@code RateLimiter} applies.
+ * <p>
+ * An update is sent again when its outcome is unknown (a network error, 408, 429
+ * or 5xx), up to {@link #withMaxAttempts(int) maxAttempts}. A create is never
+ * re-sent blindly, since the lost response may belong to an entry the server did
+ * create: with a {@link #withUniqueField(String) unique field}, the writer looks
+ * the entry up by that field, also after the last attempt, and only sends the
+ * create again if it is not found and attempts are left; without one, the write
+ * fails with its outcome unknown. Each re-send and
+ * lookup waits out the backoff of the {@link #withRetryConfig(RetryConfig) retry
+ * configuration} on its scheduler, so no thread is held while waiting.
+ *
+ * <pre>{@code
+ * EntryWriteResult result = stack.entryWriter()
+ *         .withParallelism(8)
+ *         .withUniqueField("url")
+ *         .withListener(outcome -> progress.record(outcome))
+ *         .write(writes)
+ *         .join();
+ * }</pre>
+ */
+public final class EntryWriter {
+
+    static final int DEFAULT_PARALLELISM = 8;
+    static final int DEFAULT_MAX_ATTEMPTS = 3;
+
+    private final Stack stack;
+    @Nullable
+    private final Executor executor;
+    private final RequestPriority priority;
+    private final RetryConfig retryConfig;
+    private final int parallelism;
+    private final int maxAttempts;
+    @Nullable
+    private final String uniqueField;
+    @Nullable
+    private final Consumer<EntryWriteResult.Outcome> listener;
+
+    EntryWriter(@NotNull Stack stack, @Nullable Executor executor) {
+        this(stack, executor, RequestPriority.BACKGROUND, RetryConfig.defaultConfig(), DEFAULT_PARALLELISM,
+                DEFAULT_MAX_ATTEMPTS, null, null);
+    }
+
+    private EntryWriter(Stack stack, @Nullable Executor executor, RequestPriority priority, RetryConfig retryConfig,
+                        int parallelism, int maxAttempts, @Nullable String uniqueField,
+                        @Nullable Consumer<EntryWriteResult.Outcome> listener) {
+        this.stack = stack;
+        this.executor = executor;
+        this.priority = priority;
+        this.retryConfig = retryConfig;
+        this.parallelism = parallelism;
+        this.maxAttempts = maxAttempts;
+        this.uniqueField = uniqueField;
+        this.listener = listener;
+    }
+
+    /**
+     * Gets a writer that keeps at most {@code parallelism} writes in flight.
+     * Default: 8
+     *
+     * @param parallelism the concurrent writes
+     * @return the writer
+     * @throws IllegalArgumentException if {@code parallelism} is not positive
+     */
+    @NotNull
+    public EntryWriter withParallelism(int parallelism) {
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("parallelism must be positive.");
+        }
+        return new EntryWriter(stack, executor, priority, retryConfig, parallelism, maxAttempts, uniqueField,
+                listener);
+    }
+
+    /**
+     * Gets a writer that sends a write at most {@code maxAttempts} times.
+     * Default: 3
+     *
+     * @param maxAttempts the attempts per write
+     * @return the writer
+     * @throws IllegalArgumentException if {@code maxAttempts} is not positive
+     */
+    @NotNull
+    public EntryWriter withMaxAttempts(int maxAttempts) {
+        if (maxAttempts <= 0) {
+            throw new IllegalArgumentException("maxAttempts must be positive.");
+        }
+        return new EntryWriter(stack, executor, priority, retryConfig, parallelism, maxAttempts, uniqueField,
+                listener);
+    }
+
+    /**
+     * Gets a writer that identifies created entries by a field whose value is
+     * unique within a content type and locale, such as {@code url} or an import
+     * key, so a create whose response was lost can be checked before it is sent
+     * again. Default: none
+     *
+     * @param uniqueField the field UID
+     * @return the writer
+     */
+    @NotNull
+    public EntryWriter withUniqueField(@NotNull String uniqueField) {
+        return new EntryWriter(stack, executor, priority, retryConfig, parallelism, maxAttempts,
+                Objects.requireNonNull(uniqueField, "uniqueField"), listener);
+    }
+
+    /**
+     * Gets a writer that reports the outcome of every write as it completes. The
+     * listener is called from the threads that complete the requests.
+     *
+     * @param listener receives each outcome
+     * @return the writer
+     */
+    @NotNull
+    public EntryWriter withListener(@NotNull Consumer<EntryWriteResult.Outcome> listener) {
+        return new EntryWriter(stack, executor, priority, retryConfig, parallelism, maxAttempts, uniqueField,
+                Objects.requireNonNull(listener, "listener"));
+    }
+
+    /**
+     * Gets a writer whose requests are queued with the given priority on a
+     * {@link com.contentstack.cms.core.PriorityExecutor}. Default:
+     * {@link RequestPriority#BACKGROUND}
+     *
+     * @param priority the priority of the requests
+     * @return the writer
+     */
+    @NotNull
+    public EntryWriter withPriority(@NotNull RequestPriority priority) {
+        return new EntryWriter(stack, executor, Objects.requireNonNull(priority, "priority"), retryConfig,
+                parallelism, maxAttempts, uniqueField, listener);
+    }
+
+    /**
+     * Gets a writer that waits out the backoff of the given configuration before
+     * sending a write again or looking up a lost create, on its
+     * {@link RetryConfig#getRetryScheduler() retry scheduler}. Only the delays are
+     * taken from it; attempts are bounded by {@link #withMaxAttempts(int)}.
+     * Default: {@link RetryConfig#defaultConfig()}
+     *
+     * @param retryConfig the retry configuration
+     * @return the writer
+     */
+    @NotNull
+    public EntryWriter withRetryConfig(@NotNull RetryConfig retryConfig) {
+        return new EntryWriter(stack, executor, priority, Objects.requireNonNull(retryConfig, "retryConfig"),
+                parallelism, maxAttempts, uniqueField, listener);
+    }
+
+    /**
+     * Runs the writes.
+     *
+     * @param writes the creates and updates
+     * @return a future of the run summary; cancelling it stops sending writes and
+     * cancels those in flight
+     */
+    @NotNull
+    public CompletableFuture<EntryWriteResult> write(@NotNull Iterable<EntryWrite> writes) {
+        Run run = new Run(System.nanoTime());
+        try {
+            run.source = writes.iterator();
+        } catch (RuntimeException e) {
+            run.result.completeExceptionally(e);
+            return run.result;
+        }
+        pump(run);
+        return run.result;
+    }
+
+    /**
+     * Runs the writes. The stream is consumed lazily and closed when the returned
+     * future completes.
+     *
+     * @param writes the creates and updates
+     * @return a future of the run summary
+     * @see #write(Iterable)
+     */
+    @NotNull
+    public CompletableFuture<EntryWriteResult> write(@NotNull Stream<EntryWrite> writes) {
+        CompletableFuture<EntryWriteResult> result = write(writes::iterator);
+        result.whenComplete((value, error) -> writes.close());
+        return result;
+    }
+
+    /**
+     * Starts writes until {@code parallelism} are in flight. Serialized like
+     * {@link BulkExecutor}'s pump, so the source is only read by one thread at a time.
+     */
+    private void pump(Run run) {
+        if (run.wip.getAndIncrement() != 0) {
+            return;
+        }
+        do {
+            try {
+                while (!run.result.isDone() && run.active.get() < parallelism && !run.exhausted) {
+                    if (!run.source.hasNext()) {
+                        run.exhausted = true;
+                        break;
+                    }
+                    EntryWrite write = Objects.requireNonNull(run.source.next(), "write");
+                    run.active.incrementAndGet();
+                    send(run, new Attempt(write));
+                }
+            } catch (RuntimeException e) {
+                run.result.completeExceptionally(e);
+            }
+            if (run.exhausted && run.active.get() == 0 && !run.result.isDone()) {
+                List<EntryWriteResult.Outcome> failed;
+                synchronized (run.failed) {
+                    failed = new ArrayList<>(run.failed);
+                }
+                run.result.complete(new EntryWriteResult(run.succeeded.get(), run.recovered.get(), failed,
+                        System.nanoTime() - run.startedAtNanos));
+            }
+        } while (run.wip.decrementAndGet() != 0);
+    }
+
+    private void send(Run run, Attempt attempt) {
+        attempt.attempts++;
+        EntryWrite write = attempt.write;
+        request(run, () -> {
+            Entry entry = write.isCreate()
+                    ? stack.contentType(write.getContentTypeUid()).entry()
+                    : stack.contentType(write.getContentTypeUid()).entry(write.getEntryUid());
+            if (write.getLocale() != null) {
+                entry.addParam("locale", write.getLocale());
+            }
+            return write.isCreate() ? entry.create(write.toRequestBody()) : entry.update(write.toRequestBody());
+        }, (response, error) -> {
+            int code = response != null ? response.code() : 0;
+            JsonObject json = response != null ? read(response) : null;
+            if (response != null && response.isSuccessful()) {
+                JsonObject written = object(json, "entry");
+                finish(run, attempt, true, written != null ? string(written, "uid") : write.getEntryUid(),
+                        code, null, false);
+                return;
+            }
+            String message = response != null ? errorMessage(json, response) : String.valueOf(error);
+            if (response != null && !isUnknownOutcome(code)) {
+                finish(run, attempt, false, null, code, message, false);
+            } else if (!write.isCreate() || code == 429) {
+                // Updates are idempotent, and a 429 was rejected before it was processed
+                if (attempt.attempts >= maxAttempts) {
+                    finish(run, attempt, false, null, code, message, false);
+                } else {
+                    later(run, attempt, response, error, message, () -> send(run, attempt));
+                }
+            } else {
+                // Looked up even after the last attempt: only sending again is bounded by maxAttempts
+                Object value = uniqueField != null ? write.getEntry().get(uniqueField) : null;
+                if (!(value instanceof String || value instanceof Number || value instanceof Boolean)) {
+                    finish(run, attempt, false, null, code,
+                            "Outcome unknown, not sent again without a unique field: " + message, false);
+                } else {
+                    // Give a create still running on the server time to land before looking
+                    later(run, attempt, response, error, message, () -> lookup(run, attempt, value, code, message));
+                }
+            }
+        });
+    }
+
+    /**
+     * Looks a create whose response was lost up by its unique field, and sends it
+     * again only if no entry has that value and attempts are left.
+     */
+    @SuppressWarnings("unchecked")
+    private void lookup(Run run, Attempt attempt, Object value, int code, String message) {
+        EntryWrite write = attempt.write;
+        request(run, () -> {
+            JSONObject query = new JSONObject();
+            query.put(uniqueField, value);
+            Entry entry = stack.contentType(write.getContentTypeUid()).entry();
+            entry.addParam("query", query.toJSONString());
+            entry.addParam("limit", 2);
+            if (write.getLocale() != null) {
+                entry.addParam("locale", write.getLocale());
+            }
+            return entry.find();
+        }, (response, error) -> {
+            JsonObject json = response != null ? read(response) : null;
+            JsonElement found = json != null ? json.get("entries") : null;
+            if (response == null || !response.isSuccessful() || found == null || !found.isJsonArray()) {
+                finish(run, attempt, false, null, code,
+                        "Outcome unknown, lookup by " + uniqueField + " failed: " + message, false);
+                return;
+            }
+            JsonArray entries = (JsonArray) found;
+            if (entries.size() == 0 && attempt.attempts >= maxAttempts) {
+                finish(run, attempt, false, null, code,
+                        "Not created, no entry found by " + uniqueField + " after the last attempt: " + message,
+                        false);
+            } else if (entries.size() == 0) {
+                later(run, attempt, null, null, message, () -> send(run, attempt));
+            } else if (entries.size() == 1 && entries.get(0).isJsonObject()) {
+                finish(run, attempt, true, string(entries.get(0).getAsJsonObject(), "uid"), code, null, true);
+            } else {
+                finish(run, attempt, false, null, code, "Several entries have the same " + uniqueField, false);
+            }
+        });
+    }
+
+    /**
+     * Runs the next step of a write after the retry backoff, computed from the
+     * failed response's rate-limit headers where there is one.
+     */
+    private void later(Run run, Attempt attempt, @Nullable Response<ResponseBody> response,
+                       @Nullable Throwable error, String message, Runnable next) {
+        int code = response != null ? response.code() : 0;
+        long delay = RetryUtil.calculateDelay(retryConfig, attempt.attempts, code, error,
+                response != null ? response.raw() : null, attempt.previousDelay);
+        attempt.previousDelay = delay;
+        try {
+            retryConfig.getRetryScheduler().schedule(() -> {
+                try {
+                    next.run();
+                } catch (RuntimeException e) {
+                    run.result.completeExceptionally(e);
+                }
+            }, delay, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            finish(run, attempt, false, null, code, "Retry could not be scheduled: " + message, false);
+        }
+    }
+
+    private void request(Run run, Supplier<Call<ResponseBody>> call, Handler handler) {
+        if (run.result.isDone()) {
+            run.active.decrementAndGet();
+            return;
+        }
+        CompletableFuture<Response<ResponseBody>> response;
+        try {
+            response = AsyncResource.send(call.get(), executor, priority);
+        } catch (RuntimeException e) {
+            response = new CompletableFuture<>();
+            response.completeExceptionally(e);
+        }
+        run.inFlight.add(response);
+        CompletableFuture<Response<ResponseBody>> sent = response;
+        sent.whenComplete((value, error) -> {
+            run.inFlight.remove(sent);
+            try {
+                handler.handle(value, error);
+            } catch (RuntimeException e) {
+                run.result.completeExceptionally(e);
+            }
+        });
+    }
+
+    private void finish(Run run, Attempt attempt, boolean success, @Nullable String entryUid, int statusCode,
+                        @Nullable String errorMessage, boolean recovered) {
+        EntryWriteResult.Outcome outcome = new EntryWriteResult.Outcome(attempt.write, success, entryUid,
+                statusCode, errorMessage, attempt.attempts, recovered);
+        if (success) {
+            run.succeeded.incrementAndGet();
+            if (recovered) {
+                run.recovered.incrementAndGet();
+            }
+        } else {
+            synchronized (run.failed) {
+                run.failed.add(outcome);
+            }
+        }
+        if (listener != null) {
+            try {
+                listener.accept(outcome);
+            } catch (RuntimeException e) {
+                run.result.completeExceptionally(e);
+            }
+        }
+        run.active.decrementAndGet();
+        pump(run);
+    }
+
+    /**
+     * Whether a write may or may not have been applied, so it can be checked and
+     * sent again.
+     */
+    static boolean isUnknownOutcome(int statusCode) {
+        return statusCode == 0 || statusCode == 408 || statusCode == 429 || statusCode >= 500;
+    }
+
+    @Nullable
+    private static JsonObject read(Response<ResponseBody> response) {
+        ResponseBody body = response.isSuccessful() ? response.body() : response.errorBody();
+        if (body == null) {
+            return null;
+        }
+        try (ResponseBody closing = body) {
+            JsonElement root = JsonParser.parseString(closing.string());
+            return root.isJsonObject() ? root.getAsJsonObject() : null;
+        } catch (IOException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    private static String errorMessage(@Nullable JsonObject json, Response<ResponseBody> response) {
+        String message = json != null ? string(json, "error_message") : null;
+        JsonObject errors = object(json, "errors");
+        if (message != null && errors != null) {
+            message += " " + errors;
+        }
+        return message != null ? message : response.message();
+    }
+
+    @Nullable
+    private static JsonObject object(@Nullable JsonObject json, String key) {
+        JsonElement value = json != null ? json.get(key) : null;
+        return value != null && value.isJsonObject() ? value.getAsJsonObject() : null;
+    }
+
+    @Nullable
+    private static String string(JsonObject json, String key) {
+        JsonElement value = json.get(key);
+        return value != null && value.isJsonPrimitive() ? value.getAsString() : null;
+    }
+
+    @FunctionalInterface
+    private interface Handler {
+        void handle(@Nullable Response<ResponseBody> response, @Nullable Throwable error);
+    }
+
+    private static final class Attempt {
+        private final EntryWrite write;
+        private int attempts;
+        private long previousDelay;
+
+        Attempt(EntryWrite write) {
+            this.write = write;
+        }
+    }
+
+    private static final class Run {
+        private final long startedAtNanos;
+        private final AtomicInteger active = new AtomicInteger();
+        private final AtomicInteger wip = new AtomicInteger();
+        private final AtomicLong succeeded = new AtomicLong();
+        private final AtomicLong recovered = new AtomicLong();
+        private final List<EntryWriteResult.Outcome> failed = new ArrayList<>();
+        private final Set<CompletableFuture<?>> inFlight = ConcurrentHashMap.newKeySet();
+        private final CompletableFuture<EntryWriteResult> result = new CompletableFuture<>();
+        private Iterator<EntryWrite> source;
+        private boolean exhausted;
+
+        Run(long startedAtNanos) {
+            this.startedAtNanos = startedAtNanos;
+            result.whenComplete((value, error) -> {
+                if (result.isCancelled()) {
+                    for (CompletableFuture<?> call : inFlight) {
+                        call.cancel(false);
+                    }
+                }
+            });
+        }
+    }
+}
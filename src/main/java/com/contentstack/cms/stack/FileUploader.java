@@ -5,6 +5,12 @@ import com.contentstack.cms.core.ErrorMessages;
 import okhttp3.MediaType;
 import okhttp3.MultipartBody;
 import okhttp3.RequestBody;
+import okio.Buffer;
+import okio.BufferedSink;
+import okio.Okio;
+import okio.Source;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.io.File;
 import java.io.IOException;
@@ -17,6 +23,11 @@ import javax.activation.MimetypesFileTypeMap;
 
 public class FileUploader {
 
+    /**
+     * Default number of bytes read from disk and written per chunk (256 KiB).
+     */
+    public static final int DEFAULT_CHUNK_SIZE = 256 * 1024;
+
     // Static map for common file extensions to MIME types
     private static final Map<String, String> EXTENSION_TO_MIME;
     static {
@@ -69,8 +80,120 @@ public class FileUploader {
         return builder.build();
     }
 
+    /**
+     * Creates the upload form like {@link #createMultipartBody(String, String, String, String, String[])},
+     * streaming the file from disk in chunks and reporting progress after each one.
+     *
+     * @param filePath    the file path
+     * @param parentUid   the parent folder uid, or null
+     * @param title       the title of asset, or null
+     * @param description description of asset, or null
+     * @param tags        tags array of strings, or null
+     * @param listener    receives progress, or null
+     * @param chunkSize   bytes read and written per chunk
+     * @return the multipart body
+     */
+    public MultipartBody createMultipartBody(String filePath, String parentUid, String title, String description,
+                                             String[] tags, @Nullable UploadListener listener, int chunkSize) {
+        File file = new File(filePath);
+        ChunkedFileBody fileBody = file.exists() ? chunkedBody(file, listener, chunkSize) : null;
+        return createMultipartBody(fileBody, file.getName(), parentUid, title, description, tags);
+    }
+
+    MultipartBody createMultipartBody(@Nullable RequestBody fileBody, String fileName, String parentUid,
+                                      String title, String description, String[] tags) {
+        MultipartBody.Builder builder = new MultipartBody.Builder();
+        builder.setType(MultipartBody.FORM);
+        if (fileBody != null) {
+            builder.addFormDataPart("asset[upload]", fileName, fileBody);
+        }
+        if (parentUid != null) {
+            builder.addFormDataPart("asset[parent_uid]", parentUid);
+        }
+        if (title != null) {
+            builder.addFormDataPart("asset[title]", title);
+        }
+        if (description != null) {
+            builder.addFormDataPart("asset[description]", description);
+        }
+        if (tags != null && tags.length > 0) {
+            builder.addFormDataPart("asset[tags]", tagConvertor(tags));
+        }
+        return builder.build();
+    }
+
+    ChunkedFileBody chunkedBody(@NotNull File file, @Nullable UploadListener listener, int chunkSize) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("chunkSize must be positive");
+        }
+        MediaType mediaType = Objects.requireNonNull(MediaType.parse(getContentType(file)));
+        return new ChunkedFileBody(mediaType, file, listener, chunkSize);
+    }
+
+    /**
+     * File request body written in fixed-size chunks straight from disk. The body
+     * can be written more than once, so an interceptor retry re-reads the file
+     * instead of holding it in memory, and it records how much of the latest
+     * attempt reached the connection.
+     */
+    static final class ChunkedFileBody extends RequestBody {
+
+        private final MediaType contentType;
+        private final File file;
+        @Nullable
+        private final UploadListener listener;
+        private final int chunkSize;
+        private volatile long bytesSent;
+
+        ChunkedFileBody(MediaType contentType, File file, @Nullable UploadListener listener, int chunkSize) {
+            this.contentType = contentType;
+            this.file = file;
+            this.listener = listener;
+            this.chunkSize = chunkSize;
+        }
+
+        @Override
+        public MediaType contentType() {
+            return contentType;
+        }
+
+        @Override
+        public long contentLength() {
+            return file.length();
+        }
+
+        @Override
+        public void writeTo(@NotNull BufferedSink sink) throws IOException {
+            long total = contentLength();
+            long sent = 0;
+            bytesSent = 0;
+            try (Source source = Okio.source(file)) {
+                Buffer chunk = new Buffer();
+                long read;
+                while ((read = source.read(chunk, chunkSize)) != -1) {
+                    sink.write(chunk, read);
+                    sink.flush();
+                    sent += read;
+                    bytesSent = sent;
+                    if (listener != null) {
+                        listener.onProgress(sent, total);
+                    }
+                }
+            }
+        }
+
+        /**
+         * Checks whether the latest attempt wrote the whole file.
+         *
+         * @return true once every byte of the file has been written
+         */
+        boolean isFullySent() {
+            return bytesSent >= contentLength();
+        }
+    }
+
     // Helper method to get content type of file
-    private String getContentType(File file) {
+    String getContentType(File file) {
         String name = file.getName().toLowerCase();
         int dot = name.lastIndexOf('.');
         if (dot != -1) {
@@ -0,0 +1,32 @@
+package com.contentstack.cms.stack;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Completes {@link ReleaseAssembler#addAndDeploy} when some items could not be
+ * added, so the release was not deployed.
+ */
+public class IncompleteReleaseException extends RuntimeException {
+
+    private final transient BulkResult result;
+
+    /**
+     * Creates the exception.
+     *
+     * @param result the outcome of adding the items
+     */
+    public IncompleteReleaseException(@NotNull BulkResult result) {
+        super(result.getFailed().size() + " release items were rejected; the release was not deployed");
+        this.result = result;
+    }
+
+    /**
+     * Gets the outcome of adding the items, including the rejected ones.
+     *
+     * @return the result
+     */
+    @NotNull
+    public BulkResult getResult() {
+        return result;
+    }
+}
@@ -0,0 +1,34 @@
+package com.contentstack.cms.stack;
+
+import com.google.gson.JsonObject;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Completes a {@link JobPoller} future when the server reports that the job
+ * failed. The last status response is kept for inspection.
+ */
+public class JobFailedException extends RuntimeException {
+
+    private final transient JsonObject status;
+
+    /**
+     * Creates the exception.
+     *
+     * @param message the failure description
+     * @param status  the last status response of the job
+     */
+    public JobFailedException(String message, @NotNull JsonObject status) {
+        super(message);
+        this.status = status;
+    }
+
+    /**
+     * Gets the status response that reported the failure.
+     *
+     * @return the status response
+     */
+    @NotNull
+    public JsonObject getStatus() {
+        return status;
+    }
+}
@@ -0,0 +1,645 @@
+package com.contentstack.cms.stack;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import okhttp3.ResponseBody;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import retrofit2.Call;
+import retrofit2.HttpException;
+import retrofit2.Response;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Waits for server-side jobs, such as bulk operations, branch merges and release
+ * deployments, on a single scheduler thread.
+ * <p>
+ * Each job gets a {@link CompletableFuture} that completes with the last status
+ * response once the job succeeds, or exceptionally with
+ * {@link JobFailedException} when it fails, {@link TimeoutException} when it
+ * outlives {@link Builder#timeout(long, TimeUnit)}, or {@link HttpException} when
+ * a status check is rejected. Status checks are sent with OkHttp's
+ * {@code enqueue}, so no thread waits for a response, and checks that fall due
+ * within {@link Builder#batchWindow(long, TimeUnit)} of each other are sent in the
+ * same pass, at most {@link Builder#maxConcurrentChecks(int)} at a time.
+ * <p>
+ * The interval of a job starts at {@link Builder#initialInterval(long, TimeUnit)}
+ * and grows by {@link Builder#multiplier(double)} while its status does not
+ * change, up to {@link Builder#maxInterval(long, TimeUnit)}; a status that moved
+ * on halves it again. A 429 or 5xx answer, or a network error, backs the job off
+ * without failing it.
+ *
+ * <pre>{@code
+ * JobPoller poller = JobPoller.shared();
+ * CompletableFuture<JsonObject> published = poller.bulkJob(stack.bulkOperation(), jobUid);
+ * CompletableFuture<JsonObject> merged = poller.mergeJob(stack.branch(base).mergeQueue(), mergeJobUid);
+ * CompletableFuture<JsonObject> deployed = poller.releaseDeploy(stack.releases(releaseUid));
+ * }</pre>
+ */
+public final class JobPoller {
+
+    /**
+     * State of a job as reported by a status response.
+     */
+    public enum State {
+        RUNNING, SUCCEEDED, FAILED
+    }
+
+    private static final String THREAD_NAME = "contentstack-job-poller-";
+    private static final AtomicInteger POLLER_COUNTER = new AtomicInteger();
+
+    private final ScheduledThreadPoolExecutor scheduler;
+    private final long initialIntervalNanos;
+    private final long maxIntervalNanos;
+    private final double multiplier;
+    private final long timeoutNanos;
+    private final long batchWindowNanos;
+    private final int maxConcurrentChecks;
+    private final AtomicInteger pending = new AtomicInteger();
+    private final AtomicLong checkCount = new AtomicLong();
+
+    // Confined to the scheduler thread
+    private final PriorityQueue<Job> queue = new PriorityQueue<>();
+    private int checksInFlight;
+    @Nullable
+    private ScheduledFuture<?> wakeup;
+    private long wakeupAtNanos = Long.MAX_VALUE;
+
+    private JobPoller(Builder builder) {
+        this.initialIntervalNanos = builder.initialIntervalNanos;
+        this.maxIntervalNanos = Math.max(builder.maxIntervalNanos, builder.initialIntervalNanos);
+        this.multiplier = builder.multiplier;
+        this.timeoutNanos = builder.timeoutNanos;
+        this.batchWindowNanos = builder.batchWindowNanos;
+        this.maxConcurrentChecks = builder.maxConcurrentChecks;
+        String name = THREAD_NAME + POLLER_COUNTER.incrementAndGet();
+        this.scheduler = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, name);
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.scheduler.setRemoveOnCancelPolicy(true);
+    }
+
+    /**
+     * Gets the SDK-wide poller with the default settings, creating it on first use.
+     *
+     * @return the shared poller
+     */
+    public static JobPoller shared() {
+        return Holder.INSTANCE;
+    }
+
+    /**
+     * Waits for a bulk operation job.
+     *
+     * @param bulkOperation the bulk operation of the job's stack
+     * @param jobUid        the job UID returned by the bulk request
+     * @return a future of the final job status
+     * @see BulkOperation#jobStatus(String)
+     */
+    @NotNull
+    public CompletableFuture<JsonObject> bulkJob(@NotNull BulkOperation bulkOperation, @NotNull String jobUid) {
+        return poll(() -> bulkOperation.jobStatus(jobUid), JobPoller::stateOf);
+    }
+
+    /**
+     * Waits for several bulk operation jobs.
+     *
+     * @param bulkOperation the bulk operation of the jobs' stack
+     * @param jobUids       the job UIDs, e.g. {@link BulkResult#getJobUids()}
+     * @return a future of the final status of every job, keyed by job UID; it
+     * completes exceptionally as soon as one job fails
+     */
+    @NotNull
+    public CompletableFuture<Map<String, JsonObject>> bulkJobs(@NotNull BulkOperation bulkOperation,
+                                                               @NotNull Collection<String> jobUids) {
+        Map<String, CompletableFuture<JsonObject>> futures = new LinkedHashMap<>();
+        for (String jobUid : jobUids) {
+            futures.put(jobUid, bulkJob(bulkOperation, jobUid));
+        }
+        CompletableFuture<Map<String, JsonObject>> all = new CompletableFuture<>();
+        CompletableFuture.allOf(futures.values().toArray(new CompletableFuture<?>[0]))
+                .whenComplete((ignored, error) -> {
+                    if (error != null) {
+                        all.completeExceptionally(error instanceof CompletionException
+                                && error.getCause() != null ? error.getCause() : error);
+                        return;
+                    }
+                    Map<String, JsonObject> statuses = new LinkedHashMap<>();
+                    futures.forEach((jobUid, future) -> statuses.put(jobUid, future.join()));
+                    all.complete(statuses);
+                });
+        all.whenComplete((value, error) -> {
+            if (all.isCancelled()) {
+                futures.values().forEach(future -> future.cancel(false));
+            }
+        });
+        return all;
+    }
+
+    /**
+     * Waits for a branch merge job.
+     *
+     * @param merge       the merge resource of the base branch
+     * @param mergeJobUid the merge job UID returned by the merge request
+     * @return a future of the final merge job status
+     * @see Merge#fetch(String)
+     */
+    @NotNull
+    public CompletableFuture<JsonObject> mergeJob(@NotNull Merge merge, @NotNull String mergeJobUid) {
+        return poll(() -> merge.fetch(mergeJobUid), JobPoller::stateOf);
+    }
+
+    /**
+     * Waits for the deployment of a release, as reported by the status of the
+     * release.
+     * <p>
+     * A release that was deployed before reports a finished status until the new
+     * deployment shows up, so this completes at once for it; use
+     * {@link #releaseDeploy(Release, JsonObject)} with the release as fetched
+     * before the deploy request to wait for the new deployment.
+     *
+     * @param release the deployed release
+     * @return a future of the release once its deployment has finished
+     * @see Release#deploy(org.json.simple.JSONObject)
+     */
+    @NotNull
+    public CompletableFuture<JsonObject> releaseDeploy(@NotNull Release release) {
+        return releaseDeploy(release, null);
+    }
+
+    /**
+     * Waits for the deployment of a release that was in the given state before
+     * it was deployed.
+     * <p>
+     * The job counts as running while the release still reports the status found
+     * in {@code before}; the new deployment is classified once the status differs
+     * from it.
+     *
+     * @param release the deployed release
+     * @param before  the release as fetched before the deploy request, or null if
+     *                it had no earlier status
+     * @return a future of the release once its new deployment has finished
+     * @see Release#fetch()
+     */
+    @NotNull
+    public CompletableFuture<JsonObject> releaseDeploy(@NotNull Release release, @Nullable JsonObject before) {
+        JsonElement previous = before != null ? findStatus(before) : null;
+        if (previous == null) {
+            return poll(release::fetch, JobPoller::stateOf);
+        }
+        AtomicBoolean changed = new AtomicBoolean();
+        return poll(release::fetch, response -> {
+            if (!changed.get()) {
+                if (previous.equals(findStatus(response))) {
+                    return State.RUNNING;
+                }
+                changed.set(true);
+            }
+            return stateOf(response);
+        });
+    }
+
+    /**
+     * Waits for any job whose status can be read with a call.
+     *
+     * @param statusCheck creates a new status call for each check
+     * @param classifier  reads the job state from a status response
+     * @return a future of the final status response
+     */
+    @NotNull
+    public CompletableFuture<JsonObject> poll(@NotNull Supplier<Call<ResponseBody>> statusCheck,
+                                              @NotNull Function<JsonObject, State> classifier) {
+        Job job = new Job(Objects.requireNonNull(statusCheck, "statusCheck"),
+                Objects.requireNonNull(classifier, "classifier"), System.nanoTime());
+        pending.incrementAndGet();
+        job.future.whenComplete((value, error) -> pending.decrementAndGet());
+        try {
+            scheduler.execute(() -> {
+                queue.add(job);
+                drain();
+            });
+        } catch (RejectedExecutionException e) {
+            job.future.completeExceptionally(e);
+        }
+        return job.future;
+    }
+
+    /**
+     * Gets the number of jobs not yet finished.
+     *
+     * @return the pending job count
+     */
+    public int getPendingCount() {
+        return pending.get();
+    }
+
+    /**
+     * Gets the number of status checks sent so far.
+     *
+     * @return the check count
+     */
+    public long getCheckCount() {
+        return checkCount.get();
+    }
+
+    /**
+     * Stops the scheduler thread. Pending jobs are not completed.
+     */
+    public void shutdown() {
+        scheduler.shutdownNow();
+    }
+
+    /**
+     * Sends the checks that are due, or fall due within the batch window, and
+     * arms the wake-up for the next one. Runs on the scheduler thread.
+     */
+    private void drain() {
+        long now = System.nanoTime();
+        while (!queue.isEmpty() && checksInFlight < maxConcurrentChecks) {
+            Job job = queue.peek();
+            if (job.future.isDone()) {
+                queue.poll();
+                continue;
+            }
+            // A check joins an earlier pass by at most a quarter of its interval
+            if (job.nextCheckAtNanos - now > Math.min(batchWindowNanos, job.intervalNanos / 4)) {
+                break;
+            }
+            queue.poll();
+            check(job);
+        }
+        Job next = queue.peek();
+        if (next == null || checksInFlight >= maxConcurrentChecks) {
+            return;
+        }
+        long at = next.nextCheckAtNanos;
+        if (wakeup != null && wakeupAtNanos <= at && !wakeup.isDone()) {
+            return;
+        }
+        if (wakeup != null) {
+            wakeup.cancel(false);
+        }
+        wakeupAtNanos = at;
+        wakeup = scheduler.schedule(this::drain, Math.max(0, at - now), TimeUnit.NANOSECONDS);
+    }
+
+    private void check(Job job) {
+        checksInFlight++;
+        checkCount.incrementAndGet();
+        CompletableFuture<Response<ResponseBody>> response;
+        try {
+            response = AsyncResource.send(job.statusCheck.get(), null);
+        } catch (RuntimeException e) {
+            response = new CompletableFuture<>();
+            response.completeExceptionally(e);
+        }
+        job.inFlight = response;
+        response.whenComplete((value, error) -> {
+            try {
+                scheduler.execute(() -> {
+                    checksInFlight--;
+                    job.inFlight = null;
+                    handle(job, value, error);
+                    drain();
+                });
+            } catch (RejectedExecutionException e) {
+                job.future.completeExceptionally(e);
+            }
+        });
+    }
+
+    private void handle(Job job, @Nullable Response<ResponseBody> response, @Nullable Throwable error) {
+        if (job.future.isDone()) {
+            closeQuietly(response);
+            return;
+        }
+        long now = System.nanoTime();
+        if (response == null || response.code() == 429 || response.code() >= 500) {
+            // Transient: back off without judging the job
+            closeQuietly(response);
+            if (error != null && !(error instanceof IOException)) {
+                job.future.completeExceptionally(error);
+                return;
+            }
+            reschedule(job, now, Math.min(maxIntervalNanos, (long) (job.intervalNanos * multiplier * multiplier)));
+            return;
+        }
+        if (!response.isSuccessful()) {
+            closeQuietly(response);
+            job.future.completeExceptionally(new HttpException(response));
+            return;
+        }
+        JsonObject status = read(response.body());
+        State state = status != null ? job.classifier.apply(status) : State.RUNNING;
+        if (state == State.SUCCEEDED) {
+            job.future.complete(status);
+        } else if (state == State.FAILED) {
+            job.future.completeExceptionally(new JobFailedException("Job failed: " + statusText(status), status));
+        } else {
+            boolean changed = status != null && !status.equals(job.lastStatus);
+            job.lastStatus = status;
+            long interval = changed && job.checks > 0
+                    ? Math.max(initialIntervalNanos, job.intervalNanos / 2)
+                    : Math.min(maxIntervalNanos, (long) (job.intervalNanos * multiplier));
+            job.checks++;
+            reschedule(job, now, interval);
+        }
+    }
+
+    private void reschedule(Job job, long now, long interval) {
+        if (now - job.startedAtNanos >= timeoutNanos) {
+            job.future.completeExceptionally(new TimeoutException("Job did not finish within "
+                    + TimeUnit.NANOSECONDS.toSeconds(timeoutNanos) + " seconds"));
+            return;
+        }
+        job.intervalNanos = interval;
+        job.nextCheckAtNanos = now + Math.min(interval, job.startedAtNanos + timeoutNanos - now);
+        queue.add(job);
+    }
+
+    @Nullable
+    private static JsonObject read(@Nullable ResponseBody body) {
+        if (body == null) {
+            return null;
+        }
+        try (ResponseBody closing = body) {
+            JsonElement root = JsonParser.parseString(closing.string());
+            return root.isJsonObject() ? root.getAsJsonObject() : null;
+        } catch (IOException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    private static void closeQuietly(@Nullable Response<ResponseBody> response) {
+        if (response == null) {
+            return;
+        }
+        if (response.body() != null) {
+            response.body().close();
+        }
+        if (response.errorBody() != null) {
+            response.errorBody().close();
+        }
+    }
+
+    /**
+     * Default classifier: reads the first {@code status} found at the top
+     * level, under {@code job}, {@code release} or {@code merge_details}, or in
+     * the first element of {@code queue}; an array of deployment statuses counts
+     * as finished when every element has.
+     *
+     * @param response the status response
+     * @return the job state
+     */
+    static State stateOf(@NotNull JsonObject response) {
+        JsonElement status = findStatus(response);
+        if (status == null) {
+            return State.RUNNING;
+        }
+        if (status.isJsonArray()) {
+            State combined = ((JsonArray) status).size() > 0 ? State.SUCCEEDED : State.RUNNING;
+            for (JsonElement element : (JsonArray) status) {
+                State state = element.isJsonObject() ? stateOf(element.getAsJsonObject()) : stateOf(element);
+                if (state == State.FAILED) {
+                    return State.FAILED;
+                }
+                if (state == State.RUNNING) {
+                    combined = State.RUNNING;
+                }
+            }
+            return combined;
+        }
+        return stateOf(status);
+    }
+
+    private static State stateOf(JsonElement status) {
+        if (!status.isJsonPrimitive()) {
+            return State.RUNNING;
+        }
+        String value = status.getAsString().toLowerCase(Locale.ROOT);
+        if (value.contains("fail") || value.contains("error") || value.contains("abort") || value.contains("cancel")) {
+            return State.FAILED;
+        }
+        if (value.contains("complete") || value.contains("success") || value.contains("done")
+                || value.contains("finish") || value.contains("deployed")) {
+            return State.SUCCEEDED;
+        }
+        return State.RUNNING;
+    }
+
+    @Nullable
+    private static JsonElement findStatus(JsonObject response) {
+        if (response.has("status")) {
+            return response.get("status");
+        }
+        for (String key : new String[]{"job", "release", "merge_details", "data"}) {
+            JsonElement nested = response.get(key);
+            if (nested != null && nested.isJsonObject()) {
+                JsonElement status = findStatus(nested.getAsJsonObject());
+                if (status != null) {
+                    return status;
+                }
+            }
+        }
+        JsonElement queue = response.get("queue");
+        if (queue != null && queue.isJsonArray() && ((JsonArray) queue).size() > 0
+                && ((JsonArray) queue).get(0).isJsonObject()) {
+            return findStatus(((JsonArray) queue).get(0).getAsJsonObject());
+        }
+        return null;
+    }
+
+    private static String statusText(JsonObject status) {
+        JsonElement value = findStatus(status);
+        return value != null ? value.toString() : status.toString();
+    }
+
+    /**
+     * Creates a new builder.
+     *
+     * @return a builder with the default intervals
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    private final class Job implements Comparable<Job> {
+        private final Supplier<Call<ResponseBody>> statusCheck;
+        private final Function<JsonObject, State> classifier;
+        private final long startedAtNanos;
+        private final CompletableFuture<JsonObject> future = new CompletableFuture<>();
+        private long nextCheckAtNanos;
+        private long intervalNanos = initialIntervalNanos;
+        private int checks;
+        @Nullable
+        private JsonObject lastStatus;
+        @Nullable
+        private volatile CompletableFuture<?> inFlight;
+
+        Job(Supplier<Call<ResponseBody>> statusCheck, Function<JsonObject, State> classifier, long now) {
+            this.statusCheck = statusCheck;
+            this.classifier = classifier;
+            this.startedAtNanos = now;
+            this.nextCheckAtNanos = now + initialIntervalNanos;
+            future.whenComplete((value, error) -> {
+                CompletableFuture<?> call = inFlight;
+                if (future.isCancelled() && call != null) {
+                    call.cancel(false);
+                }
+            });
+        }
+
+        @Override
+        public int compareTo(Job other) {
+            return Long.compare(nextCheckAtNanos, other.nextCheckAtNanos);
+        }
+    }
+
+    private static final class Holder {
+        private static final JobPoller INSTANCE = builder().build();
+    }
+
+    /**
+     * Builder for {@link JobPoller}.
+     */
+    public static final class Builder {
+
+        private long initialIntervalNanos = TimeUnit.SECONDS.toNanos(1);
+        private long maxIntervalNanos = TimeUnit.SECONDS.toNanos(30);
+        private double multiplier = 1.5;
+        private long timeoutNanos = TimeUnit.HOURS.toNanos(1);
+        private long batchWindowNanos = TimeUnit.MILLISECONDS.toNanos(250);
+        private int maxConcurrentChecks = 16;
+
+        private Builder() {
+        }
+
+        /**
+         * Sets the delay before the first check of a job. Default: 1 second
+         *
+         * @param interval the delay
+         * @param unit     the unit of {@code interval}
+         * @return this builder
+         * @throws IllegalArgumentException if {@code interval} is not positive
+         */
+        public Builder initialInterval(long interval, @NotNull TimeUnit unit) {
+            this.initialIntervalNanos = positive(interval, unit, "initialInterval");
+            return this;
+        }
+
+        /**
+         * Sets the longest delay between two checks of a job. Default: 30 seconds
+         *
+         * @param interval the delay
+         * @param unit     the unit of {@code interval}
+         * @return this builder
+         * @throws IllegalArgumentException if {@code interval} is not positive
+         */
+        public Builder maxInterval(long interval, @NotNull TimeUnit unit) {
+            this.maxIntervalNanos = positive(interval, unit, "maxInterval");
+            return this;
+        }
+
+        /**
+         * Sets the factor the delay grows by while a job's status is unchanged.
+         * Default: 1.5
+         *
+         * @param multiplier the growth factor
+         * @return this builder
+         * @throws IllegalArgumentException if {@code multiplier} is below 1
+         */
+        public Builder multiplier(double multiplier) {
+            if (multiplier < 1) {
+                throw new IllegalArgumentException("multiplier must be at least 1.");
+            }
+            this.multiplier = multiplier;
+            return this;
+        }
+
+        /**
+         * Sets how long a job may run before its future fails with
+         * {@link TimeoutException}. Default: 1 hour
+         *
+         * @param timeout the timeout
+         * @param unit    the unit of {@code timeout}
+         * @return this builder
+         * @throws IllegalArgumentException if {@code timeout} is not positive
+         */
+        public Builder timeout(long timeout, @NotNull TimeUnit unit) {
+            this.timeoutNanos = positive(timeout, unit, "timeout");
+            return this;
+        }
+
+        /**
+         * Sets how early a check may be sent to join a pass with other due
+         * checks, up to a quarter of the job's current interval. Default: 250
+         * milliseconds
+         *
+         * @param window the window
+         * @param unit   the unit of {@code window}
+         * @return this builder
+         * @throws IllegalArgumentException if {@code window} is negative
+         */
+        public Builder batchWindow(long window, @NotNull TimeUnit unit) {
+            if (window < 0) {
+                throw new IllegalArgumentException("batchWindow must not be negative.");
+            }
+            this.batchWindowNanos = unit.toNanos(window);
+            return this;
+        }
+
+        /**
+         * Sets the number of status checks in flight at once. Default: 16
+         *
+         * @param maxConcurrentChecks the limit
+         * @return this builder
+         * @throws IllegalArgumentException if the limit is not positive
+         */
+        public Builder maxConcurrentChecks(int maxConcurrentChecks) {
+            if (maxConcurrentChecks <= 0) {
+                throw new IllegalArgumentException("maxConcurrentChecks must be positive.");
+            }
+            this.maxConcurrentChecks = maxConcurrentChecks;
+            return this;
+        }
+
+        /**
+         * Builds the poller and starts its scheduler thread on first use.
+         *
+         * @return the poller
+         */
+        public JobPoller build() {
+            return new JobPoller(this);
+        }
+
+        private static long positive(long value, TimeUnit unit, String name) {
+            if (value <= 0) {
+                throw new IllegalArgumentException(name + " must be positive.");
+            }
+            return unit.toNanos(value);
+        }
+    }
+}
@@ -0,0 +1,200 @@
+package com.contentstack.cms.stack;
+
+import com.google.gson.JsonObject;
+import okhttp3.ResponseBody;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import retrofit2.HttpException;
+import retrofit2.Response;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Lazily walks every item of a skip/limit list endpoint, one page at a time.
+ * <p>
+ * Nothing is requested until the first call to {@link #hasNext()}. As soon as a
+ * page arrives, the next one is requested in the background, so the network round
+ * trip overlaps with the caller processing the current page; at most two pages are
+ * held in memory however long the listing is. The first page is requested with
+ * {@code include_count=true}, and the reported total is available from
+ * {@link #getTotalCount()} to size downstream work.
+ * <p>
+ * Errors surface from {@link #hasNext()}: a non-2xx response as
+ * {@link HttpException}, and network or parse failures as {@link UncheckedIOException}.
+ * Close the iterator (or the stream from {@link #stream()}) when abandoning it early
+ * to cancel the prefetched page.
+ *
+ * <pre>{@code
+ * try (Stream<JsonObject> entries = stack.contentType("blog_post").entry().stream(100)) {
+ *     entries.forEach(entry -> export(entry));
+ * }
+ * }</pre>
+ */
+public final class PagedIterator implements Iterator<JsonObject>, Closeable {
+
+    private final Pagination.PageSource source;
+    private final String itemsKey;
+    private final int pageSize;
+
+    private Iterator<JsonObject> current = Collections.emptyIterator();
+    @Nullable
+    private CompletableFuture<Response<ResponseBody>> pending;
+    private int pendingSkip;
+    private boolean started;
+    private boolean closed;
+    private int total = -1;
+    private long returned;
+
+    PagedIterator(@NotNull Pagination.PageSource source, @NotNull String itemsKey, int pageSize) {
+        Pagination.validatePageSize(pageSize);
+        this.source = source;
+        this.itemsKey = itemsKey;
+        this.pageSize = pageSize;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (!started) {
+            started = true;
+            request(0);
+        }
+        while (!current.hasNext()) {
+            if (pending == null || closed) {
+                return false;
+            }
+            Pagination.Page page = await();
+            if (total < 0) {
+                total = page.getCount();
+            }
+            current = page.getItems().iterator();
+            if (page.hasMore(pageSize, total)) {
+                request(page.getSkip() + page.getItems().size());
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public JsonObject next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        returned++;
+        return current.next();
+    }
+
+    /**
+     * Gets the total number of items reported by the server with the first page,
+     * fetching that page if it has not been requested yet.
+     *
+     * @return the total count, or -1 if the endpoint does not report one
+     */
+    public int getTotalCount() {
+        if (!started) {
+            hasNext();
+        }
+        return total;
+    }
+
+    /**
+     * Wraps the remaining items in a sequential {@link Stream}. Closing the stream
+     * closes this iterator.
+     *
+     * @return a stream of the remaining items
+     */
+    @NotNull
+    public Stream<JsonObject> stream() {
+        return StreamSupport.stream(new PagedSpliterator(), false).onClose(this::close);
+    }
+
+    /**
+     * Stops paging and cancels the prefetched page, if any.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        current = Collections.emptyIterator();
+        if (pending != null) {
+            pending.cancel(true);
+            pending = null;
+        }
+    }
+
+    private void request(int skip) {
+        pendingSkip = skip;
+        pending = AsyncResource.send(source.page(skip, pageSize, total < 0), null);
+    }
+
+    private Pagination.Page await() {
+        CompletableFuture<Response<ResponseBody>> future = pending;
+        pending = null;
+        try {
+            Response<ResponseBody> response = future.get();
+            ResponseBody body = response.body();
+            if (!response.isSuccessful() || body == null) {
+                throw new HttpException(response);
+            }
+            return Pagination.parse(body, itemsKey, pendingSkip);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            throw new UncheckedIOException(new InterruptedIOException("Interrupted while waiting for a page"));
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw new UncheckedIOException((IOException) cause);
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new IllegalStateException(cause);
+        } catch (CancellationException e) {
+            throw new UncheckedIOException(new InterruptedIOException("Page request was cancelled"));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Reports the remaining size once the first page has told us the total.
+     */
+    private final class PagedSpliterator implements Spliterator<JsonObject> {
+
+        @Override
+        public boolean tryAdvance(Consumer<? super JsonObject> action) {
+            if (!hasNext()) {
+                return false;
+            }
+            action.accept(next());
+            return true;
+        }
+
+        @Override
+        public Spliterator<JsonObject> trySplit() {
+            return null;
+        }
+
+        @Override
+        public long estimateSize() {
+            return total >= 0 ? Math.max(0, total - returned) : Long.MAX_VALUE;
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | NONNULL;
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package com.contentstack.cms.stack;
+
+import com.contentstack.cms.BaseImplementation;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import okhttp3.ResponseBody;
+import org.jetbrains.annotations.NotNull;
+import retrofit2.Call;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Skip/limit paging shared by the list endpoints of the Content Management API.
+ * <p>
+ * A page is requested by setting the {@code skip}, {@code limit} and (on the first
+ * page) {@code include_count} query parameters on a resource and calling its list
+ * method. Paging stops when a page comes back short or the reported count is reached.
+ */
+final class Pagination {
+
+    static final String SKIP = "skip";
+    static final String LIMIT = "limit";
+    static final String INCLUDE_COUNT = "include_count";
+    static final String COUNT = "count";
+
+    /**
+     * Largest page the Content Management API returns.
+     */
+    static final int MAX_PAGE_SIZE = 100;
+
+    private Pagination() {
+        throw new AssertionError("Pagination should not be instantiated");
+    }
+
+    /**
+     * Creates the call for one page of a list endpoint.
+     */
+    @FunctionalInterface
+    interface PageSource {
+
+        /**
+         * Creates the call for a page.
+         *
+         * @param skip         number of items to skip
+         * @param limit        page size
+         * @param includeCount whether to ask for the total count
+         * @return the call for the page
+         */
+        Call<ResponseBody> page(int skip, int limit, boolean includeCount);
+    }
+
+    /**
+     * Builds a page source that sets the paging parameters on {@code resource} before
+     * calling {@code finder}. Retrofit reads the query map when the call is sent, so
+     * each returned call must be executed or enqueued before the next page is requested.
+     *
+     * @param resource the resource whose query parameters carry the paging state
+     * @param finder   the list method of the resource
+     * @return the page source
+     */
+    static PageSource of(@NotNull BaseImplementation<?> resource, @NotNull Supplier<Call<ResponseBody>> finder) {
+        return (skip, limit, includeCount) -> {
+            resource.addParam(SKIP, skip);
+            resource.addParam(LIMIT, limit);
+            resource.addParam(INCLUDE_COUNT, includeCount);
+            return finder.get();
+        };
+    }
+
+    static void validatePageSize(int pageSize) {
+        if (pageSize < 1 || pageSize > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("Page size must be between 1 and " + MAX_PAGE_SIZE);
+        }
+    }
+
+    /**
+     * Reads one page from a response body and closes it.
+     *
+     * @param body     the response body of a list call
+     * @param itemsKey the key of the item array (for example {@code entries})
+     * @param skip     the skip the page was requested with
+     * @return the parsed page
+     * @throws IOException if the body cannot be read or parsed
+     */
+    static Page parse(@NotNull ResponseBody body, @NotNull String itemsKey, int skip) throws IOException {
+        try (Reader reader = body.charStream()) {
+            JsonElement root = JsonParser.parseReader(reader);
+            if (!root.isJsonObject()) {
+                throw new IOException("Expected a JSON object in the list response");
+            }
+            JsonObject object = root.getAsJsonObject();
+            List<JsonObject> items = new ArrayList<>();
+            JsonElement array = object.get(itemsKey);
+            if (array != null && array.isJsonArray()) {
+                for (JsonElement item : (JsonArray) array) {
+                    if (item.isJsonObject()) {
+                        items.add(item.getAsJsonObject());
+                    }
+                }
+            }
+            JsonElement count = object.get(COUNT);
+            int total = count != null && count.isJsonPrimitive() ? count.getAsInt() : -1;
+            return new Page(items, skip, total);
+        } catch (RuntimeException e) {
+            throw new IOException("Failed to parse the list response", e);
+        }
+    }
+
+    /**
+     * One page of a list endpoint.
+     */
+    static final class Page {
+        private final List<JsonObject> items;
+        private final int skip;
+        private final int count;
+
+        Page(List<JsonObject> items, int skip, int count) {
+            this.items = Collections.unmodifiableList(items);
+            this.skip = skip;
+            this.count = count;
+        }
+
+        List<JsonObject> getItems() {
+            return items;
+        }
+
+        int getSkip() {
+            return skip;
+        }
+
+        /**
+         * @return the total item count reported by the server, or -1 if not reported
+         */
+        int getCount() {
+            return count;
+        }
+
+        /**
+         * Whether another page should be requested after this one.
+         *
+         * @param pageSize the requested page size
+         * @param total    the total count reported for the listing, or -1 if unknown
+         * @return true if more items are expected
+         */
+        boolean hasMore(int pageSize, int total) {
+            if (items.size() < pageSize) {
+                return false;
+            }
+            return total < 0 || skip + items.size() < total;
+        }
+    }
+}
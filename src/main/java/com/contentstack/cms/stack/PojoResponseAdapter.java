@@ -0,0 +1,92 @@
+package com.contentstack.cms.stack;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Reads a response that wraps one value under a key, such as {@code {"asset": {...}}}.
+ * The value is parsed from the stream once into a JSON tree, which the response
+ * class reads its POJOs from with the converting Gson's registered adapters; every
+ * other key is skipped. Writing puts the tree back under the key unchanged.
+ *
+ * @param <R> the response type
+ */
+final class PojoResponseAdapter<R> extends TypeAdapter<R> {
+
+    private final TypeAdapter<JsonElement> elementAdapter;
+    private final String key;
+    private final boolean array;
+    private final Supplier<R> creator;
+    private final BiConsumer<R, JsonElement> reader;
+    private final Function<R, JsonElement> tree;
+
+    /**
+     * @param gson    the converting Gson
+     * @param key     the key of the wrapped value
+     * @param array   true if the value is an array, false if it is an object
+     * @param creator creates an empty response
+     * @param reader  fills the response from the value's tree
+     * @param tree    gets the tree back from a response, for writing
+     */
+    PojoResponseAdapter(Gson gson, String key, boolean array, Supplier<R> creator,
+                        BiConsumer<R, JsonElement> reader, Function<R, JsonElement> tree) {
+        this.elementAdapter = gson.getAdapter(JsonElement.class);
+        this.key = key;
+        this.array = array;
+        this.creator = creator;
+        this.reader = reader;
+        this.tree = tree;
+    }
+
+    @Override
+    public R read(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+        R response = creator.get();
+        in.beginObject();
+        while (in.hasNext()) {
+            if (!key.equals(in.nextName())) {
+                in.skipValue();
+                continue;
+            }
+            JsonElement value = elementAdapter.read(in);
+            if (value.isJsonNull()) {
+                continue;
+            }
+            if (array ? !value.isJsonArray() : !value.isJsonObject()) {
+                throw new JsonSyntaxException("Expected " + (array ? "an array" : "an object") + " for \""
+                        + key + "\" at " + in.getPath());
+            }
+            reader.accept(response, value);
+        }
+        in.endObject();
+        return response;
+    }
+
+    @Override
+    public void write(JsonWriter out, R response) throws IOException {
+        if (response == null) {
+            out.nullValue();
+            return;
+        }
+        out.beginObject();
+        JsonElement value = tree.apply(response);
+        if (value != null) {
+            out.name(key);
+            elementAdapter.write(out, value);
+        }
+        out.endObject();
+    }
+}
@@ -3,6 +3,7 @@ package com.contentstack.cms.stack;
 import com.contentstack.cms.core.ErrorMessages;
 
 import com.contentstack.cms.BaseImplementation;
+import com.google.gson.JsonObject;
 import okhttp3.ResponseBody;
 import org.jetbrains.annotations.NotNull;
 import retrofit2.Call;
@@ -10,6 +11,7 @@ import retrofit2.Retrofit;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.stream.Stream;
 
 /**
  * The Publish Queue displays the historical and current details of activities
@@ -172,6 +174,36 @@ public class PublishQueue implements BaseImplementation<PublishQueue> {
         return this.service.fetch(this.headers, this.params);
     }
 
+    /**
+     * Lazily iterates over every publish queue item matching the current query parameters,
+     * requesting {@code pageSize} items per call to {@link #find()} and
+     * prefetching the next page while the current one is processed. The total
+     * reported through {@code include_count} is available from
+     * {@link PagedIterator#getTotalCount()}.
+     * <p>
+     * The {@code skip}, {@code limit} and {@code include_count} query parameters
+     * of this instance are managed by the iterator, so it should not be used for
+     * other calls while iterating.
+     *
+     * @param pageSize items per page, between 1 and 100
+     * @return an iterator over the publish queue items
+     */
+    public PagedIterator iterator(int pageSize) {
+        return new PagedIterator(Pagination.of(this, this::find), "queue", pageSize);
+    }
+
+    /**
+     * Streams every publish queue item matching the current query parameters, page by page.
+     * Close the stream when stopping early so the prefetched page is cancelled.
+     *
+     * @param pageSize items per page, between 1 and 100
+     * @return a sequential stream of the publish queue items
+     * @see #iterator(int)
+     */
+    public Stream<JsonObject> stream(int pageSize) {
+        return iterator(pageSize).stream();
+    }
+
     /**
      * Get publish queue activity request returns comprehensive information on a
      * specific publish, unpublish, or delete
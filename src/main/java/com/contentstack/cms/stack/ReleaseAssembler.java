@@ -0,0 +1,486 @@
+package com.contentstack.cms.stack;
+
+import com.contentstack.cms.core.RequestPriority;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import okhttp3.ResponseBody;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.json.simple.JSONArray;
+import org.json.simple.JSONObject;
+import retrofit2.Call;
+import retrofit2.HttpException;
+import retrofit2.Response;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * Fills a release with any number of entries and assets, then deploys it.
+ * <p>
+ * {@link #add(Iterable, String)} first lists the items already in the release
+ * through {@link ReleaseItem#find()}, then pulls the given items lazily, skips
+ * those already present (or given twice), and sends the rest in chunks of
+ * {@link #withChunkSize(int) chunkSize} through
+ * {@link ReleaseItem#createMultiple(JSONObject)}, with up to
+ * {@link #withParallelism(int) parallelism} requests in flight. Only the chunks in
+ * flight are held in memory, so the items can come from a lazily evaluated
+ * {@link Stream}. A rejected chunk fails only its own items.
+ * <p>
+ * {@link #deploy(JSONObject)} deploys the release and completes once the
+ * {@link JobPoller} sees the deployment finish. An existing item is matched on
+ * its UID and locale; an item given without a locale matches any locale of its
+ * UID.
+ *
+ * <pre>{@code
+ * JSONObject deployment = new JSONObject();
+ * deployment.put("environments", Collections.singletonList("production"));
+ * deployment.put("locales", Collections.singletonList("en-us"));
+ * deployment.put("action", "publish");
+ *
+ * stack.releaseAssembler(releaseUid)
+ *         .withParallelism(8)
+ *         .addAndDeploy(items, "publish", deployment)
+ *         .join();
+ * }</pre>
+ */
+public final class ReleaseAssembler {
+
+    static final int DEFAULT_CHUNK_SIZE = 25;
+    static final int DEFAULT_PARALLELISM = 4;
+
+    /**
+     * Content type UID that marks an asset in a release.
+     */
+    static final String ASSET_CONTENT_TYPE = "built_io_upload";
+    static final String ITEMS = "items";
+
+    private final Release release;
+    @Nullable
+    private final Executor executor;
+    private final RequestPriority priority;
+    private final JobPoller poller;
+    private final int chunkSize;
+    private final int parallelism;
+
+    ReleaseAssembler(@NotNull Release release, @Nullable Executor executor) {
+        this(release, executor, RequestPriority.BACKGROUND, null, DEFAULT_CHUNK_SIZE, DEFAULT_PARALLELISM);
+    }
+
+    private ReleaseAssembler(Release release, @Nullable Executor executor, RequestPriority priority,
+                             @Nullable JobPoller poller, int chunkSize, int parallelism) {
+        this.release = release;
+        this.executor = executor;
+        this.priority = priority;
+        this.poller = poller;
+        this.chunkSize = chunkSize;
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Gets an assembler that adds at most {@code chunkSize} items per request.
+     * Default: 25
+     *
+     * @param chunkSize the items per request
+     * @return the assembler
+     * @throws IllegalArgumentException if {@code chunkSize} is not positive
+     */
+    @NotNull
+    public ReleaseAssembler withChunkSize(int chunkSize) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("chunkSize must be positive.");
+        }
+        return new ReleaseAssembler(release, executor, priority, poller, chunkSize, parallelism);
+    }
+
+    /**
+     * Gets an assembler that keeps at most {@code parallelism} requests in flight.
+     * Default: 4
+     *
+     * @param parallelism the concurrent requests
+     * @return the assembler
+     * @throws IllegalArgumentException if {@code parallelism} is not positive
+     */
+    @NotNull
+    public ReleaseAssembler withParallelism(int parallelism) {
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("parallelism must be positive.");
+        }
+        return new ReleaseAssembler(release, executor, priority, poller, chunkSize, parallelism);
+    }
+
+    /**
+     * Gets an assembler whose requests are queued with the given priority on a
+     * {@link com.contentstack.cms.core.PriorityExecutor}. Default:
+     * {@link RequestPriority#BACKGROUND}
+     *
+     * @param priority the priority of the requests
+     * @return the assembler
+     */
+    @NotNull
+    public ReleaseAssembler withPriority(@NotNull RequestPriority priority) {
+        return new ReleaseAssembler(release, executor, Objects.requireNonNull(priority, "priority"), poller,
+                chunkSize, parallelism);
+    }
+
+    /**
+     * Gets an assembler that tracks deployments with the given poller. Default:
+     * {@link JobPoller#shared()}
+     *
+     * @param poller the poller
+     * @return the assembler
+     */
+    @NotNull
+    public ReleaseAssembler withPoller(@NotNull JobPoller poller) {
+        return new ReleaseAssembler(release, executor, priority, Objects.requireNonNull(poller, "poller"),
+                chunkSize, parallelism);
+    }
+
+    /**
+     * Adds entries and assets to the release, skipping those already in it.
+     *
+     * @param items  the entries and assets; entries should carry a
+     *               {@link BulkItem#withVersion(int) version}
+     * @param action the deployment action of the items, {@code publish} or
+     *               {@code unpublish}
+     * @return a future of the outcome of every item sent, with the skipped items
+     * in {@link BulkResult#getSkipped()}
+     */
+    @NotNull
+    public CompletableFuture<BulkResult> add(@NotNull Iterable<BulkItem> items, @NotNull String action) {
+        Objects.requireNonNull(items, "items");
+        Objects.requireNonNull(action, "action");
+        Run run = new Run(action);
+        CompletableFuture<Set<String>> existing = existingKeys();
+        run.inFlight.add(existing);
+        existing.whenComplete((keys, error) -> {
+            run.inFlight.remove(existing);
+            if (error != null) {
+                run.result.completeExceptionally(error);
+                return;
+            }
+            run.existing = keys;
+            try {
+                run.source = items.iterator();
+            } catch (RuntimeException e) {
+                run.result.completeExceptionally(e);
+                return;
+            }
+            pump(run);
+        });
+        return run.result;
+    }
+
+    /**
+     * Adds entries and assets to the release, skipping those already in it. The
+     * stream is consumed lazily and closed when the returned future completes.
+     *
+     * @param items  the entries and assets
+     * @param action the deployment action of the items, {@code publish} or
+     *               {@code unpublish}
+     * @return a future of the outcome of every item sent
+     * @see #add(Iterable, String)
+     */
+    @NotNull
+    public CompletableFuture<BulkResult> add(@NotNull Stream<BulkItem> items, @NotNull String action) {
+        CompletableFuture<BulkResult> result = add(items::iterator, action);
+        result.whenComplete((value, error) -> items.close());
+        return result;
+    }
+
+    /**
+     * Deploys the release and waits for the deployment to finish.
+     * <p>
+     * The release is fetched before the deploy request, so a release deployed
+     * earlier is not taken as finished until its status has changed.
+     *
+     * @param deployment the deploy request body with {@code environments},
+     *                   {@code locales} and {@code action}
+     * @return a future of the release once deployed
+     * @see Release#deploy(JSONObject)
+     * @see JobPoller#releaseDeploy(Release, JsonObject)
+     */
+    @NotNull
+    public CompletableFuture<JsonObject> deploy(@NotNull JSONObject deployment) {
+        JSONObject body = copy(deployment);
+        CompletableFuture<Response<ResponseBody>> fetched = request(release::fetch);
+        CompletableFuture<JsonObject> deployed = fetched.thenCompose(snapshot -> {
+            JsonObject before = read(snapshot);
+            return request(() -> release.deploy(wrap(body))).thenCompose(response -> {
+                if (!response.isSuccessful()) {
+                    throw new HttpException(response);
+                }
+                response.body().close();
+                return (poller != null ? poller : JobPoller.shared()).releaseDeploy(release, before);
+            });
+        });
+        deployed.whenComplete((value, error) -> {
+            if (deployed.isCancelled()) {
+                fetched.cancel(false);
+            }
+        });
+        return deployed;
+    }
+
+    /**
+     * Adds the items and, if every one was accepted, deploys the release.
+     *
+     * @param items      the entries and assets
+     * @param action     the deployment action of the items
+     * @param deployment the deploy request body
+     * @return a future of the deployed release; it fails with
+     * {@link IncompleteReleaseException} if any item was rejected
+     */
+    @NotNull
+    public CompletableFuture<JsonObject> addAndDeploy(@NotNull Iterable<BulkItem> items, @NotNull String action,
+                                                      @NotNull JSONObject deployment) {
+        return add(items, action).thenCompose(result -> {
+            if (!result.isSuccessful()) {
+                throw new IncompleteReleaseException(result);
+            }
+            return deploy(deployment);
+        });
+    }
+
+    private CompletableFuture<Response<ResponseBody>> request(Supplier<Call<ResponseBody>> call) {
+        try {
+            return AsyncResource.send(call.get(), executor, priority);
+        } catch (RuntimeException e) {
+            CompletableFuture<Response<ResponseBody>> failed = new CompletableFuture<>();
+            failed.completeExceptionally(e);
+            return failed;
+        }
+    }
+
+    private static JsonObject read(Response<ResponseBody> response) {
+        if (!response.isSuccessful()) {
+            throw new HttpException(response);
+        }
+        try (ResponseBody body = response.body()) {
+            JsonElement root = JsonParser.parseString(body.string());
+            return root.isJsonObject() ? root.getAsJsonObject() : null;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static JSONObject copy(JSONObject deployment) {
+        JSONObject body = new JSONObject();
+        body.putAll(deployment);
+        return body;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static JSONObject wrap(JSONObject deployment) {
+        if (deployment.containsKey("release")) {
+            return deployment;
+        }
+        JSONObject body = new JSONObject();
+        body.put("release", deployment);
+        return body;
+    }
+
+    /**
+     * Lists the items already in the release, page by page, without blocking.
+     */
+    private CompletableFuture<Set<String>> existingKeys() {
+        ReleaseItem items = release.item();
+        Pagination.PageSource source = Pagination.of(items, items::find);
+        Set<String> keys = ConcurrentHashMap.newKeySet();
+        CompletableFuture<Set<String>> done = new CompletableFuture<>();
+        page(source, 0, keys, done);
+        return done;
+    }
+
+    private void page(Pagination.PageSource source, int skip, Set<String> keys, CompletableFuture<Set<String>> done) {
+        CompletableFuture<Response<ResponseBody>> sent;
+        try {
+            sent = AsyncResource.send(source.page(skip, Pagination.MAX_PAGE_SIZE, skip == 0), executor, priority);
+        } catch (RuntimeException e) {
+            done.completeExceptionally(e);
+            return;
+        }
+        done.whenComplete((value, error) -> {
+            if (done.isCancelled()) {
+                sent.cancel(false);
+            }
+        });
+        sent.whenComplete((response, error) -> {
+            if (error != null) {
+                done.completeExceptionally(error);
+                return;
+            }
+            if (!response.isSuccessful()) {
+                done.completeExceptionally(new HttpException(response));
+                return;
+            }
+            Pagination.Page page;
+            try {
+                page = Pagination.parse(response.body(), ITEMS, skip);
+            } catch (IOException e) {
+                done.completeExceptionally(e);
+                return;
+            }
+            for (JsonObject item : page.getItems()) {
+                String uid = string(item, "uid");
+                if (uid != null) {
+                    keys.add(key(uid, string(item, "locale")));
+                    keys.add(key(uid, null));
+                }
+            }
+            if (page.hasMore(Pagination.MAX_PAGE_SIZE, page.getCount())) {
+                page(source, skip + page.getItems().size(), keys, done);
+            } else {
+                done.complete(keys);
+            }
+        });
+    }
+
+    /**
+     * Sends chunks until {@code parallelism} are in flight, pulling items from the
+     * source as needed. Serialized like {@link BulkExecutor}'s pump, so the source
+     * iterator and the dedupe state are only touched by one thread at a time.
+     */
+    private void pump(Run run) {
+        if (run.wip.getAndIncrement() != 0) {
+            return;
+        }
+        do {
+            try {
+                while (!run.result.isDone() && run.active.get() < parallelism && !run.exhausted) {
+                    List<BulkItem> chunk = nextChunk(run);
+                    if (chunk.isEmpty()) {
+                        break;
+                    }
+                    int index;
+                    synchronized (run.outcomes) {
+                        index = run.outcomes.size();
+                        run.outcomes.add(null);
+                    }
+                    run.active.incrementAndGet();
+                    send(run, chunk, index);
+                }
+            } catch (RuntimeException e) {
+                run.result.completeExceptionally(e);
+            }
+            if (run.exhausted && run.active.get() == 0 && !run.result.isDone()) {
+                List<BulkResult.Outcome> all = new ArrayList<>();
+                synchronized (run.outcomes) {
+                    for (List<BulkResult.Outcome> outcomes : run.outcomes) {
+                        all.addAll(outcomes);
+                    }
+                }
+                run.result.complete(new BulkResult(all, run.skipped));
+            }
+        } while (run.wip.decrementAndGet() != 0);
+    }
+
+    private List<BulkItem> nextChunk(Run run) {
+        List<BulkItem> chunk = new ArrayList<>(chunkSize);
+        while (chunk.size() < chunkSize) {
+            if (!run.source.hasNext()) {
+                run.exhausted = true;
+                break;
+            }
+            BulkItem item = run.source.next();
+            String key = key(item.getUid(), item.getLocale());
+            if (run.existing.contains(key) || !run.seen.add(key)) {
+                run.skipped.add(item);
+            } else {
+                chunk.add(item);
+            }
+        }
+        return chunk;
+    }
+
+    private void send(Run run, List<BulkItem> chunk, int index) {
+        CompletableFuture<Response<ResponseBody>> response;
+        try {
+            response = AsyncResource.send(release.item().createMultiple(body(chunk, run.action)), executor, priority);
+        } catch (RuntimeException e) {
+            response = new CompletableFuture<>();
+            response.completeExceptionally(e);
+        }
+        run.inFlight.add(response);
+        CompletableFuture<Response<ResponseBody>> sent = response;
+        sent.whenComplete((value, error) -> {
+            run.inFlight.remove(sent);
+            List<BulkResult.Outcome> outcomes = BulkExecutor.outcomes(chunk, value, error);
+            synchronized (run.outcomes) {
+                run.outcomes.set(index, outcomes);
+            }
+            run.active.decrementAndGet();
+            pump(run);
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    static JSONObject body(List<BulkItem> chunk, String action) {
+        JSONArray items = new JSONArray();
+        for (BulkItem item : chunk) {
+            JSONObject json = new JSONObject();
+            json.put("uid", item.getUid());
+            json.put("content_type_uid", item.isAsset() ? ASSET_CONTENT_TYPE : item.getContentTypeUid());
+            if (item.getLocale() != null) {
+                json.put("locale", item.getLocale());
+            }
+            if (item.getVersion() != null) {
+                json.put("version", item.getVersion());
+            }
+            json.put("action", action);
+            items.add(json);
+        }
+        JSONObject body = new JSONObject();
+        body.put(ITEMS, items);
+        return body;
+    }
+
+    private static String key(String uid, @Nullable String locale) {
+        return locale != null ? uid + '\n' + locale : uid;
+    }
+
+    @Nullable
+    private static String string(JsonObject json, String key) {
+        JsonElement value = json.get(key);
+        return value != null && value.isJsonPrimitive() ? value.getAsString() : null;
+    }
+
+    private static final class Run {
+        private final String action;
+        private final AtomicInteger active = new AtomicInteger();
+        private final AtomicInteger wip = new AtomicInteger();
+        private final List<List<BulkResult.Outcome>> outcomes = new ArrayList<>();
+        private final List<BulkItem> skipped = new ArrayList<>();
+        private final Set<String> seen = new HashSet<>();
+        private final Set<CompletableFuture<?>> inFlight = ConcurrentHashMap.newKeySet();
+        private final CompletableFuture<BulkResult> result = new CompletableFuture<>();
+        private Set<String> existing;
+        private Iterator<BulkItem> source;
+        private boolean exhausted;
+
+        Run(String action) {
+            this.action = action;
+            result.whenComplete((value, error) -> {
+                if (result.isCancelled()) {
+                    for (CompletableFuture<?> call : inFlight) {
+                        call.cancel(false);
+                    }
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,205 @@
+package com.contentstack.cms.stack;
+
+import com.contentstack.cms.BaseImplementation;
+import com.google.gson.JsonObject;
+import io.reactivex.rxjava3.core.Completable;
+import io.reactivex.rxjava3.core.Flowable;
+import io.reactivex.rxjava3.core.Single;
+import io.reactivex.rxjava3.core.SingleEmitter;
+import okhttp3.ResponseBody;
+import org.jetbrains.annotations.NotNull;
+import retrofit2.Call;
+import retrofit2.Callback;
+import retrofit2.HttpException;
+import retrofit2.Response;
+
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Reactive view of a stack resource such as {@link ContentType}, {@link Entry} or
+ * {@link Asset}.
+ * <p>
+ * Any method of the wrapped resource that returns a {@link Call} can be turned into
+ * a {@link Single} or {@link Completable}. Calls are created when subscribed to and
+ * sent with {@link Call#enqueue(Callback)}, so no thread waits on the response, and
+ * disposing the subscription cancels the HTTP call. Each subscription sends a new
+ * call, which makes {@code retry()} and {@code repeat()} operators safe to use.
+ *
+ * <pre>{@code
+ * Single<ResponseBody> entries = stack.rx()
+ *         .contentType("blog_post")
+ *         .child(ContentType::entry)
+ *         .single(Entry::find);
+ *
+ * Flowable<JsonObject> all = stack.rx()
+ *         .contentType("blog_post")
+ *         .child(ContentType::entry)
+ *         .paginate(Entry::find, "entries", 100);
+ * }</pre>
+ *
+ * @param <R> the type of the wrapped resource
+ * @see Stack#rx()
+ */
+public final class RxResource<R> {
+
+    private final R resource;
+
+    RxResource(@NotNull R resource) {
+        this.resource = Objects.requireNonNull(resource, "resource");
+    }
+
+    /**
+     * Gets the wrapped resource, for example to add headers or query parameters.
+     *
+     * @return the wrapped resource
+     */
+    @NotNull
+    public R unwrap() {
+        return resource;
+    }
+
+    /**
+     * Navigates to a child resource, such as the entries of a content type.
+     *
+     * @param navigator function that returns the child resource (for example
+     *                  {@code ContentType::entry})
+     * @param <S>       the type of the child resource
+     * @return a reactive view of the child resource
+     */
+    @NotNull
+    public <S> RxResource<S> child(@NotNull Function<? super R, S> navigator) {
+        return new RxResource<>(navigator.apply(resource));
+    }
+
+    /**
+     * Emits the body of a successful response.
+     * <p>
+     * A non-2xx response is signalled as {@link HttpException}; a successful response
+     * without a body as {@link NoSuchElementException}.
+     *
+     * @param method the resource method to call (for example {@code Entry::find})
+     * @param <T>    the body type
+     * @return a cold Single that sends the call when subscribed
+     */
+    @NotNull
+    public <T> Single<T> single(@NotNull Function<? super R, Call<T>> method) {
+        return response(method).map(response -> {
+            if (!response.isSuccessful()) {
+                throw new HttpException(response);
+            }
+            T body = response.body();
+            if (body == null) {
+                throw new NoSuchElementException("Response has no body");
+            }
+            return body;
+        });
+    }
+
+    /**
+     * Emits the full response, whatever its status code.
+     *
+     * @param method the resource method to call
+     * @param <T>    the body type
+     * @return a cold Single that sends the call when subscribed
+     */
+    @NotNull
+    public <T> Single<Response<T>> response(@NotNull Function<? super R, Call<T>> method) {
+        return Single.create(emitter -> enqueue(method.apply(resource), emitter));
+    }
+
+    /**
+     * Completes when the call succeeds, discarding the body. Suited to deletes and
+     * other calls whose response is not needed.
+     *
+     * @param method the resource method to call
+     * @return a cold Completable that sends the call when subscribed
+     */
+    @NotNull
+    public Completable completable(@NotNull Function<? super R, Call<ResponseBody>> method) {
+        return response(method).flatMapCompletable(response -> {
+            ResponseBody body = response.body();
+            if (body != null) {
+                body.close();
+            }
+            if (!response.isSuccessful()) {
+                throw new HttpException(response);
+            }
+            return Completable.complete();
+        });
+    }
+
+    /**
+     * Emits every item of a skip/limit list endpoint, one page at a time.
+     * <p>
+     * Pages are requested one at a time as downstream demand drains the current one;
+     * no more than two pages are fetched ahead, so a slow consumer holds a bounded
+     * number of pages in memory however long the listing is. Paging stops when a page comes
+     * back short or the count reported with the first page is reached.
+     * <p>
+     * The paging parameters ({@code skip}, {@code limit}, {@code include_count}) are
+     * set on the wrapped resource, so it should not be shared with other calls while
+     * the Flowable is running.
+     *
+     * @param method   the list method of the resource (for example {@code Entry::find})
+     * @param itemsKey the key of the item array in the response (for example {@code entries})
+     * @param pageSize items per page, between 1 and 100
+     * @return a cold Flowable of items
+     * @throws IllegalArgumentException if the resource does not accept query
+     *                                  parameters or pageSize is out of range
+     */
+    @NotNull
+    public Flowable<JsonObject> paginate(@NotNull Function<? super R, Call<ResponseBody>> method,
+                                         @NotNull String itemsKey, int pageSize) {
+        if (!(resource instanceof BaseImplementation)) {
+            throw new IllegalArgumentException(resource.getClass().getSimpleName()
+                    + " does not support query parameters");
+        }
+        Pagination.validatePageSize(pageSize);
+        Pagination.PageSource source = Pagination.of((BaseImplementation<?>) resource,
+                () -> method.apply(resource));
+        return pages(source, itemsKey, pageSize);
+    }
+
+    private static Flowable<JsonObject> pages(Pagination.PageSource source, String itemsKey, int pageSize) {
+        return Flowable.defer(() -> {
+            // total reported with the first page, shared by the pages of this subscription
+            AtomicInteger total = new AtomicInteger(-1);
+            return Flowable.range(0, Integer.MAX_VALUE)
+                    .concatMapSingle(index -> page(source, itemsKey, index * pageSize, pageSize, total.get() < 0)
+                            .doOnSuccess(page -> total.compareAndSet(-1, page.getCount())))
+                    .takeUntil(page -> !page.hasMore(pageSize, total.get()))
+                    .concatMapIterable(Pagination.Page::getItems, 1);
+        });
+    }
+
+    private static Single<Pagination.Page> page(Pagination.PageSource source, String itemsKey,
+                                                int skip, int pageSize, boolean includeCount) {
+        return Single.<Response<ResponseBody>>create(emitter ->
+                enqueue(source.page(skip, pageSize, includeCount), emitter))
+                .map(response -> {
+                    ResponseBody body = response.body();
+                    if (!response.isSuccessful() || body == null) {
+                        throw new HttpException(response);
+                    }
+                    return Pagination.parse(body, itemsKey, skip);
+                });
+    }
+
+    private static <T> void enqueue(Call<T> call, SingleEmitter<Response<T>> emitter) {
+        emitter.setCancellable(call::cancel);
+        call.enqueue(new Callback<T>() {
+            @Override
+            public void onResponse(@NotNull Call<T> call, @NotNull Response<T> response) {
+                emitter.onSuccess(response);
+            }
+
+            @Override
+            public void onFailure(@NotNull Call<T> call, @NotNull Throwable t) {
+                emitter.tryOnError(t);
+            }
+        });
+    }
+}
@@ -0,0 +1,460 @@
+package com.contentstack.cms.stack;
+
+import io.reactivex.rxjava3.core.Completable;
+import io.reactivex.rxjava3.core.Single;
+import okhttp3.ResponseBody;
+import org.jetbrains.annotations.NotNull;
+import retrofit2.Call;
+import retrofit2.Response;
+
+import java.util.function.Function;
+
+/**
+ * Reactive entry point for a {@link Stack}, obtained from {@link Stack#rx()}.
+ * <p>
+ * Mirrors the resource factories of {@link Stack}, returning {@link RxResource}
+ * views whose calls are exposed as RxJava {@link Single}, {@link Completable} and
+ * paginated {@link io.reactivex.rxjava3.core.Flowable} streams. Stack-level calls
+ * such as {@link Stack#find()} are available through {@link #single(Function)}.
+ *
+ * <pre>{@code
+ * stack.rx().contentType("blog_post")
+ *         .child(ContentType::entry)
+ *         .paginate(Entry::find, "entries", 100)
+ *         .flatMapSingle(entry -> process(entry), false, 8)
+ *         .subscribe();
+ * }</pre>
+ */
+public final class RxStack {
+
+    private final Stack stack;
+    private final RxResource<Stack> self;
+
+    RxStack(@NotNull Stack stack) {
+        this.stack = stack;
+        this.self = new RxResource<>(stack);
+    }
+
+    /**
+     * Gets the wrapped stack.
+     *
+     * @return the wrapped stack
+     */
+    @NotNull
+    public Stack unwrap() {
+        return stack;
+    }
+
+    /**
+     * Emits the body of a successful stack-level call.
+     *
+     * @param method the stack method to call (for example {@code Stack::find})
+     * @param <T>    the body type
+     * @return a cold Single that sends the call when subscribed
+     * @see RxResource#single(Function)
+     */
+    @NotNull
+    public <T> Single<T> single(@NotNull Function<? super Stack, Call<T>> method) {
+        return self.single(method);
+    }
+
+    /**
+     * Emits the full response of a stack-level call, whatever its status code.
+     *
+     * @param method the stack method to call
+     * @param <T>    the body type
+     * @return a cold Single that sends the call when subscribed
+     */
+    @NotNull
+    public <T> Single<Response<T>> response(@NotNull Function<? super Stack, Call<T>> method) {
+        return self.response(method);
+    }
+
+    /**
+     * Completes when a stack-level call succeeds, discarding the body.
+     *
+     * @param method the stack method to call
+     * @return a cold Completable that sends the call when subscribed
+     */
+    @NotNull
+    public Completable completable(@NotNull Function<? super Stack, Call<ResponseBody>> method) {
+        return self.completable(method);
+    }
+
+    /**
+     * Reactive view of {@link Stack#contentType()}.
+     *
+     * @return a reactive {@link ContentType}
+     */
+    @NotNull
+    public RxResource<ContentType> contentType() {
+        return new RxResource<>(stack.contentType());
+    }
+
+    /**
+     * Reactive view of {@link Stack#contentType(String)}.
+     *
+     * @param contentTypeUid the content type UID
+     * @return a reactive {@link ContentType}
+     */
+    @NotNull
+    public RxResource<ContentType> contentType(@NotNull String contentTypeUid) {
+        return new RxResource<>(stack.contentType(contentTypeUid));
+    }
+
+    /**
+     * Reactive view of {@link Stack#asset()}.
+     *
+     * @return a reactive {@link Asset}
+     */
+    @NotNull
+    public RxResource<Asset> asset() {
+        return new RxResource<>(stack.asset());
+    }
+
+    /**
+     * Reactive view of {@link Stack#asset(String)}.
+     *
+     * @param assetUid the asset UID
+     * @return a reactive {@link Asset}
+     */
+    @NotNull
+    public RxResource<Asset> asset(@NotNull String assetUid) {
+        return new RxResource<>(stack.asset(assetUid));
+    }
+
+    /**
+     * Reactive view of {@link Stack#globalField()}.
+     *
+     * @return a reactive {@link GlobalField}
+     */
+    @NotNull
+    public RxResource<GlobalField> globalField() {
+        return new RxResource<>(stack.globalField());
+    }
+
+    /**
+     * Reactive view of {@link Stack#globalField(String)}.
+     *
+     * @param globalFieldUid the global field UID
+     * @return a reactive {@link GlobalField}
+     */
+    @NotNull
+    public RxResource<GlobalField> globalField(@NotNull String globalFieldUid) {
+        return new RxResource<>(stack.globalField(globalFieldUid));
+    }
+
+    /**
+     * Reactive view of {@link Stack#variantGroup()}.
+     *
+     * @return a reactive {@link VariantGroup}
+     */
+    @NotNull
+    public RxResource<VariantGroup> variantGroup() {
+        return new RxResource<>(stack.variantGroup());
+    }
+
+    /**
+     * Reactive view of {@link Stack#variantGroup(String)}.
+     *
+     * @param variantGroupUid the variant group UID
+     * @return a reactive {@link VariantGroup}
+     */
+    @NotNull
+    public RxResource<VariantGroup> variantGroup(@NotNull String variantGroupUid) {
+        return new RxResource<>(stack.variantGroup(variantGroupUid));
+    }
+
+    /**
+     * Reactive view of {@link Stack#locale()}.
+     *
+     * @return a reactive {@link Locale}
+     */
+    @NotNull
+    public RxResource<Locale> locale() {
+        return new RxResource<>(stack.locale());
+    }
+
+    /**
+     * Reactive view of {@link Stack#locale(String)}.
+     *
+     * @param code the locale code
+     * @return a reactive {@link Locale}
+     */
+    @NotNull
+    public RxResource<Locale> locale(@NotNull String code) {
+        return new RxResource<>(stack.locale(code));
+    }
+
+    /**
+     * Reactive view of {@link Stack#environment()}.
+     *
+     * @return a reactive {@link Environment}
+     */
+    @NotNull
+    public RxResource<Environment> environment() {
+        return new RxResource<>(stack.environment());
+    }
+
+    /**
+     * Reactive view of {@link Stack#environment(String)}.
+     *
+     * @param environment the environment name
+     * @return a reactive {@link Environment}
+     */
+    @NotNull
+    public RxResource<Environment> environment(@NotNull String environment) {
+        return new RxResource<>(stack.environment(environment));
+    }
+
+    /**
+     * Reactive view of {@link Stack#label()}.
+     *
+     * @return a reactive {@link Label}
+     */
+    @NotNull
+    public RxResource<Label> label() {
+        return new RxResource<>(stack.label());
+    }
+
+    /**
+     * Reactive view of {@link Stack#label(String)}.
+     *
+     * @param labelUid the label UID
+     * @return a reactive {@link Label}
+     */
+    @NotNull
+    public RxResource<Label> label(@NotNull String labelUid) {
+        return new RxResource<>(stack.label(labelUid));
+    }
+
+    /**
+     * Reactive view of {@link Stack#extensions()}.
+     *
+     * @return a reactive {@link Extensions}
+     */
+    @NotNull
+    public RxResource<Extensions> extensions() {
+        return new RxResource<>(stack.extensions());
+    }
+
+    /**
+     * Reactive view of {@link Stack#extensions(String)}.
+     *
+     * @param customFieldUid the extension UID
+     * @return a reactive {@link Extensions}
+     */
+    @NotNull
+    public RxResource<Extensions> extensions(@NotNull String customFieldUid) {
+        return new RxResource<>(stack.extensions(customFieldUid));
+    }
+
+    /**
+     * Reactive view of {@link Stack#tokens()}.
+     *
+     * @return a reactive {@link Tokens}
+     */
+    @NotNull
+    public RxResource<Tokens> tokens() {
+        return new RxResource<>(stack.tokens());
+    }
+
+    /**
+     * Reactive view of {@link Stack#roles()}.
+     *
+     * @return a reactive {@link Roles}
+     */
+    @NotNull
+    public RxResource<Roles> roles() {
+        return new RxResource<>(stack.roles());
+    }
+
+    /**
+     * Reactive view of {@link Stack#roles(String)}.
+     *
+     * @param roleUid the role UID
+     * @return a reactive {@link Roles}
+     */
+    @NotNull
+    public RxResource<Roles> roles(@NotNull String roleUid) {
+        return new RxResource<>(stack.roles(roleUid));
+    }
+
+    /**
+     * Reactive view of {@link Stack#releases()}.
+     *
+     * @return a reactive {@link Release}
+     */
+    @NotNull
+    public RxResource<Release> releases() {
+        return new RxResource<>(stack.releases());
+    }
+
+    /**
+     * Reactive view of {@link Stack#releases(String)}.
+     *
+     * @param releaseUid the release UID
+     * @return a reactive {@link Release}
+     */
+    @NotNull
+    public RxResource<Release> releases(@NotNull String releaseUid) {
+        return new RxResource<>(stack.releases(releaseUid));
+    }
+
+    /**
+     * Reactive view of {@link Stack#workflow()}.
+     *
+     * @return a reactive {@link Workflow}
+     */
+    @NotNull
+    public RxResource<Workflow> workflow() {
+        return new RxResource<>(stack.workflow());
+    }
+
+    /**
+     * Reactive view of {@link Stack#workflow(String)}.
+     *
+     * @param workflowUid the workflow UID
+     * @return a reactive {@link Workflow}
+     */
+    @NotNull
+    public RxResource<Workflow> workflow(@NotNull String workflowUid) {
+        return new RxResource<>(stack.workflow(workflowUid));
+    }
+
+    /**
+     * Reactive view of {@link Stack#auditLog()}.
+     *
+     * @return a reactive {@link AuditLog}
+     */
+    @NotNull
+    public RxResource<AuditLog> auditLog() {
+        return new RxResource<>(stack.auditLog());
+    }
+
+    /**
+     * Reactive view of {@link Stack#auditLog(String)}.
+     *
+     * @param logItemUid the audit log item UID
+     * @return a reactive {@link AuditLog}
+     */
+    @NotNull
+    public RxResource<AuditLog> auditLog(@NotNull String logItemUid) {
+        return new RxResource<>(stack.auditLog(logItemUid));
+    }
+
+    /**
+     * Reactive view of {@link Stack#publishQueue()}.
+     *
+     * @return a reactive {@link PublishQueue}
+     */
+    @NotNull
+    public RxResource<PublishQueue> publishQueue() {
+        return new RxResource<>(stack.publishQueue());
+    }
+
+    /**
+     * Reactive view of {@link Stack#bulkOperation()}.
+     *
+     * @return a reactive {@link BulkOperation}
+     */
+    @NotNull
+    public RxResource<BulkOperation> bulkOperation() {
+        return new RxResource<>(stack.bulkOperation());
+    }
+
+    /**
+     * Reactive view of {@link Stack#publishQueue(String)}.
+     *
+     * @param publishQueueUid the publish queue item UID
+     * @return a reactive {@link PublishQueue}
+     */
+    @NotNull
+    public RxResource<PublishQueue> publishQueue(@NotNull String publishQueueUid) {
+        return new RxResource<>(stack.publishQueue(publishQueueUid));
+    }
+
+    /**
+     * Reactive view of {@link Stack#webhook()}.
+     *
+     * @return a reactive {@link Webhook}
+     */
+    @NotNull
+    public RxResource<Webhook> webhook() {
+        return new RxResource<>(stack.webhook());
+    }
+
+    /**
+     * Reactive view of {@link Stack#webhook(String)}.
+     *
+     * @param webhookUid the webhook UID
+     * @return a reactive {@link Webhook}
+     */
+    @NotNull
+    public RxResource<Webhook> webhook(@NotNull String webhookUid) {
+        return new RxResource<>(stack.webhook(webhookUid));
+    }
+
+    /**
+     * Reactive view of {@link Stack#branch()}.
+     *
+     * @return a reactive {@link Branch}
+     */
+    @NotNull
+    public RxResource<Branch> branch() {
+        return new RxResource<>(stack.branch());
+    }
+
+    /**
+     * Reactive view of {@link Stack#branch(String)}.
+     *
+     * @param branchUid the branch UID
+     * @return a reactive {@link Branch}
+     */
+    @NotNull
+    public RxResource<Branch> branch(@NotNull String branchUid) {
+        return new RxResource<>(stack.branch(branchUid));
+    }
+
+    /**
+     * Reactive view of {@link Stack#alias()}.
+     *
+     * @return a reactive {@link Alias}
+     */
+    @NotNull
+    public RxResource<Alias> alias() {
+        return new RxResource<>(stack.alias());
+    }
+
+    /**
+     * Reactive view of {@link Stack#alias(String)}.
+     *
+     * @param aliasUid the alias UID
+     * @return a reactive {@link Alias}
+     */
+    @NotNull
+    public RxResource<Alias> alias(@NotNull String aliasUid) {
+        return new RxResource<>(stack.alias(aliasUid));
+    }
+
+    /**
+     * Reactive view of {@link Stack#taxonomy()}.
+     *
+     * @return a reactive {@link Taxonomy}
+     */
+    @NotNull
+    public RxResource<Taxonomy> taxonomy() {
+        return new RxResource<>(stack.taxonomy());
+    }
+
+    /**
+     * Reactive view of {@link Stack#taxonomy(String)}.
+     *
+     * @param taxonomyUid the taxonomy UID
+     * @return a reactive {@link Taxonomy}
+     */
+    @NotNull
+    public RxResource<Taxonomy> taxonomy(@NotNull String taxonomyUid) {
+        return new RxResource<>(stack.taxonomy(taxonomyUid));
+    }
+}
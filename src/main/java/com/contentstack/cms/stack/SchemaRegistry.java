@@ -0,0 +1,249 @@
+package com.contentstack.cms.stack;
+
+import com.contentstack.cms.core.GsonProvider;
+import com.contentstack.cms.core.Util;
+import com.google.gson.Gson;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * In-memory registry of the content type and global field schemas of one stack
+ * branch.
+ * <p>
+ * The first lookup pages through {@code ContentType.find()} and
+ * {@code GlobalField.find()} once and indexes every schema by UID; later lookups
+ * are answered from memory, so schema-aware validation before an entry write
+ * costs no request. The schemas are published as one immutable snapshot, so a
+ * reload never exposes a half-loaded registry.
+ * <p>
+ * Schemas changed outside this process are picked up after {@link #invalidate()},
+ * typically called from a webhook consumer through {@link #onWebhook(String)}.
+ * Returned {@link ContentTypePojo} instances are shared; do not modify them.
+ * <p>
+ * Errors surface from the lookup that triggers a load, as from
+ * {@link PagedIterator}: a non-2xx response as {@link retrofit2.HttpException},
+ * and network or parse failures as {@link java.io.UncheckedIOException}.
+ *
+ * <pre>{@code
+ * SchemaRegistry schemas = stack.schemaRegistry();
+ * ContentTypePojo blog = schemas.getContentType("blog_post");
+ *
+ * // in the webhook endpoint
+ * schemas.onWebhook(requestBody);
+ * }</pre>
+ */
+public final class SchemaRegistry {
+
+    static final String MODULE_CONTENT_TYPE = "content_type";
+    static final String MODULE_GLOBAL_FIELD = "global_field";
+
+    private final Supplier<ContentType> contentTypes;
+    private final Supplier<GlobalField> globalFields;
+    @Nullable
+    private final String apiKey;
+    @Nullable
+    private final String branch;
+    private final AtomicReference<Snapshot> snapshot = new AtomicReference<>();
+    private final AtomicLong generation = new AtomicLong();
+    private final Object loadLock = new Object();
+
+    SchemaRegistry(@NotNull Supplier<ContentType> contentTypes, @NotNull Supplier<GlobalField> globalFields,
+                   @Nullable String apiKey, @Nullable String branch) {
+        this.contentTypes = contentTypes;
+        this.globalFields = globalFields;
+        this.apiKey = apiKey;
+        this.branch = branch;
+    }
+
+    /**
+     * Gets a content type schema, loading the registry on first use.
+     *
+     * @param contentTypeUid the content type UID
+     * @return the content type, or null if the branch has no such content type
+     */
+    @Nullable
+    public ContentTypePojo getContentType(@NotNull String contentTypeUid) {
+        return snapshot().contentTypes.get(contentTypeUid);
+    }
+
+    /**
+     * Gets a global field schema, loading the registry on first use.
+     *
+     * @param globalFieldUid the global field UID
+     * @return the global field, or null if the branch has no such global field
+     */
+    @Nullable
+    public ContentTypePojo getGlobalField(@NotNull String globalFieldUid) {
+        return snapshot().globalFields.get(globalFieldUid);
+    }
+
+    /**
+     * Gets every content type schema of the branch, in the order the API lists them.
+     *
+     * @return the content types
+     */
+    @NotNull
+    public Collection<ContentTypePojo> getContentTypes() {
+        return snapshot().contentTypes.values();
+    }
+
+    /**
+     * Gets every global field schema of the branch, in the order the API lists them.
+     *
+     * @return the global fields
+     */
+    @NotNull
+    public Collection<ContentTypePojo> getGlobalFields() {
+        return snapshot().globalFields.values();
+    }
+
+    /**
+     * Checks whether the schemas are in memory.
+     *
+     * @return true if a lookup would not send a request
+     */
+    public boolean isLoaded() {
+        return snapshot.get() != null;
+    }
+
+    /**
+     * Reloads every schema now. Lookups keep using the previous schemas until the
+     * new ones are complete.
+     */
+    public void refresh() {
+        synchronized (loadLock) {
+            long loadGeneration = generation.get();
+            publish(load(), loadGeneration);
+        }
+    }
+
+    /**
+     * Drops the schemas; the next lookup loads them again.
+     */
+    public void invalidate() {
+        generation.incrementAndGet();
+        snapshot.set(null);
+    }
+
+    /**
+     * Invalidates the registry if a webhook payload reports a content type or
+     * global field change on this stack and branch. Payloads for other modules,
+     * stacks or branches are ignored.
+     *
+     * @param payload the webhook request body
+     * @return true if the registry was invalidated
+     */
+    public boolean onWebhook(@NotNull String payload) {
+        JsonElement root;
+        try {
+            root = JsonParser.parseString(payload);
+        } catch (RuntimeException e) {
+            return false;
+        }
+        if (!root.isJsonObject()) {
+            return false;
+        }
+        JsonObject event = root.getAsJsonObject();
+        String module = string(event, "module");
+        if (!MODULE_CONTENT_TYPE.equals(module) && !MODULE_GLOBAL_FIELD.equals(module)) {
+            return false;
+        }
+        String eventApiKey = string(event, Util.API_KEY);
+        if (apiKey != null && eventApiKey != null && !apiKey.equals(eventApiKey)) {
+            return false;
+        }
+        JsonObject data = event.has("data") && event.get("data").isJsonObject()
+                ? event.getAsJsonObject("data") : null;
+        JsonObject eventBranch = data != null && data.has(Util.BRANCH) && data.get(Util.BRANCH).isJsonObject()
+                ? data.getAsJsonObject(Util.BRANCH) : null;
+        String eventBranchUid = eventBranch != null ? string(eventBranch, "uid") : null;
+        if (eventBranchUid != null && !eventBranchUid.equals(branch != null ? branch : "main")) {
+            return false;
+        }
+        invalidate();
+        return true;
+    }
+
+    /**
+     * Gets the branch the registry serves.
+     *
+     * @return the branch UID, or null for the stack's default branch
+     */
+    @Nullable
+    public String getBranch() {
+        return branch;
+    }
+
+    private Snapshot snapshot() {
+        Snapshot current = snapshot.get();
+        if (current == null) {
+            synchronized (loadLock) {
+                current = snapshot.get();
+                if (current == null) {
+                    long loadGeneration = generation.get();
+                    current = load();
+                    publish(current, loadGeneration);
+                }
+            }
+        }
+        return current;
+    }
+
+    private void publish(Snapshot loaded, long loadGeneration) {
+        // An invalidation that arrived while loading may describe a change the load missed
+        if (generation.get() == loadGeneration) {
+            snapshot.set(loaded);
+        }
+    }
+
+    private Snapshot load() {
+        ContentType contentType = contentTypes.get();
+        GlobalField globalField = globalFields.get();
+        return new Snapshot(
+                index(new PagedIterator(Pagination.of(contentType, contentType::find), "content_types",
+                        Pagination.MAX_PAGE_SIZE)),
+                index(new PagedIterator(Pagination.of(globalField, globalField::find), "global_fields",
+                        Pagination.MAX_PAGE_SIZE)));
+    }
+
+    private static Map<String, ContentTypePojo> index(PagedIterator items) {
+        Gson gson = GsonProvider.shared();
+        Map<String, ContentTypePojo> index = new LinkedHashMap<>();
+        try (PagedIterator iterator = items) {
+            while (iterator.hasNext()) {
+                ContentTypePojo pojo = gson.fromJson(iterator.next(), ContentTypePojo.class);
+                if (pojo.uid != null) {
+                    index.put(pojo.uid, pojo);
+                }
+            }
+        }
+        return Collections.unmodifiableMap(index);
+    }
+
+    @Nullable
+    private static String string(JsonObject object, String key) {
+        JsonElement value = object.get(key);
+        return value != null && value.isJsonPrimitive() ? value.getAsString() : null;
+    }
+
+    private static final class Snapshot {
+        private final Map<String, ContentTypePojo> contentTypes;
+        private final Map<String, ContentTypePojo> globalFields;
+
+        Snapshot(Map<String, ContentTypePojo> contentTypes, Map<String, ContentTypePojo> globalFields) {
+            this.contentTypes = contentTypes;
+            this.globalFields = globalFields;
+        }
+    }
+}
@@ -1,14 +1,19 @@
 package com.contentstack.cms.stack;
 
 import com.contentstack.cms.BaseImplementation;
+import com.contentstack.cms.core.RequestPriority;
+import com.contentstack.cms.core.Util;
 import okhttp3.ResponseBody;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.json.simple.JSONObject;
 import retrofit2.Call;
 import retrofit2.Retrofit;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
 
 /**
  * A stack is a space that stores the content of a project (a web or mobile
@@ -25,6 +30,9 @@ public class Stack implements BaseImplementation<Stack> {
     protected Retrofit client;
     protected HashMap<String, Object> headers;
     protected HashMap<String, Object> params;
+    @Nullable
+    protected Executor asyncExecutor;
+    private final Map<String, SchemaRegistry> schemaRegistries = new ConcurrentHashMap<>();
 
     /**
      * Instantiates a new Stack.
@@ -129,6 +137,76 @@ public class Stack implements BaseImplementation<Stack> {
         this.service = client.create(StackService.class);
     }
 
+    /**
+     * Instantiates a new Stack whose {@link #async()} calls run on the given executor.
+     *
+     * @param client        the Retrofit instance
+     * @param headers       the stack headers (api_key, authorization, branch)
+     * @param asyncExecutor runs the blocking {@code execute()} of future calls, or null
+     *                      to send them with OkHttp's {@code enqueue}
+     */
+    public Stack(@NotNull Retrofit client, @NotNull Map<String, Object> headers, @Nullable Executor asyncExecutor) {
+        this(client, headers);
+        this.asyncExecutor = asyncExecutor;
+    }
+
+    /**
+     * {@code CompletableFuture} view of this stack. Every {@code Call}-returning
+     * resource method gets a future sibling, so calls can be composed without
+     * writing a callback per call.
+     * <p>
+     * Example:
+     * <pre>{@code
+     * CompletableFuture<ResponseBody> entries = stack.async()
+     *         .contentType("blog_post")
+     *         .child(ContentType::entry)
+     *         .future(Entry::find);
+     * }</pre>
+     *
+     * @return the future view of this stack
+     */
+    public AsyncStack async() {
+        return new AsyncStack(this, this.asyncExecutor);
+    }
+
+    /**
+     * {@code CompletableFuture} view of this stack whose calls are queued with the
+     * given priority. With a {@link com.contentstack.cms.core.PriorityExecutor} as
+     * the client's async executor, waiting interactive calls start before waiting
+     * background ones; with any other executor the priority is ignored.
+     * <p>
+     * Example:
+     * <pre>{@code
+     * stack.async(RequestPriority.BACKGROUND).bulkOperation().future(b -> b.publish(body));
+     * }</pre>
+     *
+     * @param priority the priority of calls sent through the returned view
+     * @return the future view of this stack
+     */
+    public AsyncStack async(@NotNull RequestPriority priority) {
+        return new AsyncStack(this, this.asyncExecutor, priority);
+    }
+
+    /**
+     * Reactive view of this stack. Resource calls are exposed as RxJava
+     * {@code Single}, {@code Completable} and backpressure-aware paginated
+     * {@code Flowable} streams, sent asynchronously without blocking a thread
+     * per call.
+     * <p>
+     * Example:
+     * <pre>{@code
+     * Flowable<JsonObject> entries = stack.rx()
+     *         .contentType("blog_post")
+     *         .child(ContentType::entry)
+     *         .paginate(Entry::find, "entries", 100);
+     * }</pre>
+     *
+     * @return the reactive view of this stack
+     */
+    public RxStack rx() {
+        return new RxStack(this);
+    }
+
     /**
      * <b>Content type</b>
      * <p>
@@ -377,6 +455,42 @@ public class Stack implements BaseImplementation<Stack> {
         return new GlobalField(this.client,this.headers,globalFiledUid);
     }
 
+    /**
+     * Gets the schema registry of the branch this stack was created for. The
+     * registry loads every content type and global field once and then serves
+     * their schemas from memory; repeated calls on this stack return the same
+     * registry.
+     *
+     * @return the schema registry
+     * @see SchemaRegistry
+     */
+    public SchemaRegistry schemaRegistry() {
+        Object branch = this.headers.get(Util.BRANCH);
+        return schemaRegistry(branch != null ? branch.toString() : null);
+    }
+
+    /**
+     * Gets the schema registry of a branch of this stack.
+     *
+     * @param branch the branch UID, or null for the stack's default branch
+     * @return the schema registry
+     * @see SchemaRegistry
+     */
+    public SchemaRegistry schemaRegistry(@Nullable String branch) {
+        return schemaRegistries.computeIfAbsent(branch != null ? branch : "", key -> {
+            HashMap<String, Object> branchHeaders = new HashMap<>(this.headers);
+            if (branch != null) {
+                branchHeaders.put(Util.BRANCH, branch);
+            } else {
+                branchHeaders.remove(Util.BRANCH);
+            }
+            Object apiKey = this.headers.get(Util.API_KEY);
+            return new SchemaRegistry(() -> new ContentType(this.client, branchHeaders),
+                    () -> new GlobalField(this.client, branchHeaders),
+                    apiKey != null ? apiKey.toString() : null, branch);
+        });
+    }
+
     /**
      * Creates a new instance of VariantGroup for managing variant groups.
      * This method is used when you want to create a new variant group.
@@ -619,6 +733,20 @@ public class Stack implements BaseImplementation<Stack> {
         return new Release(this.client,this.headers,releaseUid);
     }
 
+    /**
+     * Gets an assembler that adds any number of entries and assets to a release in
+     * parallel chunks, skipping those already in it, and then deploys the release.
+     * <pre>{@code
+     * BulkResult added = stack.releaseAssembler(releaseUid).add(items, "publish").join();
+     * }</pre>
+     *
+     * @param releaseUid the release UID
+     * @return the release assembler
+     */
+    public ReleaseAssembler releaseAssembler(@NotNull String releaseUid) {
+        return new ReleaseAssembler(releases(releaseUid), this.asyncExecutor);
+    }
+
     /**
      * <a href=
      * "https://www.contentstack.com/docs/developers/apis/content-management-api/#workflows">Workflow</a>
@@ -710,6 +838,37 @@ public class Stack implements BaseImplementation<Stack> {
         return new BulkOperation(this.client,this.headers);
     }
 
+    /**
+     * Bulk executor of this stack: publishes, unpublishes, deletes or moves
+     * through workflow any number of entries and assets by splitting them into
+     * chunks the bulk API accepts and sending the chunks concurrently.
+     * <p>
+     * Example:
+     * <pre>{@code
+     * BulkResult result = stack.bulkExecutor().publish(items, target).join();
+     * }</pre>
+     *
+     * @return the bulk executor
+     * @see BulkExecutor
+     */
+    public BulkExecutor bulkExecutor() {
+        return new BulkExecutor(bulkOperation(), this.asyncExecutor);
+    }
+
+    /**
+     * Gets a writer that creates and updates entries of any content types with a
+     * bounded number of requests in flight, checking a unique field before a
+     * create whose response was lost is sent again.
+     * <pre>{@code
+     * EntryWriteResult result = stack.entryWriter().withUniqueField("url").write(writes).join();
+     * }</pre>
+     *
+     * @return the entry writer
+     */
+    public EntryWriter entryWriter() {
+        return new EntryWriter(this, this.asyncExecutor);
+    }
+
     /**
      * The Publishing Queue displays the historical and current details of
      * activities such as publish, un-publish, or
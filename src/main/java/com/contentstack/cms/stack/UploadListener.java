@@ -0,0 +1,18 @@
+package com.contentstack.cms.stack;
+
+/**
+ * Receives progress while an asset file is streamed to Contentstack.
+ */
+@FunctionalInterface
+public interface UploadListener {
+
+    /**
+     * Called after each chunk of the file has been written to the connection.
+     * When a request is retried the file is streamed again, so
+     * {@code bytesSent} starts over from the first chunk.
+     *
+     * @param bytesSent  bytes of the file written so far in the current attempt
+     * @param totalBytes the size of the file
+     */
+    void onProgress(long bytesSent, long totalBytes);
+}
@@ -0,0 +1,171 @@
+package com.contentstack.cms.stack;
+
+import com.contentstack.cms.core.GsonProvider;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * Record of finished asset uploads, persisted to a local JSON file so that an
+ * interrupted ingestion run can be restarted without uploading the same files
+ * again.
+ * <p>
+ * Each completed upload is stored under a key with the resulting asset UID and
+ * the file's size and modification time. {@link AssetUploader} includes the
+ * stack's {@code api_key} and {@code branch} in its keys, so one session may be
+ * shared by several stacks. A file that has changed since it was
+ * recorded is treated as not uploaded. The file is rewritten atomically after
+ * every change, so a crash never leaves a half-written session behind.
+ *
+ * <pre>{@code
+ * UploadSession session = UploadSession.open(Paths.get("ingest-session.json"));
+ * AssetUploader uploader = AssetUploader.builder().session(session).build();
+ * for (File file : files) {
+ *     uploader.upload(stack.asset(), file.getPath(), folderUid, null, null, null);
+ * }
+ * }</pre>
+ */
+public final class UploadSession {
+
+    private static final String UPLOADS = "uploads";
+    private static final String ASSET_UID = "asset_uid";
+    private static final String SIZE = "size";
+    private static final String LAST_MODIFIED = "last_modified";
+
+    private final Path path;
+    private final JsonObject uploads;
+
+    private UploadSession(Path path, JsonObject uploads) {
+        this.path = path;
+        this.uploads = uploads;
+    }
+
+    /**
+     * Opens the session stored at {@code path}, or starts an empty one if the file
+     * does not exist yet.
+     *
+     * @param path the session file
+     * @return the session
+     * @throws IOException if the file exists but cannot be read or parsed
+     */
+    public static UploadSession open(@NotNull Path path) throws IOException {
+        JsonObject uploads = new JsonObject();
+        if (Files.exists(path)) {
+            try (Reader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+                JsonObject root = GsonProvider.shared().fromJson(reader, JsonObject.class);
+                if (root != null && root.has(UPLOADS) && root.get(UPLOADS).isJsonObject()) {
+                    uploads = root.getAsJsonObject(UPLOADS);
+                }
+            } catch (JsonParseException e) {
+                throw new IOException("Upload session " + path + " is not valid JSON", e);
+            }
+        }
+        return new UploadSession(path, uploads);
+    }
+
+    /**
+     * Gets the asset UID recorded for {@code key}, provided {@code file} is
+     * unchanged since it was uploaded.
+     *
+     * @param key  the upload key
+     * @param file the local file
+     * @return the asset UID, or null if the upload still has to be done
+     */
+    @Nullable
+    public synchronized String completedAssetUid(@NotNull String key, @NotNull File file) {
+        JsonElement element = uploads.get(key);
+        if (element == null || !element.isJsonObject()) {
+            return null;
+        }
+        JsonObject record = element.getAsJsonObject();
+        if (!record.has(ASSET_UID) || !record.has(SIZE) || !record.has(LAST_MODIFIED)
+                || record.get(SIZE).getAsLong() != file.length()
+                || record.get(LAST_MODIFIED).getAsLong() != file.lastModified()) {
+            return null;
+        }
+        return record.get(ASSET_UID).getAsString();
+    }
+
+    /**
+     * Records a finished upload and saves the session.
+     *
+     * @param key      the upload key
+     * @param file     the uploaded file
+     * @param assetUid the UID of the resulting asset
+     * @throws IOException if the session file cannot be written
+     */
+    public synchronized void complete(@NotNull String key, @NotNull File file, @NotNull String assetUid)
+            throws IOException {
+        JsonObject record = new JsonObject();
+        record.addProperty(ASSET_UID, assetUid);
+        record.addProperty(SIZE, file.length());
+        record.addProperty(LAST_MODIFIED, file.lastModified());
+        uploads.add(key, record);
+        save();
+    }
+
+    /**
+     * Removes the record for {@code key} and saves the session.
+     *
+     * @param key the upload key
+     * @throws IOException if the session file cannot be written
+     */
+    public synchronized void forget(@NotNull String key) throws IOException {
+        if (uploads.remove(key) != null) {
+            save();
+        }
+    }
+
+    /**
+     * Gets the number of recorded uploads.
+     *
+     * @return the number of completed uploads in this session
+     */
+    public synchronized int size() {
+        return uploads.size();
+    }
+
+    /**
+     * Gets the session file.
+     *
+     * @return the path the session is saved to
+     */
+    public Path getPath() {
+        return path;
+    }
+
+    private void save() throws IOException {
+        JsonObject root = new JsonObject();
+        root.add(UPLOADS, uploads);
+        Path absolute = path.toAbsolutePath();
+        Path directory = absolute.getParent();
+        if (directory != null) {
+            Files.createDirectories(directory);
+        }
+        Path temp = Files.createTempFile(directory, absolute.getFileName().toString(), ".tmp");
+        try {
+            try (Writer writer = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+                GsonProvider.shared().toJson(root, writer);
+            }
+            try {
+                Files.move(temp, absolute, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, absolute, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+}
@@ -4,6 +4,7 @@ import com.contentstack.cms.core.ErrorMessages;
 
 import com.contentstack.cms.BaseImplementation;
 import com.contentstack.cms.core.Util;
+import com.google.gson.JsonObject;
 import okhttp3.MediaType;
 import okhttp3.MultipartBody;
 import okhttp3.RequestBody;
@@ -15,6 +16,7 @@ import retrofit2.Retrofit;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.stream.Stream;
 
 /**
  * A webhook is a mechanism that sends real-time information to any third-party
@@ -421,6 +423,36 @@ public class Webhook implements BaseImplementation<Webhook> {
         return this.service.getExecutions(this.headers, this.webhookUid, this.params);
     }
 
+    /**
+     * Lazily iterates over every execution of this webhook matching the current query parameters,
+     * requesting {@code pageSize} items per call to {@link #getExecutions()} and
+     * prefetching the next page while the current one is processed. The total
+     * reported through {@code include_count} is available from
+     * {@link PagedIterator#getTotalCount()}.
+     * <p>
+     * The {@code skip}, {@code limit} and {@code include_count} query parameters
+     * of this instance are managed by the iterator, so it should not be used for
+     * other calls while iterating.
+     *
+     * @param pageSize items per page, between 1 and 100
+     * @return an iterator over the webhook executions
+     */
+    public PagedIterator executionsIterator(int pageSize) {
+        return new PagedIterator(Pagination.of(this, this::getExecutions), "webhooks", pageSize);
+    }
+
+    /**
+     * Streams every execution of this webhook matching the current query parameters, page by page.
+     * Close the stream when stopping early so the prefetched page is cancelled.
+     *
+     * @param pageSize items per page, between 1 and 100
+     * @return a sequential stream of the webhook executions
+     * @see #executionsIterator(int)
+     */
+    public Stream<JsonObject> streamExecutions(int pageSize) {
+        return executionsIterator(pageSize).stream();
+    }
+
     /**
      * This call makes a manual attempt to execute a webhook after the webhook has
      * finished executing its automatic
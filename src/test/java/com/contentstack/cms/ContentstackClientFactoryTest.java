@@ -0,0 +1,80 @@
+package com.contentstack.cms;
+
+import com.contentstack.cms.core.RetryConfig;
+import okhttp3.OkHttpClient;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+@Tag("unit")
+class ContentstackClientFactoryTest {
+
+    private static OkHttpClient okHttp(Contentstack client) {
+        return (OkHttpClient) client.instance.callFactory();
+    }
+
+    @Test
+    void tenants_shareRootPoolDispatcherAndTls() {
+        ContentstackClientFactory factory = ContentstackClientFactory.builder()
+                .connectionPool(20, 1, TimeUnit.MINUTES)
+                .build();
+        Contentstack tenantA = factory.forAuthtoken("token_a");
+        Contentstack tenantB = factory.forAuthtoken("token_b", "eu");
+
+        OkHttpClient root = factory.getRootClient();
+        OkHttpClient a = okHttp(tenantA);
+        OkHttpClient b = okHttp(tenantB);
+        Assertions.assertNotSame(a, b);
+        Assertions.assertSame(root.connectionPool(), a.connectionPool());
+        Assertions.assertSame(root.connectionPool(), b.connectionPool());
+        Assertions.assertSame(root.dispatcher(), a.dispatcher());
+        Assertions.assertSame(root.dispatcher(), b.dispatcher());
+        Assertions.assertSame(root.sslSocketFactory(), b.sslSocketFactory());
+
+        Assertions.assertEquals("token_a", tenantA.authtoken);
+        Assertions.assertEquals("token_b", tenantB.authtoken);
+        Assertions.assertNotSame(tenantA.interceptor, tenantB.interceptor);
+        Assertions.assertEquals("eu-api.contentstack.com", tenantB.getHost());
+    }
+
+    @Test
+    void defaults_areAppliedToEveryClient() {
+        RetryConfig retryConfig = RetryConfig.builder().retryLimit(7).build();
+        ContentstackClientFactory factory = ContentstackClientFactory.builder()
+                .defaults(builder -> builder.setRetryConfig(retryConfig))
+                .build();
+        Assertions.assertSame(retryConfig, factory.forAuthtoken("token").getRetryConfig());
+        Assertions.assertSame(retryConfig, factory.newClientBuilder().setRegion("au").build().getRetryConfig());
+    }
+
+    @Test
+    void sharedClient_keepsItsTimeoutsUnlessSetOnBuilder() {
+        OkHttpClient root = new OkHttpClient.Builder().readTimeout(Duration.ofSeconds(90)).build();
+        ContentstackClientFactory factory = ContentstackClientFactory.builder().rootClient(root).build();
+
+        Assertions.assertEquals(90_000, okHttp(factory.forAuthtoken("token")).readTimeoutMillis());
+        OkHttpClient overridden = okHttp(factory.newClientBuilder().setReadTimeout(5).build());
+        Assertions.assertEquals(5_000, overridden.readTimeoutMillis());
+        Assertions.assertSame(root.connectionPool(), overridden.connectionPool());
+        Assertions.assertEquals(90_000, root.readTimeoutMillis());
+    }
+
+    @Test
+    void defaultRoot_usesSdkTimeouts() {
+        ContentstackClientFactory factory = ContentstackClientFactory.builder().build();
+        Assertions.assertEquals(30_000, factory.getRootClient().readTimeoutMillis());
+        Assertions.assertEquals(30_000, okHttp(factory.forAuthtoken("token")).connectTimeoutMillis());
+        Assertions.assertThrows(IllegalArgumentException.class, () -> ContentstackClientFactory.builder().timeout(0));
+    }
+
+    @Test
+    void shutdown_stopsSharedDispatcher() {
+        ContentstackClientFactory factory = ContentstackClientFactory.builder().build();
+        factory.forAuthtoken("token");
+        factory.shutdown();
+        Assertions.assertTrue(factory.getRootClient().dispatcher().executorService().isShutdown());
+    }
+}
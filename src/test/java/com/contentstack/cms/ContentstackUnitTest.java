@@ -1,8 +1,13 @@
 package com.contentstack.cms;
 
 import com.contentstack.cms.core.AuthInterceptor;
+import com.contentstack.cms.core.GsonProvider;
+import com.contentstack.cms.core.PriorityExecutor;
+import com.contentstack.cms.core.RateLimiter;
 import com.contentstack.cms.organization.Organization;
 import com.contentstack.cms.stack.Stack;
+import com.google.gson.Gson;
+import okhttp3.Dispatcher;
 import okhttp3.Headers;
 import okhttp3.OkHttpClient;
 import okhttp3.Protocol;
@@ -228,6 +233,36 @@ public class ContentstackUnitTest {
         Assertions.assertEquals(45_000, ok.writeTimeoutMillis());
     }
 
+    @Test
+    void setDispatcherTunesOkHttpLimits() {
+        Contentstack client = new Contentstack.Builder().setDispatcher(128, 32).build();
+        OkHttpClient ok = (OkHttpClient) client.instance.callFactory();
+        Assertions.assertEquals(128, ok.dispatcher().getMaxRequests());
+        Assertions.assertEquals(32, ok.dispatcher().getMaxRequestsPerHost());
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> new Contentstack.Builder().setDispatcher(0, 5));
+    }
+
+    @Test
+    void setDispatcherSharesInstance() {
+        Dispatcher dispatcher = new Dispatcher();
+        Contentstack first = new Contentstack.Builder().setDispatcher(dispatcher).build();
+        Contentstack second = new Contentstack.Builder().setDispatcher(dispatcher).build();
+        Assertions.assertSame(dispatcher, ((OkHttpClient) first.instance.callFactory()).dispatcher());
+        Assertions.assertSame(dispatcher, ((OkHttpClient) second.instance.callFactory()).dispatcher());
+    }
+
+    @Test
+    void setAsyncExecutorTakesPrecedenceOverVirtualThreads() {
+        PriorityExecutor executor = new PriorityExecutor(2);
+        Contentstack client = new Contentstack.Builder()
+                .setVirtualThreadExecution(true)
+                .setAsyncExecutor(executor)
+                .build();
+        Assertions.assertSame(executor, client.asyncExecutor);
+        executor.shutdown();
+    }
+
     @Test
     void okHttpDefaultTimeoutsUseUtilTimeout() {
         Contentstack client = new Contentstack.Builder().build();
@@ -412,4 +447,39 @@ public class ContentstackUnitTest {
         Assertions.assertEquals(0, client.earlyAccess.length);
     }
 
+    @Test
+    public void testSetRateLimiter() {
+        RateLimiter limiter = RateLimiter.builder().requestsPerSecondPerApiKey(5).build();
+        Contentstack client = new Contentstack.Builder()
+                .setAuthtoken("fake@authtoken")
+                .setRateLimiter(limiter)
+                .build();
+        Assertions.assertNotNull(client.stack("apiKey", "managementToken"));
+    }
+
+    @Test
+    public void testDefaultGsonIsShared() {
+        Contentstack first = new Contentstack.Builder().setAuthtoken("fake@authtoken").build();
+        Contentstack second = new Contentstack.Builder().setAuthtoken("fake@authtoken").build();
+        Assertions.assertSame(GsonProvider.shared(), first.getGson());
+        Assertions.assertSame(first.getGson(), second.getGson());
+    }
+
+    @Test
+    public void testSetGson() {
+        Gson gson = GsonProvider.newBuilder().serializeNulls().create();
+        Contentstack client = new Contentstack.Builder()
+                .setAuthtoken("fake@authtoken")
+                .setGson(gson)
+                .build();
+        Assertions.assertSame(gson, client.getGson());
+    }
+
+    @Test
+    public void testSetGson_null_throws() {
+        Contentstack.Builder builder = new Contentstack.Builder();
+        NullPointerException ex = Assertions.assertThrows(NullPointerException.class, () -> builder.setGson(null));
+        Assertions.assertEquals("gson", ex.getMessage());
+    }
+
 }
@@ -1,12 +1,16 @@
 package com.contentstack.cms.core;
 
 import okhttp3.*;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 
 import java.io.IOException;
+import java.net.ConnectException;
+import java.net.SocketException;
 import java.net.SocketTimeoutException;
 
 public class AuthInterceptorTest {
@@ -89,6 +93,25 @@ public class AuthInterceptorTest {
         }
     }
 
+    @Test
+    @Tag("unit")
+    public void testRetry_on429_honoursRetryAfterHeader() throws IOException {
+        authInterceptor.setRetryConfig(RetryConfig.builder().retryLimit(3).retryDelay(10).build());
+        Request request = new Request.Builder()
+                .url("https://api.contentstack.io/v3/user")
+                .get()
+                .build();
+        RetryTestChain chain = new RetryTestChain(request, 429, 200);
+        chain.firstResponseHeader("Retry-After", "1");
+        long start = System.nanoTime();
+        try (Response response = authInterceptor.intercept(chain)) {
+            long elapsedMs = java.util.concurrent.TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            Assertions.assertEquals(200, response.code());
+            Assertions.assertEquals(2, chain.getProceedCount());
+            Assertions.assertTrue(elapsedMs >= 1000, "Retry-After should be honoured, waited " + elapsedMs + "ms");
+        }
+    }
+
     /**
      * Chain that returns a configurable response code on first proceed, then successCode on subsequent calls.
      */
@@ -97,6 +120,8 @@ public class AuthInterceptorTest {
         private final int firstResponseCode;
         private final int successCode;
         private int proceedCount = 0;
+        private String headerName;
+        private String headerValue;
 
         RetryTestChain(Request request, int firstResponseCode, int successCode) {
             this.originalRequest = request;
@@ -108,6 +133,11 @@ public class AuthInterceptorTest {
             return proceedCount;
         }
 
+        void firstResponseHeader(String name, String value) {
+            this.headerName = name;
+            this.headerValue = value;
+        }
+
         @Override
         public Request request() {
             return originalRequest;
@@ -117,13 +147,16 @@ public class AuthInterceptorTest {
         public Response proceed(Request request) throws IOException {
             proceedCount++;
             int code = proceedCount == 1 ? firstResponseCode : successCode;
-            return new Response.Builder()
+            Response.Builder builder = new Response.Builder()
                     .request(request)
                     .protocol(Protocol.HTTP_1_1)
                     .code(code)
                     .message(code == 200 ? "OK" : "Error")
-                    .body(ResponseBody.create("{}", MediaType.parse("application/json")))
-                    .build();
+                    .body(ResponseBody.create("{}", MediaType.parse("application/json")));
+            if (proceedCount == 1 && headerName != null) {
+                builder.header(headerName, headerValue);
+            }
+            return builder.build();
         }
 
         @Override
@@ -208,16 +241,203 @@ public class AuthInterceptorTest {
         Assertions.assertEquals(1, chain.getProceedCount());
     }
 
+    @Test
+    @Tag("unit")
+    public void testRetry_onConnectionReset_thenSuccess_retriesAndReturnsSuccess() throws IOException {
+        authInterceptor.setRetryConfig(RetryConfig.builder().retryLimit(3).retryDelay(10).build());
+        Request request = new Request.Builder()
+                .url("https://api.contentstack.io/v3/user")
+                .get()
+                .build();
+        TimeoutTestChain chain = new TimeoutTestChain(request, 2, 200, new SocketException("Connection reset"));
+        try (Response response = authInterceptor.intercept(chain)) {
+            Assertions.assertEquals(200, response.code());
+            Assertions.assertEquals(3, chain.getProceedCount());
+        }
+    }
+
+    @Test
+    @Tag("unit")
+    public void testRetry_ioExceptionRejectedByCondition_throwsImmediately() {
+        authInterceptor.setRetryConfig(RetryConfig.builder()
+                .retryLimit(3)
+                .retryDelay(10)
+                .retryCondition((statusCode, error) -> !(error instanceof SocketException))
+                .build());
+        Request request = new Request.Builder()
+                .url("https://api.contentstack.io/v3/user")
+                .get()
+                .build();
+        TimeoutTestChain chain = new TimeoutTestChain(request, 5, 200, new SocketException("Connection reset"));
+        Assertions.assertThrows(SocketException.class, () -> authInterceptor.intercept(chain));
+        Assertions.assertEquals(1, chain.getProceedCount());
+    }
+
+    @Test
+    @Tag("unit")
+    public void testRetry_rateLimitWaitExceeded_throwsWithoutRetry() {
+        authInterceptor.setRetryConfig(RetryConfig.builder().retryLimit(3).retryDelay(10).build());
+        Request request = new Request.Builder()
+                .url("https://api.contentstack.io/v3/user")
+                .get()
+                .build();
+        TimeoutTestChain chain = new TimeoutTestChain(request, 5, 200,
+                new RateLimitExceededException(ErrorMessages.RATE_LIMIT_WAIT_EXCEEDED));
+        Assertions.assertThrows(RateLimitExceededException.class, () -> authInterceptor.intercept(chain));
+        Assertions.assertEquals(1, chain.getProceedCount());
+        Assertions.assertFalse(DefaultRetryCondition.getInstance().shouldRetry(0, new RateLimitExceededException("")));
+    }
+
+    @Test
+    @Tag("unit")
+    public void testRetry_postOnSocketTimeout_isNotResent() {
+        authInterceptor.setRetryConfig(RetryConfig.builder().retryLimit(3).retryDelay(10).build());
+        Request request = new Request.Builder()
+                .url("https://api.contentstack.io/v3/content_types/blog/entries")
+                .post(RequestBody.create("{}", MediaType.parse("application/json")))
+                .build();
+        TimeoutTestChain chain = new TimeoutTestChain(request, 1, 201);
+        Assertions.assertThrows(SocketTimeoutException.class, () -> authInterceptor.intercept(chain));
+        Assertions.assertEquals(1, chain.getProceedCount());
+    }
+
+    @Test
+    @Tag("unit")
+    public void testRetry_postOnConnectFailure_orWhenEnabled_isResent() throws IOException {
+        authInterceptor.setRetryConfig(RetryConfig.builder().retryLimit(3).retryDelay(10).build());
+        Request request = new Request.Builder()
+                .url("https://api.contentstack.io/v3/content_types/blog/entries")
+                .post(RequestBody.create("{}", MediaType.parse("application/json")))
+                .build();
+        TimeoutTestChain refused = new TimeoutTestChain(request, 1, 201, new ConnectException("refused"));
+        try (Response response = authInterceptor.intercept(refused)) {
+            Assertions.assertEquals(201, response.code());
+            Assertions.assertEquals(2, refused.getProceedCount());
+        }
+
+        authInterceptor.setRetryConfig(RetryConfig.builder().retryLimit(3).retryDelay(10)
+                .retryNonIdempotent(true).build());
+        TimeoutTestChain timedOut = new TimeoutTestChain(request, 1, 201);
+        try (Response response = authInterceptor.intercept(timedOut)) {
+            Assertions.assertEquals(201, response.code());
+            Assertions.assertEquals(2, timedOut.getProceedCount());
+        }
+    }
+
+    @Test
+    @Tag("unit")
+    public void testRetry_postOnGatewayTimeout_isSentOnce() throws IOException {
+        authInterceptor.setRetryConfig(RetryConfig.builder().retryLimit(3).retryDelay(10).build());
+        Request request = new Request.Builder()
+                .url("https://api.contentstack.io/v3/content_types/blog/entries")
+                .post(RequestBody.create("{}", MediaType.parse("application/json")))
+                .build();
+        RetryTestChain gatewayTimeout = new RetryTestChain(request, 504, 201);
+        try (Response response = authInterceptor.intercept(gatewayTimeout)) {
+            Assertions.assertEquals(504, response.code());
+            Assertions.assertEquals(1, gatewayTimeout.getProceedCount());
+        }
+
+        RetryTestChain unavailable = new RetryTestChain(request, 503, 201);
+        try (Response response = authInterceptor.intercept(unavailable)) {
+            Assertions.assertEquals(201, response.code());
+            Assertions.assertEquals(2, unavailable.getProceedCount());
+        }
+    }
+
+    @Test
+    @Tag("unit")
+    public void testRetry_delayBeyondTotalTimeout_returnsLastResponse() throws IOException {
+        authInterceptor.setRetryConfig(RetryConfig.builder()
+                .retryLimit(3)
+                .retryDelay(1000)
+                .totalTimeout(200)
+                .build());
+        Request request = new Request.Builder()
+                .url("https://api.contentstack.io/v3/user")
+                .get()
+                .build();
+        RetryTestChain chain = new RetryTestChain(request, 503, 200);
+        long start = System.nanoTime();
+        try (Response response = authInterceptor.intercept(chain)) {
+            Assertions.assertEquals(503, response.code());
+            Assertions.assertEquals(1, chain.getProceedCount());
+        }
+        Assertions.assertTrue(System.nanoTime() - start < java.util.concurrent.TimeUnit.MILLISECONDS.toNanos(500));
+    }
+
+    @Test
+    @Tag("unit")
+    public void testRetry_totalTimeoutStopsTimeoutRetries_throws() {
+        authInterceptor.setRetryConfig(RetryConfig.builder()
+                .retryLimit(10)
+                .retryDelay(40)
+                .totalTimeout(100)
+                .build());
+        Request request = new Request.Builder()
+                .url("https://api.contentstack.io/v3/user")
+                .get()
+                .build();
+        TimeoutTestChain chain = new TimeoutTestChain(request, 20, 200);
+        Assertions.assertThrows(SocketTimeoutException.class, () -> authInterceptor.intercept(chain));
+        Assertions.assertTrue(chain.getProceedCount() < 4);
+    }
+
+    @Test
+    @Tag("unit")
+    public void testRetry_totalTimeout_capsAttemptTimeouts() throws IOException {
+        authInterceptor.setRetryConfig(RetryConfig.builder().totalTimeout(2000).build());
+        Request request = new Request.Builder()
+                .url("https://api.contentstack.io/v3/user")
+                .get()
+                .build();
+        TimeoutTestChain chain = new TimeoutTestChain(request, 0, 200);
+        try (Response response = authInterceptor.intercept(chain)) {
+            Assertions.assertEquals(200, response.code());
+        }
+        Assertions.assertTrue(chain.readTimeout > 0 && chain.readTimeout <= 2000);
+        Assertions.assertTrue(chain.connectTimeout > 0 && chain.connectTimeout <= 2000);
+        Assertions.assertTrue(chain.writeTimeout > 0 && chain.writeTimeout <= 2000);
+    }
+
+    @Test
+    @Tag("unit")
+    public void testRetry_totalTimeout_cancelsSlowlyStreamedResponse() throws IOException {
+        authInterceptor.setRetryConfig(RetryConfig.builder().totalTimeout(300).build());
+        try (MockWebServer server = new MockWebServer()) {
+            // 64 bytes at one byte per 50 ms: each read is quick, the whole body takes 3 s
+            server.enqueue(new MockResponse().setBody(new String(new char[64]).replace('\0', 'a'))
+                    .throttleBody(1, 50, java.util.concurrent.TimeUnit.MILLISECONDS));
+            server.start();
+            OkHttpClient client = new OkHttpClient.Builder().addInterceptor(authInterceptor).build();
+            long start = System.nanoTime();
+            try (Response response = client.newCall(new Request.Builder().url(server.url("/v3/user")).build())
+                    .execute()) {
+                Assertions.assertThrows(IOException.class, () -> response.body().string());
+            }
+            Assertions.assertTrue(System.nanoTime() - start < java.util.concurrent.TimeUnit.MILLISECONDS.toNanos(1500));
+        }
+    }
+
     private static class TimeoutTestChain implements Interceptor.Chain {
         private final Request originalRequest;
         private final int timeoutCount;
         private final int successCode;
+        private final IOException failure;
         private int proceedCount = 0;
+        private int connectTimeout;
+        private int readTimeout;
+        private int writeTimeout;
 
         TimeoutTestChain(Request request, int timeoutCount, int successCode) {
+            this(request, timeoutCount, successCode, new SocketTimeoutException("timeout"));
+        }
+
+        TimeoutTestChain(Request request, int timeoutCount, int successCode, IOException failure) {
             this.originalRequest = request;
             this.timeoutCount = timeoutCount;
             this.successCode = successCode;
+            this.failure = failure;
         }
 
         int getProceedCount() { return proceedCount; }
@@ -229,7 +449,7 @@ public class AuthInterceptorTest {
         public Response proceed(Request request) throws IOException {
             proceedCount++;
             if (proceedCount <= timeoutCount) {
-                throw new SocketTimeoutException("timeout");
+                throw failure;
             }
             return new Response.Builder()
                     .request(request)
@@ -241,12 +461,12 @@ public class AuthInterceptorTest {
         }
 
         @Override public Connection connection() { return null; }
-        @Override public int connectTimeoutMillis() { return 0; }
-        @Override public Interceptor.Chain withConnectTimeout(int timeout, java.util.concurrent.TimeUnit unit) { return this; }
-        @Override public int readTimeoutMillis() { return 0; }
-        @Override public Interceptor.Chain withReadTimeout(int timeout, java.util.concurrent.TimeUnit unit) { return this; }
-        @Override public int writeTimeoutMillis() { return 0; }
-        @Override public Interceptor.Chain withWriteTimeout(int timeout, java.util.concurrent.TimeUnit unit) { return this; }
+        @Override public int connectTimeoutMillis() { return connectTimeout; }
+        @Override public Interceptor.Chain withConnectTimeout(int timeout, java.util.concurrent.TimeUnit unit) { connectTimeout = timeout; return this; }
+        @Override public int readTimeoutMillis() { return readTimeout; }
+        @Override public Interceptor.Chain withReadTimeout(int timeout, java.util.concurrent.TimeUnit unit) { readTimeout = timeout; return this; }
+        @Override public int writeTimeoutMillis() { return writeTimeout; }
+        @Override public Interceptor.Chain withWriteTimeout(int timeout, java.util.concurrent.TimeUnit unit) { writeTimeout = timeout; return this; }
         @Override public Call call() { return null; }
     }
 
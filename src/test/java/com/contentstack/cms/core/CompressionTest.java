@@ -0,0 +1,135 @@
+package com.contentstack.cms.core;
+
+import okhttp3.Gzip;
+import okhttp3.MediaType;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.Response;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import okio.Buffer;
+import okio.BufferedSink;
+import okio.GzipSink;
+import okio.GzipSource;
+import okio.Okio;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+
+@Tag("unit")
+class CompressionTest {
+
+    private static final MediaType JSON = MediaType.get("application/json; charset=utf-8");
+
+    private MockWebServer server;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = new MockWebServer();
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        server.shutdown();
+    }
+
+    private static OkHttpClient client(Compression compression) {
+        return new OkHttpClient.Builder().addInterceptor(new ContentEncodingInterceptor(compression)).build();
+    }
+
+    private static String largeJson() {
+        StringBuilder json = new StringBuilder("{\"entry\":{\"items\":[");
+        for (int i = 0; i < 2000; i++) {
+            json.append(i > 0 ? "," : "").append("{\"title\":\"Entry title\",\"uid\":\"blt").append(i).append("\"}");
+        }
+        return json.append("]}}").toString();
+    }
+
+    private static Buffer gzip(String text) throws IOException {
+        Buffer compressed = new Buffer();
+        try (BufferedSink sink = Okio.buffer(new GzipSink(compressed))) {
+            sink.writeUtf8(text);
+        }
+        return compressed;
+    }
+
+    @Test
+    void gzipResponse_isDecodedAndCounted() throws Exception {
+        Compression compression = Compression.builder().build();
+        String json = largeJson();
+        Buffer compressed = gzip(json);
+        long wireSize = compressed.size();
+        server.enqueue(new MockResponse().setHeader("Content-Encoding", "gzip").setBody(compressed));
+
+        try (Response response = client(compression).newCall(
+                new Request.Builder().url(server.url("/v3/content_types/blog/entries")).build()).execute()) {
+            Assertions.assertNull(response.header("Content-Encoding"));
+            Assertions.assertEquals(json, response.body().string());
+        }
+        Assertions.assertEquals("gzip", server.takeRequest().getHeader("Accept-Encoding"));
+        Assertions.assertEquals(wireSize, compression.getResponseBytesReceived());
+        Assertions.assertEquals(json.length(), compression.getResponseBytesDecoded());
+    }
+
+    @Test
+    void largeEntryCreate_isGzipped() throws Exception {
+        Compression compression = Compression.builder().build();
+        server.enqueue(new MockResponse().setBody("{}"));
+        String json = largeJson();
+
+        client(compression).newCall(new Request.Builder().url(server.url("/v3/content_types/blog/entries"))
+                .post(RequestBody.create(json, JSON)).build()).execute().close();
+
+        RecordedRequest recorded = server.takeRequest();
+        Assertions.assertEquals("gzip", recorded.getHeader("Content-Encoding"));
+        Assertions.assertEquals(json, Okio.buffer(new GzipSource(recorded.getBody())).readUtf8());
+        Assertions.assertEquals(json.length(), compression.getRequestBytes());
+        Assertions.assertTrue(compression.getRequestBytesSent() < compression.getRequestBytes() / 4);
+    }
+
+    @Test
+    void smallOrOtherBodies_areSentAsIs() throws Exception {
+        Compression compression = Compression.builder().build();
+        server.enqueue(new MockResponse().setBody("{}"));
+        server.enqueue(new MockResponse().setBody("{}"));
+        OkHttpClient client = client(compression);
+
+        client.newCall(new Request.Builder().url(server.url("/v3/bulk/publish"))
+                .post(RequestBody.create("{\"entries\":[]}", JSON)).build()).execute().close();
+        client.newCall(new Request.Builder().url(server.url("/v3/content_types/blog"))
+                .put(RequestBody.create(largeJson(), JSON)).build()).execute().close();
+
+        Assertions.assertNull(server.takeRequest().getHeader("Content-Encoding"));
+        Assertions.assertNull(server.takeRequest().getHeader("Content-Encoding"));
+        Assertions.assertEquals(compression.getRequestBytes(), compression.getRequestBytesSent());
+    }
+
+    @Test
+    void defaultRule_coversBulkWritesOnly() {
+        Assertions.assertTrue(Compression.isBulkWrite(post("/v3/bulk/publish")));
+        Assertions.assertTrue(Compression.isBulkWrite(post("/v3/content_types/import")));
+        Assertions.assertTrue(Compression.isBulkWrite(post("/v3/content_types/blog/entries")));
+        Assertions.assertFalse(Compression.isBulkWrite(post("/v3/content_types")));
+        Assertions.assertFalse(Compression.isBulkWrite(post("/v3/content_types/blog/entries/e1/publish")));
+    }
+
+    @Test
+    void builder_negotiatesDecodersInOrder() {
+        Compression compression = Compression.builder().decoders(Gzip.INSTANCE).build();
+        Assertions.assertEquals("gzip", compression.getAcceptEncoding());
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Compression.builder().decoders());
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Compression.builder().minRequestBodyBytes(-1));
+    }
+
+    private static Request post(String path) {
+        return new Request.Builder().url("https://api.contentstack.io" + path)
+                .post(RequestBody.create("{}", JSON)).build();
+    }
+}
@@ -1,22 +1,36 @@
 package com.contentstack.cms.core;
 
 import com.contentstack.cms.Contentstack;
+import com.google.gson.JsonParser;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 import org.junit.jupiter.params.provider.ValueSource;
 
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.*;
 
 public class EndpointTest {
 
+    @TempDir
+    Path tempDir;
+
     @BeforeEach
     @AfterEach
     void resetCache() {
+        Endpoint.stopBackgroundRefresh();
+        Endpoint.setCacheFile(null);
+        Endpoint.setRegistryUrl(null);
         Endpoint.resetCache();
     }
 
@@ -365,6 +379,44 @@ public class EndpointTest {
         assertEquals(first, second);
     }
 
+    @Test
+    void testLookupsReturnPrevalidatedUrls() {
+        assertSame(Endpoint.getContentstackEndpoint("eu", "contentDelivery", true),
+                Endpoint.getContentstackEndpoint("EU", "contentDelivery", true));
+        assertSame(Endpoint.getContentstackEndpoint("azure-na", "contentManagement"),
+                Endpoint.getContentstackEndpoint("Azure_NA", "contentManagement"));
+    }
+
+    // ── index — built once per load, canonical IDs before aliases ─────────────
+
+    @Test
+    void testIndexPrefersCanonicalIdOverAlias() {
+        Map<String, RegionRecord> index = Endpoint.index(JsonParser.parseString("["
+                + "{\"id\":\"one\",\"alias\":[\"TWO\",\"x_y\"],\"endpoints\":{\"cma\":\"https://one.contentstack.com\"}},"
+                + "{\"id\":\"two\",\"alias\":[\"x-y\"],\"endpoints\":{\"cma\":\"https://two.contentstack.com\"}}"
+                + "]").getAsJsonArray());
+        assertEquals("two", index.get("two").getId());
+        assertEquals("one", index.get("x-y").getId());
+        assertEquals("one.contentstack.com", index.get("x-y").endpoint("cma", true));
+        assertThrows(UnsupportedOperationException.class, () -> index.put("three", index.get("one")));
+    }
+
+    @Test
+    void testIndexKeepsUntrustedEndpointFailureToThatService() {
+        Map<String, RegionRecord> index = Endpoint.index(JsonParser.parseString("["
+                + "{\"id\":\"one\",\"endpoints\":{\"cma\":\"https://api.contentstack.io\","
+                + "\"evil\":\"https://example.com\",\"plain\":\"http://cdn.contentstack.io\"}}"
+                + "]").getAsJsonArray());
+        RegionRecord record = index.get("one");
+        assertEquals("https://api.contentstack.io", record.endpoint("cma", false));
+        assertNull(record.endpoint("missing", false));
+        IllegalArgumentException untrusted = assertThrows(IllegalArgumentException.class,
+                () -> record.endpoint("evil", false));
+        assertTrue(untrusted.getMessage().contains("untrusted host"));
+        assertThrows(IllegalArgumentException.class, () -> record.endpoint("plain", true));
+        assertThrows(IllegalArgumentException.class, () -> record.endpoints(false));
+    }
+
     // ── refresh() — forces live download and replaces cache ───────────────────
 
     @Test
@@ -408,4 +460,94 @@ public class EndpointTest {
                     "Should resolve contentManagement for region: " + region);
         }
     }
+
+    // ── conditional refresh and cache file — against a local registry ─────────
+
+    private static String registry(String cdnHost) {
+        return "{\"regions\":[{\"id\":\"na\",\"alias\":[\"us\"],"
+                + "\"endpoints\":{\"contentDelivery\":\"https://" + cdnHost + "\"}}]}";
+    }
+
+    @Test
+    void testRefreshRevalidatesWithEtag() throws Exception {
+        try (MockWebServer server = new MockWebServer()) {
+            server.enqueue(new MockResponse().setBody(registry("cdn.contentstack.io")).setHeader("ETag", "\"v1\""));
+            server.enqueue(new MockResponse().setResponseCode(304));
+            Endpoint.setRegistryUrl(server.url("/regions.json").toString());
+
+            assertEquals(1, Endpoint.refresh());
+            assertEquals(1, Endpoint.refresh());
+
+            assertNull(server.takeRequest().getHeader("If-None-Match"));
+            RecordedRequest conditional = server.takeRequest();
+            assertEquals("\"v1\"", conditional.getHeader("If-None-Match"));
+            assertEquals("https://cdn.contentstack.io", Endpoint.getContentstackEndpoint("us", "contentDelivery"));
+        }
+    }
+
+    @Test
+    void testRefreshPersistsRegistryForColdStart() throws Exception {
+        Path cacheFile = tempDir.resolve("cache/regions.json");
+        Endpoint.setCacheFile(cacheFile);
+        try (MockWebServer server = new MockWebServer()) {
+            server.enqueue(new MockResponse().setBody(registry("eu-cdn.contentstack.com")).setHeader("ETag", "\"v2\""));
+            Endpoint.setRegistryUrl(server.url("/regions.json").toString());
+            Endpoint.refresh();
+        }
+        assertTrue(Files.exists(cacheFile));
+
+        // a new process: nothing in memory and the registry unreachable
+        Endpoint.resetCache();
+        Endpoint.setRegistryUrl("http://127.0.0.1:1/regions.json");
+        assertEquals("eu-cdn.contentstack.com", Endpoint.getContentstackEndpoint("na", "contentDelivery", true));
+
+        try (MockWebServer server = new MockWebServer()) {
+            server.enqueue(new MockResponse().setResponseCode(304));
+            Endpoint.setRegistryUrl(server.url("/regions.json").toString());
+            Endpoint.refresh();
+            assertEquals("\"v2\"", server.takeRequest().getHeader("If-None-Match"));
+        }
+    }
+
+    @Test
+    void testUnreadableCacheFileFallsBackToBundledRegistry() throws Exception {
+        Path cacheFile = Files.write(tempDir.resolve("regions.json"), "not json".getBytes());
+        Endpoint.setCacheFile(cacheFile);
+        assertEquals("https://cdn.contentstack.io", Endpoint.getContentstackEndpoint("na", "contentDelivery"));
+    }
+
+    @Test
+    void testFailedRefreshKeepsCurrentRegistry() throws Exception {
+        String before = Endpoint.getContentstackEndpoint("eu", "contentDelivery");
+        try (MockWebServer server = new MockWebServer()) {
+            server.enqueue(new MockResponse().setResponseCode(500));
+            Endpoint.setRegistryUrl(server.url("/regions.json").toString());
+            assertThrows(RuntimeException.class, Endpoint::refresh);
+        }
+        assertEquals(before, Endpoint.getContentstackEndpoint("eu", "contentDelivery"));
+    }
+
+    @Test
+    void testBackgroundRefreshSwapsRegistry() throws Exception {
+        try (MockWebServer server = new MockWebServer()) {
+            server.enqueue(new MockResponse().setBody(registry("cdn-next.contentstack.io")));
+            Endpoint.setRegistryUrl(server.url("/regions.json").toString());
+            assertEquals("https://cdn.contentstack.io", Endpoint.getContentstackEndpoint("na", "contentDelivery"));
+
+            Endpoint.startBackgroundRefresh(50, TimeUnit.MILLISECONDS);
+            assertNotNull(server.takeRequest(5, TimeUnit.SECONDS));
+            long deadline = System.currentTimeMillis() + 5_000;
+            while (!"https://cdn-next.contentstack.io".equals(Endpoint.getContentstackEndpoint("na", "contentDelivery"))
+                    && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+            Endpoint.stopBackgroundRefresh();
+            assertEquals("https://cdn-next.contentstack.io", Endpoint.getContentstackEndpoint("na", "contentDelivery"));
+        }
+    }
+
+    @Test
+    void testBackgroundRefreshRejectsNonPositiveInterval() {
+        assertThrows(IllegalArgumentException.class, () -> Endpoint.startBackgroundRefresh(0, TimeUnit.MINUTES));
+    }
 }
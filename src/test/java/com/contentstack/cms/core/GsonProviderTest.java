@@ -0,0 +1,82 @@
+package com.contentstack.cms.core;
+
+import com.contentstack.cms.models.Error;
+import com.contentstack.cms.models.OAuthTokens;
+import com.contentstack.cms.stack.AssetPojo;
+import com.contentstack.cms.stack.ContentTypePojo;
+import com.contentstack.cms.stack.EntryPojo;
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.Date;
+import java.util.Map;
+
+@Tag("unit")
+class GsonProviderTest {
+
+    @Test
+    void shared_isSingleInstance() {
+        Assertions.assertSame(GsonProvider.shared(), GsonProvider.shared());
+        Assertions.assertSame(GsonProvider.pretty(), GsonProvider.pretty());
+        Assertions.assertNotSame(GsonProvider.shared(), GsonProvider.pretty());
+    }
+
+    @Test
+    void newBuilder_registersSdkAdapters() {
+        Gson gson = GsonProvider.newBuilder().create();
+        assertNotReflective(gson.getAdapter(EntryPojo.class));
+        assertNotReflective(gson.getAdapter(AssetPojo.class));
+        assertNotReflective(gson.getAdapter(ContentTypePojo.class));
+        assertNotReflective(gson.getAdapter(OAuthTokens.class));
+        assertNotReflective(gson.getAdapter(Error.class));
+    }
+
+    @Test
+    void errorAdapter_readsErrorResponse() {
+        Error error = GsonProvider.shared().fromJson(
+                "{\"error_message\":\"Bad\",\"error_code\":\"141\",\"errors\":{\"uid\":[\"is invalid\"]},\"extra\":1}",
+                Error.class);
+        Assertions.assertEquals("Bad", error.getErrorMessage());
+        Assertions.assertEquals(141, error.getErrorCode());
+        Assertions.assertTrue(((Map<?, ?>) error.getErrors()).containsKey("uid"));
+        Assertions.assertNull(GsonProvider.shared().fromJson("null", Error.class));
+    }
+
+    @Test
+    void oauthTokensAdapter_setsExpiryFromExpiresIn() {
+        OAuthTokens tokens = GsonProvider.shared().fromJson("{\"access_token\":\"at\",\"refresh_token\":\"rt\","
+                + "\"token_type\":\"Bearer\",\"expires_in\":3600,\"scope\":\"a b\",\"organization_uid\":null}",
+                OAuthTokens.class);
+        Assertions.assertEquals("at", tokens.getAccessToken());
+        Assertions.assertEquals("rt", tokens.getRefreshToken());
+        Assertions.assertEquals(3600L, tokens.getExpiresIn());
+        Assertions.assertNotNull(tokens.getExpiresAt());
+        Assertions.assertNull(tokens.getOrganizationUid());
+        Assertions.assertTrue(tokens.isValid());
+        Assertions.assertTrue(tokens.hasScope("b"));
+        OAuthTokens copy = GsonProvider.shared().fromJson(GsonProvider.shared().toJson(tokens), OAuthTokens.class);
+        Assertions.assertEquals("at", copy.getAccessToken());
+    }
+
+    @Test
+    void oauthTokensAdapter_keepsStoredExpiry() {
+        OAuthTokens tokens = new OAuthTokens();
+        tokens.setAccessToken("at");
+        tokens.setExpiresIn(3600L);
+        tokens.setExpiresAt(new Date(System.currentTimeMillis() - 600_000));
+
+        String persisted = GsonProvider.shared().toJson(tokens);
+        Assertions.assertTrue(persisted.contains("\"expiresAt\""));
+        OAuthTokens restored = GsonProvider.shared().fromJson(persisted, OAuthTokens.class);
+        Assertions.assertTrue(restored.isExpired());
+        Assertions.assertEquals(tokens.getExpiresAt().getTime() / 1000, restored.getExpiresAt().getTime() / 1000);
+        Assertions.assertEquals(tokens.getIssuedAt().getTime() / 1000, restored.getIssuedAt().getTime() / 1000);
+    }
+
+    private static void assertNotReflective(TypeAdapter<?> adapter) {
+        Assertions.assertFalse(adapter.getClass().getName().contains("ReflectiveTypeAdapterFactory"));
+    }
+}
@@ -0,0 +1,78 @@
+package com.contentstack.cms.core;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+@Tag("unit")
+class PriorityExecutorTest {
+
+    @Test
+    void queuedTasksRunByPriorityThenArrival() throws Exception {
+        PriorityExecutor executor = new PriorityExecutor(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(5);
+        List<String> order = new CopyOnWriteArrayList<>();
+        executor.execute(() -> {
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        executor.execute(RequestPriority.BACKGROUND, record(order, done, "bulk-1"));
+        executor.execute(record(order, done, "normal"));
+        executor.execute(RequestPriority.BACKGROUND, record(order, done, "bulk-2"));
+        executor.execute(RequestPriority.INTERACTIVE, record(order, done, "editor-1"));
+        executor.execute(RequestPriority.INTERACTIVE, record(order, done, "editor-2"));
+        Assertions.assertEquals(5, executor.getQueuedCount());
+
+        release.countDown();
+        Assertions.assertTrue(done.await(5, TimeUnit.SECONDS));
+        Assertions.assertEquals(Arrays.asList("editor-1", "editor-2", "normal", "bulk-1", "bulk-2"), order);
+        executor.shutdown();
+    }
+
+    @Test
+    void runsUpToParallelismTasksAtOnce() throws Exception {
+        PriorityExecutor executor = new PriorityExecutor(3);
+        CountDownLatch started = new CountDownLatch(3);
+        CountDownLatch release = new CountDownLatch(1);
+        for (int i = 0; i < 4; i++) {
+            executor.execute(() -> {
+                started.countDown();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+        }
+        Assertions.assertTrue(started.await(5, TimeUnit.SECONDS));
+        Assertions.assertEquals(1, executor.getQueuedCount());
+        release.countDown();
+        executor.shutdown();
+    }
+
+    @Test
+    void rejectsInvalidUse() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new PriorityExecutor(0));
+        PriorityExecutor executor = new PriorityExecutor(1);
+        executor.shutdown();
+        Assertions.assertThrows(RejectedExecutionException.class, () -> executor.execute(() -> { }));
+    }
+
+    private static Runnable record(List<String> order, CountDownLatch done, String name) {
+        return () -> {
+            order.add(name);
+            done.countDown();
+        };
+    }
+}
@@ -0,0 +1,145 @@
+package com.contentstack.cms.core;
+
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+@Tag("unit")
+class RateLimiterTest {
+
+    @Test
+    void acquire_withinBurst_doesNotWait() throws IOException {
+        RateLimiter limiter = RateLimiter.builder().requestsPerSecondPerApiKey(5).build();
+        long start = System.nanoTime();
+        for (int i = 0; i < 5; i++) {
+            limiter.acquire("api_key_1");
+        }
+        Assertions.assertTrue(elapsedMillis(start) < 150, "burst should be served immediately");
+    }
+
+    @Test
+    void acquire_beyondBurst_waitsForRefill() throws IOException {
+        RateLimiter limiter = RateLimiter.builder().requestsPerSecondPerApiKey(5).build();
+        for (int i = 0; i < 5; i++) {
+            limiter.acquire("api_key_1");
+        }
+        long start = System.nanoTime();
+        limiter.acquire("api_key_1");
+        Assertions.assertTrue(elapsedMillis(start) >= 150, "sixth permit should wait for a refill");
+    }
+
+    @Test
+    void acquire_apiKeysHaveSeparateBuckets() throws IOException {
+        RateLimiter limiter = RateLimiter.builder().requestsPerSecondPerApiKey(2).build();
+        limiter.acquire("api_key_1");
+        limiter.acquire("api_key_1");
+        long start = System.nanoTime();
+        limiter.acquire("api_key_2");
+        limiter.acquire("api_key_2");
+        Assertions.assertTrue(elapsedMillis(start) < 150, "another API key should have its own budget");
+    }
+
+    @Test
+    void acquire_globalBucketLimitsAllApiKeys() throws IOException {
+        RateLimiter limiter = RateLimiter.builder()
+                .requestsPerSecond(2)
+                .requestsPerSecondPerApiKey(100)
+                .build();
+        limiter.acquire("api_key_1");
+        limiter.acquire("api_key_2");
+        long start = System.nanoTime();
+        limiter.acquire("api_key_3");
+        Assertions.assertTrue(elapsedMillis(start) >= 300, "global budget should be shared across API keys");
+    }
+
+    @Test
+    void acquire_waitBeyondMaxWait_throws() throws IOException {
+        RateLimiter limiter = RateLimiter.builder()
+                .requestsPerSecondPerApiKey(1)
+                .maxWait(0, TimeUnit.MILLISECONDS)
+                .build();
+        limiter.acquire("api_key_1");
+        IOException ex = Assertions.assertThrows(RateLimitExceededException.class, () -> limiter.acquire("api_key_1"));
+        Assertions.assertEquals(ErrorMessages.RATE_LIMIT_WAIT_EXCEEDED, ex.getMessage());
+    }
+
+    @Test
+    void onResponse_adaptsRateFromLimitHeader() {
+        RateLimiter limiter = RateLimiter.builder().requestsPerSecondPerApiKey(5).build();
+        limiter.onResponse("api_key_1", response(200, "20", "19"));
+        Assertions.assertEquals(20.0, limiter.getRequestsPerSecond("api_key_1"));
+    }
+
+    @Test
+    void onResponse_ignoresHeadersWhenAdaptationDisabled() {
+        RateLimiter limiter = RateLimiter.builder()
+                .requestsPerSecondPerApiKey(5)
+                .adaptToRateLimitHeaders(false)
+                .build();
+        limiter.onResponse("api_key_1", response(200, "20", "19"));
+        Assertions.assertEquals(5.0, limiter.getRequestsPerSecond("api_key_1"));
+    }
+
+    @Test
+    void onResponse_remainingZero_drainsBucket() throws IOException {
+        RateLimiter limiter = RateLimiter.builder().requestsPerSecondPerApiKey(5).build();
+        limiter.onResponse("api_key_1", response(429, "5", "0"));
+        long start = System.nanoTime();
+        limiter.acquire("api_key_1");
+        Assertions.assertTrue(elapsedMillis(start) >= 150, "drained bucket should make the next request wait");
+    }
+
+    @Test
+    void interceptor_queuesRequestsAndAdapts() throws IOException {
+        MockWebServer server = new MockWebServer();
+        try {
+            for (int i = 0; i < 3; i++) {
+                server.enqueue(new MockResponse().setBody("{}")
+                        .addHeader(RetryUtil.X_RATE_LIMIT_LIMIT, "2")
+                        .addHeader(RetryUtil.X_RATE_LIMIT_REMAINING, "1"));
+            }
+            RateLimiter limiter = RateLimiter.builder().requestsPerSecondPerApiKey(10).build();
+            OkHttpClient client = new OkHttpClient.Builder()
+                    .addInterceptor(new RateLimitInterceptor(limiter))
+                    .build();
+            long start = System.nanoTime();
+            for (int i = 0; i < 3; i++) {
+                Request request = new Request.Builder()
+                        .url(server.url("/v3/content_types"))
+                        .header(Util.API_KEY, "api_key_1")
+                        .build();
+                try (Response response = client.newCall(request).execute()) {
+                    Assertions.assertEquals(200, response.code());
+                }
+            }
+            Assertions.assertEquals(2.0, limiter.getRequestsPerSecond("api_key_1"));
+            Assertions.assertTrue(elapsedMillis(start) >= 300, "requests should be paced to the advertised limit");
+        } finally {
+            server.shutdown();
+        }
+    }
+
+    private static long elapsedMillis(long startNanos) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+    }
+
+    private static Response response(int code, String limit, String remaining) {
+        return new Response.Builder()
+                .request(new Request.Builder().url("https://api.contentstack.io/v3/content_types").build())
+                .protocol(Protocol.HTTP_1_1)
+                .code(code)
+                .message("OK")
+                .header(RetryUtil.X_RATE_LIMIT_LIMIT, limit)
+                .header(RetryUtil.X_RATE_LIMIT_REMAINING, remaining)
+                .build();
+    }
+}
@@ -0,0 +1,171 @@
+package com.contentstack.cms.core;
+
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import okhttp3.mockwebserver.SocketPolicy;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Tag("unit")
+class RequestCoalescerTest {
+
+    private MockWebServer server;
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final AtomicInteger served = new AtomicInteger();
+    private volatile MockResponse reply = new MockResponse().setBody("{\"content_type\":{}}");
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = new MockWebServer();
+        server.setDispatcher(new Dispatcher() {
+            @NotNull
+            @Override
+            public MockResponse dispatch(@NotNull RecordedRequest request) throws InterruptedException {
+                release.await(5, TimeUnit.SECONDS);
+                served.incrementAndGet();
+                return reply;
+            }
+        });
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        release.countDown();
+        server.shutdown();
+    }
+
+    private static OkHttpClient client(RequestCoalescer coalescer) {
+        return new OkHttpClient.Builder().addInterceptor(new RequestCoalescingInterceptor(coalescer)).build();
+    }
+
+    private Request get(String authtoken) {
+        return new Request.Builder().url(server.url("/v3/content_types/blog?include_count=true"))
+                .header(Util.API_KEY, "api_key").header(Util.AUTHTOKEN, authtoken).build();
+    }
+
+    private static CompletableFuture<String> send(OkHttpClient client, Request request) {
+        return CompletableFuture.supplyAsync(() -> {
+            try (Response response = client.newCall(request).execute()) {
+                return response.code() + " " + response.body().string();
+            } catch (IOException e) {
+                throw new RuntimeException(e);
+            }
+        });
+    }
+
+    private static void awaitCoalesced(RequestCoalescer coalescer, long count) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (coalescer.getCoalescedCount() < count && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        Assertions.assertEquals(count, coalescer.getCoalescedCount());
+    }
+
+    @Test
+    void identicalGets_shareOneCall() throws Exception {
+        RequestCoalescer coalescer = RequestCoalescer.builder().build();
+        OkHttpClient client = client(coalescer);
+        List<CompletableFuture<String>> results = new ArrayList<>();
+        results.add(send(client, get("token")));
+        server.takeRequest(5, TimeUnit.SECONDS);
+        for (int i = 0; i < 4; i++) {
+            results.add(send(client, get("token")));
+        }
+        awaitCoalesced(coalescer, 4);
+        release.countDown();
+
+        for (CompletableFuture<String> result : results) {
+            Assertions.assertEquals("200 {\"content_type\":{}}", result.get(5, TimeUnit.SECONDS));
+        }
+        Assertions.assertEquals(1, served.get());
+        Assertions.assertEquals(0, coalescer.getInFlightCount());
+    }
+
+    @Test
+    void differentCredentials_areNotMerged() throws Exception {
+        RequestCoalescer coalescer = RequestCoalescer.builder().build();
+        OkHttpClient client = client(coalescer);
+        CompletableFuture<String> first = send(client, get("token_a"));
+        server.takeRequest(5, TimeUnit.SECONDS);
+        CompletableFuture<String> second = send(client, get("token_b"));
+        Assertions.assertNotNull(server.takeRequest(5, TimeUnit.SECONDS));
+        release.countDown();
+
+        first.get(5, TimeUnit.SECONDS);
+        second.get(5, TimeUnit.SECONDS);
+        Assertions.assertEquals(0, coalescer.getCoalescedCount());
+        Assertions.assertEquals(2, served.get());
+    }
+
+    @Test
+    void sharedFailure_isReportedToEveryWaiter() throws Exception {
+        reply = new MockResponse().setSocketPolicy(SocketPolicy.DISCONNECT_AFTER_REQUEST);
+        RequestCoalescer coalescer = RequestCoalescer.builder().build();
+        OkHttpClient client = new OkHttpClient.Builder().retryOnConnectionFailure(false)
+                .addInterceptor(new RequestCoalescingInterceptor(coalescer)).build();
+        CompletableFuture<String> first = send(client, get("token"));
+        server.takeRequest(5, TimeUnit.SECONDS);
+        CompletableFuture<String> second = send(client, get("token"));
+        awaitCoalesced(coalescer, 1);
+        release.countDown();
+
+        ExecutionException leaderFailure = Assertions.assertThrows(ExecutionException.class,
+                () -> first.get(5, TimeUnit.SECONDS));
+        ExecutionException waiterFailure = Assertions.assertThrows(ExecutionException.class,
+                () -> second.get(5, TimeUnit.SECONDS));
+        Assertions.assertInstanceOf(IOException.class, leaderFailure.getCause().getCause());
+        Assertions.assertInstanceOf(IOException.class, waiterFailure.getCause().getCause());
+        Assertions.assertEquals(1, served.get());
+    }
+
+    @Test
+    void chunkedBodyOverLimit_isStreamedToTheFirstCallerOnly() throws Exception {
+        StringBuilder large = new StringBuilder("{\"items\":\"");
+        for (int i = 0; i < 100; i++) {
+            large.append("0123456789");
+        }
+        String json = large.append("\"}").toString();
+        reply = new MockResponse().setHeader("Content-Type", "application/json").setChunkedBody(json, 16);
+        RequestCoalescer coalescer = RequestCoalescer.builder().maxBodyBytes(64).build();
+        OkHttpClient client = client(coalescer);
+        CompletableFuture<String> first = send(client, get("token"));
+        server.takeRequest(5, TimeUnit.SECONDS);
+        CompletableFuture<String> second = send(client, get("token"));
+        awaitCoalesced(coalescer, 1);
+        release.countDown();
+
+        Assertions.assertEquals("200 " + json, first.get(5, TimeUnit.SECONDS));
+        Assertions.assertEquals("200 " + json, second.get(5, TimeUnit.SECONDS));
+        Assertions.assertEquals(2, served.get());
+    }
+
+    @Test
+    void key_ignoresHeaderOrderButNotValues() {
+        Request a = new Request.Builder().url("https://api.contentstack.io/v3/locales")
+                .header(Util.API_KEY, "k").header(Util.BRANCH, "main").build();
+        Request b = new Request.Builder().url("https://api.contentstack.io/v3/locales")
+                .header(Util.BRANCH, "main").header(Util.API_KEY, "k").build();
+        Request c = b.newBuilder().header(Util.BRANCH, "develop").build();
+        Assertions.assertEquals(RequestCoalescer.key(a), RequestCoalescer.key(b));
+        Assertions.assertNotEquals(RequestCoalescer.key(a), RequestCoalescer.key(c));
+    }
+}
@@ -0,0 +1,166 @@
+package com.contentstack.cms.core;
+
+import okhttp3.MediaType;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.Response;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+@Tag("unit")
+class ResponseCacheTest {
+
+    private MockWebServer server;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = new MockWebServer();
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        server.shutdown();
+    }
+
+    private OkHttpClient client(ResponseCache cache) {
+        return new OkHttpClient.Builder().addInterceptor(new ResponseCacheInterceptor(cache)).build();
+    }
+
+    private Request get(String path, String apiKey, String branch) {
+        Request.Builder builder = new Request.Builder().url(server.url(path))
+                .header(Util.API_KEY, apiKey).header(Util.AUTHTOKEN, "token");
+        if (branch != null) {
+            builder.header(Util.BRANCH, branch);
+        }
+        return builder.build();
+    }
+
+    private static String body(OkHttpClient client, Request request) throws IOException {
+        try (Response response = client.newCall(request).execute()) {
+            Assertions.assertEquals(200, response.code());
+            return response.body().string();
+        }
+    }
+
+    @Test
+    void freshEntry_isServedWithoutRequest() throws IOException {
+        ResponseCache cache = ResponseCache.builder().maxAge(1, TimeUnit.MINUTES).build();
+        OkHttpClient client = client(cache);
+        server.enqueue(new MockResponse().setBody("{\"content_type\":{}}"));
+
+        Request request = get("/v3/content_types/blog", "api_key_1", null);
+        Assertions.assertEquals("{\"content_type\":{}}", body(client, request));
+        Assertions.assertEquals("{\"content_type\":{}}", body(client, request));
+        Assertions.assertEquals(1, server.getRequestCount());
+        Assertions.assertEquals(1, cache.getHitCount());
+    }
+
+    @Test
+    void staleEntry_isRevalidatedWithEtag() throws Exception {
+        ResponseCache cache = ResponseCache.builder().build();
+        OkHttpClient client = client(cache);
+        server.enqueue(new MockResponse().setHeader("ETag", "\"v1\"").setBody("{\"locales\":[]}"));
+        server.enqueue(new MockResponse().setResponseCode(304));
+
+        Request request = get("/v3/locales", "api_key_1", null);
+        body(client, request);
+        Assertions.assertEquals("{\"locales\":[]}", body(client, request));
+        server.takeRequest();
+        RecordedRequest revalidation = server.takeRequest();
+        Assertions.assertEquals("\"v1\"", revalidation.getHeader("If-None-Match"));
+        Assertions.assertEquals(1, cache.getNotModifiedCount());
+    }
+
+    @Test
+    void keys_includeApiKeyBranchAndQuery() throws IOException {
+        ResponseCache cache = ResponseCache.builder().maxAge(1, TimeUnit.MINUTES).build();
+        OkHttpClient client = client(cache);
+        for (int i = 0; i < 4; i++) {
+            server.enqueue(new MockResponse().setBody("r" + i));
+        }
+
+        body(client, get("/v3/environments", "api_key_1", null));
+        body(client, get("/v3/environments", "api_key_2", null));
+        body(client, get("/v3/environments", "api_key_1", "develop"));
+        body(client, get("/v3/environments?include_count=true", "api_key_1", null));
+        Assertions.assertEquals(4, server.getRequestCount());
+        Assertions.assertEquals(4, cache.size());
+    }
+
+    @Test
+    void write_invalidatesOnlyItsStackBranch() throws IOException {
+        ResponseCache cache = ResponseCache.builder().maxAge(1, TimeUnit.MINUTES).build();
+        OkHttpClient client = client(cache);
+        server.enqueue(new MockResponse().setBody("a"));
+        server.enqueue(new MockResponse().setBody("b"));
+        server.enqueue(new MockResponse().setBody("{}"));
+        server.enqueue(new MockResponse().setBody("a2"));
+
+        body(client, get("/v3/content_types/blog", "api_key_1", null));
+        body(client, get("/v3/content_types/blog", "api_key_2", null));
+        Request update = get("/v3/content_types/blog", "api_key_1", null).newBuilder()
+                .put(RequestBody.create("{}", MediaType.get("application/json"))).build();
+        client.newCall(update).execute().close();
+
+        Assertions.assertEquals("a2", body(client, get("/v3/content_types/blog", "api_key_1", null)));
+        Assertions.assertEquals("b", body(client, get("/v3/content_types/blog", "api_key_2", null)));
+        Assertions.assertEquals(4, server.getRequestCount());
+    }
+
+    @Test
+    void entriesAndErrors_areNotCached() throws IOException {
+        ResponseCache cache = ResponseCache.builder().maxAge(1, TimeUnit.MINUTES).build();
+        OkHttpClient client = client(cache);
+        server.enqueue(new MockResponse().setBody("{}"));
+        server.enqueue(new MockResponse().setResponseCode(404).setBody("{}"));
+
+        body(client, get("/v3/content_types/blog/entries", "api_key_1", null));
+        client.newCall(get("/v3/workflows", "api_key_1", null)).execute().close();
+        Assertions.assertEquals(0, cache.size());
+    }
+
+    @Test
+    void lruEvictsLeastRecentlyUsed() throws IOException {
+        ResponseCache cache = ResponseCache.builder().maxEntries(2).maxAge(1, TimeUnit.MINUTES).build();
+        OkHttpClient client = client(cache);
+        for (int i = 0; i < 4; i++) {
+            server.enqueue(new MockResponse().setBody("r" + i));
+        }
+
+        body(client, get("/v3/content_types/a", "api_key_1", null));
+        body(client, get("/v3/content_types/b", "api_key_1", null));
+        body(client, get("/v3/content_types/a", "api_key_1", null));
+        body(client, get("/v3/content_types/c", "api_key_1", null));
+        Assertions.assertEquals("r0", body(client, get("/v3/content_types/a", "api_key_1", null)));
+        Assertions.assertEquals("r3", body(client, get("/v3/content_types/b", "api_key_1", null)));
+        Assertions.assertEquals(4, server.getRequestCount());
+    }
+
+    @Test
+    void chunkedBodyOverLimit_isStreamedUncached() throws IOException {
+        ResponseCache cache = ResponseCache.builder().maxBodyBytes(64).maxAge(1, TimeUnit.MINUTES).build();
+        OkHttpClient client = client(cache);
+        StringBuilder large = new StringBuilder();
+        for (int i = 0; i < 100; i++) {
+            large.append("0123456789");
+        }
+        server.enqueue(new MockResponse().setChunkedBody(large.toString(), 16));
+        server.enqueue(new MockResponse().setChunkedBody("{\"locales\":[]}", 4));
+
+        Assertions.assertEquals(large.toString(), body(client, get("/v3/locales", "api_key_1", null)));
+        Assertions.assertEquals(0, cache.size());
+        Assertions.assertEquals("{\"locales\":[]}", body(client, get("/v3/locales", "api_key_1", "dev")));
+        Assertions.assertEquals(1, cache.size());
+    }
+}
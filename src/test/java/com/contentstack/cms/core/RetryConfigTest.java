@@ -4,6 +4,9 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+
 @Tag("unit")
 class RetryConfigTest {
 
@@ -88,4 +91,42 @@ class RetryConfigTest {
         RetryConfig config = RetryConfig.builder().retryLimit(0).build();
         Assertions.assertEquals(0, config.getRetryLimit());
     }
+
+    @Test
+    void defaultConfig_usesSharedRetryScheduler() {
+        RetryConfig first = RetryConfig.defaultConfig();
+        RetryConfig second = RetryConfig.defaultConfig();
+        Assertions.assertNotNull(first.getRetryScheduler());
+        Assertions.assertSame(first.getRetryScheduler(), second.getRetryScheduler());
+    }
+
+    @Test
+    void builder_withRetryScheduler() {
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+        try {
+            RetryConfig config = RetryConfig.builder().retryScheduler(scheduler).build();
+            Assertions.assertSame(scheduler, config.getRetryScheduler());
+        } finally {
+            scheduler.shutdownNow();
+        }
+    }
+
+    @Test
+    void defaultConfig_hasNoTotalTimeout() {
+        Assertions.assertEquals(0L, RetryConfig.defaultConfig().getTotalTimeout());
+    }
+
+    @Test
+    void builder_withTotalTimeout() {
+        RetryConfig config = RetryConfig.builder()
+                .totalTimeout(5000)
+                .build();
+        Assertions.assertEquals(5000L, config.getTotalTimeout());
+    }
+
+    @Test
+    void builder_totalTimeoutNegative_throws() {
+        Assertions.assertThrows(IllegalArgumentException.class, () ->
+                RetryConfig.builder().totalTimeout(-1));
+    }
 }
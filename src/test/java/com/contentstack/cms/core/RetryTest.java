@@ -1,13 +1,17 @@
 package com.contentstack.cms.core;
 
 import com.contentstack.cms.Contentstack;
+import okhttp3.Protocol;
 import okhttp3.ResponseBody;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 import retrofit2.Call;
+import retrofit2.HttpException;
 import retrofit2.Response;
 
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 @Tag("unit")
@@ -116,4 +120,102 @@ class RetryTest {
         };
         callback.onFailure(call, new Throwable("test"));
     }
+
+    @Test
+    void testRetryCallback_schedulesRetryWithoutBlocking() {
+        Contentstack client = new Contentstack.Builder()
+                .setAuthtoken("fake@authtoken")
+                .build();
+        Call<ResponseBody> call = client.user().getUser();
+        ScheduledThreadPoolExecutor scheduler = new ScheduledThreadPoolExecutor(1);
+        try {
+            RetryConfig config = RetryConfig.builder()
+                    .retryLimit(1)
+                    .retryDelay(60_000)
+                    .retryScheduler(scheduler)
+                    .build();
+            RetryCallback<ResponseBody> callback = new RetryCallback<ResponseBody>(call, config) {
+                @Override
+                public void onResponse(Call<ResponseBody> c, Response<ResponseBody> response) {
+                    Assertions.fail("Unexpected success");
+                }
+            };
+            long start = System.nanoTime();
+            callback.onFailure(call, new java.io.IOException("connection reset"));
+            long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            Assertions.assertTrue(elapsedMs < 5_000, "onFailure should not wait out the retry delay");
+            Assertions.assertEquals(1, scheduler.getQueue().size());
+        } finally {
+            scheduler.shutdownNow();
+        }
+    }
+
+    @Test
+    void testOnFinalFailure_calledWhenSchedulerRejectsRetry() {
+        Contentstack client = new Contentstack.Builder()
+                .setAuthtoken("fake@authtoken")
+                .build();
+        Call<ResponseBody> call = client.user().getUser();
+        ScheduledThreadPoolExecutor scheduler = new ScheduledThreadPoolExecutor(1);
+        scheduler.shutdown();
+        RetryConfig config = RetryConfig.builder()
+                .retryLimit(1)
+                .retryScheduler(scheduler)
+                .build();
+        AtomicBoolean finalFailureCalled = new AtomicBoolean(false);
+        RetryCallback<ResponseBody> callback = new RetryCallback<ResponseBody>(call, config) {
+            @Override
+            public void onResponse(Call<ResponseBody> c, Response<ResponseBody> response) {
+                Assertions.fail("Unexpected success");
+            }
+
+            @Override
+            protected void onFinalFailure(Call<ResponseBody> c, Throwable t) {
+                finalFailureCalled.set(true);
+            }
+        };
+        callback.onFailure(call, new java.io.IOException("network error"));
+        Assertions.assertTrue(finalFailureCalled.get(), "onFinalFailure should be called when the retry cannot be scheduled");
+    }
+
+    @Test
+    void testOnFinalFailure_calledWhenRetryAfterExceedsTotalTimeout() {
+        Contentstack client = new Contentstack.Builder()
+                .setAuthtoken("fake@authtoken")
+                .build();
+        Call<ResponseBody> call = client.user().getUser();
+        ScheduledThreadPoolExecutor scheduler = new ScheduledThreadPoolExecutor(1);
+        try {
+            RetryConfig config = RetryConfig.builder()
+                    .retryLimit(3)
+                    .totalTimeout(5_000)
+                    .retryDelayOptions(RetryDelayOptions.builder().maxRetryAfter(3_600_000).build())
+                    .retryScheduler(scheduler)
+                    .build();
+            AtomicBoolean finalFailureCalled = new AtomicBoolean(false);
+            RetryCallback<ResponseBody> callback = new RetryCallback<ResponseBody>(call, config) {
+                @Override
+                public void onResponse(Call<ResponseBody> c, Response<ResponseBody> response) {
+                    Assertions.fail("Unexpected success");
+                }
+
+                @Override
+                protected void onFinalFailure(Call<ResponseBody> c, Throwable t) {
+                    finalFailureCalled.set(true);
+                }
+            };
+            okhttp3.Response raw = new okhttp3.Response.Builder()
+                    .request(call.request())
+                    .protocol(Protocol.HTTP_1_1)
+                    .code(429)
+                    .message("Too Many Requests")
+                    .header("Retry-After", "3600")
+                    .build();
+            callback.onFailure(call, new HttpException(Response.error(ResponseBody.create("", null), raw)));
+            Assertions.assertTrue(finalFailureCalled.get(), "onFinalFailure should be called when the wait exceeds the total timeout");
+            Assertions.assertEquals(0, scheduler.getQueue().size());
+        } finally {
+            scheduler.shutdownNow();
+        }
+    }
 }
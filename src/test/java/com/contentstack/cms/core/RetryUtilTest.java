@@ -1,5 +1,8 @@
 package com.contentstack.cms.core;
 
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.Response;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
@@ -67,4 +70,136 @@ class RetryUtilTest {
         long delay = RetryUtil.calculateDelay(config, 1, 429);
         Assertions.assertEquals(300L, delay);
     }
+
+    @Test
+    void calculateDelay_retryAfterSeconds_raisesDelay() {
+        RetryConfig config = RetryConfig.defaultConfig();
+        Response response = response(429, "Retry-After", "2");
+        Assertions.assertEquals(2000L, RetryUtil.calculateDelay(config, 1, 429, null, response, 0));
+    }
+
+    @Test
+    void calculateDelay_retryAfterHttpDate_raisesDelay() {
+        RetryConfig config = RetryConfig.defaultConfig();
+        String date = java.time.format.DateTimeFormatter.RFC_1123_DATE_TIME
+                .format(java.time.ZonedDateTime.now(java.time.ZoneOffset.UTC).plusSeconds(10));
+        long delay = RetryUtil.calculateDelay(config, 1, 503, null, response(503, "Retry-After", date), 0);
+        Assertions.assertTrue(delay > 5000L && delay <= 10_000L, "unexpected delay " + delay);
+    }
+
+    @Test
+    void calculateDelay_retryAfterShorterThanBackoff_keepsBackoff() {
+        RetryConfig config = RetryConfig.builder().retryDelay(5000).build();
+        Response response = response(429, "Retry-After", "1");
+        Assertions.assertEquals(5000L, RetryUtil.calculateDelay(config, 1, 429, null, response, 0));
+    }
+
+    @Test
+    void calculateDelay_rateLimitRemainingZero_waitsOneWindow() {
+        RetryConfig config = RetryConfig.builder().retryDelay(10).build();
+        Response response = response(429, "X-RateLimit-Remaining", "0");
+        Assertions.assertEquals(RetryUtil.RATE_LIMIT_WINDOW_MS,
+                RetryUtil.calculateDelay(config, 1, 429, null, response, 0));
+    }
+
+    @Test
+    void calculateDelay_headersIgnoredWhenDisabled() {
+        RetryConfig config = RetryConfig.builder()
+                .retryDelay(10)
+                .retryDelayOptions(RetryDelayOptions.builder().respectRateLimitHeaders(false).build())
+                .build();
+        Response response = response(429, "Retry-After", "30");
+        Assertions.assertEquals(10L, RetryUtil.calculateDelay(config, 1, 429, null, response, 0));
+    }
+
+    @Test
+    void retryAfterMillis_malformed_returnsNegative() {
+        Assertions.assertEquals(-1L, RetryUtil.retryAfterMillis(response(429, "Retry-After", "soon")));
+        Assertions.assertEquals(-1L, RetryUtil.retryAfterMillis(response(429, "X-Other", "1")));
+    }
+
+    @Test
+    void retryAfterMillis_hugeValue_doesNotOverflow() {
+        Assertions.assertEquals(Long.MAX_VALUE,
+                RetryUtil.retryAfterMillis(response(429, "Retry-After", "99999999999999999")));
+    }
+
+    @Test
+    void calculateDelay_retryAfter_cappedByDefault() {
+        RetryConfig config = RetryConfig.builder().retryDelay(10).build();
+        Response response = response(429, "Retry-After", "99999999999999999");
+        Assertions.assertEquals(60_000L, RetryUtil.calculateDelay(config, 1, 429, null, response, 0));
+    }
+
+    @Test
+    void calculateDelay_retryAfter_cappedByMaxRetryAfter() {
+        RetryConfig config = RetryConfig.builder()
+                .retryDelay(10)
+                .retryDelayOptions(RetryDelayOptions.builder().maxRetryAfter(2_000).build())
+                .build();
+        Assertions.assertEquals(2_000L,
+                RetryUtil.calculateDelay(config, 1, 429, null, response(429, "Retry-After", "3600"), 0));
+        Assertions.assertEquals(1_000L,
+                RetryUtil.calculateDelay(config, 1, 429, null, response(429, "Retry-After", "1"), 0));
+    }
+
+    @Test
+    void calculateDelay_exponentialFullJitter_staysWithinCeiling() {
+        RetryConfig config = RetryConfig.builder()
+                .retryDelayOptions(RetryDelayOptions.builder()
+                        .base(100)
+                        .strategy(BackoffStrategy.EXPONENTIAL_FULL_JITTER)
+                        .maxDelay(1000)
+                        .build())
+                .build();
+        for (int i = 0; i < 50; i++) {
+            long first = RetryUtil.calculateDelay(config, 1, 429);
+            long third = RetryUtil.calculateDelay(config, 3, 429);
+            long tenth = RetryUtil.calculateDelay(config, 10, 429);
+            Assertions.assertTrue(first >= 0 && first <= 100, "first retry " + first);
+            Assertions.assertTrue(third >= 0 && third <= 400, "third retry " + third);
+            Assertions.assertTrue(tenth >= 0 && tenth <= 1000, "tenth retry " + tenth);
+        }
+    }
+
+    @Test
+    void calculateDelay_decorrelatedJitter_boundedByPreviousDelay() {
+        RetryConfig config = RetryConfig.builder()
+                .retryDelayOptions(RetryDelayOptions.builder()
+                        .base(100)
+                        .strategy(BackoffStrategy.DECORRELATED_JITTER)
+                        .maxDelay(2000)
+                        .build())
+                .build();
+        for (int i = 0; i < 50; i++) {
+            long first = RetryUtil.calculateDelay(config, 1, 429, null, null, 0);
+            Assertions.assertTrue(first >= 100 && first <= 300, "first retry " + first);
+            long next = RetryUtil.calculateDelay(config, 2, 429, null, null, 500);
+            Assertions.assertTrue(next >= 100 && next <= 1500, "next retry " + next);
+            long capped = RetryUtil.calculateDelay(config, 3, 429, null, null, 5000);
+            Assertions.assertTrue(capped >= 100 && capped <= 2000, "capped retry " + capped);
+        }
+    }
+
+    @Test
+    void calculateDelay_jitterStrategyWithoutBase_usesRetryDelay() {
+        RetryConfig config = RetryConfig.builder()
+                .retryDelay(200)
+                .retryDelayOptions(RetryDelayOptions.builder()
+                        .strategy(BackoffStrategy.DECORRELATED_JITTER)
+                        .build())
+                .build();
+        long delay = RetryUtil.calculateDelay(config, 1, 503);
+        Assertions.assertTrue(delay >= 200 && delay <= 600, "unexpected delay " + delay);
+    }
+
+    private static Response response(int code, String header, String value) {
+        return new Response.Builder()
+                .request(new Request.Builder().url("https://api.contentstack.io/v3/user").build())
+                .protocol(Protocol.HTTP_1_1)
+                .code(code)
+                .message("Error")
+                .header(header, value)
+                .build();
+    }
 }
@@ -11,6 +11,7 @@ import org.mockito.Mockito;
 import org.mockito.junit.MockitoJUnitRunner;
 
 import java.io.IOException;
+import java.net.SocketException;
 import java.net.SocketTimeoutException;
 
 import static org.junit.Assert.assertEquals;
@@ -33,6 +34,7 @@ public class OAuthInterceptorTest {
         Mockito.lenient().when(mockTokens.hasAccessToken()).thenReturn(true);
         Mockito.lenient().when(mockHandler.getTokens()).thenReturn(mockTokens);
         Mockito.lenient().when(mockHandler.getAccessToken()).thenReturn("test-access-token");
+        Mockito.lenient().when(mockHandler.getTokenSnapshot()).thenReturn(TokenSnapshot.of(validTokens()));
 
         interceptor = new OAuthInterceptor(mockHandler);
         interceptor.setRetryConfig(RetryConfig.builder().retryLimit(3).retryDelay(10).build());
@@ -74,16 +76,59 @@ public class OAuthInterceptorTest {
         assertEquals(1, chain.getProceedCount());
     }
 
+    @Test
+    public void testRetry_onConnectionReset_thenSuccess_retriesAndReturnsSuccess() throws IOException {
+        Request request = new Request.Builder()
+                .url("https://api.contentstack.io/v3/content_types")
+                .get()
+                .build();
+        TimeoutTestChain chain = new TimeoutTestChain(request, 2, 200, new SocketException("Connection reset"));
+        try (Response response = interceptor.intercept(chain)) {
+            assertEquals(200, response.code());
+            assertEquals(3, chain.getProceedCount());
+        }
+    }
+
+    @Test
+    public void testRetry_delayBeyondTotalTimeout_throws() {
+        interceptor.setRetryConfig(RetryConfig.builder()
+                .retryLimit(3)
+                .retryDelay(1000)
+                .totalTimeout(200)
+                .build());
+        Request request = new Request.Builder()
+                .url("https://api.contentstack.io/v3/content_types")
+                .get()
+                .build();
+        TimeoutTestChain chain = new TimeoutTestChain(request, 5, 200);
+        assertThrows(SocketTimeoutException.class, () -> interceptor.intercept(chain));
+        assertEquals(1, chain.getProceedCount());
+    }
+
+    private static OAuthTokens validTokens() {
+        OAuthTokens tokens = new OAuthTokens();
+        tokens.setAccessToken("test-access-token");
+        tokens.setTokenType("Bearer");
+        tokens.setExpiresIn(3600L);
+        return tokens;
+    }
+
     private static class TimeoutTestChain implements Interceptor.Chain {
         private final Request originalRequest;
         private final int timeoutCount;
         private final int successCode;
+        private final IOException failure;
         private int proceedCount = 0;
 
         TimeoutTestChain(Request request, int timeoutCount, int successCode) {
+            this(request, timeoutCount, successCode, new SocketTimeoutException("timeout"));
+        }
+
+        TimeoutTestChain(Request request, int timeoutCount, int successCode, IOException failure) {
             this.originalRequest = request;
             this.timeoutCount = timeoutCount;
             this.successCode = successCode;
+            this.failure = failure;
         }
 
         int getProceedCount() { return proceedCount; }
@@ -95,7 +140,7 @@ public class OAuthInterceptorTest {
         public Response proceed(Request request) throws IOException {
             proceedCount++;
             if (proceedCount <= timeoutCount) {
-                throw new SocketTimeoutException("timeout");
+                throw failure;
             }
             return new Response.Builder()
                     .request(request)
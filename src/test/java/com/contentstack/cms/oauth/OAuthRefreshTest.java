@@ -0,0 +1,177 @@
+package com.contentstack.cms.oauth;
+
+import com.contentstack.cms.core.RetryConfig;
+import com.contentstack.cms.models.OAuthConfig;
+import com.contentstack.cms.models.OAuthTokens;
+import okhttp3.Interceptor;
+import okhttp3.MediaType;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Tag("unit")
+class OAuthRefreshTest {
+
+    private final AtomicInteger tokenRequests = new AtomicInteger();
+    private final CountDownLatch releaseTokenResponse = new CountDownLatch(1);
+
+    @Test
+    void concurrentRefreshes_shareOneTokenRequest() throws Exception {
+        OAuthHandler handler = handler(OAuthConfig.DEFAULT_REFRESH_SKEW_MILLIS);
+        handler.setTokens(tokens("old", -1_000));
+
+        List<CompletableFuture<OAuthTokens>> refreshes = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            refreshes.add(handler.refreshAccessToken());
+        }
+        releaseTokenResponse.countDown();
+        for (CompletableFuture<OAuthTokens> refresh : refreshes) {
+            Assertions.assertEquals("new_1", refresh.get(5, TimeUnit.SECONDS).getAccessToken());
+        }
+        Assertions.assertEquals(1, tokenRequests.get());
+        Assertions.assertEquals("new_1", handler.getAccessToken());
+    }
+
+    @Test
+    void cancellingOneCaller_doesNotCancelSharedRefresh() throws Exception {
+        OAuthHandler handler = handler(OAuthConfig.DEFAULT_REFRESH_SKEW_MILLIS);
+        handler.setTokens(tokens("old", -1_000));
+        CompletableFuture<OAuthTokens> first = handler.refreshAccessToken();
+        CompletableFuture<OAuthTokens> second = handler.refreshAccessToken();
+        first.cancel(true);
+        releaseTokenResponse.countDown();
+        Assertions.assertEquals("new_1", second.get(5, TimeUnit.SECONDS).getAccessToken());
+    }
+
+    @Test
+    void tokensWithinSkew_areRefreshedInBackground() throws Exception {
+        CountDownLatch updated = new CountDownLatch(1);
+        OAuthHandler handler = new OAuthHandler(tokenEndpointClient(), config(600_000, new TokenCallback() {
+            @Override
+            public void onTokensUpdated(OAuthTokens tokens) {
+                updated.countDown();
+            }
+
+            @Override
+            public void onTokensCleared() {
+            }
+        }));
+        releaseTokenResponse.countDown();
+        // valid for five more minutes, but inside the ten-minute skew
+        handler.setTokens(tokens("old", 300_000));
+
+        Assertions.assertTrue(updated.await(5, TimeUnit.SECONDS));
+        Assertions.assertEquals("new_1", handler.getAccessToken());
+        Assertions.assertEquals(1, tokenRequests.get());
+    }
+
+    @Test
+    void zeroSkew_disablesBackgroundRefresh() throws Exception {
+        OAuthHandler handler = handler(0);
+        releaseTokenResponse.countDown();
+        handler.setTokens(tokens("old", 300_000));
+        Thread.sleep(200);
+        Assertions.assertEquals(0, tokenRequests.get());
+        Assertions.assertEquals("old", handler.getAccessToken());
+    }
+
+    @Test
+    void forceRefresh_skipsWhenTokenAlreadyReplaced() throws Exception {
+        OAuthHandler handler = handler(0);
+        handler.setTokens(tokens("current", 3_600_000));
+        OAuthTokens tokens = handler.forceRefreshAccessToken("stale").get(5, TimeUnit.SECONDS);
+        Assertions.assertEquals("current", tokens.getAccessToken());
+        Assertions.assertEquals(0, tokenRequests.get());
+    }
+
+    @Test
+    void interceptor_refreshesOnceAfter401AndRetries() throws Exception {
+        OAuthHandler handler = handler(0);
+        releaseTokenResponse.countDown();
+        handler.setTokens(tokens("revoked", 3_600_000));
+        OAuthInterceptor interceptor = new OAuthInterceptor(handler);
+        interceptor.setRetryConfig(RetryConfig.builder().retryLimit(2).retryDelay(1).build());
+        List<String> authorizations = new ArrayList<>();
+        OkHttpClient client = new OkHttpClient.Builder()
+                .addInterceptor(interceptor)
+                .addInterceptor(chain -> {
+                    String authorization = chain.request().header("Authorization");
+                    authorizations.add(authorization);
+                    return respond(chain, "Bearer new_1".equals(authorization) ? 200 : 401, "{}");
+                })
+                .build();
+
+        try (Response response = client.newCall(new Request.Builder()
+                .url("https://api.contentstack.io/v3/content_types").build()).execute()) {
+            Assertions.assertEquals(200, response.code());
+        }
+        Assertions.assertEquals(2, authorizations.size());
+        Assertions.assertEquals("Bearer revoked", authorizations.get(0));
+        Assertions.assertEquals(1, tokenRequests.get());
+    }
+
+    private OAuthHandler handler(long refreshSkewMillis) {
+        return new OAuthHandler(tokenEndpointClient(), config(refreshSkewMillis, null));
+    }
+
+    private static OAuthConfig config(long refreshSkewMillis, TokenCallback callback) {
+        return OAuthConfig.builder()
+                .appId("app_id")
+                .clientId("client_id")
+                .clientSecret("client_secret")
+                .redirectUri("https://example.com/callback")
+                .refreshSkewMillis(refreshSkewMillis)
+                .tokenCallback(callback)
+                .build();
+    }
+
+    /**
+     * Answers every token request locally once {@link #releaseTokenResponse} opens.
+     */
+    private OkHttpClient tokenEndpointClient() {
+        return new OkHttpClient.Builder()
+                .addInterceptor(chain -> {
+                    int count = tokenRequests.incrementAndGet();
+                    try {
+                        releaseTokenResponse.await(5, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    return respond(chain, 200, "{\"access_token\":\"new_" + count + "\",\"refresh_token\":\"r2\","
+                            + "\"token_type\":\"Bearer\",\"expires_in\":3600}");
+                })
+                .build();
+    }
+
+    private static Response respond(Interceptor.Chain chain, int code, String body) {
+        return new Response.Builder()
+                .request(chain.request())
+                .protocol(Protocol.HTTP_1_1)
+                .code(code)
+                .message("status " + code)
+                .body(ResponseBody.create(body, MediaType.parse("application/json")))
+                .build();
+    }
+
+    private static OAuthTokens tokens(String accessToken, long expiresInMillis) {
+        OAuthTokens tokens = new OAuthTokens();
+        tokens.setAccessToken(accessToken);
+        tokens.setRefreshToken("refresh");
+        tokens.setTokenType("Bearer");
+        tokens.setExpiresAt(new Date(System.currentTimeMillis() + expiresInMillis));
+        return tokens;
+    }
+}
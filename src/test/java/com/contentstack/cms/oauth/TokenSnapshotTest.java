@@ -0,0 +1,92 @@
+package com.contentstack.cms.oauth;
+
+import com.contentstack.cms.models.OAuthConfig;
+import com.contentstack.cms.models.OAuthTokens;
+import okhttp3.OkHttpClient;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+@Tag("unit")
+class TokenSnapshotTest {
+
+    @Test
+    void snapshot_precomputesAuthorizationHeaderAndExpiry() {
+        OAuthTokens tokens = tokens("access", 3_600_000);
+        TokenSnapshot snapshot = TokenSnapshot.of(tokens);
+
+        Assertions.assertSame(tokens, snapshot.getTokens());
+        Assertions.assertEquals("Bearer access", snapshot.getAuthorizationHeader());
+        Assertions.assertSame(snapshot.getAuthorizationHeader(), snapshot.getAuthorizationHeader());
+        Assertions.assertEquals(TimeUnit.MILLISECONDS.toNanos(tokens.getExpiresAt().getTime()),
+                snapshot.getExpiresAtEpochNanos());
+        Assertions.assertTrue(snapshot.hasRefreshToken());
+        Assertions.assertFalse(snapshot.isExpired());
+    }
+
+    @Test
+    void snapshot_usesSameExpiryRuleAsTokens() {
+        OAuthTokens withinBuffer = tokens("access", OAuthTokens.EXPIRY_BUFFER_MS - 1_000);
+        Assertions.assertTrue(withinBuffer.isExpired());
+        Assertions.assertTrue(TokenSnapshot.of(withinBuffer).isExpired());
+
+        OAuthTokens noExpiry = tokens("access", 0);
+        noExpiry.setExpiresAt(null);
+        Assertions.assertTrue(TokenSnapshot.of(noExpiry).isExpired());
+
+        OAuthTokens blank = tokens(" ", 3_600_000);
+        TokenSnapshot blankSnapshot = TokenSnapshot.of(blank);
+        Assertions.assertTrue(blankSnapshot.isExpired());
+        Assertions.assertNull(blankSnapshot.getAuthorizationHeader());
+    }
+
+    @Test
+    void emptySnapshot_hasNoTokens() {
+        TokenSnapshot empty = TokenSnapshot.of(null);
+        Assertions.assertSame(TokenSnapshot.EMPTY, empty);
+        Assertions.assertNull(empty.getTokens());
+        Assertions.assertNull(empty.getAuthorizationHeader());
+        Assertions.assertFalse(empty.hasAccessToken());
+        Assertions.assertFalse(empty.hasRefreshToken());
+        Assertions.assertTrue(empty.isExpired());
+    }
+
+    @Test
+    void handler_swapsSnapshotWhenTokensChange() {
+        OAuthHandler handler = new OAuthHandler(new OkHttpClient(), OAuthConfig.builder()
+                .appId("app_id")
+                .clientId("client_id")
+                .clientSecret("client_secret")
+                .redirectUri("https://example.com/callback")
+                .refreshSkewMillis(0)
+                .build());
+        Assertions.assertSame(TokenSnapshot.EMPTY, handler.getTokenSnapshot());
+        Assertions.assertFalse(handler.hasValidAccessToken());
+
+        handler.setTokens(tokens("first", 3_600_000));
+        TokenSnapshot first = handler.getTokenSnapshot();
+        Assertions.assertSame(first, handler.getTokenSnapshot());
+        Assertions.assertEquals("first", handler.getAccessToken());
+        Assertions.assertTrue(handler.hasValidAccessToken());
+
+        handler.setTokens(tokens("second", 3_600_000));
+        Assertions.assertNotSame(first, handler.getTokenSnapshot());
+        Assertions.assertEquals("Bearer second", handler.getTokenSnapshot().getAuthorizationHeader());
+
+        handler.setTokens(null);
+        Assertions.assertSame(TokenSnapshot.EMPTY, handler.getTokenSnapshot());
+        Assertions.assertNull(handler.getTokens());
+    }
+
+    private static OAuthTokens tokens(String accessToken, long expiresInMillis) {
+        OAuthTokens tokens = new OAuthTokens();
+        tokens.setAccessToken(accessToken);
+        tokens.setRefreshToken("refresh");
+        tokens.setTokenType("Bearer");
+        tokens.setExpiresAt(new Date(System.currentTimeMillis() + expiresInMillis));
+        return tokens;
+    }
+}
@@ -0,0 +1,222 @@
+package com.contentstack.cms.stack;
+
+import com.contentstack.cms.core.AuthInterceptor;
+import com.contentstack.cms.core.RetryConfig;
+import com.contentstack.cms.core.Util;
+import okhttp3.OkHttpClient;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.RecordedRequest;
+import okhttp3.mockwebserver.SocketPolicy;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import retrofit2.HttpException;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+@Tag("unit")
+class AssetUploaderTest {
+
+    @TempDir
+    Path tempDir;
+
+    private MockStack mock;
+    private Stack stack;
+    private File file;
+    private final RetryConfig fastRetry = RetryConfig.builder().retryLimit(2).retryDelay(1).build();
+
+    @BeforeEach
+    void setUp() throws IOException {
+        mock = MockStack.start();
+        stack = mock.stack();
+        byte[] content = new byte[10_000];
+        Arrays.fill(content, (byte) 'a');
+        file = Files.write(tempDir.resolve("video.mp4"), content).toFile();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        mock.close();
+    }
+
+    @Test
+    void upload_streamsFileInChunksWithProgress() throws Exception {
+        mock.server().enqueue(assetResponse("blt_asset"));
+        List<Long> progress = new ArrayList<>();
+        AssetUploader uploader = AssetUploader.builder()
+                .chunkSize(4096)
+                .listener((sent, total) -> {
+                    Assertions.assertEquals(10_000, total);
+                    progress.add(sent);
+                })
+                .build();
+
+        String uid = uploader.upload(stack.asset(), file.getPath(), "folder_uid", "Video", null, new String[]{"a"});
+
+        Assertions.assertEquals("blt_asset", uid);
+        Assertions.assertEquals(Arrays.asList(4096L, 8192L, 10_000L), progress);
+        RecordedRequest request = mock.server().takeRequest();
+        Assertions.assertEquals("POST", request.getMethod());
+        Assertions.assertEquals("/v3/assets", request.getPath());
+        String body = request.getBody().readString(StandardCharsets.UTF_8);
+        Assertions.assertTrue(body.contains("filename=\"video.mp4\""));
+        Assertions.assertTrue(body.contains("Content-Type: video/mp4"));
+        Assertions.assertTrue(body.contains("name=\"asset[parent_uid]\""));
+    }
+
+    @Test
+    void upload_retriesThrottledResponse() throws Exception {
+        mock.server().enqueue(new MockResponse().setResponseCode(503));
+        mock.server().enqueue(assetResponse("blt_asset"));
+        AssetUploader uploader = AssetUploader.builder().retryConfig(fastRetry).build();
+        Assertions.assertEquals("blt_asset", uploader.upload(stack.asset(), file.getPath(), null, null, null, null));
+        Assertions.assertEquals(2, mock.server().getRequestCount());
+    }
+
+    @Test
+    void upload_doesNotRetryServerError() {
+        mock.server().enqueue(new MockResponse().setResponseCode(500).setBody("{\"error_code\":1}"));
+        AssetUploader uploader = AssetUploader.builder().retryConfig(fastRetry).build();
+        HttpException error = Assertions.assertThrows(HttpException.class,
+                () -> uploader.upload(stack.asset(), file.getPath(), null, null, null, null));
+        Assertions.assertEquals(500, error.code());
+        Assertions.assertEquals(1, mock.server().getRequestCount());
+    }
+
+    @Test
+    void upload_withClientRetries_isSentOnceOnBadGateway() throws Exception {
+        Stack retrying = stackWithClientRetries();
+        mock.server().enqueue(new MockResponse().setResponseCode(502));
+        mock.server().enqueue(assetResponse("blt_duplicate"));
+        AssetUploader uploader = AssetUploader.builder().retryConfig(fastRetry).build();
+
+        HttpException error = Assertions.assertThrows(HttpException.class,
+                () -> uploader.upload(retrying.asset(), file.getPath(), null, null, null, null));
+        Assertions.assertEquals(502, error.code());
+        Assertions.assertEquals(1, mock.server().getRequestCount());
+        Assertions.assertNull(mock.server().takeRequest().getHeader(Util.X_CALLER_RETRIES));
+    }
+
+    @Test
+    void replace_withClientRetries_isNotRetriedTwice() {
+        Stack retrying = stackWithClientRetries();
+        for (int i = 0; i < 9; i++) {
+            mock.server().enqueue(new MockResponse().setResponseCode(502));
+        }
+        AssetUploader uploader = AssetUploader.builder().retryConfig(fastRetry).build();
+
+        Assertions.assertThrows(HttpException.class,
+                () -> uploader.replace(retrying.asset("blt_existing"), file.getPath(), "new cut"));
+        // The uploader's own retries only, not multiplied by the interceptor's
+        Assertions.assertEquals(3, mock.server().getRequestCount());
+    }
+
+    private Stack stackWithClientRetries() {
+        AuthInterceptor interceptor = new AuthInterceptor();
+        interceptor.setRetryConfig(fastRetry);
+        return mock.stack(new OkHttpClient.Builder().addInterceptor(interceptor).build());
+    }
+
+    @Test
+    void upload_givesUpAfterRetryLimit() {
+        for (int i = 0; i < 3; i++) {
+            mock.server().enqueue(new MockResponse().setResponseCode(429));
+        }
+        AssetUploader uploader = AssetUploader.builder().retryConfig(fastRetry).build();
+        HttpException error = Assertions.assertThrows(HttpException.class,
+                () -> uploader.upload(stack.asset(), file.getPath(), null, null, null, null));
+        Assertions.assertEquals(429, error.code());
+        Assertions.assertEquals(3, mock.server().getRequestCount());
+    }
+
+    @Test
+    void replace_retriesNetworkFailure() throws Exception {
+        mock.server().enqueue(new MockResponse().setSocketPolicy(SocketPolicy.DISCONNECT_AT_START));
+        mock.server().enqueue(assetResponse("blt_existing"));
+        AssetUploader uploader = AssetUploader.builder().retryConfig(fastRetry).build();
+        Assertions.assertEquals("blt_existing",
+                uploader.replace(stack.asset("blt_existing"), file.getPath(), "new cut"));
+        Assertions.assertEquals(2, mock.server().getRequestCount());
+        mock.server().takeRequest();
+        RecordedRequest request = mock.server().takeRequest();
+        Assertions.assertEquals("PUT", request.getMethod());
+        Assertions.assertEquals("/v3/assets/blt_existing", request.getPath());
+    }
+
+    @Test
+    void session_skipsCompletedUploadsAcrossRuns() throws Exception {
+        Path sessionFile = tempDir.resolve("state/session.json");
+        mock.server().enqueue(assetResponse("blt_asset"));
+        AssetUploader first = AssetUploader.builder().session(UploadSession.open(sessionFile)).build();
+        Assertions.assertEquals("blt_asset", first.upload(stack.asset(), file.getPath(), null, null, null, null));
+        Assertions.assertTrue(Files.exists(sessionFile));
+
+        UploadSession reopened = UploadSession.open(sessionFile);
+        Assertions.assertEquals(1, reopened.size());
+        AssetUploader second = AssetUploader.builder().session(reopened).build();
+        Assertions.assertEquals("blt_asset", second.upload(stack.asset(), file.getPath(), null, null, null, null));
+        Assertions.assertEquals(1, mock.server().getRequestCount());
+    }
+
+    @Test
+    void session_keepsUploadsOfEachStackAndBranchApart() throws Exception {
+        UploadSession session = UploadSession.open(tempDir.resolve("session.json"));
+        mock.server().enqueue(assetResponse("blt_first"));
+        mock.server().enqueue(assetResponse("blt_other_stack"));
+        mock.server().enqueue(assetResponse("blt_other_branch"));
+        AssetUploader uploader = AssetUploader.builder().session(session).build();
+        Stack otherStack = mock.stack().addHeader(Util.API_KEY, "other_api_key");
+        Stack otherBranch = mock.stack().addHeader(Util.BRANCH, "development");
+
+        Assertions.assertEquals("blt_first", uploader.upload(stack.asset(), file.getPath(), null, null, null, null));
+        Assertions.assertEquals("blt_other_stack",
+                uploader.upload(otherStack.asset(), file.getPath(), null, null, null, null));
+        Assertions.assertEquals("blt_other_branch",
+                uploader.upload(otherBranch.asset(), file.getPath(), null, null, null, null));
+        Assertions.assertEquals("blt_first", uploader.upload(stack.asset(), file.getPath(), null, null, null, null));
+        Assertions.assertEquals(3, mock.server().getRequestCount());
+    }
+
+    @Test
+    void session_uploadsAgainWhenFileChanged() throws Exception {
+        UploadSession session = UploadSession.open(tempDir.resolve("session.json"));
+        mock.server().enqueue(assetResponse("blt_first"));
+        mock.server().enqueue(assetResponse("blt_second"));
+        AssetUploader uploader = AssetUploader.builder().session(session).build();
+        uploader.upload(stack.asset(), file.getPath(), null, null, null, null);
+        Files.write(file.toPath(), "changed".getBytes(StandardCharsets.UTF_8));
+        Assertions.assertEquals("blt_second", uploader.upload(stack.asset(), file.getPath(), null, null, null, null));
+        Assertions.assertEquals(2, mock.server().getRequestCount());
+    }
+
+    @Test
+    void upload_rejectsMissingFile() {
+        AssetUploader uploader = AssetUploader.builder().build();
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> uploader.upload(stack.asset(), tempDir.resolve("missing.png").toString(), null, null, null, null));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> AssetUploader.builder().chunkSize(0));
+    }
+
+    @Test
+    void assetUploadAsset_reportsProgress() throws Exception {
+        mock.server().enqueue(assetResponse("blt_asset"));
+        long[] last = new long[1];
+        stack.asset().uploadAsset(file.getPath(), null, null, "desc", null, (sent, total) -> last[0] = sent)
+                .execute();
+        Assertions.assertEquals(10_000, last[0]);
+    }
+
+    private static MockResponse assetResponse(String uid) {
+        return new MockResponse().setBody("{\"notice\":\"Asset created successfully.\",\"asset\":{\"uid\":\"" + uid + "\"}}");
+    }
+}
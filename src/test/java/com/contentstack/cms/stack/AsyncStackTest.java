@@ -0,0 +1,143 @@
+package com.contentstack.cms.stack;
+
+import com.contentstack.cms.core.PriorityExecutor;
+import com.contentstack.cms.core.RequestPriority;
+import com.contentstack.cms.core.Util;
+import okhttp3.ResponseBody;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import retrofit2.Call;
+import retrofit2.HttpException;
+import retrofit2.Response;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Tag("unit")
+class AsyncStackTest {
+
+    private MockStack mock;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        mock = MockStack.start();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        mock.close();
+    }
+
+    @Test
+    void future_completesWithBody() throws Exception {
+        mock.server().enqueue(new MockResponse().setBody("{\"entries\":[]}"));
+        Stack stack = mock.stack();
+        ResponseBody body = stack.async().contentType("blog")
+                .child(ContentType::entry)
+                .future(Entry::find)
+                .get(5, TimeUnit.SECONDS);
+        Assertions.assertEquals("{\"entries\":[]}", body.string());
+        RecordedRequest request = mock.server().takeRequest();
+        Assertions.assertEquals("/v3/content_types/blog/entries", request.getPath());
+        Assertions.assertEquals("api_key", request.getHeader(Util.API_KEY));
+    }
+
+    @Test
+    void future_failsWithHttpExceptionForErrorResponse() {
+        mock.server().enqueue(new MockResponse().setResponseCode(404).setBody("{\"error_code\":141}"));
+        Stack stack = mock.stack();
+        CompletableFuture<ResponseBody> future = stack.async().contentType("missing").future(ContentType::fetch);
+        ExecutionException error = Assertions.assertThrows(ExecutionException.class,
+                () -> future.get(5, TimeUnit.SECONDS));
+        Assertions.assertTrue(error.getCause() instanceof HttpException);
+        Assertions.assertEquals(404, ((HttpException) error.getCause()).code());
+    }
+
+    @Test
+    void response_completesWithErrorResponse() throws Exception {
+        mock.server().enqueue(new MockResponse().setResponseCode(422).setBody("{}"));
+        Stack stack = mock.stack();
+        Response<ResponseBody> response = stack.async()
+                .response(s -> s.contentType("blog").fetch())
+                .get(5, TimeUnit.SECONDS);
+        Assertions.assertEquals(422, response.code());
+    }
+
+    @Test
+    void future_runsExecuteOnConfiguredExecutor() throws Exception {
+        mock.server().enqueue(new MockResponse().setBody("{\"content_types\":[]}"));
+        AtomicInteger executed = new AtomicInteger();
+        Executor executor = task -> {
+            executed.incrementAndGet();
+            new Thread(task).start();
+        };
+        Stack stack = mock.stack(executor);
+        ResponseBody body = stack.async().contentType().future(ContentType::find).get(5, TimeUnit.SECONDS);
+        Assertions.assertEquals("{\"content_types\":[]}", body.string());
+        Assertions.assertEquals(1, executed.get());
+    }
+
+    @Test
+    void future_cancelCancelsCall() {
+        mock.server().enqueue(new MockResponse().setBody("{}").setHeadersDelay(5, TimeUnit.SECONDS));
+        Call<ResponseBody> call = mock.stack().contentType().find();
+        CompletableFuture<Response<ResponseBody>> future = AsyncResource.send(call, null);
+        Assertions.assertTrue(future.cancel(true));
+        Assertions.assertTrue(call.isCanceled());
+    }
+
+    @Test
+    void future_cancelBeforeExecutorRuns_skipsCall() {
+        Executor neverRuns = task -> {
+        };
+        Stack stack = mock.stack(neverRuns);
+        CompletableFuture<ResponseBody> future = stack.async().contentType().future(ContentType::find);
+        Assertions.assertTrue(future.cancel(true));
+        Assertions.assertTrue(future.isCancelled());
+        Assertions.assertEquals(0, mock.server().getRequestCount());
+    }
+
+    @Test
+    void priority_interactiveCallsStartBeforeQueuedBackgroundCalls() throws Exception {
+        for (int i = 0; i < 4; i++) {
+            mock.server().enqueue(new MockResponse().setBody("{}"));
+        }
+        PriorityExecutor executor = new PriorityExecutor(1);
+        CountDownLatch release = new CountDownLatch(1);
+        executor.execute(() -> {
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        Stack stack = mock.stack(executor);
+
+        CompletableFuture<ResponseBody> bulk1 = stack.async(RequestPriority.BACKGROUND).contentType("bulk1")
+                .future(ContentType::fetch);
+        CompletableFuture<ResponseBody> bulk2 = stack.async(RequestPriority.BACKGROUND).contentType("bulk2")
+                .future(ContentType::fetch);
+        CompletableFuture<ResponseBody> normal = stack.async().contentType("normal").future(ContentType::fetch);
+        CompletableFuture<ResponseBody> editor = stack.async().withPriority(RequestPriority.INTERACTIVE)
+                .contentType("editor").future(ContentType::fetch);
+        Assertions.assertEquals(4, executor.getQueuedCount());
+        release.countDown();
+        CompletableFuture.allOf(bulk1, bulk2, normal, editor).get(5, TimeUnit.SECONDS);
+
+        Assertions.assertEquals("/v3/content_types/editor", mock.server().takeRequest().getPath());
+        Assertions.assertEquals("/v3/content_types/normal", mock.server().takeRequest().getPath());
+        Assertions.assertEquals("/v3/content_types/bulk1", mock.server().takeRequest().getPath());
+        Assertions.assertEquals("/v3/content_types/bulk2", mock.server().takeRequest().getPath());
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,149 @@
+package com.contentstack.cms.stack;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.jetbrains.annotations.NotNull;
+import org.json.simple.JSONObject;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Tag("unit")
+class BulkExecutorTest {
+
+    private MockStack mock;
+    private final AtomicInteger active = new AtomicInteger();
+    private final AtomicInteger maxActive = new AtomicInteger();
+    private final AtomicInteger jobs = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() throws IOException {
+        mock = MockStack.start(new Dispatcher() {
+            @NotNull
+            @Override
+            public MockResponse dispatch(@NotNull RecordedRequest request) throws InterruptedException {
+                maxActive.accumulateAndGet(active.incrementAndGet(), Math::max);
+                try {
+                    Thread.sleep(20);
+                    String body = request.getBody().readUtf8();
+                    if (body.contains("\"bad\"")) {
+                        return new MockResponse().setResponseCode(422)
+                                .setBody("{\"error_message\":\"Entry not found\",\"error_code\":141}");
+                    }
+                    return new MockResponse().setBody("{\"notice\":\"queued\",\"job_id\":\"job_"
+                            + jobs.incrementAndGet() + "\"}");
+                } finally {
+                    active.decrementAndGet();
+                }
+            }
+        });
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        mock.close();
+    }
+
+    private static List<BulkItem> entries(int count) {
+        List<BulkItem> items = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            items.add(BulkItem.entry("blog", "entry_" + i, "en-us"));
+        }
+        return items;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static JSONObject target() {
+        JSONObject target = new JSONObject();
+        target.put("locales", Collections.singletonList("en-us"));
+        target.put("environments", Collections.singletonList("production"));
+        return target;
+    }
+
+    @Test
+    void publish_chunksItemsAndTracksJobs() throws Exception {
+        Stack stack = mock.stack();
+        BulkResult result = stack.bulkExecutor().publish(entries(25), target()).get(10, TimeUnit.SECONDS);
+
+        Assertions.assertTrue(result.isSuccessful());
+        Assertions.assertEquals(25, result.getOutcomes().size());
+        Assertions.assertEquals(3, result.getJobUids().size());
+        Assertions.assertEquals("entry_24", result.getOutcomes().get(24).getItem().getUid());
+        Assertions.assertEquals(3, mock.server().getRequestCount());
+
+        int items = 0;
+        for (int i = 0; i < 3; i++) {
+            RecordedRequest request = mock.server().takeRequest();
+            Assertions.assertEquals("/v3/bulk/publish", request.getPath());
+            JsonObject body = JsonParser.parseString(request.getBody().readUtf8()).getAsJsonObject();
+            JsonArray chunk = body.getAsJsonArray("entries");
+            Assertions.assertTrue(chunk.size() <= 10);
+            Assertions.assertEquals("blog", chunk.get(0).getAsJsonObject().get("content_type").getAsString());
+            Assertions.assertEquals("production", body.getAsJsonArray("environments").get(0).getAsString());
+            Assertions.assertFalse(body.has("assets"));
+            items += chunk.size();
+        }
+        Assertions.assertEquals(25, items);
+    }
+
+    @Test
+    void parallelism_boundsRequestsInFlight() throws Exception {
+        Stack stack = mock.stack();
+        stack.bulkExecutor().withChunkSize(1).withParallelism(3)
+                .publish(entries(12), target()).get(10, TimeUnit.SECONDS);
+        Assertions.assertEquals(12, mock.server().getRequestCount());
+        Assertions.assertTrue(maxActive.get() <= 3, "at most 3 chunks in flight, saw " + maxActive.get());
+    }
+
+    @Test
+    void rejectedChunk_failsOnlyItsItems() throws Exception {
+        List<BulkItem> items = entries(4);
+        items.add(BulkItem.asset("bad"));
+        items.add(BulkItem.asset("asset_1"));
+        Stack stack = mock.stack(Runnable::run);
+
+        BulkResult result = stack.bulkExecutor().withChunkSize(2).delete(items).get(10, TimeUnit.SECONDS);
+        Assertions.assertFalse(result.isSuccessful());
+        Assertions.assertEquals(4, result.getSucceeded().size());
+        Assertions.assertEquals(2, result.getFailed().size());
+        BulkResult.Outcome failure = result.getFailed().get(0);
+        Assertions.assertEquals("bad", failure.getItem().getUid());
+        Assertions.assertEquals(422, failure.getStatusCode());
+        Assertions.assertEquals("Entry not found", failure.getErrorMessage());
+        Assertions.assertNull(failure.getJobUid());
+    }
+
+    @Test
+    void emptyList_completesWithoutRequests() {
+        BulkResult result = mock.stack().bulkExecutor().delete(Collections.emptyList()).join();
+        Assertions.assertTrue(result.isSuccessful());
+        Assertions.assertTrue(result.getOutcomes().isEmpty());
+        Assertions.assertEquals(0, mock.server().getRequestCount());
+    }
+
+    @Test
+    void body_splitsEntriesAndAssets() {
+        List<BulkItem> chunk = new ArrayList<>();
+        chunk.add(BulkItem.entry("blog", "e1"));
+        chunk.add(BulkItem.asset("a1"));
+        JSONObject body = BulkExecutor.body(target(), chunk);
+        Assertions.assertEquals(1, ((List<?>) body.get("entries")).size());
+        Assertions.assertEquals(1, ((List<?>) body.get("assets")).size());
+        Assertions.assertNotNull(body.get("locales"));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> mock.stack().bulkExecutor().withChunkSize(0));
+    }
+}
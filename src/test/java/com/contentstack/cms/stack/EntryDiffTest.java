@@ -0,0 +1,142 @@
+package com.contentstack.cms.stack;
+
+import com.contentstack.cms.core.Util;
+import com.google.gson.Gson;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import okhttp3.Request;
+import okio.Buffer;
+import org.json.simple.JSONObject;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import retrofit2.Retrofit;
+import retrofit2.converter.gson.GsonConverterFactory;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Tag("unit")
+class EntryDiffTest {
+
+    private static final String FETCHED = "{\"title\":\"Launch\",\"uid\":\"blt1\",\"_version\":4,\"locale\":\"en-us\","
+            + "\"tags\":[\"news\"],\"views\":10,\"ratings\":[1,2,3],\"labels\":[\"a\",\"b\",\"c\",\"b\"],"
+            + "\"blocks\":[{\"hero\":{\"heading\":\"Hi\"}},{\"quote\":{\"text\":\"x\"}}],"
+            + "\"seo\":{\"title\":\"Launch\"}}";
+
+    private static EntryPojo fetched() throws IOException {
+        return new EntryPojoTypeAdapter().fromJson(FETCHED);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<Object> list(EntryPojo entry, String field) {
+        List<Object> copy = new ArrayList<>((List<Object>) entry.getFields().get(field));
+        entry.getFields().put(field, copy);
+        return copy;
+    }
+
+    private static JsonObject entryOf(JSONObject body) {
+        return JsonParser.parseString(body.toJSONString()).getAsJsonObject().getAsJsonObject("entry");
+    }
+
+    @Test
+    void unchangedEntry_isEmpty() throws IOException {
+        EntryPojo modified = fetched();
+        modified.getFields().put("views", 10);
+        EntryDiff diff = EntryDiff.of(fetched(), modified);
+        Assertions.assertTrue(diff.isEmpty());
+        Assertions.assertFalse(diff.isAtomic());
+    }
+
+    @Test
+    void numbersAndArrays_mapToAtomicOperators() throws IOException {
+        EntryPojo modified = fetched();
+        modified.getFields().put("views", 7);
+        list(modified, "ratings").add(4);
+        List<Object> blocks = list(modified, "blocks");
+        Map<String, Object> quote = new LinkedHashMap<>();
+        quote.put("quote", new HashMap<>(Collections.singletonMap("text", "y")));
+        blocks.set(1, quote);
+
+        EntryDiff diff = EntryDiff.of(fetched(), modified);
+        Assertions.assertTrue(diff.isAtomic());
+        Assertions.assertEquals(Arrays.asList("views", "ratings", "blocks"), new ArrayList<>(diff.getChangedFields()));
+
+        JsonObject entry = entryOf(diff.toAtomicBody());
+        Assertions.assertEquals(3, entry.getAsJsonObject("views").get("SUB").getAsInt());
+        Assertions.assertEquals("[4]", entry.getAsJsonObject("ratings").getAsJsonObject("PUSH").get("data").toString());
+        JsonObject update = entry.getAsJsonObject("blocks").getAsJsonObject("UPDATE");
+        Assertions.assertEquals(1, update.get("index").getAsInt());
+        Assertions.assertEquals("y", update.getAsJsonObject("data").getAsJsonObject("quote").get("text").getAsString());
+        Assertions.assertFalse(entry.has("title"));
+        Assertions.assertFalse(entry.has("seo"));
+    }
+
+    @Test
+    void removedScalars_mapToPull() throws IOException {
+        EntryPojo modified = fetched();
+        list(modified, "ratings").remove(Double.valueOf(2));
+        JsonObject pull = entryOf(EntryDiff.of(fetched(), modified).toAtomicBody())
+                .getAsJsonObject("ratings").getAsJsonObject("PULL");
+        Assertions.assertEquals("[2.0]", pull.getAsJsonObject("query").get("$in").toString());
+
+        // PULL removes every match, so dropping only one of two "b" labels is not atomic
+        EntryPojo oneOfTwo = fetched();
+        list(oneOfTwo, "labels").remove(3);
+        Assertions.assertFalse(EntryDiff.of(fetched(), oneOfTwo).isAtomic());
+    }
+
+    @Test
+    void otherChanges_fallBackToFullUpdate() throws IOException {
+        EntryPojo modified = fetched();
+        modified.title = "Launch day";
+        modified.getFields().put("views", 11);
+
+        EntryDiff diff = EntryDiff.of(fetched(), modified);
+        Assertions.assertFalse(diff.isAtomic());
+        Assertions.assertNull(diff.toAtomicBody());
+        JsonObject entry = entryOf(diff.toUpdateBody());
+        Assertions.assertEquals("Launch day", entry.get("title").getAsString());
+        Assertions.assertEquals(11, entry.get("views").getAsInt());
+        Assertions.assertEquals("news", entry.getAsJsonArray("tags").get(0).getAsString());
+        Assertions.assertTrue(entry.has("seo"));
+        Assertions.assertFalse(entry.has("_version"));
+    }
+
+    @Test
+    void entryUpdate_sendsAtomicOrFullBody() throws IOException {
+        Retrofit retrofit = new Retrofit.Builder()
+                .baseUrl("https://api.contentstack.io/v3/")
+                .addConverterFactory(GsonConverterFactory.create(new Gson()))
+                .build();
+        HashMap<String, Object> headers = new HashMap<>();
+        headers.put(Util.API_KEY, "api_key");
+        Entry entry = new Stack(retrofit, headers).contentType("blog").entry("blt1");
+
+        EntryPojo counted = fetched();
+        counted.getFields().put("views", 12);
+        Request atomic = entry.update(EntryDiff.of(fetched(), counted)).request();
+        Assertions.assertEquals("PUT", atomic.method());
+        Assertions.assertTrue(bodyOf(atomic).contains("\"ADD\":2"));
+
+        EntryPojo renamed = fetched();
+        renamed.title = "Renamed";
+        Request full = entry.update(EntryDiff.of(fetched(), renamed)).request();
+        Assertions.assertTrue(bodyOf(full).contains("\"title\":\"Renamed\""));
+
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> entry.update(EntryDiff.of(fetched(), fetched())));
+    }
+
+    private static String bodyOf(Request request) throws IOException {
+        Buffer buffer = new Buffer();
+        request.body().writeTo(buffer);
+        return buffer.readUtf8();
+    }
+}
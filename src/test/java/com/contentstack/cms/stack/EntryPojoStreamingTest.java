@@ -0,0 +1,103 @@
+package com.contentstack.cms.stack;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonObject;
+import okhttp3.MediaType;
+import okhttp3.ResponseBody;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+@Tag("unit")
+class EntryPojoStreamingTest {
+
+    private static final String LISTING = "{\"schema\":[{\"uid\":\"title\"}],"
+            + "\"entries\":["
+            + "{\"title\":\"First\",\"uid\":\"blt1\",\"_version\":3,\"locale\":\"en-us\","
+            + "\"tags\":[\"a\"],\"updated_at\":\"2024-01-01\",\"url\":\"/first\","
+            + "\"author\":{\"name\":\"Ann\",\"age\":40},\"rating\":4},"
+            + "{\"title\":\"Second\",\"uid\":\"blt2\",\"locale\":null,\"body\":null}"
+            + "],\"count\":2}";
+
+    @Test
+    void entryListResponse_streamsEntriesIntoPojos() {
+        EntryListResponse response = new Gson().fromJson(LISTING, EntryListResponse.class);
+        List<EntryPojo> entries = response.getEntries();
+
+        Assertions.assertEquals(2, entries.size());
+        Assertions.assertEquals(2, response.getCount());
+        EntryPojo first = entries.get(0);
+        Assertions.assertEquals("First", first.title);
+        Assertions.assertEquals("blt1", first.uid);
+        Assertions.assertEquals(3, first.version);
+        Assertions.assertEquals("en-us", first.locale);
+        Assertions.assertEquals("/first", first.getStringField("url"));
+        Assertions.assertEquals("Ann", first.getJsonObjectField("author").get("name"));
+        Assertions.assertEquals(4.0, first.getFields().get("rating"));
+        Assertions.assertFalse(first.getFields().containsKey("tags"));
+        Assertions.assertEquals("2024-01-01", first.getSystemFields().get("updated_at"));
+
+        EntryPojo second = entries.get(1);
+        Assertions.assertEquals(0, second.version);
+        Assertions.assertNull(second.locale);
+        Assertions.assertTrue(second.getFields().containsKey("body"));
+    }
+
+    @Test
+    void entryListResponse_rebuildsRawJsonFromPojos() {
+        EntryListResponse response = new Gson().fromJson(LISTING, EntryListResponse.class);
+        @SuppressWarnings("deprecation")
+        List<JsonObject> raw = response.getRawJson();
+        Assertions.assertEquals("blt1", raw.get(0).get("uid").getAsString());
+        Assertions.assertEquals("Ann", raw.get(0).getAsJsonObject("author").get("name").getAsString());
+        Assertions.assertEquals("a", raw.get(0).getAsJsonArray("tags").get(0).getAsString());
+        Assertions.assertTrue(response.toString().contains("\"count\": 2"));
+    }
+
+    @Test
+    void entryListResponse_withoutEntries() {
+        EntryListResponse response = new Gson().fromJson("{\"error_code\":141}", EntryListResponse.class);
+        Assertions.assertNull(response.getEntries());
+        Assertions.assertNull(response.getCount());
+    }
+
+    @Test
+    void entryPojoReader_yieldsEntriesOneByOne() throws IOException {
+        ResponseBody body = ResponseBody.create(LISTING, MediaType.parse("application/json"));
+        List<String> uids = new ArrayList<>();
+        try (EntryPojoReader reader = EntryPojoReader.of(body)) {
+            while (reader.hasNext()) {
+                uids.add(reader.next().uid);
+            }
+            Assertions.assertFalse(reader.hasNext());
+        }
+        Assertions.assertEquals(2, uids.size());
+        Assertions.assertEquals("blt2", uids.get(1));
+    }
+
+    @Test
+    void entryPojoReader_emptyWhenNoEntriesKey() throws IOException {
+        try (EntryPojoReader reader = EntryPojoReader.of(new StringReader("{\"notice\":\"x\"}"))) {
+            Assertions.assertFalse(reader.hasNext());
+        }
+    }
+
+    @Test
+    void typeAdapter_roundTripsPojo() throws IOException {
+        EntryPojoTypeAdapter adapter = new EntryPojoTypeAdapter();
+        EntryPojo pojo = adapter.fromJson("{\"uid\":\"blt9\",\"_version\":2,\"ACL\":{},\"color\":\"red\"}");
+        Map<String, Object> fields = pojo.getFields();
+        Assertions.assertEquals("red", fields.get("color"));
+        EntryPojo copy = adapter.fromJson(adapter.toJson(pojo));
+        Assertions.assertEquals("blt9", copy.uid);
+        Assertions.assertEquals(2, copy.version);
+        Assertions.assertEquals(fields, copy.getFields());
+        Assertions.assertTrue(copy.getSystemFields().containsKey("ACL"));
+    }
+}
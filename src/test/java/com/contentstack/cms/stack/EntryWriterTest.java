@@ -0,0 +1,193 @@
+package com.contentstack.cms.stack;
+
+import com.contentstack.cms.core.RetryConfig;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import okhttp3.OkHttpClient;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.RecordedRequest;
+import okhttp3.mockwebserver.SocketPolicy;
+import org.jetbrains.annotations.NotNull;
+import org.json.simple.JSONObject;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+@Tag("unit")
+class EntryWriterTest {
+
+    private MockStack mock;
+    private Stack stack;
+    private final Map<String, AtomicInteger> posts = new ConcurrentHashMap<>();
+    private final Map<String, String> created = new ConcurrentHashMap<>();
+    private final AtomicInteger lookups = new AtomicInteger();
+    private final AtomicInteger updates = new AtomicInteger();
+    private final List<Long> updateTimes = new CopyOnWriteArrayList<>();
+    private final AtomicInteger active = new AtomicInteger();
+    private final AtomicInteger maxActive = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() throws IOException {
+        mock = MockStack.start(new Dispatcher() {
+            @NotNull
+            @Override
+            public MockResponse dispatch(@NotNull RecordedRequest request) throws InterruptedException {
+                maxActive.accumulateAndGet(active.incrementAndGet(), Math::max);
+                try {
+                    Thread.sleep(5);
+                    return respond(request);
+                } finally {
+                    active.decrementAndGet();
+                }
+            }
+        }, new OkHttpClient.Builder().retryOnConnectionFailure(false).build());
+        stack = mock.stack();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        mock.close();
+    }
+
+    private MockResponse respond(RecordedRequest request) {
+        if ("GET".equals(request.getMethod())) {
+            lookups.incrementAndGet();
+            JsonObject query = JsonParser.parseString(request.getRequestUrl().queryParameter("query"))
+                    .getAsJsonObject();
+            String uid = created.get(query.get("url").getAsString());
+            return new MockResponse().setBody(uid != null
+                    ? "{\"entries\":[{\"uid\":\"" + uid + "\"}]}" : "{\"entries\":[]}");
+        }
+        JsonObject entry = JsonParser.parseString(request.getBody().readUtf8()).getAsJsonObject()
+                .getAsJsonObject("entry");
+        String url = entry.get("url").getAsString();
+        if ("PUT".equals(request.getMethod())) {
+            updateTimes.add(System.nanoTime());
+            return updates.incrementAndGet() == 1
+                    ? new MockResponse().setResponseCode(503)
+                    : new MockResponse().setBody("{\"entry\":{\"uid\":\"existing\"}}");
+        }
+        int attempt = posts.computeIfAbsent(url, key -> new AtomicInteger()).incrementAndGet();
+        if (url.equals("/invalid")) {
+            return new MockResponse().setResponseCode(422)
+                    .setBody("{\"error_message\":\"Entry creation failed.\",\"errors\":{\"title\":[\"is required\"]}}");
+        }
+        if (url.startsWith("/lost-before") && attempt == 1) {
+            return new MockResponse().setSocketPolicy(SocketPolicy.DISCONNECT_AFTER_REQUEST);
+        }
+        String uid = "blt" + url.replace("/", "_");
+        created.put(url, uid);
+        if (url.startsWith("/lost-after") && attempt == 1) {
+            // The server created the entry, but the response never arrives
+            return new MockResponse().setSocketPolicy(SocketPolicy.DISCONNECT_AFTER_REQUEST);
+        }
+        return new MockResponse().setResponseCode(201).setBody("{\"entry\":{\"uid\":\"" + uid + "\"}}");
+    }
+
+    @SuppressWarnings("unchecked")
+    private static EntryWrite create(String url) {
+        JSONObject entry = new JSONObject();
+        entry.put("title", url);
+        entry.put("url", url);
+        return EntryWrite.create("blog", entry);
+    }
+
+    @Test
+    void write_boundsConcurrencyAndReportsEveryOutcome() throws Exception {
+        List<EntryWrite> writes = new ArrayList<>();
+        IntStream.range(0, 40).forEach(i -> writes.add(create("/post-" + i)));
+        writes.add(create("/invalid"));
+        ConcurrentLinkedQueue<EntryWriteResult.Outcome> reported = new ConcurrentLinkedQueue<>();
+
+        EntryWriteResult result = stack.entryWriter().withParallelism(4).withListener(reported::add)
+                .write(writes).get(10, TimeUnit.SECONDS);
+
+        Assertions.assertEquals(41, result.getTotal());
+        Assertions.assertEquals(40, result.getSucceededCount());
+        Assertions.assertEquals(41, reported.size());
+        Assertions.assertTrue(maxActive.get() <= 4, "at most 4 writes in flight, saw " + maxActive.get());
+        Assertions.assertTrue(result.getWritesPerSecond() > 0);
+        EntryWriteResult.Outcome failure = result.getFailed().get(0);
+        Assertions.assertEquals(422, failure.getStatusCode());
+        Assertions.assertEquals(1, failure.getAttempts());
+        Assertions.assertTrue(failure.getErrorMessage().contains("is required"));
+        Assertions.assertTrue(reported.stream().anyMatch(o -> "blt_post-7".equals(o.getEntryUid())));
+    }
+
+    @Test
+    void lostCreate_isLookedUpBeforeBeingSentAgain() throws Exception {
+        EntryWriteResult result = stack.entryWriter().withUniqueField("url")
+                .write(Arrays.asList(create("/lost-after"), create("/lost-before"))).get(10, TimeUnit.SECONDS);
+
+        Assertions.assertTrue(result.isSuccessful(), String.valueOf(result.getFailed()));
+        Assertions.assertEquals(1, result.getRecoveredCount());
+        // Created by the first attempt: found by the lookup, not posted again
+        Assertions.assertEquals(1, posts.get("/lost-after").get());
+        // Not created by the first attempt: posted again after an empty lookup
+        Assertions.assertEquals(2, posts.get("/lost-before").get());
+        Assertions.assertEquals(2, lookups.get());
+    }
+
+    @Test
+    void lostCreate_onTheLastAttempt_isStillLookedUp() throws Exception {
+        EntryWriteResult result = stack.entryWriter().withUniqueField("url").withMaxAttempts(1)
+                .write(Arrays.asList(create("/lost-after"), create("/lost-before"))).get(10, TimeUnit.SECONDS);
+
+        // Every attempt was lost, but the entry the first one created is found, not reported as failed
+        Assertions.assertEquals(1, result.getSucceededCount());
+        Assertions.assertEquals(1, result.getRecoveredCount());
+        Assertions.assertEquals(1, posts.get("/lost-after").get());
+        // Not created and no attempt left: failed as not created, not posted again
+        EntryWriteResult.Outcome failure = result.getFailed().get(0);
+        Assertions.assertEquals("/lost-before", failure.getWrite().getEntry().get("url"));
+        Assertions.assertTrue(failure.getErrorMessage().startsWith("Not created"));
+        Assertions.assertEquals(1, posts.get("/lost-before").get());
+        Assertions.assertEquals(2, lookups.get());
+    }
+
+    @Test
+    void lostCreate_withoutUniqueField_isNotSentAgain() throws Exception {
+        EntryWriteResult result = stack.entryWriter().write(Arrays.asList(create("/lost-after")))
+                .get(10, TimeUnit.SECONDS);
+
+        Assertions.assertFalse(result.isSuccessful());
+        Assertions.assertEquals(1, posts.get("/lost-after").get());
+        Assertions.assertEquals(0, lookups.get());
+        Assertions.assertTrue(result.getFailed().get(0).getErrorMessage().startsWith("Outcome unknown"));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void update_isSentAgainOnServerError() throws Exception {
+        JSONObject entry = new JSONObject();
+        entry.put("url", "/existing");
+        List<EntryWriteResult.Outcome> reported = new ArrayList<>();
+        EntryWriteResult result = stack.entryWriter().withListener(reported::add)
+                .withRetryConfig(RetryConfig.builder().retryDelay(200).build())
+                .write(Arrays.asList(EntryWrite.update("blog", "existing", entry, "en-us")))
+                .get(10, TimeUnit.SECONDS);
+
+        Assertions.assertTrue(result.isSuccessful());
+        Assertions.assertEquals(2, reported.get(0).getAttempts());
+        // Sent again only after the backoff
+        Assertions.assertTrue(updateTimes.get(1) - updateTimes.get(0) >= TimeUnit.MILLISECONDS.toNanos(200));
+        Assertions.assertEquals("existing", reported.get(0).getEntryUid());
+        Assertions.assertTrue(EntryWriter.isUnknownOutcome(0));
+        Assertions.assertFalse(EntryWriter.isUnknownOutcome(422));
+    }
+}
@@ -0,0 +1,160 @@
+package com.contentstack.cms.stack;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import retrofit2.HttpException;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Tag("unit")
+class JobPollerTest {
+
+    private MockStack mock;
+    private Stack stack;
+    private JobPoller poller;
+    private final Map<String, AtomicInteger> checks = new ConcurrentHashMap<>();
+
+    @BeforeEach
+    void setUp() throws IOException {
+        mock = MockStack.start(new Dispatcher() {
+            @NotNull
+            @Override
+            public MockResponse dispatch(@NotNull RecordedRequest request) {
+                String path = request.getRequestUrl().encodedPath();
+                int count = checks.computeIfAbsent(path, key -> new AtomicInteger()).incrementAndGet();
+                if (path.contains("job_fail")) {
+                    return new MockResponse().setBody("{\"job\":{\"status\":\"failed\"}}");
+                }
+                if (path.contains("job_missing")) {
+                    return new MockResponse().setResponseCode(404).setBody("{\"error_message\":\"Not found\"}");
+                }
+                if (path.contains("job_busy") && count == 1) {
+                    return new MockResponse().setResponseCode(503);
+                }
+                if (path.contains("job_stuck")) {
+                    return new MockResponse().setBody("{\"status\":\"in_progress\"}");
+                }
+                if (path.contains("branches_queue")) {
+                    return new MockResponse().setBody(count < 2
+                            ? "{\"queue\":[{\"merge_details\":{\"status\":\"in_progress\"}}]}"
+                            : "{\"queue\":[{\"merge_details\":{\"status\":\"complete\"}}]}");
+                }
+                return new MockResponse().setBody(count < 3
+                        ? "{\"status\":\"in_progress\",\"processed\":" + count + "}"
+                        : "{\"status\":\"completed\"}");
+            }
+        });
+        stack = mock.stack();
+        poller = JobPoller.builder()
+                .initialInterval(10, TimeUnit.MILLISECONDS)
+                .maxInterval(40, TimeUnit.MILLISECONDS)
+                .batchWindow(5, TimeUnit.MILLISECONDS)
+                .timeout(5, TimeUnit.SECONDS)
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        poller.shutdown();
+        mock.close();
+    }
+
+    private int checksOf(String path) {
+        AtomicInteger count = checks.get(path);
+        return count != null ? count.get() : 0;
+    }
+
+    @Test
+    void bulkJobs_completeEachJobWhenDone() throws Exception {
+        Map<String, JsonObject> statuses = poller.bulkJobs(stack.bulkOperation(),
+                Arrays.asList("job_1", "job_2", "job_3", "job_4")).get(5, TimeUnit.SECONDS);
+
+        Assertions.assertEquals(4, statuses.size());
+        Assertions.assertEquals("completed", statuses.get("job_3").get("status").getAsString());
+        Assertions.assertEquals(3, checksOf("/v3/bulk/jobs/job_1"));
+        Assertions.assertEquals(12, poller.getCheckCount());
+    }
+
+    @Test
+    void failedJob_completesWithJobFailedException() {
+        CompletableFuture<JsonObject> job = poller.bulkJob(stack.bulkOperation(), "job_fail");
+        ExecutionException error = Assertions.assertThrows(ExecutionException.class,
+                () -> job.get(5, TimeUnit.SECONDS));
+        Assertions.assertTrue(error.getCause() instanceof JobFailedException);
+        Assertions.assertEquals("failed", ((JobFailedException) error.getCause()).getStatus()
+                .getAsJsonObject("job").get("status").getAsString());
+
+        CompletableFuture<JsonObject> missing = poller.bulkJob(stack.bulkOperation(), "job_missing");
+        error = Assertions.assertThrows(ExecutionException.class, () -> missing.get(5, TimeUnit.SECONDS));
+        Assertions.assertEquals(404, ((HttpException) error.getCause()).code());
+    }
+
+    @Test
+    void serverError_isRetried() throws Exception {
+        JsonObject status = poller.bulkJob(stack.bulkOperation(), "job_busy").get(5, TimeUnit.SECONDS);
+        Assertions.assertEquals("completed", status.get("status").getAsString());
+        Assertions.assertEquals(3, checksOf("/v3/bulk/jobs/job_busy"));
+    }
+
+    @Test
+    void unchangedStatus_backsOffUntilTimeout() {
+        JobPoller shortLived = JobPoller.builder()
+                .initialInterval(10, TimeUnit.MILLISECONDS)
+                .maxInterval(1, TimeUnit.SECONDS)
+                .multiplier(2)
+                .timeout(300, TimeUnit.MILLISECONDS)
+                .build();
+        try {
+            CompletableFuture<JsonObject> job = shortLived.bulkJob(stack.bulkOperation(), "job_stuck");
+            ExecutionException error = Assertions.assertThrows(ExecutionException.class,
+                    () -> job.get(5, TimeUnit.SECONDS));
+            Assertions.assertTrue(error.getCause() instanceof TimeoutException);
+            // 10 + 20 + 40 + 80 + 160 ms: fixed 10 ms polling would need about 30 checks
+            Assertions.assertTrue(checksOf("/v3/bulk/jobs/job_stuck") <= 7,
+                    "checks: " + checksOf("/v3/bulk/jobs/job_stuck"));
+        } finally {
+            shortLived.shutdown();
+        }
+    }
+
+    @Test
+    void mergeJob_readsQueueStatus() throws Exception {
+        JsonObject status = poller.mergeJob(stack.branch("main").mergeQueue(), "merge_1").get(5, TimeUnit.SECONDS);
+        Assertions.assertEquals(2, checksOf("/v3/stacks/branches_queue/merge_1"));
+        Assertions.assertEquals(JobPoller.State.SUCCEEDED, JobPoller.stateOf(status));
+    }
+
+    @Test
+    void stateOf_readsKnownShapes() {
+        Assertions.assertEquals(JobPoller.State.RUNNING, JobPoller.stateOf(json("{\"status\":\"in_progress\"}")));
+        Assertions.assertEquals(JobPoller.State.SUCCEEDED, JobPoller.stateOf(json("{\"job\":{\"status\":\"success\"}}")));
+        Assertions.assertEquals(JobPoller.State.SUCCEEDED, JobPoller.stateOf(json(
+                "{\"release\":{\"status\":[{\"environment\":\"prod\",\"status\":\"deployed\"}]}}")));
+        Assertions.assertEquals(JobPoller.State.FAILED, JobPoller.stateOf(json(
+                "{\"release\":{\"status\":[{\"status\":\"deployed\"},{\"status\":\"failed\"}]}}")));
+        Assertions.assertEquals(JobPoller.State.RUNNING, JobPoller.stateOf(json("{\"release\":{\"status\":[]}}")));
+        Assertions.assertEquals(JobPoller.State.RUNNING, JobPoller.stateOf(json("{\"notice\":\"queued\"}")));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> JobPoller.builder().multiplier(0.5));
+    }
+
+    private static JsonObject json(String value) {
+        return JsonParser.parseString(value).getAsJsonObject();
+    }
+}
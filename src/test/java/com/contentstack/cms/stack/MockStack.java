@@ -0,0 +1,121 @@
+package com.contentstack.cms.stack;
+
+import com.contentstack.cms.core.Util;
+import okhttp3.OkHttpClient;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockWebServer;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import retrofit2.Retrofit;
+import retrofit2.converter.gson.GsonConverterFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Executor;
+
+/**
+ * Serves {@link Stack}s from a local {@link MockWebServer} for unit tests.
+ */
+final class MockStack implements Closeable {
+
+    private final MockWebServer server;
+    private final Retrofit retrofit;
+
+    private MockStack(MockWebServer server, OkHttpClient client) {
+        this.server = server;
+        this.retrofit = retrofit(server, client);
+    }
+
+    /**
+     * Starts a server that answers with the responses enqueued on it.
+     *
+     * @return the started mock stack
+     * @throws IOException if the server cannot start
+     */
+    static MockStack start() throws IOException {
+        return start(null);
+    }
+
+    /**
+     * Starts a server that answers through a dispatcher.
+     *
+     * @param dispatcher the dispatcher, or null to answer with enqueued responses
+     * @return the started mock stack
+     * @throws IOException if the server cannot start
+     */
+    static MockStack start(@Nullable Dispatcher dispatcher) throws IOException {
+        return start(dispatcher, new OkHttpClient());
+    }
+
+    /**
+     * Starts a server that answers through a dispatcher and is called through
+     * the given client.
+     *
+     * @param dispatcher the dispatcher, or null to answer with enqueued responses
+     * @param client     the HTTP client of the stacks
+     * @return the started mock stack
+     * @throws IOException if the server cannot start
+     */
+    static MockStack start(@Nullable Dispatcher dispatcher, @NotNull OkHttpClient client) throws IOException {
+        MockWebServer server = new MockWebServer();
+        if (dispatcher != null) {
+            server.setDispatcher(dispatcher);
+        }
+        server.start();
+        return new MockStack(server, client);
+    }
+
+    MockWebServer server() {
+        return server;
+    }
+
+    /**
+     * Creates a stack with the {@code api_key} header.
+     *
+     * @return a new stack
+     */
+    Stack stack() {
+        return new Stack(retrofit, headers());
+    }
+
+    /**
+     * Creates a stack whose futures complete on the given executor.
+     *
+     * @param asyncExecutor the executor, or null for OkHttp's dispatcher
+     * @return a new stack
+     */
+    Stack stack(@Nullable Executor asyncExecutor) {
+        return new Stack(retrofit, headers(), asyncExecutor);
+    }
+
+    /**
+     * Creates a stack that calls the same server through another client.
+     *
+     * @param client the HTTP client
+     * @return a new stack
+     */
+    Stack stack(@NotNull OkHttpClient client) {
+        return new Stack(retrofit(server, client), headers());
+    }
+
+    @Override
+    public void close() throws IOException {
+        server.shutdown();
+    }
+
+    private static Retrofit retrofit(MockWebServer server, OkHttpClient client) {
+        return new Retrofit.Builder()
+                .baseUrl(server.url("/v3/"))
+                .client(client)
+                .addConverterFactory(GsonConverterFactory.create())
+                .build();
+    }
+
+    private static Map<String, Object> headers() {
+        Map<String, Object> headers = new HashMap<>();
+        headers.put(Util.API_KEY, "api_key");
+        return headers;
+    }
+}
@@ -0,0 +1,168 @@
+package com.contentstack.cms.stack;
+
+import com.google.gson.JsonObject;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import retrofit2.HttpException;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+@Tag("unit")
+class PagedIteratorTest {
+
+    private MockStack mock;
+    private Stack stack;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        mock = MockStack.start();
+        stack = mock.stack();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        mock.close();
+    }
+
+    @Test
+    void entryIterator_walksEveryPage() throws InterruptedException {
+        mock.server().setDispatcher(new ListDispatcher("entries", 7, true));
+        PagedIterator iterator = stack.contentType("blog").entry().iterator(3);
+        List<String> uids = new ArrayList<>();
+        iterator.forEachRemaining(entry -> uids.add(entry.get("uid").getAsString()));
+
+        Assertions.assertEquals(7, uids.size());
+        Assertions.assertEquals("item_0", uids.get(0));
+        Assertions.assertEquals("item_6", uids.get(6));
+        Assertions.assertEquals(3, mock.server().getRequestCount());
+        RecordedRequest first = mock.server().takeRequest();
+        Assertions.assertEquals("/v3/content_types/blog/entries", first.getRequestUrl().encodedPath());
+        Assertions.assertEquals("true", first.getRequestUrl().queryParameter("include_count"));
+        Assertions.assertEquals("false", mock.server().takeRequest().getRequestUrl().queryParameter("include_count"));
+    }
+
+    @Test
+    void iterator_isLazyAndReportsTotalCount() {
+        mock.server().setDispatcher(new ListDispatcher("entries", 7, true));
+        PagedIterator iterator = stack.contentType("blog").entry().iterator(3);
+        Assertions.assertEquals(0, mock.server().getRequestCount());
+        Assertions.assertEquals(7, iterator.getTotalCount());
+        iterator.close();
+    }
+
+    @Test
+    void iterator_prefetchesNextPage() throws InterruptedException {
+        mock.server().setDispatcher(new ListDispatcher("entries", 7, true));
+        PagedIterator iterator = stack.contentType("blog").entry().iterator(3);
+        Assertions.assertTrue(iterator.hasNext());
+        // the second page is requested while the first is still being consumed
+        Assertions.assertNotNull(mock.server().takeRequest(5, TimeUnit.SECONDS));
+        Assertions.assertNotNull(mock.server().takeRequest(5, TimeUnit.SECONDS));
+        Assertions.assertEquals("item_0", iterator.next().get("uid").getAsString());
+        iterator.close();
+        Assertions.assertFalse(iterator.hasNext());
+    }
+
+    @Test
+    void iterator_stopsOnShortPageWithoutCount() {
+        mock.server().setDispatcher(new ListDispatcher("entries", 5, false));
+        List<JsonObject> entries = new ArrayList<>();
+        stack.contentType("blog").entry().iterator(5).forEachRemaining(entries::add);
+        Assertions.assertEquals(5, entries.size());
+        // a full page with no count needs one more (empty) page to detect the end
+        Assertions.assertEquals(2, mock.server().getRequestCount());
+    }
+
+    @Test
+    void iterator_surfacesHttpErrors() {
+        mock.server().enqueue(new MockResponse().setResponseCode(401).setBody("{\"error_code\":105}"));
+        PagedIterator iterator = stack.contentType("blog").entry().iterator(10);
+        HttpException error = Assertions.assertThrows(HttpException.class, iterator::hasNext);
+        Assertions.assertEquals(401, error.code());
+    }
+
+    @Test
+    void assetStream_collectsEveryAsset() {
+        mock.server().setDispatcher(new ListDispatcher("assets", 4, true));
+        try (Stream<JsonObject> assets = stack.asset().stream(2)) {
+            Assertions.assertEquals(4, assets.count());
+        }
+    }
+
+    @Test
+    void stream_limitStopsPaging() {
+        mock.server().setDispatcher(new ListDispatcher("logs", 50, true));
+        List<String> uids;
+        try (Stream<JsonObject> logs = stack.auditLog().stream(10)) {
+            uids = logs.limit(3).map(log -> log.get("uid").getAsString()).collect(Collectors.toList());
+        }
+        Assertions.assertEquals(3, uids.size());
+        Assertions.assertTrue(mock.server().getRequestCount() <= 2);
+    }
+
+    @Test
+    void publishQueueAndWebhookExecutions_useTheirItemKeys() throws InterruptedException {
+        mock.server().setDispatcher(new ListDispatcher("queue", 2, true));
+        Assertions.assertEquals(2, stack.publishQueue().stream(10).count());
+        Assertions.assertEquals("/v3/publish-queue", mock.server().takeRequest().getRequestUrl().encodedPath());
+
+        mock.server().setDispatcher(new ListDispatcher("webhooks", 3, true));
+        Assertions.assertEquals(3, stack.webhook("webhook_uid").streamExecutions(10).count());
+        Assertions.assertEquals("/v3/webhooks/webhook_uid/executions",
+                mock.server().takeRequest().getRequestUrl().encodedPath());
+    }
+
+    @Test
+    void iterator_rejectsInvalidPageSize() {
+        Entry entry = stack.contentType("blog").entry();
+        Assertions.assertThrows(IllegalArgumentException.class, () -> entry.iterator(0));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> entry.stream(101));
+    }
+
+    /**
+     * Serves a listing of {@code total} items under {@code key}, honouring skip and limit.
+     */
+    private static class ListDispatcher extends Dispatcher {
+        private final String key;
+        private final int total;
+        private final boolean reportCount;
+
+        ListDispatcher(String key, int total, boolean reportCount) {
+            this.key = key;
+            this.total = total;
+            this.reportCount = reportCount;
+        }
+
+        @NotNull
+        @Override
+        public MockResponse dispatch(@NotNull RecordedRequest request) {
+            int skip = Integer.parseInt(request.getRequestUrl().queryParameter("skip"));
+            int limit = Integer.parseInt(request.getRequestUrl().queryParameter("limit"));
+            boolean includeCount = Boolean.parseBoolean(request.getRequestUrl().queryParameter("include_count"));
+            StringBuilder body = new StringBuilder("{\"").append(key).append("\":[");
+            for (int i = skip; i < Math.min(total, skip + limit); i++) {
+                if (i > skip) {
+                    body.append(',');
+                }
+                body.append("{\"uid\":\"item_").append(i).append("\"}");
+            }
+            body.append(']');
+            if (includeCount && reportCount) {
+                body.append(",\"count\":").append(total);
+            }
+            return new MockResponse().setBody(body.append('}').toString());
+        }
+    }
+}
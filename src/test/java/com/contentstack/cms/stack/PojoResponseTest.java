@@ -0,0 +1,104 @@
+package com.contentstack.cms.stack;
+
+import com.contentstack.cms.core.GsonProvider;
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+@Tag("unit")
+class PojoResponseTest {
+
+    private final Gson gson = GsonProvider.shared();
+
+    @Test
+    void assetListResponse_mapsAssets() {
+        AssetListResponse response = gson.fromJson("{\"assets\":["
+                + "{\"uid\":\"a1\",\"title\":\"Logo\",\"content_type\":\"image/png\",\"file_size\":\"1024\","
+                + "\"_version\":2,\"is_dir\":false,\"tags\":[\"brand\"],\"unknown\":{\"x\":1}},"
+                + "{\"uid\":\"f1\",\"name\":\"Folder\",\"content_type\":\"application/vnd.contenstack.folder\","
+                + "\"is_dir\":true,\"tags\":null}]}", AssetListResponse.class);
+        List<AssetPojo> assets = response.getAssets();
+        Assertions.assertEquals(2, assets.size());
+        AssetPojo logo = assets.get(0);
+        Assertions.assertEquals("Logo", logo.getTitle());
+        Assertions.assertEquals("1024", logo.fileSize);
+        Assertions.assertEquals(2, logo.version);
+        Assertions.assertArrayEquals(new String[]{"brand"}, logo.tags);
+        Assertions.assertEquals("Folder", assets.get(1).getTitle());
+        Assertions.assertTrue(assets.get(1).isDir);
+        Assertions.assertSame(assets, response.getAssets());
+        Assertions.assertTrue(response.toString().contains("\"uid\": \"a1\""));
+    }
+
+    @Test
+    void assetResponse_mapsAsset() {
+        AssetResponse response = gson.fromJson("{\"asset\":{\"uid\":\"a1\",\"title\":\"Logo\","
+                + "\"content_type\":\"image/png\",\"file_size\":\"2048\"}}", AssetResponse.class);
+        Assertions.assertEquals("a1", response.getAssetPojo().uid);
+        Assertions.assertEquals("2048", response.getAssetPojo().fileSize);
+    }
+
+    @Test
+    void contentTypeResponses_mapSchema() {
+        ContentTypesResponse list = gson.fromJson("{\"content_types\":[{\"uid\":\"blog\",\"title\":\"Blog\","
+                + "\"_version\":4,\"schema\":[{\"uid\":\"title\",\"data_type\":\"text\"}],"
+                + "\"options\":{\"singleton\":false}}]}", ContentTypesResponse.class);
+        ContentTypePojo blog = list.getContentTypes().get(0);
+        Assertions.assertEquals("blog", blog.uid);
+        Assertions.assertEquals(4, blog.version);
+        Assertions.assertEquals(1, blog.schema.size());
+        Assertions.assertEquals(false, blog.options.get("singleton"));
+        Assertions.assertNull(blog.fieldRules);
+
+        ContentTypeResponse single = gson.fromJson("{\"content_type\":{\"uid\":\"page\",\"field_rules\":[]}}",
+                ContentTypeResponse.class);
+        Assertions.assertEquals("page", single.getContentPojo().uid);
+        Assertions.assertTrue(single.getContentPojo().fieldRules.isEmpty());
+    }
+
+    @Test
+    void responses_useTheConvertingGsonsAdapters() {
+        Gson custom = GsonProvider.newBuilder().registerTypeAdapter(AssetPojo.class, new TypeAdapter<AssetPojo>() {
+            @Override
+            public void write(JsonWriter out, AssetPojo value) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public AssetPojo read(JsonReader in) throws IOException {
+                AssetPojo pojo = new AssetPojo();
+                in.skipValue();
+                pojo.uid = "custom";
+                return pojo;
+            }
+        }).create();
+        AssetResponse response = custom.fromJson("{\"notice\":\"ok\",\"asset\":{\"uid\":\"a1\","
+                + "\"created_by\":\"blt_user\",\"dimension\":{\"height\":10}}}", AssetResponse.class);
+        Assertions.assertEquals("custom", response.getAssetPojo().uid);
+        // Keys the POJO does not map stay available in the raw JSON
+        Assertions.assertEquals("blt_user", response.getRawJson().get("created_by"));
+        Assertions.assertEquals(10.0, ((Map<?, ?>) response.getRawJson().get("dimension")).get("height"));
+        Assertions.assertTrue(response.toString().contains("\"created_by\": \"blt_user\""));
+        Assertions.assertNull(gson.fromJson("{\"asset\":null}", AssetResponse.class).getAssetPojo());
+    }
+
+    @Test
+    void entryResponse_splitsFields() {
+        EntryResponse response = gson.fromJson("{\"entry\":{\"uid\":\"e1\",\"title\":\"Hello\",\"_version\":5,"
+                + "\"tags\":[],\"summary\":\"text\"}}", EntryResponse.class);
+        EntryPojo entry = response.getEntryPojo();
+        Assertions.assertEquals("e1", entry.uid);
+        Assertions.assertEquals(5, entry.version);
+        Assertions.assertEquals("text", entry.getStringField("summary"));
+        Assertions.assertFalse(entry.getFields().containsKey("tags"));
+        Assertions.assertTrue(entry.getSystemFields().containsKey("tags"));
+    }
+}
@@ -0,0 +1,164 @@
+package com.contentstack.cms.stack;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.jetbrains.annotations.NotNull;
+import org.json.simple.JSONObject;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+@Tag("unit")
+class ReleaseAssemblerTest {
+
+    private static final String DEPLOYED_BEFORE = "{\"release\":{\"uid\":\"rel\",\"status\":[{\"status\":\"deployed\","
+            + "\"deployed_at\":\"2024-01-01T00:00:00.000Z\"}]}}";
+
+    private MockStack mock;
+    private Stack stack;
+    private JobPoller poller;
+    private final ConcurrentLinkedQueue<JsonArray> added = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger fetches = new AtomicInteger();
+    private final AtomicInteger deploys = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() throws IOException {
+        mock = MockStack.start(new Dispatcher() {
+            @NotNull
+            @Override
+            public MockResponse dispatch(@NotNull RecordedRequest request) {
+                String path = request.getRequestUrl().encodedPath();
+                if (path.endsWith("/items") && "GET".equals(request.getMethod())) {
+                    return new MockResponse().setBody("{\"items\":["
+                            + "{\"uid\":\"entry_1\",\"locale\":\"en-us\",\"content_type_uid\":\"blog\"},"
+                            + "{\"uid\":\"asset_1\",\"content_type_uid\":\"built_io_upload\"}],\"count\":2}");
+                }
+                if (path.endsWith("/items")) {
+                    JsonArray items = JsonParser.parseString(request.getBody().readUtf8())
+                            .getAsJsonObject().getAsJsonArray("items");
+                    added.add(items);
+                    for (int i = 0; i < items.size(); i++) {
+                        if ("bad".equals(items.get(i).getAsJsonObject().get("uid").getAsString())) {
+                            return new MockResponse().setResponseCode(422)
+                                    .setBody("{\"error_message\":\"Entry version not found\"}");
+                        }
+                    }
+                    return new MockResponse().setBody("{\"notice\":\"Item(s) send to add to release.\"}");
+                }
+                if (path.endsWith("/deploy")) {
+                    deploys.incrementAndGet();
+                    return new MockResponse().setBody("{\"notice\":\"Release Deployed successfully.\"}");
+                }
+                if (deploys.get() == 0) {
+                    return new MockResponse().setBody(DEPLOYED_BEFORE);
+                }
+                int fetch = fetches.incrementAndGet();
+                return new MockResponse().setBody(fetch < 2 ? DEPLOYED_BEFORE : fetch < 3
+                        ? "{\"release\":{\"uid\":\"rel\",\"status\":[{\"status\":\"deploying\"}]}}"
+                        : "{\"release\":{\"uid\":\"rel\",\"status\":[{\"status\":\"deployed\","
+                        + "\"deployed_at\":\"2024-02-01T00:00:00.000Z\"}]}}");
+            }
+        });
+        stack = mock.stack();
+        poller = JobPoller.builder().initialInterval(10, TimeUnit.MILLISECONDS).build();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        poller.shutdown();
+        mock.close();
+    }
+
+    private static Stream<BulkItem> entries(int count) {
+        return IntStream.range(0, count).mapToObj(i -> BulkItem.entry("blog", "entry_" + i, "en-us").withVersion(1));
+    }
+
+    @Test
+    void add_chunksNewItemsAndSkipsExisting() throws Exception {
+        Stream<BulkItem> items = Stream.concat(entries(60),
+                Stream.of(BulkItem.asset("asset_1"), BulkItem.entry("blog", "entry_5", "en-us").withVersion(1)));
+
+        BulkResult result = stack.releaseAssembler("rel").withChunkSize(25)
+                .add(items, "publish").get(10, TimeUnit.SECONDS);
+
+        Assertions.assertTrue(result.isSuccessful());
+        Assertions.assertEquals(59, result.getOutcomes().size());
+        Assertions.assertEquals(Arrays.asList("entry_1", "asset_1", "entry_5"),
+                result.getSkipped().stream().map(BulkItem::getUid).collect(Collectors.toList()));
+        Assertions.assertEquals(3, added.size());
+        int sent = 0;
+        for (JsonArray chunk : added) {
+            Assertions.assertTrue(chunk.size() <= 25);
+            JsonObject first = chunk.get(0).getAsJsonObject();
+            Assertions.assertEquals("publish", first.get("action").getAsString());
+            Assertions.assertEquals("blog", first.get("content_type_uid").getAsString());
+            Assertions.assertEquals(1, first.get("version").getAsInt());
+            sent += chunk.size();
+        }
+        Assertions.assertEquals(59, sent);
+    }
+
+    @Test
+    void addAndDeploy_waitsForTheNewDeploymentOfADeployedRelease() throws Exception {
+        JSONObject deployment = new JSONObject();
+        deployment.put("environments", Collections.singletonList("production"));
+        deployment.put("action", "publish");
+
+        JsonObject release = stack.releaseAssembler("rel").withPoller(poller)
+                .addAndDeploy(entries(3).collect(Collectors.toList()), "publish", deployment)
+                .get(10, TimeUnit.SECONDS);
+
+        JsonObject status = release.getAsJsonObject("release").getAsJsonArray("status").get(0).getAsJsonObject();
+        Assertions.assertEquals("deployed", status.get("status").getAsString());
+        Assertions.assertEquals("2024-02-01T00:00:00.000Z", status.get("deployed_at").getAsString());
+        Assertions.assertEquals(1, deploys.get());
+        Assertions.assertEquals(3, fetches.get());
+    }
+
+    @Test
+    void addAndDeploy_rejectedItemsPreventDeployment() {
+        List<BulkItem> items = Arrays.asList(BulkItem.entry("blog", "bad", "en-us"),
+                BulkItem.entry("blog", "entry_9", "en-us"));
+
+        ExecutionException error = Assertions.assertThrows(ExecutionException.class, () ->
+                stack.releaseAssembler("rel").withChunkSize(1).withPoller(poller)
+                        .addAndDeploy(items, "publish", new JSONObject()).get(10, TimeUnit.SECONDS));
+
+        BulkResult result = ((IncompleteReleaseException) error.getCause()).getResult();
+        Assertions.assertEquals(1, result.getFailed().size());
+        Assertions.assertEquals("Entry version not found", result.getFailed().get(0).getErrorMessage());
+        Assertions.assertEquals(1, result.getSucceeded().size());
+        Assertions.assertEquals(0, deploys.get());
+    }
+
+    @Test
+    void body_marksAssetsAndOmitsMissingFields() {
+        JSONObject body = ReleaseAssembler.body(Arrays.asList(BulkItem.asset("a1"),
+                BulkItem.entry("blog", "e1").withVersion(2)), "unpublish");
+        List<?> items = (List<?>) body.get("items");
+        JSONObject asset = (JSONObject) items.get(0);
+        Assertions.assertEquals("built_io_upload", asset.get("content_type_uid"));
+        Assertions.assertFalse(asset.containsKey("version"));
+        Assertions.assertEquals(2, ((JSONObject) items.get(1)).get("version"));
+        Assertions.assertEquals("unpublish", ((JSONObject) items.get(1)).get("action"));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> BulkItem.asset("a1").withVersion(0));
+    }
+}
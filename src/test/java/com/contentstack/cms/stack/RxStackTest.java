@@ -0,0 +1,160 @@
+package com.contentstack.cms.stack;
+
+import com.contentstack.cms.core.Util;
+import com.google.gson.JsonObject;
+import io.reactivex.rxjava3.subscribers.TestSubscriber;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.RecordedRequest;
+import okhttp3.ResponseBody;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import retrofit2.HttpException;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+@Tag("unit")
+class RxStackTest {
+
+    private static final int TOTAL = 5;
+
+    private MockStack mock;
+    private Stack stack;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        mock = MockStack.start();
+        stack = mock.stack();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        mock.close();
+    }
+
+    @Test
+    void single_emitsBodyOfSuccessfulCall() throws Exception {
+        mock.server().enqueue(new MockResponse().setBody("{\"entries\":[]}"));
+        ResponseBody body = stack.rx().contentType("blog")
+                .child(ContentType::entry)
+                .single(Entry::find)
+                .blockingGet();
+        Assertions.assertEquals("{\"entries\":[]}", body.string());
+        RecordedRequest request = mock.server().takeRequest();
+        Assertions.assertEquals("/v3/content_types/blog/entries", request.getPath());
+        Assertions.assertEquals("api_key", request.getHeader(Util.API_KEY));
+    }
+
+    @Test
+    void single_signalsHttpExceptionForErrorResponse() {
+        mock.server().enqueue(new MockResponse().setResponseCode(422).setBody("{\"error_code\":118}"));
+        HttpException error = Assertions.assertThrows(HttpException.class, () -> stack.rx()
+                .contentType("blog")
+                .child(ContentType::entry)
+                .single(Entry::find)
+                .blockingGet());
+        Assertions.assertEquals(422, error.code());
+    }
+
+    @Test
+    void single_isColdAndSendsNothingUntilSubscribed() {
+        stack.rx().contentType("blog").child(ContentType::entry).single(Entry::find);
+        Assertions.assertEquals(0, mock.server().getRequestCount());
+    }
+
+    @Test
+    void completable_completesOnSuccess() throws InterruptedException {
+        mock.server().enqueue(new MockResponse().setBody("{\"notice\":\"Entry deleted successfully.\"}"));
+        stack.rx().contentType("blog")
+                .child(ct -> ct.entry("entry_uid"))
+                .completable(Entry::delete)
+                .blockingAwait();
+        Assertions.assertEquals("DELETE", mock.server().takeRequest().getMethod());
+    }
+
+    @Test
+    void paginate_emitsEveryItemAcrossPages() throws InterruptedException {
+        mock.server().setDispatcher(new PagingDispatcher());
+        List<String> uids = stack.rx().contentType("blog")
+                .child(ContentType::entry)
+                .paginate(Entry::find, "entries", 2)
+                .map(entry -> entry.get("uid").getAsString())
+                .toList()
+                .blockingGet();
+        Assertions.assertEquals(5, uids.size());
+        Assertions.assertEquals("entry_0", uids.get(0));
+        Assertions.assertEquals("entry_4", uids.get(4));
+        Assertions.assertEquals(3, mock.server().getRequestCount());
+
+        RecordedRequest first = mock.server().takeRequest();
+        Assertions.assertEquals("0", first.getRequestUrl().queryParameter("skip"));
+        Assertions.assertEquals("2", first.getRequestUrl().queryParameter("limit"));
+        Assertions.assertEquals("true", first.getRequestUrl().queryParameter("include_count"));
+        List<String> skips = Arrays.asList(
+                mock.server().takeRequest().getRequestUrl().queryParameter("skip"),
+                mock.server().takeRequest().getRequestUrl().queryParameter("skip"));
+        Assertions.assertEquals(Arrays.asList("2", "4"), skips);
+    }
+
+    @Test
+    void paginate_fetchesPagesOnDemand() throws InterruptedException {
+        mock.server().setDispatcher(new PagingDispatcher());
+        TestSubscriber<JsonObject> subscriber = stack.rx().contentType("blog")
+                .child(ContentType::entry)
+                .paginate(Entry::find, "entries", 1)
+                .test(1);
+        subscriber.awaitCount(1);
+        // the current page plus at most two pages fetched ahead, not all five
+        Thread.sleep(200);
+        Assertions.assertTrue(mock.server().getRequestCount() <= 3);
+        subscriber.assertValueCount(1);
+
+        subscriber.requestMore(Long.MAX_VALUE);
+        subscriber.awaitDone(5, TimeUnit.SECONDS);
+        subscriber.assertComplete();
+        List<String> uids = subscriber.values().stream()
+                .map(entry -> entry.get("uid").getAsString())
+                .collect(Collectors.toList());
+        Assertions.assertEquals(TOTAL, uids.size());
+    }
+
+    @Test
+    void paginate_rejectsInvalidPageSize() {
+        RxResource<Entry> entries = stack.rx().contentType("blog").child(ContentType::entry);
+        Assertions.assertThrows(IllegalArgumentException.class, () -> entries.paginate(Entry::find, "entries", 0));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> entries.paginate(Entry::find, "entries", 101));
+    }
+
+    /**
+     * Serves {@value #TOTAL} entries honouring skip, limit and include_count.
+     */
+    private static class PagingDispatcher extends Dispatcher {
+        @NotNull
+        @Override
+        public MockResponse dispatch(@NotNull RecordedRequest request) {
+            int skip = Integer.parseInt(request.getRequestUrl().queryParameter("skip"));
+            int limit = Integer.parseInt(request.getRequestUrl().queryParameter("limit"));
+            boolean includeCount = Boolean.parseBoolean(request.getRequestUrl().queryParameter("include_count"));
+            StringBuilder body = new StringBuilder("{\"entries\":[");
+            for (int i = skip; i < Math.min(TOTAL, skip + limit); i++) {
+                if (i > skip) {
+                    body.append(',');
+                }
+                body.append("{\"uid\":\"entry_").append(i).append("\"}");
+            }
+            body.append(']');
+            if (includeCount) {
+                body.append(",\"count\":").append(TOTAL);
+            }
+            return new MockResponse().setBody(body.append('}').toString());
+        }
+    }
+}
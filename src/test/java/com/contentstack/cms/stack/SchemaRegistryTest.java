@@ -0,0 +1,118 @@
+package com.contentstack.cms.stack;
+
+import com.contentstack.cms.core.Util;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import retrofit2.HttpException;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Tag("unit")
+class SchemaRegistryTest {
+
+    private MockStack mock;
+    private Stack stack;
+    private final AtomicInteger contentTypeLoads = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() throws IOException {
+        mock = MockStack.start(new Dispatcher() {
+            @NotNull
+            @Override
+            public MockResponse dispatch(@NotNull RecordedRequest request) {
+                String path = request.getRequestUrl().encodedPath();
+                String branch = request.getHeader(Util.BRANCH);
+                if (path.endsWith("/content_types")) {
+                    int load = contentTypeLoads.incrementAndGet();
+                    return new MockResponse().setBody("{\"count\":2,\"content_types\":["
+                            + "{\"uid\":\"blog\",\"title\":\"Blog\",\"_version\":" + load + ",\"schema\":[{\"uid\":\"title\"}]},"
+                            + "{\"uid\":\"page_" + (branch != null ? branch : "main") + "\",\"title\":\"Page\"}]}");
+                }
+                if (path.endsWith("/global_fields")) {
+                    return new MockResponse().setBody("{\"count\":1,\"global_fields\":[{\"uid\":\"seo\",\"title\":\"SEO\"}]}");
+                }
+                return new MockResponse().setResponseCode(404);
+            }
+        });
+        stack = mock.stack();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        mock.close();
+    }
+
+    @Test
+    void lookups_loadOnceAndServeFromMemory() {
+        SchemaRegistry registry = stack.schemaRegistry();
+        Assertions.assertFalse(registry.isLoaded());
+
+        ContentTypePojo blog = registry.getContentType("blog");
+        Assertions.assertEquals("Blog", blog.getTitle());
+        Assertions.assertEquals(1, blog.getSchema().size());
+        Assertions.assertEquals("SEO", registry.getGlobalField("seo").getTitle());
+        Assertions.assertNull(registry.getContentType("missing"));
+        Assertions.assertEquals(2, registry.getContentTypes().size());
+        Assertions.assertEquals(2, mock.server().getRequestCount());
+        Assertions.assertSame(registry, stack.schemaRegistry());
+    }
+
+    @Test
+    void branches_haveSeparateRegistries() throws InterruptedException {
+        SchemaRegistry develop = stack.schemaRegistry("develop");
+        Assertions.assertNotSame(stack.schemaRegistry(), develop);
+        Assertions.assertNotNull(develop.getContentType("page_develop"));
+        Assertions.assertEquals("develop", mock.server().takeRequest().getHeader(Util.BRANCH));
+        Assertions.assertNotNull(stack.schemaRegistry().getContentType("page_main"));
+    }
+
+    @Test
+    void invalidate_reloadsOnNextLookup() {
+        SchemaRegistry registry = stack.schemaRegistry();
+        Assertions.assertEquals(1, registry.getContentType("blog").getVersion());
+        registry.invalidate();
+        Assertions.assertFalse(registry.isLoaded());
+        Assertions.assertEquals(2, registry.getContentType("blog").getVersion());
+        registry.refresh();
+        Assertions.assertEquals(3, registry.getContentType("blog").getVersion());
+    }
+
+    @Test
+    void onWebhook_invalidatesOnlyForSchemaChangesOfThisStackBranch() {
+        SchemaRegistry registry = stack.schemaRegistry();
+        registry.getContentTypes();
+
+        Assertions.assertFalse(registry.onWebhook("{\"module\":\"entry\",\"api_key\":\"api_key\"}"));
+        Assertions.assertFalse(registry.onWebhook("{\"module\":\"content_type\",\"api_key\":\"other\"}"));
+        Assertions.assertFalse(registry.onWebhook("{\"module\":\"content_type\",\"api_key\":\"api_key\","
+                + "\"data\":{\"branch\":{\"uid\":\"develop\"}}}"));
+        Assertions.assertFalse(registry.onWebhook("not json"));
+        Assertions.assertTrue(registry.isLoaded());
+
+        Assertions.assertTrue(registry.onWebhook("{\"module\":\"global_field\",\"api_key\":\"api_key\","
+                + "\"event\":\"update\",\"data\":{\"branch\":{\"uid\":\"main\"}}}"));
+        Assertions.assertFalse(registry.isLoaded());
+    }
+
+    @Test
+    void failedLoad_surfacesHttpExceptionAndStaysUnloaded() {
+        mock.server().setDispatcher(new Dispatcher() {
+            @NotNull
+            @Override
+            public MockResponse dispatch(@NotNull RecordedRequest request) {
+                return new MockResponse().setResponseCode(401).setBody("{}");
+            }
+        });
+        SchemaRegistry registry = stack.schemaRegistry();
+        Assertions.assertThrows(HttpException.class, () -> registry.getContentType("blog"));
+        Assertions.assertFalse(registry.isLoaded());
+    }
+}